@@ -0,0 +1,54 @@
+package com.playerdata.playerdataservice.benchmark;
+
+import com.opencsv.CSVReader;
+import com.playerdata.playerdataservice.ingest.PlayerRowParser;
+import com.playerdata.playerdataservice.model.Player;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Locates the data files shared by the benchmarks. */
+final class BenchmarkData {
+
+  private BenchmarkData() {}
+
+  /**
+   * Resolves the player CSV file, taken from the {@code player.csv} system property and defaulting
+   * to {@code player.csv} in the working directory (the repository root).
+   *
+   * @return path to an existing player CSV file
+   * @throws IllegalStateException if the file does not exist
+   */
+  static Path playerCsv() {
+    Path csv = Path.of(System.getProperty("player.csv", "player.csv"));
+    if (!Files.isRegularFile(csv)) {
+      throw new IllegalStateException(
+          csv.toAbsolutePath() + " not found; run from the repository root or set -Dplayer.csv");
+    }
+    return csv;
+  }
+
+  /**
+   * Parses every row of the player CSV file, including the rows that fail validation.
+   *
+   * @return one player per parsable row, in file order
+   * @throws Exception if the file cannot be read
+   */
+  static List<Player> players() throws Exception {
+    List<Player> players = new ArrayList<>();
+    try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(playerCsv()))) {
+      csvReader.readNext();
+      String[] values;
+      while ((values = csvReader.readNext()) != null) {
+        try {
+          players.add(PlayerRowParser.parse(values));
+        } catch (IllegalArgumentException e) {
+          // Malformed row, rejected by the ingest before validation as well
+        }
+      }
+    }
+    return players;
+  }
+}
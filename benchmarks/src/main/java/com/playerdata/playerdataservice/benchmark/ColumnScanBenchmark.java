@@ -0,0 +1,92 @@
+package com.playerdata.playerdataservice.benchmark;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.ingest.PlayerConstraints;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import com.playerdata.playerdataservice.store.IntColumn;
+import com.playerdata.playerdataservice.store.PlayerColumns;
+import com.playerdata.playerdataservice.store.StringColumn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes the average height of the loaded players per batting hand, the shape of an aggregate
+ * query: {@code dtos} walks the {@code PlayerDTO} list the {@code memory} store keeps and groups by
+ * string, {@code columns} scans the code and height arrays of the {@link PlayerColumns} the {@code
+ * columnar} store keeps and groups by dictionary code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnScanBenchmark {
+
+  private List<PlayerDTO> dtos;
+  private PlayerColumns columns;
+
+  @Setup
+  public void setUp() throws Exception {
+    Set<String> seenIds = new HashSet<>();
+    List<Player> players =
+        BenchmarkData.players().stream()
+            .filter(player -> PlayerConstraints.violations(player) == 0)
+            .filter(player -> seenIds.add(player.getPlayerId()))
+            .toList();
+    dtos = players.stream().map(PlayerMapper.INSTANCE::toDTO).toList();
+    columns = PlayerColumns.of(players);
+  }
+
+  @Benchmark
+  public Map<String, Double> dtos() {
+    Map<String, long[]> sums = new HashMap<>();
+    for (PlayerDTO player : dtos) {
+      if (player.getHeight() != null) {
+        long[] sum = sums.computeIfAbsent(player.getBats(), bats -> new long[2]);
+        sum[0] += player.getHeight();
+        sum[1]++;
+      }
+    }
+    Map<String, Double> averages = new HashMap<>();
+    sums.forEach((bats, sum) -> averages.put(bats, (double) sum[0] / sum[1]));
+    return averages;
+  }
+
+  @Benchmark
+  public Map<String, Double> columns() {
+    StringColumn bats = columns.bats();
+    IntColumn height = columns.height();
+    long[] totals = new long[bats.cardinality()];
+    long[] counts = new long[bats.cardinality()];
+    for (int row = 0; row < columns.size(); row++) {
+      if (!height.isNull(row)) {
+        totals[bats.code(row)] += height.get(row);
+        counts[bats.code(row)]++;
+      }
+    }
+    Map<String, Double> averages = new HashMap<>();
+    for (int code = 0; code < counts.length; code++) {
+      if (counts[code] > 0) {
+        averages.put(bats.decode(code), (double) totals[code] / counts[code]);
+      }
+    }
+    return averages;
+  }
+}
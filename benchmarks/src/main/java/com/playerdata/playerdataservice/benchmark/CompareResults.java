@@ -0,0 +1,85 @@
+package com.playerdata.playerdataservice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files written with {@code -rf json}, benchmark by benchmark. All modes
+ * used here report time per operation, so a ratio above 1 is a slowdown. Exits with status 1 if
+ * any benchmark got slower than the threshold, so it can gate a build.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar \
+ *     com.playerdata.playerdataservice.benchmark.CompareResults baseline.json current.json [0.10]
+ * </pre>
+ */
+public final class CompareResults {
+
+  private CompareResults() {}
+
+  /**
+   * Prints the comparison.
+   *
+   * @param args baseline file, current file, and optionally the tolerated slowdown (default 0.10)
+   * @throws IOException if a file cannot be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: CompareResults <baseline.json> <current.json> [threshold]");
+      System.exit(2);
+    }
+    double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+    Map<String, JsonNode> baseline = read(new File(args[0]));
+    Map<String, JsonNode> current = read(new File(args[1]));
+
+    boolean regressed = false;
+    System.out.printf("%-70s %17s %17s %8s%n", "Benchmark", "baseline", "current", "ratio");
+    for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+      JsonNode before = baseline.get(entry.getKey());
+      double score = entry.getValue().path("score").asDouble();
+      String unit = entry.getValue().path("scoreUnit").asText();
+      if (before == null) {
+        System.out.printf("%-70s %17s %11.3f %s %8s%n", entry.getKey(), "-", score, unit, "new");
+        continue;
+      }
+      double ratio = score / before.path("score").asDouble();
+      boolean slower = ratio > 1 + threshold;
+      regressed |= slower;
+      System.out.printf(
+          "%-70s %11.3f %s %11.3f %s %7.2fx%s%n",
+          entry.getKey(),
+          before.path("score").asDouble(),
+          unit,
+          score,
+          unit,
+          ratio,
+          slower ? "  SLOWER" : "");
+    }
+    System.exit(regressed ? 1 : 0);
+  }
+
+  /** Reads the primary metric of each benchmark, keyed by name and parameters. */
+  private static Map<String, JsonNode> read(File file) throws IOException {
+    Map<String, JsonNode> metrics = new LinkedHashMap<>();
+    for (JsonNode result : new ObjectMapper().readTree(file)) {
+      // Class and method name, without the package
+      String benchmark = result.path("benchmark").asText();
+      int method = benchmark.lastIndexOf('.');
+      StringBuilder key =
+          new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', method - 1) + 1));
+      Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+      while (params.hasNext()) {
+        Map.Entry<String, JsonNode> param = params.next();
+        key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+      }
+      metrics.put(key.toString(), result.path("primaryMetric"));
+    }
+    return metrics;
+  }
+}
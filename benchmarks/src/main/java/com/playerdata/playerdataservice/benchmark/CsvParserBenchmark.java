@@ -0,0 +1,68 @@
+package com.playerdata.playerdataservice.benchmark;
+
+import com.opencsv.CSVReader;
+import com.playerdata.playerdataservice.ingest.MappedCsvReader;
+import com.playerdata.playerdataservice.ingest.PlayerRowDecoder;
+import com.playerdata.playerdataservice.ingest.PlayerRowParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the whole player CSV into {@code Player} entities, once through OpenCSV and {@link
+ * PlayerRowParser} and once through the memory-mapped {@link MappedCsvReader} and {@link
+ * PlayerRowDecoder}. Validation and persistence are left out so that only parsing is compared.
+ * Run with {@code -prof gc} to compare allocation per file as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvParserBenchmark {
+
+  private Path csv;
+
+  @Setup
+  public void setUp() {
+    csv = BenchmarkData.playerCsv();
+  }
+
+  @Benchmark
+  public void openCsv(Blackhole blackhole) throws Exception {
+    try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(csv))) {
+      csvReader.readNext();
+      String[] values;
+      while ((values = csvReader.readNext()) != null) {
+        blackhole.consume(PlayerRowParser.parse(values));
+      }
+    }
+  }
+
+  @Benchmark
+  public void mapped(Blackhole blackhole) throws Exception {
+    try (MappedCsvReader reader = MappedCsvReader.open(csv)) {
+      reader.skipRow();
+      MappedCsvReader.Chunk chunk;
+      while ((chunk = reader.nextChunk(Integer.MAX_VALUE)) != null) {
+        PlayerRowDecoder decoder = new PlayerRowDecoder(chunk.data());
+        while (decoder.hasNext()) {
+          blackhole.consume(decoder.next());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.playerdata.playerdataservice.benchmark;
+
+import com.playerdata.playerdataservice.ingest.PlayerConstraints;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import com.playerdata.playerdataservice.store.PlayerColumns;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reports the heap retained by the loaded players in each in-memory layout: the entity graph the
+ * ingest produces, the {@code PlayerDTO} list the {@code memory} store keeps, and the {@link
+ * PlayerColumns} the {@code columnar} store keeps. Every layout is built from a fresh parse of the
+ * CSV file, so it owns all of its strings, and is measured as the growth of the used heap across
+ * full collections while it is the only thing kept.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar \
+ *     com.playerdata.playerdataservice.benchmark.HeapFootprint
+ * </pre>
+ */
+public final class HeapFootprint {
+
+  private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+  private HeapFootprint() {}
+
+  /**
+   * Prints the report.
+   *
+   * @param args unused
+   * @throws Exception if the CSV file cannot be read
+   */
+  public static void main(String[] args) throws Exception {
+    List<Layout> layouts =
+        List.of(
+            new Layout("Player entities", players -> players),
+            new Layout(
+                "PlayerDTO list (memory store)",
+                players -> players.stream().map(PlayerMapper.INSTANCE::toDTO).toList()),
+            new Layout("PlayerColumns (columnar store)", PlayerColumns::of));
+    // Warm up class loading and the parser so that neither is charged to the first layout
+    int rows = loadedPlayers().size();
+    for (Layout layout : layouts) {
+      layout.build.apply(loadedPlayers());
+    }
+
+    System.out.printf(
+        "%-32s %12s %12s %8s%n", "Layout (" + rows + " players)", "bytes", "per player", "ratio");
+    long baseline = 0;
+    for (Layout layout : layouts) {
+      long bytes = retainedBytes(layout.build);
+      if (baseline == 0) {
+        baseline = bytes;
+      }
+      System.out.printf(
+          "%-32s %12d %12.1f %7.2fx%n",
+          layout.name, bytes, (double) bytes / rows, (double) bytes / baseline);
+    }
+  }
+
+  /** Measures the heap a layout keeps once the players it was built from are unreachable. */
+  private static long retainedBytes(Function<List<Player>, Object> build) throws Exception {
+    long before = usedAfterGc();
+    Object kept = build.apply(loadedPlayers());
+    long after = usedAfterGc();
+    Reference.reachabilityFence(kept);
+    return after - before;
+  }
+
+  /** Parses the CSV file and keeps the players the ingest would load. */
+  private static List<Player> loadedPlayers() throws Exception {
+    Set<String> seenIds = new HashSet<>();
+    List<Player> loaded = new ArrayList<>();
+    for (Player player : BenchmarkData.players()) {
+      if (PlayerConstraints.violations(player) == 0 && seenIds.add(player.getPlayerId())) {
+        loaded.add(player);
+      }
+    }
+    return loaded;
+  }
+
+  private static long usedAfterGc() throws InterruptedException {
+    long used = Long.MAX_VALUE;
+    for (int i = 0; i < 5; i++) {
+      System.gc();
+      Thread.sleep(50);
+      used = Math.min(used, MEMORY.getHeapMemoryUsage().getUsed());
+    }
+    return used;
+  }
+
+  private record Layout(String name, Function<List<Player>, Object> build) {}
+}
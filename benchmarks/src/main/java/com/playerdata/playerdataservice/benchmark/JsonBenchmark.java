@@ -0,0 +1,73 @@
+package com.playerdata.playerdataservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes player DTOs with Jackson, configured like the application's mapper (Java time types
+ * written as ISO strings). {@code player} writes one player, {@code allPlayers} the response body
+ * of {@code GET /api/players}, and {@code streamAllPlayers} the same list through one generator as
+ * the streaming endpoint does, without buffering the body.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+  private ObjectMapper objectMapper;
+  private List<PlayerDTO> players;
+  private PlayerDTO player;
+
+  @Setup
+  public void setUp() throws Exception {
+    objectMapper =
+        JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    players = BenchmarkData.players().stream().map(PlayerMapper.INSTANCE::toDTO).toList();
+    player = players.get(0);
+  }
+
+  @Benchmark
+  public byte[] player() throws Exception {
+    return objectMapper.writeValueAsBytes(player);
+  }
+
+  @Benchmark
+  public byte[] allPlayers() throws Exception {
+    return objectMapper.writeValueAsBytes(players);
+  }
+
+  @Benchmark
+  public void streamAllPlayers() throws Exception {
+    try (JsonGenerator generator = objectMapper.createGenerator(OutputStream.nullOutputStream())) {
+      generator.writeStartArray();
+      for (PlayerDTO dto : players) {
+        generator.writeObject(dto);
+      }
+      generator.writeEndArray();
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.playerdata.playerdataservice.benchmark;
+
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps every player of the CSV from its entity to its DTO with the generated {@link PlayerMapper},
+ * the work the JPA store does on every lookup. Each operation covers the whole file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+  private List<Player> players;
+
+  @Setup
+  public void setUp() throws Exception {
+    players = BenchmarkData.players();
+  }
+
+  @Benchmark
+  public void toDTO(Blackhole blackhole) {
+    for (Player player : players) {
+      blackhole.consume(PlayerMapper.INSTANCE.toDTO(player));
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package com.playerdata.playerdataservice.benchmark;
+
+import com.opencsv.CSVReader;
+import com.playerdata.playerdataservice.util.ParsingUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses every date column ({@code debut}, {@code finalGame}) and every integer column of the real
+ * player CSV. The {@code legacy*} benchmarks reproduce the previous formatter- and
+ * exception-based implementation for comparison. Each operation covers the whole file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParsingUtilsBenchmark {
+
+  private static final DateTimeFormatter FORMATTER1 = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+  private static final DateTimeFormatter FORMATTER2 = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+  private static final int[] INTEGER_COLUMNS = {1, 2, 3, 7, 8, 9, 16, 17};
+
+  private String[] dates;
+  private String[] isoDates;
+  private String[] integers;
+
+  @Setup
+  public void setUp() throws Exception {
+    List<String> dateValues = new ArrayList<>();
+    List<String> integerValues = new ArrayList<>();
+    try (CSVReader csvReader =
+        new CSVReader(Files.newBufferedReader(BenchmarkData.playerCsv()))) {
+      csvReader.readNext();
+      String[] values;
+      while ((values = csvReader.readNext()) != null) {
+        dateValues.add(values[20]);
+        dateValues.add(values[21]);
+        for (int column : INTEGER_COLUMNS) {
+          integerValues.add(values[column]);
+        }
+      }
+    }
+    dates = dateValues.toArray(String[]::new);
+    isoDates =
+        dateValues.stream()
+            .map(ParsingUtils::parseLocalDate)
+            .map(date -> date == null ? "" : date.toString())
+            .toArray(String[]::new);
+    integers = integerValues.toArray(String[]::new);
+  }
+
+  @Benchmark
+  public void legacyParseLocalDate(Blackhole blackhole) {
+    for (String value : dates) {
+      blackhole.consume(legacyParseLocalDate(value));
+    }
+  }
+
+  @Benchmark
+  public void parseLocalDate(Blackhole blackhole) {
+    for (String value : dates) {
+      blackhole.consume(ParsingUtils.parseLocalDate(value));
+    }
+  }
+
+  @Benchmark
+  public void parseEpochDay(Blackhole blackhole) {
+    for (String value : dates) {
+      blackhole.consume(ParsingUtils.parseEpochDay(value));
+    }
+  }
+
+  @Benchmark
+  public void legacyParseLocalDateIso(Blackhole blackhole) {
+    for (String value : isoDates) {
+      blackhole.consume(legacyParseLocalDate(value));
+    }
+  }
+
+  @Benchmark
+  public void parseLocalDateIso(Blackhole blackhole) {
+    for (String value : isoDates) {
+      blackhole.consume(ParsingUtils.parseLocalDate(value));
+    }
+  }
+
+  @Benchmark
+  public void legacyParseInteger(Blackhole blackhole) {
+    for (String value : integers) {
+      blackhole.consume(value.isEmpty() ? Integer.valueOf(0) : Integer.valueOf(value));
+    }
+  }
+
+  @Benchmark
+  public void parseInteger(Blackhole blackhole) {
+    for (String value : integers) {
+      blackhole.consume(ParsingUtils.parseInteger(value));
+    }
+  }
+
+  @Benchmark
+  public void parseInt(Blackhole blackhole) {
+    for (String value : integers) {
+      blackhole.consume(ParsingUtils.parseInt(value, 0));
+    }
+  }
+
+  private static LocalDate legacyParseLocalDate(String value) {
+    try {
+      return LocalDate.parse(value, FORMATTER1);
+    } catch (DateTimeParseException e1) {
+      try {
+        return LocalDate.parse(value, FORMATTER2);
+      } catch (DateTimeParseException e2) {
+        return null;
+      }
+    }
+  }
+}
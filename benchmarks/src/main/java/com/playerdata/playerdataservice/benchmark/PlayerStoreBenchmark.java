@@ -0,0 +1,92 @@
+package com.playerdata.playerdataservice.benchmark;
+
+import com.playerdata.playerdataservice.PlayerDataServiceApplication;
+import com.playerdata.playerdataservice.store.PlayerStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks players up by ID through the application's own beans, in a context started without the
+ * web server and loaded from the real CSV. {@code store} selects the backend: with {@code jpa} a
+ * lookup is an H2 query through the repository plus entity mapping (see {@link MapperBenchmark}
+ * for the mapping alone), with {@code memory} a hash probe, with {@code columnar} a binary search
+ * plus building the DTO from the columns, and with {@code sharded} the same after hashing the ID to
+ * its shard. Each operation is one lookup of the next ID in a shuffled list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlayerStoreBenchmark {
+
+  @Param({"jpa", "memory", "columnar", "sharded"})
+  public String store;
+
+  private ConfigurableApplicationContext context;
+  private PlayerStore playerStore;
+  private String[] ids;
+  private String[] missingIds;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context =
+        new SpringApplicationBuilder(PlayerDataServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--player.store.type=" + store,
+                "--player.csv.path=" + BenchmarkData.playerCsv(),
+                "--logging.level.root=WARN",
+                "--logging.level.com.playerdata.playerdataservice=WARN",
+                "--logging.file.name=");
+    playerStore = context.getBean(PlayerStore.class);
+    List<String> loaded = new ArrayList<>();
+    playerStore.forEach(player -> loaded.add(player.getPlayerId()));
+    Collections.shuffle(loaded, new Random(42));
+    ids = loaded.toArray(String[]::new);
+    missingIds = loaded.stream().map(id -> id + "-missing").toArray(String[]::new);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Object findByIdHit() {
+    return playerStore.findById(nextOf(ids));
+  }
+
+  @Benchmark
+  public Object findByIdMiss() {
+    return playerStore.findById(nextOf(missingIds));
+  }
+
+  private String nextOf(String[] values) {
+    String value = values[next];
+    next = next + 1 == values.length ? 0 : next + 1;
+    return value;
+  }
+}
@@ -0,0 +1,68 @@
+package com.playerdata.playerdataservice.benchmark;
+
+import com.playerdata.playerdataservice.ingest.PlayerConstraints;
+import com.playerdata.playerdataservice.model.Player;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs Bean Validation over every parsed row of the player CSV, the check the ingest applies to
+ * each row before storing it, and the reflection-free {@link PlayerConstraints} that replaces it
+ * by default. About one row in seven violates a constraint, so the cost of building violations is
+ * included. Each operation covers the whole file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+  private ValidatorFactory validatorFactory;
+  private Validator validator;
+  private List<Player> players;
+
+  @Setup
+  public void setUp() throws Exception {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    validator = validatorFactory.getValidator();
+    players = BenchmarkData.players();
+  }
+
+  @TearDown
+  public void tearDown() {
+    validatorFactory.close();
+  }
+
+  @Benchmark
+  public void validate(Blackhole blackhole) {
+    for (Player player : players) {
+      blackhole.consume(validator.validate(player));
+    }
+  }
+
+  @Benchmark
+  public void validateCompiled(Blackhole blackhole) {
+    for (Player player : players) {
+      int violations = PlayerConstraints.violations(player);
+      blackhole.consume(violations == 0 ? null : PlayerConstraints.Rule.of(violations));
+    }
+  }
+}
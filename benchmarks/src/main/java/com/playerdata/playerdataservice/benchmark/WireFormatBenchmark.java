@@ -0,0 +1,94 @@
+package com.playerdata.playerdataservice.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.wire.PlayerColumnsCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes the full player list, the body of {@code GET /api/players}, in each wire
+ * format the API offers. {@code json}, {@code cbor} and {@code smile} are written by Jackson,
+ * configured like the application's converters; {@code columns} is {@link PlayerColumnsCodec}.
+ * The size of each encoding is printed once per fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+  private static final TypeReference<List<PlayerDTO>> PLAYERS = new TypeReference<>() {};
+
+  @Param({"json", "cbor", "smile", "columns"})
+  public String format;
+
+  private ObjectMapper objectMapper;
+  private List<PlayerDTO> players;
+  private byte[] encoded;
+
+  @Setup
+  public void setUp() throws Exception {
+    objectMapper =
+        switch (format) {
+          case "json" -> JsonMapper.builder().findAndAddModules().build();
+          case "cbor" -> CBORMapper.builder().findAndAddModules().build();
+          case "smile" ->
+              SmileMapper.builder(
+                      SmileFactory.builder()
+                          .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                          .build())
+                  .findAndAddModules()
+                  .build();
+          default -> null;
+        };
+    if (objectMapper != null) {
+      objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+    players = BenchmarkData.players().stream().map(PlayerMapper.INSTANCE::toDTO).toList();
+    encoded = encode();
+    System.out.printf("%n%d players as %s: %,d bytes%n", players.size(), format, encoded.length);
+  }
+
+  @Benchmark
+  public byte[] encode() throws Exception {
+    if (objectMapper != null) {
+      return objectMapper.writeValueAsBytes(players);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PlayerColumnsCodec.write(players, out);
+    return out.toByteArray();
+  }
+
+  @Benchmark
+  public List<PlayerDTO> decode() throws Exception {
+    if (objectMapper != null) {
+      return objectMapper.readValue(encoded, PLAYERS);
+    }
+    return PlayerColumnsCodec.read(new ByteArrayInputStream(encoded));
+  }
+}
@@ -0,0 +1,176 @@
+package com.playerdata.playerdataservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Measurements of one load test run: a latency histogram, error count and response volume per
+ * request type, over the measured period only.
+ *
+ * <p>The JSON report holds the options of the run, throughput and latency percentiles in
+ * milliseconds per request type and overall, and each histogram in HdrHistogram's compressed
+ * base64 form, so that later tooling can merge runs or compute other percentiles.
+ */
+public final class LoadReport {
+
+  private final LoadTestConfig config;
+  private final Duration measured;
+  private final Instant finishedAt = Instant.now();
+  private final Map<RequestType, Histogram> histograms = new EnumMap<>(RequestType.class);
+  private final long[] errors = new long[RequestType.values().length];
+  private final long[] bytes = new long[RequestType.values().length];
+
+  /**
+   * Constructs an empty LoadReport.
+   *
+   * @param config options of the run
+   * @param measured length of the measured period
+   */
+  public LoadReport(LoadTestConfig config, Duration measured) {
+    this.config = config;
+    this.measured = measured;
+    for (RequestType type : RequestType.values()) {
+      histograms.put(type, new Histogram(LoadTest.MAX_LATENCY_MICROS, 3));
+    }
+  }
+
+  /**
+   * Adds the measurements of one client.
+   *
+   * @param type request type the measurements belong to
+   * @param latencies latencies in microseconds
+   * @param errorCount number of failed requests among them
+   * @param byteCount response bytes of the successful requests
+   */
+  public void add(RequestType type, Histogram latencies, long errorCount, long byteCount) {
+    histograms.get(type).add(latencies);
+    errors[type.ordinal()] += errorCount;
+    bytes[type.ordinal()] += byteCount;
+  }
+
+  /**
+   * Returns the 99th percentile latency over all request types.
+   *
+   * @return the latency in microseconds
+   */
+  public long p99Micros() {
+    return overall().getValueAtPercentile(99);
+  }
+
+  /**
+   * Prints a table of throughput and latency percentiles.
+   *
+   * @param out stream to print to
+   */
+  public void print(PrintStream out) {
+    out.printf(
+        "%-8s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+        "type", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    for (RequestType type : RequestType.values()) {
+      if (histograms.get(type).getTotalCount() > 0) {
+        printRow(out, type.key(), histograms.get(type), errors[type.ordinal()]);
+      }
+    }
+    printRow(out, "overall", overall(), Arrays.stream(errors).sum());
+  }
+
+  /**
+   * Writes the JSON report.
+   *
+   * @param file the report file
+   * @throws IOException if the file cannot be written
+   */
+  public void write(Path file) throws IOException {
+    ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    ObjectNode root = objectMapper.createObjectNode();
+    root.put("finishedAt", finishedAt.toString());
+
+    ObjectNode options = root.putObject("config");
+    options.put("url", config.baseUrl().toString());
+    options.put("concurrency", config.concurrency());
+    options.put("durationSeconds", measured.toMillis() / 1000.0);
+    options.put("warmupSeconds", config.warmup().toMillis() / 1000.0);
+    options.put("rate", config.rate());
+    ObjectNode mix = options.putObject("mix");
+    config.mix().forEach((type, weight) -> mix.put(type.key(), weight));
+    options.put("pageSize", config.pageSize());
+    options.put("batchSize", config.batchSize());
+
+    stats(root.putObject("overall"), overall(), Arrays.stream(errors).sum(), bytes());
+    ObjectNode requests = root.putObject("requests");
+    for (RequestType type : RequestType.values()) {
+      Histogram histogram = histograms.get(type);
+      if (histogram.getTotalCount() > 0) {
+        stats(
+            requests.putObject(type.key()),
+            histogram,
+            errors[type.ordinal()],
+            bytes[type.ordinal()]);
+      }
+    }
+    objectMapper.writeValue(file.toFile(), root);
+  }
+
+  private void printRow(PrintStream out, String name, Histogram histogram, long errorCount) {
+    out.printf(
+        "%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+        name,
+        histogram.getTotalCount(),
+        errorCount,
+        throughput(histogram),
+        millis(histogram.getValueAtPercentile(50)),
+        millis(histogram.getValueAtPercentile(90)),
+        millis(histogram.getValueAtPercentile(99)),
+        millis(histogram.getValueAtPercentile(99.9)),
+        millis(histogram.getMaxValue()));
+  }
+
+  private void stats(ObjectNode node, Histogram histogram, long errorCount, long byteCount) {
+    node.put("requests", histogram.getTotalCount());
+    node.put("errors", errorCount);
+    node.put("requestsPerSecond", throughput(histogram));
+    node.put("bytesPerSecond", byteCount / (measured.toNanos() / 1e9));
+    ObjectNode latency = node.putObject("latencyMs");
+    latency.put("mean", histogram.getMean() / 1000);
+    latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+    latency.put("p90", millis(histogram.getValueAtPercentile(90)));
+    latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+    latency.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+    latency.put("max", millis(histogram.getMaxValue()));
+    ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+    int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+    node.put(
+        "histogram", Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+  }
+
+  private Histogram overall() {
+    Histogram overall = new Histogram(LoadTest.MAX_LATENCY_MICROS, 3);
+    histograms.values().forEach(overall::add);
+    return overall;
+  }
+
+  private long bytes() {
+    return Arrays.stream(bytes).sum();
+  }
+
+  private double throughput(Histogram histogram) {
+    return histogram.getTotalCount() / (measured.toNanos() / 1e9);
+  }
+
+  private static double millis(long micros) {
+    return micros / 1000.0;
+  }
+}
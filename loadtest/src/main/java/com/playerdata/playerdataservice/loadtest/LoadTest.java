@@ -0,0 +1,266 @@
+package com.playerdata.playerdataservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load generator for a running PlayerDataService. Each client runs on its own virtual thread over
+ * a keep-alive connection and records the latency of every measured request in an HdrHistogram per
+ * request type, so percentiles up to p99.9 are exact to three significant digits.
+ *
+ * <p>Without {@code --rate} the clients run a closed loop. With {@code --rate} every client sends
+ * on a fixed schedule and latency is measured from the time a request was due, not from when it
+ * was actually sent, so a stalled server shows up in the percentiles instead of silently lowering
+ * the load (coordinated omission).
+ */
+public final class LoadTest {
+
+  /** Highest latency the histograms can record; slower requests are recorded as this value. */
+  static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+  private static final int TIMEOUT_MILLIS = 30_000;
+
+  private final LoadTestConfig config;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final WeightedMix mix;
+
+  /**
+   * Constructs a LoadTest.
+   *
+   * @param config options of the run
+   */
+  public LoadTest(LoadTestConfig config) {
+    this.config = config;
+    this.mix = new WeightedMix(config.mix());
+  }
+
+  /**
+   * Runs a load test from the command line, prints a summary and writes the JSON report. Exits with
+   * status 1 if {@code --max-p99} is set and exceeded, 2 on invalid options.
+   *
+   * @param args options, see {@link LoadTestConfig#USAGE}
+   * @throws Exception if the service cannot be reached or the report cannot be written
+   */
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config;
+    try {
+      config = LoadTestConfig.parse(args);
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.err.print(LoadTestConfig.USAGE);
+      System.exit(2);
+      return;
+    }
+    // Keep one idle connection per client instead of the default 5, so requests reuse them
+    System.setProperty("http.maxConnections", String.valueOf(config.concurrency()));
+
+    LoadReport report = new LoadTest(config).run();
+    report.print(System.out);
+    report.write(config.report());
+    System.out.println("Report written to " + config.report().toAbsolutePath());
+    if (config.maxP99() != null && report.p99Micros() > config.maxP99().toNanos() / 1000) {
+      System.out.println("FAILED: p99 is above " + config.maxP99().toMillis() + " ms");
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Discovers the player IDs, then runs the warm-up and the measured load.
+   *
+   * @return the measurements
+   * @throws Exception if the service cannot be reached
+   */
+  public LoadReport run() throws Exception {
+    String[] ids = discoverIds();
+    System.out.printf(
+        "Loading %s with %d clients for %d s after %d s warm-up, %s, %d player IDs%n",
+        config.baseUrl(),
+        config.concurrency(),
+        config.duration().toSeconds(),
+        config.warmup().toSeconds(),
+        config.rate() > 0 ? config.rate() + " requests/s" : "closed loop",
+        ids.length);
+
+    long measureFrom = System.nanoTime() + config.warmup().toNanos();
+    long measureUntil = measureFrom + config.duration().toNanos();
+    List<Future<Client>> clients = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < config.concurrency(); i++) {
+        Client client = new Client(ids, measureFrom, measureUntil);
+        clients.add(executor.submit(() -> client.run()));
+      }
+    }
+    LoadReport report = new LoadReport(config, Duration.ofNanos(measureUntil - measureFrom));
+    for (Future<Client> future : clients) {
+      Client client = future.get();
+      for (RequestType type : RequestType.values()) {
+        int i = type.ordinal();
+        report.add(type, client.histograms[i], client.errors[i], client.bytes[i]);
+      }
+    }
+    return report;
+  }
+
+  /** Walks the paginated player list to learn which IDs exist. */
+  private String[] discoverIds() throws IOException {
+    List<String> ids = new ArrayList<>();
+    String after = null;
+    do {
+      String query = "?limit=1000" + (after == null ? "" : "&after=" + encode(after));
+      HttpURLConnection connection = open("/api/players" + query);
+      if (connection.getResponseCode() != 200) {
+        throw new IOException("Listing players failed with " + connection.getResponseCode());
+      }
+      JsonNode page;
+      try (InputStream in = connection.getInputStream()) {
+        page = objectMapper.readTree(in);
+      }
+      for (JsonNode player : page.path("players")) {
+        String id = player.path("playerId").asText();
+        if (!id.isEmpty()) {
+          ids.add(id);
+        }
+      }
+      after = page.path("nextCursor").isTextual() ? page.path("nextCursor").asText() : null;
+    } while (after != null);
+    if (ids.isEmpty()) {
+      throw new IOException("The service has no players to request");
+    }
+    return ids.toArray(String[]::new);
+  }
+
+  private HttpURLConnection open(String pathAndQuery) throws IOException {
+    HttpURLConnection connection =
+        (HttpURLConnection) URI.create(config.baseUrl() + pathAndQuery).toURL().openConnection();
+    connection.setConnectTimeout(TIMEOUT_MILLIS);
+    connection.setReadTimeout(TIMEOUT_MILLIS);
+    connection.setRequestProperty("Accept", "application/json");
+    return connection;
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+  }
+
+  /** One simulated client; its histograms are only read after it has finished. */
+  private final class Client {
+
+    private final String[] ids;
+    private final long measureFrom;
+    private final long measureUntil;
+    // Indexed by RequestType.ordinal()
+    private final Histogram[] histograms = new Histogram[RequestType.values().length];
+    private final long[] errors = new long[RequestType.values().length];
+    private final long[] bytes = new long[RequestType.values().length];
+
+    Client(String[] ids, long measureFrom, long measureUntil) {
+      this.ids = ids;
+      this.measureFrom = measureFrom;
+      this.measureUntil = measureUntil;
+      for (int i = 0; i < histograms.length; i++) {
+        histograms[i] = new Histogram(MAX_LATENCY_MICROS, 3);
+      }
+    }
+
+    Client run() throws InterruptedException {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      long interval =
+          config.rate() > 0 ? TimeUnit.SECONDS.toNanos(config.concurrency()) / config.rate() : 0;
+      // Spread the schedules of the clients over one interval
+      long due = System.nanoTime() + (interval > 0 ? random.nextLong(interval) : 0);
+      while (true) {
+        long start;
+        if (interval > 0) {
+          long wait = due - System.nanoTime();
+          if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+          }
+          start = due;
+          due += interval;
+        } else {
+          start = System.nanoTime();
+        }
+        if (start >= measureUntil) {
+          return this;
+        }
+        RequestType type = mix.pick(random);
+        long size = send(type, random);
+        long micros = (System.nanoTime() - start) / 1000;
+        if (start >= measureFrom) {
+          histograms[type.ordinal()].recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+          if (size < 0) {
+            errors[type.ordinal()]++;
+          } else {
+            bytes[type.ordinal()] += size;
+          }
+        }
+      }
+    }
+
+    /** Sends one request and reads the whole response; returns its size, or -1 on failure. */
+    private long send(RequestType type, ThreadLocalRandom random) {
+      try {
+        HttpURLConnection connection =
+            switch (type) {
+              case HIT -> open("/api/players/" + encode(randomId(random)));
+              case MISS -> open("/api/players/" + encode(randomId(random) + "-missing"));
+              case PAGE ->
+                  open(
+                      "/api/players?limit="
+                          + config.pageSize()
+                          + "&after="
+                          + encode(randomId(random)));
+              case LIST -> open("/api/players");
+              case BATCH -> batch(random);
+            };
+        int status = connection.getResponseCode();
+        InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        long size = 0;
+        if (body != null) {
+          try (InputStream in = body) {
+            size = in.transferTo(OutputStream.nullOutputStream());
+          }
+        }
+        return status == type.expectedStatus() ? size : -1;
+      } catch (IOException e) {
+        return -1;
+      }
+    }
+
+    private HttpURLConnection batch(ThreadLocalRandom random) throws IOException {
+      List<String> batch = new ArrayList<>(config.batchSize());
+      for (int i = 0; i < config.batchSize(); i++) {
+        batch.add(randomId(random));
+      }
+      HttpURLConnection connection = open("/api/players/batch");
+      connection.setRequestMethod("POST");
+      connection.setRequestProperty("Content-Type", "application/json");
+      connection.setDoOutput(true);
+      try (OutputStream out = connection.getOutputStream()) {
+        objectMapper.writeValue(out, batch);
+      }
+      return connection;
+    }
+
+    private String randomId(ThreadLocalRandom random) {
+      return ids[random.nextInt(ids.length)];
+    }
+  }
+}
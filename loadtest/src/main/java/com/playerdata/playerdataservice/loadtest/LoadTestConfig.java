@@ -0,0 +1,177 @@
+package com.playerdata.playerdataservice.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Options of one load test run.
+ *
+ * @param baseUrl root URL of the service
+ * @param concurrency number of concurrent clients
+ * @param duration how long to measure
+ * @param warmup how long to send load before measuring
+ * @param rate total requests per second, or 0 for a closed loop where each client sends its next
+ *     request as soon as the previous one completes
+ * @param mix relative weight of each request type
+ * @param pageSize {@code limit} of page requests
+ * @param batchSize number of IDs per batch request
+ * @param report file the JSON report is written to
+ * @param maxP99 p99 latency above which the run fails, or {@code null} for no limit
+ */
+public record LoadTestConfig(
+    URI baseUrl,
+    int concurrency,
+    Duration duration,
+    Duration warmup,
+    int rate,
+    Map<RequestType, Integer> mix,
+    int pageSize,
+    int batchSize,
+    Path report,
+    Duration maxP99) {
+
+  /** Command-line usage. */
+  public static final String USAGE =
+      """
+      Usage: java -jar loadtest.jar [--option=value ...]
+        --url=http://localhost:8080   root URL of the service
+        --concurrency=64              concurrent clients
+        --duration=30s                measured time (ms, s, m or h)
+        --warmup=5s                   load sent before measuring
+        --rate=0                      total requests/s; 0 = closed loop
+        --mix=hit=80,miss=10,page=5,batch=5
+                                      weights of hit, miss, page, list and batch requests
+        --page-size=100               limit of page requests
+        --batch-size=100              IDs per batch request
+        --report=loadtest-report.json JSON report file
+        --max-p99=                    fail (exit 1) if the overall p99 exceeds this duration
+      """;
+
+  /**
+   * Parses {@code --option=value} arguments; omitted options take the defaults shown in {@link
+   * #USAGE}.
+   *
+   * @param args command-line arguments
+   * @return the options
+   * @throws IllegalArgumentException if an option is unknown or its value is invalid
+   */
+  public static LoadTestConfig parse(String... args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (!arg.startsWith("--") || separator < 0) {
+        throw new IllegalArgumentException("Expected --option=value but got " + arg);
+      }
+      options.put(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+    String mix = options.remove("mix");
+    String report = options.remove("report");
+    String maxP99 = options.remove("max-p99");
+    LoadTestConfig config =
+        new LoadTestConfig(
+            URI.create(stripTrailingSlash(options.remove("url"), "http://localhost:8080")),
+            positive("concurrency", options.remove("concurrency"), 64),
+            duration("duration", options.remove("duration"), "30s"),
+            duration("warmup", options.remove("warmup"), "5s"),
+            integer("rate", options.remove("rate"), 0),
+            mix(mix == null ? "hit=80,miss=10,page=5,batch=5" : mix),
+            positive("page-size", options.remove("page-size"), 100),
+            positive("batch-size", options.remove("batch-size"), 100),
+            Path.of(report == null ? "loadtest-report.json" : report),
+            maxP99 == null || maxP99.isBlank() ? null : duration("max-p99", maxP99, null));
+    if (!options.isEmpty()) {
+      throw new IllegalArgumentException("Unknown options: " + options.keySet());
+    }
+    if (config.duration().isZero()) {
+      throw new IllegalArgumentException("--duration must be positive");
+    }
+    if (config.rate() < 0) {
+      throw new IllegalArgumentException("--rate must not be negative");
+    }
+    return config;
+  }
+
+  /**
+   * Parses a request mix such as {@code hit=80,miss=10,batch=10}.
+   *
+   * @param value comma-separated {@code type=weight} pairs
+   * @return the weight of each listed type
+   * @throws IllegalArgumentException if a type is unknown, a weight is negative, or all weights are
+   *     zero
+   */
+  static Map<RequestType, Integer> mix(String value) {
+    Map<RequestType, Integer> mix = new EnumMap<>(RequestType.class);
+    for (String entry : value.split(",")) {
+      String[] pair = entry.split("=", 2);
+      if (pair.length != 2) {
+        throw new IllegalArgumentException("Expected type=weight in --mix but got " + entry);
+      }
+      int weight = integer("mix", pair[1], 0);
+      if (weight < 0) {
+        throw new IllegalArgumentException("--mix weights must not be negative");
+      }
+      mix.put(RequestType.fromKey(pair[0]), weight);
+    }
+    if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+      throw new IllegalArgumentException("--mix needs at least one positive weight");
+    }
+    return mix;
+  }
+
+  /**
+   * Parses a duration such as {@code 500ms}, {@code 30s}, {@code 2m} or {@code 1h}.
+   *
+   * @param value the duration
+   * @return the parsed duration
+   * @throws IllegalArgumentException if the value has no known unit or is negative
+   */
+  static Duration parseDuration(String value) {
+    String text = value.strip().toLowerCase(Locale.ROOT);
+    Duration duration;
+    if (text.endsWith("ms")) {
+      duration = Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+    } else if (text.endsWith("s") || text.endsWith("m") || text.endsWith("h")) {
+      duration = Duration.parse("PT" + text.toUpperCase(Locale.ROOT));
+    } else {
+      throw new IllegalArgumentException("Duration needs a unit (ms, s, m or h): " + value);
+    }
+    if (duration.isNegative()) {
+      throw new IllegalArgumentException("Duration must not be negative: " + value);
+    }
+    return duration;
+  }
+
+  private static Duration duration(String option, String value, String defaultValue) {
+    try {
+      return parseDuration(value == null ? defaultValue : value);
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid --" + option + ": " + e.getMessage(), e);
+    }
+  }
+
+  private static int integer(String option, String value, int defaultValue) {
+    try {
+      return value == null ? defaultValue : Integer.parseInt(value.strip());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid --" + option + ": " + value, e);
+    }
+  }
+
+  private static int positive(String option, String value, int defaultValue) {
+    int parsed = integer(option, value, defaultValue);
+    if (parsed <= 0) {
+      throw new IllegalArgumentException("--" + option + " must be positive");
+    }
+    return parsed;
+  }
+
+  private static String stripTrailingSlash(String value, String defaultValue) {
+    String url = value == null ? defaultValue : value;
+    return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+  }
+}
@@ -0,0 +1,57 @@
+package com.playerdata.playerdataservice.loadtest;
+
+import java.util.Locale;
+
+/** Kinds of request the load test sends, named as in the {@code --mix} option. */
+public enum RequestType {
+
+  /** {@code GET /api/players/{playerID}} for an existing player; expects 200. */
+  HIT(200),
+
+  /** {@code GET /api/players/{playerID}} for an ID that does not exist; expects 404. */
+  MISS(404),
+
+  /** {@code GET /api/players?limit=...&after=...} from a random position; expects 200. */
+  PAGE(200),
+
+  /** {@code GET /api/players}, the full list; expects 200. */
+  LIST(200),
+
+  /** {@code POST /api/players/batch} with random existing IDs; expects 200. */
+  BATCH(200);
+
+  private final int expectedStatus;
+
+  RequestType(int expectedStatus) {
+    this.expectedStatus = expectedStatus;
+  }
+
+  /**
+   * Returns the status code of a successful response.
+   *
+   * @return the expected HTTP status
+   */
+  public int expectedStatus() {
+    return expectedStatus;
+  }
+
+  /**
+   * Returns the name used in options and reports.
+   *
+   * @return the lower-case name
+   */
+  public String key() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Looks a type up by the name used in options.
+   *
+   * @param key name of the type, ignoring case
+   * @return the type
+   * @throws IllegalArgumentException if there is no such type
+   */
+  public static RequestType fromKey(String key) {
+    return valueOf(key.strip().toUpperCase(Locale.ROOT));
+  }
+}
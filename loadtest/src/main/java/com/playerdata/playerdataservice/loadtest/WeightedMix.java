@@ -0,0 +1,34 @@
+package com.playerdata.playerdataservice.loadtest;
+
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/** Picks request types at random in proportion to their weights. */
+final class WeightedMix {
+
+  private final RequestType[] types;
+  private final int[] cumulativeWeights;
+
+  WeightedMix(Map<RequestType, Integer> weights) {
+    this.types =
+        weights.entrySet().stream()
+            .filter(entry -> entry.getValue() > 0)
+            .map(Map.Entry::getKey)
+            .toArray(RequestType[]::new);
+    this.cumulativeWeights = new int[types.length];
+    int total = 0;
+    for (int i = 0; i < types.length; i++) {
+      total += weights.get(types[i]);
+      cumulativeWeights[i] = total;
+    }
+  }
+
+  RequestType pick(RandomGenerator random) {
+    int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+    for (int i = 0; ; i++) {
+      if (value < cumulativeWeights[i]) {
+        return types[i];
+      }
+    }
+  }
+}
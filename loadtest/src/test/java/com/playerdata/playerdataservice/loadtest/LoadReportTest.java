@@ -0,0 +1,91 @@
+package com.playerdata.playerdataservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadReportTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void testAdd_mergesClientsPerTypeAndOverall() throws Exception {
+    // Arrange
+    LoadReport report = new LoadReport(LoadTestConfig.parse(), Duration.ofSeconds(2));
+    report.add(RequestType.HIT, latencies(1_000, 99), 0, 990);
+    report.add(RequestType.HIT, latencies(1_000, 99), 1, 990);
+    report.add(RequestType.MISS, latencies(100_000, 2), 0, 0);
+    Path file = directory.resolve("report.json");
+
+    // Act
+    report.write(file);
+
+    // Assert
+    JsonNode json = new ObjectMapper().readTree(file.toFile());
+    JsonNode hit = json.at("/requests/hit");
+    assertEquals(198, hit.get("requests").asLong());
+    assertEquals(1, hit.get("errors").asLong());
+    assertEquals(99.0, hit.get("requestsPerSecond").asDouble());
+    assertEquals(990.0, hit.get("bytesPerSecond").asDouble());
+    assertEquals(1.0, hit.at("/latencyMs/p99").asDouble(), 0.01);
+    assertFalse(json.at("/requests").has("page"));
+    assertEquals(200, json.at("/overall/requests").asLong());
+    assertEquals(100.0, json.at("/overall/latencyMs/max").asDouble(), 0.1);
+
+    Histogram decoded =
+        Histogram.decodeFromCompressedByteBuffer(
+            ByteBuffer.wrap(Base64.getDecoder().decode(hit.get("histogram").asText())), 0);
+    assertEquals(198, decoded.getTotalCount());
+  }
+
+  @Test
+  void testP99Micros_coversAllTypes() {
+    // Arrange
+    LoadReport report = new LoadReport(LoadTestConfig.parse(), Duration.ofSeconds(1));
+    report.add(RequestType.HIT, latencies(1_000, 95), 0, 0);
+    report.add(RequestType.BATCH, latencies(50_000, 5), 0, 0);
+
+    // Act
+    long p99 = report.p99Micros();
+
+    // Assert
+    assertEquals(50_000, p99, 50);
+  }
+
+  @Test
+  void testPrint_listsMeasuredTypesAndOverall() {
+    // Arrange
+    LoadReport report = new LoadReport(LoadTestConfig.parse(), Duration.ofSeconds(1));
+    report.add(RequestType.PAGE, latencies(2_000, 10), 0, 0);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // Act
+    report.print(new PrintStream(out, true, StandardCharsets.UTF_8));
+
+    // Assert
+    String table = out.toString(StandardCharsets.UTF_8);
+    assertTrue(table.contains("page"));
+    assertTrue(table.contains("overall"));
+    assertFalse(table.contains("hit"));
+  }
+
+  private static Histogram latencies(long micros, int count) {
+    Histogram histogram = new Histogram(LoadTest.MAX_LATENCY_MICROS, 3);
+    histogram.recordValueWithCount(micros, count);
+    return histogram;
+  }
+}
@@ -0,0 +1,81 @@
+package com.playerdata.playerdataservice.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoadTestConfigTest {
+
+  @Test
+  void testParse_noArguments_usesDefaults() {
+    // Act
+    LoadTestConfig config = LoadTestConfig.parse();
+
+    // Assert
+    assertEquals(URI.create("http://localhost:8080"), config.baseUrl());
+    assertEquals(64, config.concurrency());
+    assertEquals(Duration.ofSeconds(30), config.duration());
+    assertEquals(Duration.ofSeconds(5), config.warmup());
+    assertEquals(0, config.rate());
+    assertEquals(
+        Map.of(RequestType.HIT, 80, RequestType.MISS, 10, RequestType.PAGE, 5, RequestType.BATCH, 5),
+        config.mix());
+    assertEquals(Path.of("loadtest-report.json"), config.report());
+    assertNull(config.maxP99());
+  }
+
+  @Test
+  void testParse_overridesOptions() {
+    // Act
+    LoadTestConfig config =
+        LoadTestConfig.parse(
+            "--url=http://host:9090/",
+            "--concurrency=8",
+            "--duration=2m",
+            "--warmup=500ms",
+            "--rate=1000",
+            "--mix=hit=1,list=1",
+            "--max-p99=50ms");
+
+    // Assert
+    assertEquals(URI.create("http://host:9090"), config.baseUrl());
+    assertEquals(8, config.concurrency());
+    assertEquals(Duration.ofMinutes(2), config.duration());
+    assertEquals(Duration.ofMillis(500), config.warmup());
+    assertEquals(1000, config.rate());
+    assertEquals(Map.of(RequestType.HIT, 1, RequestType.LIST, 1), config.mix());
+    assertEquals(Duration.ofMillis(50), config.maxP99());
+  }
+
+  @Test
+  void testParse_invalidArguments_throwIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--unknown=1"));
+    assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("concurrency=1"));
+    assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--concurrency=0"));
+    assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--duration=10"));
+    assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--rate=-1"));
+  }
+
+  @Test
+  void testMix_invalidWeights_throwIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.mix("hit=0,miss=0"));
+    assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.mix("hit=-1,miss=2"));
+    assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.mix("delete=1"));
+    assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.mix("hit"));
+  }
+
+  @Test
+  void testParseDuration_supportsAllUnits() {
+    assertEquals(Duration.ofMillis(250), LoadTestConfig.parseDuration("250ms"));
+    assertEquals(Duration.ofSeconds(3), LoadTestConfig.parseDuration("3s"));
+    assertEquals(Duration.ofMinutes(4), LoadTestConfig.parseDuration("4M"));
+    assertEquals(Duration.ofHours(1), LoadTestConfig.parseDuration("1h"));
+  }
+}
@@ -0,0 +1,34 @@
+package com.playerdata.playerdataservice.reactive;
+
+import com.playerdata.playerdataservice.dto.ErrorResponseDto;
+import com.playerdata.playerdataservice.exception.GlobalExceptionHandler;
+import com.playerdata.playerdataservice.exception.PlayerNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Reactive counterpart of {@code GlobalExceptionHandler}, returning the same error bodies.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+  /**
+   * Handles {@link PlayerNotFoundException}, returning a 404 status code with a relevant error
+   * message.
+   *
+   * @param ex the exception thrown when a player is not found
+   * @param request the HTTP request during which the exception occurred
+   * @return a {@link ResponseEntity} containing the error response and HTTP status
+   */
+  @ExceptionHandler(PlayerNotFoundException.class)
+  public ResponseEntity<ErrorResponseDto> handlePlayerNotFoundException(
+      PlayerNotFoundException ex, ServerHttpRequest request) {
+    ErrorResponseDto errorResponse =
+        GlobalExceptionHandler.playerNotFound(ex.getMessage(), request.getPath().value());
+
+    return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+  }
+}
@@ -0,0 +1,45 @@
+package com.playerdata.playerdataservice.reactive;
+
+import com.playerdata.playerdataservice.ingest.PlayerIngestPipeline;
+import com.playerdata.playerdataservice.ingest.PlayerSnapshots;
+import com.playerdata.playerdataservice.store.InMemoryPlayerStore;
+import com.playerdata.playerdataservice.store.PlayerStore;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Reactive variant of the Player Data Service. Serves the same player data as the servlet
+ * application, but from Netty through WebFlux, so an open response holds no thread while the
+ * client is slow to read it.
+ *
+ * <p>Reuses the ingest pipeline and the in-memory store of the service; there is no database.
+ */
+@SpringBootApplication
+@Import({PlayerIngestPipeline.class, PlayerSnapshots.class})
+public class ReactivePlayerApplication {
+
+  /**
+   * Main method to launch the reactive application.
+   *
+   * @param args command-line arguments
+   */
+  public static void main(String[] args) {
+    SpringApplication.run(ReactivePlayerApplication.class, args);
+  }
+
+  /**
+   * Loads the player CSV file into an in-memory store before the server accepts requests.
+   *
+   * @param ingestPipeline pipeline that loads the player CSV file
+   * @return the loaded store
+   * @throws Exception if the file cannot be loaded
+   */
+  @Bean
+  public PlayerStore playerStore(PlayerIngestPipeline ingestPipeline) throws Exception {
+    InMemoryPlayerStore store = new InMemoryPlayerStore();
+    ingestPipeline.ingest(store.newWriter());
+    return store;
+  }
+}
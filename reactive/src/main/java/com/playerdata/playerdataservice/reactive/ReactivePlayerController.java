@@ -0,0 +1,93 @@
+package com.playerdata.playerdataservice.reactive;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.exception.PlayerNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive REST controller serving the player endpoints of {@code PlayerController} as {@link
+ * Flux} and {@link Mono}.
+ *
+ * <p>Lists are streamed with backpressure: Netty only asks the encoder for more players once the
+ * previous ones have been written to the socket, and the store is never asked for more than
+ * {@code player.reactive.prefetch} players ahead of that. A slow client therefore costs its
+ * in-flight window of encoded players, not a thread.
+ */
+@RestController
+@RequestMapping("/api/players")
+public class ReactivePlayerController {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReactivePlayerController.class);
+  private final ReactivePlayerStore playerStore;
+  private final int prefetch;
+
+  /**
+   * Constructs a ReactivePlayerController.
+   *
+   * @param playerStore non-blocking player store
+   * @param prefetch largest number of players requested from the store at once
+   */
+  public ReactivePlayerController(
+      ReactivePlayerStore playerStore, @Value("${player.reactive.prefetch:256}") int prefetch) {
+    this.playerStore = playerStore;
+    this.prefetch = prefetch;
+  }
+
+  /**
+   * Streams all players ordered by ID, as a JSON array or, with {@code Accept:
+   * application/x-ndjson}, as one JSON object per line.
+   *
+   * @return the players
+   */
+  @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public Flux<PlayerDTO> getAllPlayers() {
+    logger.info("Streaming all players");
+    return playerStore.findAll().limitRate(prefetch);
+  }
+
+  /**
+   * Streams all players ordered by ID as server-sent events. Each event carries the player ID as
+   * its {@code id}, so a client that reconnects with {@code Last-Event-ID} resumes after the last
+   * player it received. A final {@code end} event marks the end of the list.
+   *
+   * @param lastEventId ID of the last player received before reconnecting, if any
+   * @return one {@code player} event per player, then an {@code end} event
+   */
+  @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public Flux<ServerSentEvent<PlayerDTO>> streamPlayerEvents(
+      @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+    logger.info("Streaming player events after ID: {}", lastEventId);
+    return playerStore
+        .findAllAfter(lastEventId)
+        .limitRate(prefetch)
+        .map(
+            player ->
+                ServerSentEvent.builder(player).id(player.getPlayerId()).event("player").build())
+        .concatWith(Mono.just(ServerSentEvent.<PlayerDTO>builder().event("end").build()));
+  }
+
+  /**
+   * Retrieves a player by their ID.
+   *
+   * @param playerID the ID of the player
+   * @return the player, or a 404 error if there is no such player
+   */
+  @GetMapping("/{playerID}")
+  public Mono<PlayerDTO> getPlayerById(@PathVariable String playerID) {
+    logger.info("Fetching player with ID: {}", playerID);
+    return playerStore
+        .findById(playerID)
+        .switchIfEmpty(Mono.error(() -> PlayerNotFoundException.forId(playerID)));
+  }
+}
@@ -0,0 +1,59 @@
+package com.playerdata.playerdataservice.reactive;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.store.PlayerStore;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking view of a {@link PlayerStore} that keeps its players on the heap. Every read is a
+ * hash probe or a walk over an immutable list, so it can run on the event loop.
+ *
+ * <p>The fluxes emit lazily, exactly as many players as the subscriber has requested, so a
+ * subscriber that stops requesting costs an iterator and nothing else.
+ */
+@Component
+public class ReactivePlayerStore {
+
+  private final PlayerStore playerStore;
+
+  /**
+   * Constructs a ReactivePlayerStore.
+   *
+   * @param playerStore heap-backed store to read from
+   */
+  public ReactivePlayerStore(PlayerStore playerStore) {
+    this.playerStore = playerStore;
+  }
+
+  /**
+   * Looks up a player.
+   *
+   * @param playerId ID of the player
+   * @return the player, or empty if there is no player with that ID
+   */
+  public Mono<PlayerDTO> findById(String playerId) {
+    return Mono.defer(() -> Mono.justOrEmpty(playerStore.findById(playerId)));
+  }
+
+  /**
+   * Emits all players ordered by ID.
+   *
+   * @return the players
+   */
+  public Flux<PlayerDTO> findAll() {
+    return findAllAfter(null);
+  }
+
+  /**
+   * Emits the players whose IDs sort after the given ID, ordered by ID.
+   *
+   * @param after ID to resume after, or {@code null} to start with the first player
+   * @return the players
+   */
+  public Flux<PlayerDTO> findAllAfter(String after) {
+    // The in-memory store returns a view of its snapshot, so nothing is copied
+    return Flux.defer(() -> Flux.fromIterable(playerStore.findPage(after, Integer.MAX_VALUE)));
+  }
+}
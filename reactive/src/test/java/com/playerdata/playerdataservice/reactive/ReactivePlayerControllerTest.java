@@ -0,0 +1,119 @@
+package com.playerdata.playerdataservice.reactive;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactivePlayerControllerTest {
+
+  private WebTestClient webTestClient;
+
+  @BeforeEach
+  void setUp() {
+    ReactivePlayerStore playerStore =
+        new ReactivePlayerStore(ReactivePlayerStoreTest.load("b", "a", "c"));
+    webTestClient =
+        WebTestClient.bindToController(new ReactivePlayerController(playerStore, 2))
+            .controllerAdvice(new ReactiveExceptionHandler())
+            .build();
+  }
+
+  @Test
+  void testGetAllPlayers_returnsJsonArray() {
+    webTestClient
+        .get()
+        .uri("/api/players")
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.length()")
+        .isEqualTo(3)
+        .jsonPath("$[0].playerId")
+        .isEqualTo("a")
+        .jsonPath("$[2].lastName")
+        .isEqualTo("Last c");
+  }
+
+  @Test
+  void testGetAllPlayers_streamsNdjson() {
+    List<PlayerDTO> players =
+        webTestClient
+            .get()
+            .uri("/api/players")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(PlayerDTO.class)
+            .getResponseBody()
+            .collectList()
+            .block();
+
+    assertThat(players).extracting(PlayerDTO::getPlayerId).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  void testStreamPlayerEvents_resumesAfterLastEventIdAndEnds() {
+    StepVerifier.create(
+            webTestClient
+                .get()
+                .uri("/api/players")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Last-Event-ID", "a")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<PlayerDTO>>() {})
+                .getResponseBody())
+        .assertNext(
+            event -> {
+              assertThat(event.id()).isEqualTo("b");
+              assertThat(event.event()).isEqualTo("player");
+              assertThat(event.data().getPlayerId()).isEqualTo("b");
+            })
+        .assertNext(event -> assertThat(event.id()).isEqualTo("c"))
+        .assertNext(event -> assertThat(event.event()).isEqualTo("end"))
+        .verifyComplete();
+  }
+
+  @Test
+  void testGetPlayerById_returnsPlayer() {
+    webTestClient
+        .get()
+        .uri("/api/players/b")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.playerId")
+        .isEqualTo("b");
+  }
+
+  @Test
+  void testGetPlayerById_returnsNotFound() {
+    webTestClient
+        .get()
+        .uri("/api/players/missing")
+        .exchange()
+        .expectStatus()
+        .isNotFound()
+        .expectBody()
+        .jsonPath("$.error")
+        .isEqualTo("Player Not Found")
+        .jsonPath("$.path")
+        .isEqualTo("/api/players/missing");
+  }
+}
@@ -0,0 +1,68 @@
+package com.playerdata.playerdataservice.reactive;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.ingest.PlayerBatchWriter;
+import com.playerdata.playerdataservice.model.Player;
+import com.playerdata.playerdataservice.store.InMemoryPlayerStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+class ReactivePlayerStoreTest {
+
+  private ReactivePlayerStore playerStore;
+
+  @BeforeEach
+  void setUp() {
+    playerStore = new ReactivePlayerStore(load("c", "a", "b"));
+  }
+
+  @Test
+  void testFindById_emitsPlayerOrNothing() {
+    StepVerifier.create(playerStore.findById("b").map(PlayerDTO::getPlayerId))
+        .expectNext("b")
+        .verifyComplete();
+    StepVerifier.create(playerStore.findById("missing")).verifyComplete();
+  }
+
+  @Test
+  void testFindAll_emitsOnlyWhatIsRequested() {
+    StepVerifier.create(playerStore.findAll().map(PlayerDTO::getPlayerId), 1)
+        .expectNext("a")
+        .expectNoEvent(Duration.ofMillis(50))
+        .thenRequest(2)
+        .expectNext("b", "c")
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindAllAfter_resumesAfterId() {
+    StepVerifier.create(playerStore.findAllAfter("a").map(PlayerDTO::getPlayerId))
+        .expectNext("b", "c")
+        .verifyComplete();
+    StepVerifier.create(playerStore.findAllAfter("bb").map(PlayerDTO::getPlayerId))
+        .expectNext("c")
+        .verifyComplete();
+  }
+
+  /** Builds an in-memory store holding players with the given IDs. */
+  static InMemoryPlayerStore load(String... playerIds) {
+    InMemoryPlayerStore store = new InMemoryPlayerStore();
+    PlayerBatchWriter writer = store.newWriter();
+    writer.write(
+        Arrays.stream(playerIds)
+            .map(
+                playerId -> {
+                  Player player = new Player();
+                  player.setPlayerId(playerId);
+                  player.setLastName("Last " + playerId);
+                  return player;
+                })
+            .toList());
+    writer.complete();
+    return store;
+  }
+}
@@ -0,0 +1,115 @@
+package com.playerdata.playerdataservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+/**
+ * Second tier of {@link PlayerLookupCache}: players evicted from the heap tier, kept as Smile
+ * bytes in direct buffers so that they take no room on the heap beyond a small buffer object per
+ * entry. A player is moved back to the heap tier on its next lookup. Entries are bounded by their
+ * total size in bytes and evicted with the same W-TinyLFU policy as the heap tier.
+ *
+ * <p>Direct buffers are freed when they are garbage collected, and count towards {@code
+ * -XX:MaxDirectMemorySize} (by default the maximum heap size) until then.
+ */
+final class OffHeapTier {
+
+  private final ObjectMapper smileMapper;
+  private final Cache<String, ByteBuffer> entries;
+
+  /**
+   * Constructs an OffHeapTier.
+   *
+   * @param smileMapper mapper that writes and reads the players as Smile
+   * @param maxBytes largest total size of the serialized players
+   * @param ttl time after which an entry expires, or zero to keep entries until they are evicted
+   */
+  OffHeapTier(ObjectMapper smileMapper, long maxBytes, Duration ttl) {
+    this.smileMapper = smileMapper;
+    Caffeine<String, ByteBuffer> builder =
+        Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String playerId, ByteBuffer body) -> body.capacity())
+            .recordStats();
+    if (!ttl.isZero()) {
+      builder.expireAfterWrite(ttl);
+    }
+    this.entries = builder.build();
+  }
+
+  /**
+   * Returns the underlying cache, for metrics.
+   *
+   * @return the cache of serialized players
+   */
+  Cache<String, ByteBuffer> entries() {
+    return entries;
+  }
+
+  /**
+   * Returns the total size of the serialized players held.
+   *
+   * @return the size in bytes
+   */
+  long bytes() {
+    return entries.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+  }
+
+  /**
+   * Stores a player evicted from the heap tier.
+   *
+   * @param playerId ID of the player
+   * @param player the player
+   */
+  void put(String playerId, PlayerDTO player) {
+    byte[] body;
+    try {
+      body = smileMapper.writeValueAsBytes(player);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    entries.put(playerId, ByteBuffer.allocateDirect(body.length).put(body).flip());
+  }
+
+  /**
+   * Removes a player and returns it, for promotion to the heap tier.
+   *
+   * @param playerId ID of the player
+   * @return the player, or {@code null} if it is not held
+   */
+  PlayerDTO take(String playerId) {
+    ByteBuffer body = entries.getIfPresent(playerId);
+    if (body == null) {
+      return null;
+    }
+    entries.invalidate(playerId);
+    try {
+      return smileMapper.readValue(
+          new ByteBufferBackedInputStream(body.duplicate()), PlayerDTO.class);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Removes a player.
+   *
+   * @param playerId ID of the player
+   */
+  void invalidate(String playerId) {
+    entries.invalidate(playerId);
+  }
+
+  /** Removes every player. */
+  void invalidateAll() {
+    entries.invalidateAll();
+  }
+}
@@ -0,0 +1,200 @@
+package com.playerdata.playerdataservice.cache;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Opt-in read-through cache of player lookups by ID, enabled with {@code player.cache.enabled=true}
+ * for stores where each lookup is a query, such as {@code jpa} against a persistent database.
+ *
+ * <p>The first tier holds up to {@code player.cache.heap.max-size} lookup results on the heap,
+ * evicted with Caffeine's W-TinyLFU policy, which keeps frequently looked up players over merely
+ * recent ones. Misses that reach the store are cached too, as empty results. With {@code
+ * player.cache.off-heap.max-size} above zero, players evicted from the heap for size move to an
+ * {@link OffHeapTier} and come back on their next lookup. Either tier can expire entries after a
+ * time to live.
+ *
+ * <p>{@link com.playerdata.playerdataservice.service.PlayerService} invalidates the players that a
+ * reload changed as soon as the store holds the changes, and everything after a full load. A
+ * player is invalidated in both tiers while its heap entry is locked, so a lookup in flight or an
+ * eviction cannot put back the version read before the reload.
+ *
+ * <p>Both tiers publish Micrometer's cache meters ({@code cache.gets}, {@code cache.puts}, {@code
+ * cache.evictions}, {@code cache.size}) tagged {@code cache=players} and {@code tier=heap} or
+ * {@code tier=off-heap}; {@code player.cache.off-heap.bytes} is the size of the off-heap tier.
+ */
+@Component
+public class PlayerLookupCache {
+
+  static final String CACHE_NAME = "players";
+
+  private final Cache<String, Optional<PlayerDTO>> heap;
+  private final OffHeapTier offHeap;
+
+  /**
+   * Constructs a PlayerLookupCache.
+   *
+   * @param objectMapperBuilder builder of the application's mappers, for the off-heap encoding
+   * @param meterRegistry registry the cache meters are registered with
+   * @param enabled whether lookups are cached at all
+   * @param heapMaxSize largest number of lookup results on the heap
+   * @param heapTtl time after which a heap entry expires, or zero for none
+   * @param offHeapMaxSize largest total size of the off-heap tier, or zero for no off-heap tier
+   * @param offHeapTtl time after which an off-heap entry expires, or zero for none
+   */
+  public PlayerLookupCache(
+      Jackson2ObjectMapperBuilder objectMapperBuilder,
+      MeterRegistry meterRegistry,
+      @Value("${player.cache.enabled:false}") boolean enabled,
+      @Value("${player.cache.heap.max-size:10000}") long heapMaxSize,
+      @Value("${player.cache.heap.ttl:0s}") Duration heapTtl,
+      @Value("${player.cache.off-heap.max-size:0B}") DataSize offHeapMaxSize,
+      @Value("${player.cache.off-heap.ttl:0s}") Duration offHeapTtl) {
+    if (!enabled) {
+      this.heap = null;
+      this.offHeap = null;
+      return;
+    }
+    this.offHeap =
+        offHeapMaxSize.toBytes() > 0
+            ? new OffHeapTier(
+                objectMapperBuilder.factory(new SmileFactory()).build(),
+                offHeapMaxSize.toBytes(),
+                offHeapTtl)
+            : null;
+    Caffeine<String, Optional<PlayerDTO>> builder =
+        Caffeine.newBuilder()
+            .maximumSize(heapMaxSize)
+            // Runs while the evicted entry is locked, like the invalidation of a changed player
+            .evictionListener(
+                (String playerId, Optional<PlayerDTO> player, RemovalCause cause) -> {
+                  if (offHeap != null && cause == RemovalCause.SIZE && player.isPresent()) {
+                    offHeap.put(playerId, player.get());
+                  }
+                })
+            .recordStats();
+    if (!heapTtl.isZero()) {
+      builder.expireAfterWrite(heapTtl);
+    }
+    this.heap = builder.build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, heap, CACHE_NAME, "tier", "heap");
+    if (offHeap != null) {
+      CaffeineCacheMetrics.monitor(meterRegistry, offHeap.entries(), CACHE_NAME, "tier", "off-heap");
+      Gauge.builder("player.cache.off-heap.bytes", offHeap, OffHeapTier::bytes)
+          .description("Size of the players held in the off-heap cache tier")
+          .baseUnit("bytes")
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * Indicates whether lookups are cached.
+   *
+   * @return {@code true} if {@link #get} caches the results of its loader
+   */
+  public boolean isEnabled() {
+    return heap != null;
+  }
+
+  /**
+   * Looks up a player in the heap tier, then the off-heap tier, then through the loader, caching
+   * the result on the heap. Concurrent lookups of one player share a single load.
+   *
+   * @param playerId ID of the player
+   * @param loader looks the player up in the store
+   * @return the player, or empty if there is no player with that ID
+   */
+  public Optional<PlayerDTO> get(
+      String playerId, Function<String, Optional<PlayerDTO>> loader) {
+    if (heap == null) {
+      return loader.apply(playerId);
+    }
+    return heap.get(
+        playerId,
+        key -> {
+          PlayerDTO cold = offHeap == null ? null : offHeap.take(key);
+          return cold != null ? Optional.of(cold) : loader.apply(key);
+        });
+  }
+
+  /**
+   * Returns the lookup results held on the heap for several players, without loading the others.
+   * The probes are left out of the cache statistics, so that {@code cache.gets} counts single
+   * lookups only.
+   *
+   * @param playerIds IDs of the players
+   * @return the cached results by ID, empty for players known not to exist
+   */
+  public Map<String, Optional<PlayerDTO>> getAllPresent(Collection<String> playerIds) {
+    if (heap == null) {
+      return Map.of();
+    }
+    Map<String, Optional<PlayerDTO>> present = new HashMap<>();
+    for (String playerId : playerIds) {
+      Optional<PlayerDTO> player = heap.policy().getIfPresentQuietly(playerId);
+      if (player != null) {
+        present.put(playerId, player);
+      }
+    }
+    return present;
+  }
+
+  /**
+   * Removes players from both tiers.
+   *
+   * @param playerIds IDs of the players
+   */
+  public void invalidate(Collection<String> playerIds) {
+    if (heap == null) {
+      return;
+    }
+    for (String playerId : playerIds) {
+      heap.asMap()
+          .compute(
+              playerId,
+              (key, cached) -> {
+                if (offHeap != null) {
+                  offHeap.invalidate(key);
+                }
+                return null;
+              });
+    }
+  }
+
+  /** Runs pending evictions now rather than on the cache's own schedule, for tests. */
+  void cleanUp() {
+    heap.cleanUp();
+  }
+
+  /**
+   * Removes every player from both tiers. Only safe while no lookups are in flight, as before the
+   * first load has been published.
+   */
+  public void invalidateAll() {
+    if (heap == null) {
+      return;
+    }
+    heap.invalidateAll();
+    if (offHeap != null) {
+      offHeap.invalidateAll();
+    }
+  }
+}
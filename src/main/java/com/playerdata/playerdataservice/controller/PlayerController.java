@@ -1,53 +1,494 @@
 package com.playerdata.playerdataservice.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playerdata.playerdataservice.dto.PlayerBatchDTO;
 import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.dto.PlayerPageDTO;
+import com.playerdata.playerdataservice.dto.PlayerSuggestionDTO;
+import com.playerdata.playerdataservice.exception.InvalidRequestException;
+import com.playerdata.playerdataservice.exception.PlayerNotFoundException;
+import com.playerdata.playerdataservice.metrics.CountingOutputStream;
+import com.playerdata.playerdataservice.metrics.ResponseMetrics;
+import com.playerdata.playerdataservice.search.PlayerSearchCriteria;
 import com.playerdata.playerdataservice.service.PlayerService;
+import com.playerdata.playerdataservice.stats.PlayerStats;
+import com.playerdata.playerdataservice.stats.PlayerStatsQuery;
+import com.playerdata.playerdataservice.wire.PlayerColumnsCodec;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
-/** REST controller for player-related endpoints.*/
+/**
+ * REST controller for player-related endpoints. Bodies are written as JSON, CBOR or Smile,
+ * following the {@code Accept} header; the list of all players is also available in the
+ * columnar format of {@link PlayerColumnsCodec}.
+ */
 @RestController
 @RequestMapping("/api/players")
 public class PlayerController {
 
   private static final Logger logger = LoggerFactory.getLogger(PlayerController.class);
   private final PlayerService playerService;
+  private final PlayerStats playerStats;
+  private final ObjectMapper objectMapper;
+  private final PlayerResponseCache responseCache;
+  private final PlayerVersions playerVersions;
+  private final ResponseCompression compression;
+  private final ResponseMetrics responseMetrics;
+  private final PlayerNotFoundBody notFoundBody;
+  private final CacheControl cacheControl;
+  private final int maxBatchSize;
 
   /**
    * Constructs PlayerController with the specified PlayerService.
    *
    * @param playerService the player service
+   * @param playerStats statistics over the loaded players
+   * @param objectMapper mapper used to write streamed responses
+   * @param responseCache precomputed responses, used when enabled
+   * @param playerVersions ETags and modification times of the player resources
+   * @param compression how responses are compressed
+   * @param responseMetrics meters of the responses not written by the JSON converter
+   * @param cacheMaxAge how long clients may reuse a player response without revalidating it
+   * @param maxBatchSize largest number of IDs accepted by a batch lookup
    */
-  public PlayerController(PlayerService playerService) {
+  public PlayerController(
+      PlayerService playerService,
+      PlayerStats playerStats,
+      ObjectMapper objectMapper,
+      PlayerResponseCache responseCache,
+      PlayerVersions playerVersions,
+      ResponseCompression compression,
+      ResponseMetrics responseMetrics,
+      @Value("${player.http.cache-max-age:0s}") Duration cacheMaxAge,
+      @Value("${player.batch.max-size:10000}") int maxBatchSize) {
     this.playerService = playerService;
+    this.playerStats = playerStats;
+    this.objectMapper = objectMapper;
+    this.responseCache = responseCache;
+    this.playerVersions = playerVersions;
+    this.compression = compression;
+    this.responseMetrics = responseMetrics;
+    this.notFoundBody = new PlayerNotFoundBody(objectMapper);
+    this.cacheControl =
+        cacheMaxAge.isZero()
+            ? CacheControl.noCache().cachePublic()
+            : CacheControl.maxAge(cacheMaxAge).cachePublic().mustRevalidate();
+    this.maxBatchSize = maxBatchSize;
   }
 
   /**
-   * Retrieves all players.
+   * Retrieves all players. Honors {@code If-None-Match} and {@code If-Modified-Since}. With {@code
+   * Accept: application/vnd.playerdata.columns+cbor} the players are written in the columnar format
+   * of {@link PlayerColumnsCodec}. Precomputed JSON is served compressed ahead of time when the
+   * {@code Accept-Encoding} header allows.
    *
-   * @return ResponseEntity containing the list of all players
+   * @param request the current request, for conditional request handling and content negotiation
+   * @return ResponseEntity containing the list of all players, or 304 if the client's copy is
+   *     current
    */
   @GetMapping
-  public ResponseEntity<List<PlayerDTO>> getAllPlayers() {
+  public ResponseEntity<?> getAllPlayers(WebRequest request) {
     logger.info("Fetching all players");
+    ResponseFormat format = ResponseFormat.negotiate(request, true);
+    if (isNotModified(request, playerVersions.allPlayers(), format)) {
+      return notModified();
+    }
+    if (format == ResponseFormat.COLUMNS) {
+      return columns("getAllPlayers", playerService.getAllPlayers());
+    }
+    if (format == ResponseFormat.JSON && responseCache.isEnabled()) {
+      ContentCoding coding = compression.precompressed(request);
+      byte[] body = coding == null ? null : responseCache.allPlayers(coding);
+      if (body != null) {
+        return precomputed("getAllPlayers", body, coding);
+      }
+      return precomputed("getAllPlayers", responseCache.allPlayers(), null);
+    }
     List<PlayerDTO> players = playerService.getAllPlayers();
-    return ResponseEntity.ok(players);
+    return ok().body(players);
   }
 
   /**
-   * Retrieves a player by their ID.
+   * Retrieves one page of players ordered by ID. Pass the returned {@code nextCursor} as {@code
+   * after} to fetch the following page.
+   *
+   * @param limit maximum number of players in the page
+   * @param after ID of the last player of the previous page; omit for the first page
+   * @param request the current request, for conditional request handling and content negotiation
+   * @return ResponseEntity containing the page, or 304 if the client's copy is current
+   */
+  @GetMapping(params = "limit")
+  public ResponseEntity<?> getPlayersPage(
+      @RequestParam int limit, @RequestParam(required = false) String after, WebRequest request) {
+    logger.info("Fetching {} players after ID: {}", limit, after);
+    // A bad limit is a 400 even when the validators would match
+    PlayerService.checkLimit(limit);
+    ResponseFormat format = ResponseFormat.negotiate(request, false);
+    if (isNotModified(request, playerVersions.page(after, limit), format)) {
+      return notModified();
+    }
+    if (format == ResponseFormat.JSON && responseCache.isEnabled()) {
+      ContentCoding coding = compression.precompressed(request);
+      byte[] body = coding == null ? null : responseCache.page(after, limit, coding);
+      if (body != null) {
+        return precomputed("getPlayersPage", body, coding);
+      }
+      body = responseCache.page(after, limit);
+      if (body != null) {
+        return precomputed("getPlayersPage", body, null);
+      }
+    }
+    return ok().body(playerService.getPlayersPage(after, limit));
+  }
+
+  /**
+   * Streams all players, writing each one as it is read so that memory use does not depend on the
+   * number of players. {@code stream=json} writes a JSON array, {@code stream=ndjson} writes one
+   * JSON object per line.
+   *
+   * @param stream output format, {@code json} or {@code ndjson}
+   * @return ResponseEntity whose body writes the players
+   */
+  @GetMapping(params = "stream")
+  public ResponseEntity<StreamingResponseBody> streamPlayers(@RequestParam String stream) {
+    boolean ndjson =
+        switch (stream) {
+          case "ndjson" -> true;
+          case "json" -> false;
+          default -> throw new InvalidRequestException("stream must be 'json' or 'ndjson'");
+        };
+    logger.info("Streaming all players as {}", stream);
+    StreamingResponseBody body = metered("streamPlayers", out -> writePlayers(out, ndjson));
+    return ResponseEntity.ok()
+        .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+        .body(body);
+  }
+
+  /**
+   * Searches players by any combination of birth country and state, batting and throwing hand,
+   * last name, and debut and final game year ranges. Results are ordered by ID and paginated like
+   * {@link #getPlayersPage(int, String)}.
+   *
+   * @param criteria filters bound from the query parameters of the same name
+   * @param limit maximum number of players in the page
+   * @param after ID of the last player of the previous page; omit for the first page
+   * @return ResponseEntity containing the page of matching players
+   */
+  @GetMapping("/search")
+  public ResponseEntity<PlayerPageDTO> searchPlayers(
+      PlayerSearchCriteria criteria,
+      @RequestParam(defaultValue = "100") int limit,
+      @RequestParam(required = false) String after) {
+    logger.info("Searching players matching {}, {} after ID: {}", criteria, limit, after);
+    // No validators or Cache-Control, but the body still depends on the negotiated format
+    return ResponseEntity.ok()
+        .varyBy(varyBy())
+        .body(playerService.searchPlayers(criteria, after, limit));
+  }
+
+  /**
+   * Computes statistics over all players, grouped by up to {@link PlayerStatsQuery#MAX_GROUP_BY}
+   * fields, such as the number of players per birth country or the average height and weight by
+   * batting hand. Honors {@code If-None-Match} and {@code If-Modified-Since}.
+   *
+   * @param groupBy fields to group by, comma-separated; omit to compute over all players at once
+   * @param metrics metrics per group, comma-separated, such as {@code count} or {@code
+   *     avg:height}
+   * @param request the current request, for conditional request handling and content negotiation
+   * @return ResponseEntity containing one entry per group, or 304 if the client's copy is current
+   */
+  @GetMapping("/stats")
+  public ResponseEntity<?> getPlayerStats(
+      @RequestParam(defaultValue = "") List<String> groupBy,
+      @RequestParam(defaultValue = "count") List<String> metrics,
+      WebRequest request) {
+    PlayerStatsQuery query = PlayerStatsQuery.parse(groupBy, metrics);
+    logger.info("Computing player stats for {}", query.canonical());
+    ResponseFormat format = ResponseFormat.negotiate(request, false);
+    if (isNotModified(request, playerVersions.stats(query.canonical()), format)) {
+      return notModified();
+    }
+    return ok().body(playerStats.compute(query));
+  }
+
+  /**
+   * Suggests players for a partially typed name, matching the first, last and given names by
+   * prefix regardless of case and accents.
+   *
+   * @param q the words typed so far
+   * @param fuzziness number of typos tolerated per word
+   * @param limit maximum number of suggestions
+   * @return ResponseEntity containing the suggestions, best match first
+   */
+  @GetMapping("/autocomplete")
+  public ResponseEntity<List<PlayerSuggestionDTO>> autocompletePlayers(
+      @RequestParam String q,
+      @RequestParam(defaultValue = "0") int fuzziness,
+      @RequestParam(defaultValue = "10") int limit) {
+    logger.debug("Autocompleting players for: {}", q);
+    return ResponseEntity.ok()
+        .varyBy(varyBy())
+        .body(playerService.autocompletePlayers(q, fuzziness, limit));
+  }
+
+  /**
+   * Retrieves several players by ID in one request. Batches of up to {@link
+   * PlayerService#BATCH_CHUNK_SIZE} IDs are resolved before the response starts; larger batches
+   * are streamed, writing the players of each chunk as soon as it is resolved.
+   *
+   * @param requestBody JSON array of player IDs, at most {@code player.batch.max-size} of them
+   * @return ResponseEntity whose body writes the players found and the IDs without a player, both
+   *     in request order
+   * @throws IOException if the request body cannot be read
+   */
+  @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> getPlayersBatch(InputStream requestBody)
+      throws IOException {
+    List<String> playerIds = readPlayerIds(requestBody);
+    logger.info("Fetching a batch of {} players", playerIds.size());
+    StreamingResponseBody body;
+    if (playerIds.size() <= PlayerService.BATCH_CHUNK_SIZE) {
+      PlayerBatchDTO batch = playerService.getPlayersByIds(playerIds);
+      body = metered("getPlayersBatch", out -> objectMapper.writeValue(out, batch));
+    } else {
+      body = metered("getPlayersBatch", out -> writeBatch(out, playerIds));
+    }
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+  }
+
+  /**
+   * Reads the IDs of a batch lookup one token at a time, so that an oversized batch is rejected as
+   * soon as its first ID over the limit is read, before the rest of the body is parsed.
+   */
+  private List<String> readPlayerIds(InputStream requestBody) throws IOException {
+    List<String> playerIds = new ArrayList<>();
+    try (JsonParser parser = objectMapper.createParser(requestBody)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new InvalidRequestException("Request body must be a JSON array of player IDs");
+      }
+      JsonToken token;
+      while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+        if (playerIds.size() == maxBatchSize) {
+          throw new InvalidRequestException(
+              "A batch must not contain more than " + maxBatchSize + " IDs");
+        }
+        if (token == JsonToken.VALUE_NULL) {
+          throw new InvalidRequestException("Player IDs must not be null");
+        }
+        // Numbers and booleans are taken as their text, as Jackson binds them to a String
+        if (token == null || !token.isScalarValue()) {
+          throw new InvalidRequestException("Request body must be a JSON array of player IDs");
+        }
+        playerIds.add(parser.getText());
+      }
+    } catch (JsonProcessingException e) {
+      throw new InvalidRequestException("Request body must be a JSON array of player IDs");
+    }
+    return playerIds;
+  }
+
+  /**
+   * Retrieves a player by their ID. Honors {@code If-None-Match} and {@code If-Modified-Since}. A
+   * miss is answered with a precomputed error body rather than an exception.
    *
    * @param playerID the ID of the player
-   * @return ResponseEntity containing the player if found, or not found status
+   * @param request the current request, for conditional request handling and content negotiation
+   * @return ResponseEntity containing the player if found, 304 if the client's copy is current, or
+   *     not found status
    */
   @GetMapping("/{playerID}")
-  public ResponseEntity<PlayerDTO> getPlayerById(@PathVariable String playerID) {
+  public ResponseEntity<?> getPlayerById(@PathVariable String playerID, WebRequest request) {
     logger.info("Fetching player with ID: {}", playerID);
-    PlayerDTO playerDTO = playerService.getPlayerDTOById(playerID);
-    return ResponseEntity.ok(playerDTO);
+    ResponseFormat format = ResponseFormat.negotiate(request, false);
+    PlayerVersions.Version version = playerVersions.findPlayer(playerID);
+    if (version != null && isNotModified(request, version, format)) {
+      return notModified();
+    }
+    boolean json = format == ResponseFormat.JSON;
+    if (json && responseCache.isEnabled()) {
+      byte[] body = responseCache.findPlayer(playerID);
+      if (body != null) {
+        return precomputed("getPlayerById", body, null);
+      }
+    }
+    Optional<PlayerDTO> playerDTO = playerService.findPlayerDTOById(playerID);
+    if (playerDTO.isEmpty()) {
+      if (!json) {
+        // The exception handler writes the error in the negotiated format
+        throw PlayerNotFoundException.forId(playerID);
+      }
+      return notFound(playerID, request);
+    }
+    return ok().body(playerDTO.get());
+  }
+
+  /**
+   * Evaluates the conditional request headers against validators computed at load time, so that
+   * revalidation needs neither the store nor serialization. Also adds the {@code ETag} and {@code
+   * Last-Modified} headers to the response.
+   */
+  private boolean isNotModified(
+      WebRequest request, PlayerVersions.Version version, ResponseFormat format) {
+    String eTag = compression.eTag(request, format.eTag(version.eTag()));
+    return request.checkNotModified(eTag, version.lastModified());
+  }
+
+  /** Starts a 200 response to a request whose format, and possibly coding, was negotiated. */
+  private ResponseEntity.BodyBuilder ok() {
+    return ResponseEntity.ok().cacheControl(cacheControl).varyBy(varyBy());
+  }
+
+  private ResponseEntity<?> notModified() {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+        .cacheControl(cacheControl)
+        .varyBy(varyBy())
+        .build();
+  }
+
+  private String[] varyBy() {
+    return compression.isEnabled()
+        ? new String[] {HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING}
+        : new String[] {HttpHeaders.ACCEPT};
+  }
+
+  /** Writes the same 404 response as the exception handler, without an exception. */
+  private ResponseEntity<byte[]> notFound(String playerId, WebRequest request) {
+    HttpServletRequest servletRequest =
+        request instanceof NativeWebRequest nativeRequest
+            ? nativeRequest.getNativeRequest(HttpServletRequest.class)
+            : null;
+    String path =
+        servletRequest != null ? servletRequest.getRequestURI() : "/api/players/" + playerId;
+    byte[] body = notFoundBody.render(playerId, path);
+    responseMetrics.recordSize("getPlayerById", body.length);
+    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+        .contentType(MediaType.APPLICATION_JSON)
+        .varyBy(varyBy())
+        .body(body);
+  }
+
+  /**
+   * Writes precomputed JSON bytes as they are, without going through Jackson. Bodies compressed
+   * ahead of time carry their {@code Content-Encoding}, which keeps the server from compressing
+   * them again.
+   */
+  private ResponseEntity<byte[]> precomputed(String endpoint, byte[] body, ContentCoding coding) {
+    responseMetrics.recordSize(endpoint, body.length);
+    ResponseEntity.BodyBuilder response = ok().contentType(MediaType.APPLICATION_JSON);
+    if (coding != null) {
+      response.header(HttpHeaders.CONTENT_ENCODING, coding.token());
+    }
+    return response.body(body);
+  }
+
+  /** Writes players in the columnar format, recording the encoding like the message converters. */
+  private ResponseEntity<byte[]> columns(String endpoint, List<PlayerDTO> players) {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    long start = System.nanoTime();
+    try {
+      PlayerColumnsCodec.write(players, body);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    responseMetrics.record(endpoint, System.nanoTime() - start, body.size());
+    return ok().contentType(ResponseFormat.COLUMNS.mediaType()).body(body.toByteArray());
+  }
+
+  /** Records the size and writing time of a streamed body, which bypasses the JSON converter. */
+  private StreamingResponseBody metered(String endpoint, StreamingResponseBody body) {
+    return out -> {
+      CountingOutputStream counting = new CountingOutputStream(out);
+      long start = System.nanoTime();
+      body.writeTo(counting);
+      responseMetrics.record(endpoint, System.nanoTime() - start, counting.count());
+    };
+  }
+
+  private void writePlayers(OutputStream out, boolean ndjson) throws IOException {
+    try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+      if (ndjson) {
+        // Lines are terminated explicitly instead of separated
+        generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+      } else {
+        generator.writeStartArray();
+      }
+      try {
+        playerService.forEachPlayer(
+            player -> {
+              try {
+                generator.writeObject(player);
+                if (ndjson) {
+                  generator.writeRaw('\n');
+                }
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      if (!ndjson) {
+        generator.writeEndArray();
+      }
+    }
+  }
+
+  /**
+   * Writes a batch in the shape of {@link PlayerBatchDTO}. Players are written as they are found;
+   * only the missing IDs are held until the end.
+   */
+  private void writeBatch(OutputStream out, List<String> playerIds) throws IOException {
+    List<String> missingIds = new ArrayList<>();
+    try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+      generator.writeStartObject();
+      generator.writeArrayFieldStart("players");
+      try {
+        playerService.forEachPlayerById(
+            playerIds,
+            player -> {
+              try {
+                generator.writeObject(player);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            },
+            missingIds::add);
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      generator.writeEndArray();
+      generator.writeArrayFieldStart("missingIds");
+      for (String playerId : missingIds) {
+        generator.writeString(playerId);
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
   }
 }
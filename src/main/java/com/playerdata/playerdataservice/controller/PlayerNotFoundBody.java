@@ -0,0 +1,75 @@
+package com.playerdata.playerdataservice.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playerdata.playerdataservice.exception.GlobalExceptionHandler;
+import com.playerdata.playerdataservice.exception.PlayerNotFoundException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Body of the 404 response for a missing player, byte for byte what {@link GlobalExceptionHandler}
+ * writes for a {@link PlayerNotFoundException}. The fixed parts are serialized once with the
+ * application's {@link ObjectMapper}; a response only JSON-escapes the player ID and the request
+ * path and copies them in between.
+ */
+final class PlayerNotFoundBody {
+
+  private static final String ID_MARKER = "\u0001id\u0001";
+  private static final String PATH_MARKER = "\u0001path\u0001";
+
+  private final byte[] beforeId;
+  private final byte[] beforePath;
+  private final byte[] afterPath;
+
+  PlayerNotFoundBody(ObjectMapper objectMapper) {
+    String template;
+    try {
+      template =
+          objectMapper.writeValueAsString(
+              GlobalExceptionHandler.playerNotFound(
+                  PlayerNotFoundException.message(ID_MARKER), PATH_MARKER));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Cannot serialize the player not found response", e);
+    }
+    String id = escape(ID_MARKER);
+    String path = escape(PATH_MARKER);
+    int idStart = template.indexOf(id);
+    int pathStart = template.indexOf(path);
+    if (idStart < 0 || pathStart < idStart) {
+      throw new IllegalStateException("Unexpected player not found response: " + template);
+    }
+    this.beforeId = bytes(template.substring(0, idStart));
+    this.beforePath = bytes(template.substring(idStart + id.length(), pathStart));
+    this.afterPath = bytes(template.substring(pathStart + path.length()));
+  }
+
+  /**
+   * Renders the body for one missing player.
+   *
+   * @param playerId ID of the player that was not found
+   * @param path URI of the request
+   * @return the JSON bytes
+   */
+  byte[] render(String playerId, String path) {
+    byte[] id = JsonStringEncoder.getInstance().quoteAsUTF8(playerId);
+    byte[] uri = JsonStringEncoder.getInstance().quoteAsUTF8(path);
+    byte[] body =
+        new byte[beforeId.length + id.length + beforePath.length + uri.length + afterPath.length];
+    int position = 0;
+    for (byte[] part : new byte[][] {beforeId, id, beforePath, uri, afterPath}) {
+      System.arraycopy(part, 0, body, position, part.length);
+      position += part.length;
+    }
+    return body;
+  }
+
+  private static String escape(String text) {
+    return new String(JsonStringEncoder.getInstance().quoteAsString(text));
+  }
+
+  private static byte[] bytes(String text) {
+    return text.getBytes(StandardCharsets.UTF_8);
+  }
+}
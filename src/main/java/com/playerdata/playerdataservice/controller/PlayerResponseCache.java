@@ -0,0 +1,341 @@
+package com.playerdata.playerdataservice.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.service.PlayerChanges;
+import com.playerdata.playerdataservice.service.PlayersLoadedListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opt-in cache of fully serialized JSON responses, enabled with {@code
+ * player.response.precomputed=true}. Player data does not change between loads, so every player,
+ * and the list of all players, is serialized once when a load completes. The controller then
+ * writes these bytes as they are, so the hot lookup path does no mapping, no Jackson serialization
+ * and almost no allocation. Pages are served from the IDs of the load, in order, without asking
+ * the store, and assembled by copying the bytes of their players. A reload
+ * serializes only the changed players and reassembles the list from the bytes already held. The
+ * responses of a load, including the compressed ones, are published together.
+ *
+ * <p>The bytes are serialized with the application's {@link ObjectMapper}, so they are identical
+ * to what the controller would produce without the cache. The returned arrays are shared and must
+ * not be modified.
+ *
+ * <p>With {@code player.response.precompressed} the list of all players is also compressed once
+ * per load in each configured coding, and pages are compressed the first time they are asked for
+ * in a coding and kept until the next load, up to {@code player.response.precompressed-pages}
+ * pages.
+ */
+@Component
+@Order(PlayersLoadedListener.BODY_ORDER)
+public class PlayerResponseCache implements PlayersLoadedListener {
+
+  private static final Logger logger = LoggerFactory.getLogger(PlayerResponseCache.class);
+
+  private static final byte[] PAGE_START = "{\"players\":[".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] PAGE_CURSOR = "],\"nextCursor\":".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+  private final Set<ContentCoding> codings;
+  private final int maxCompressedPages;
+  private volatile Responses responses;
+
+  /**
+   * Constructs a PlayerResponseCache.
+   *
+   * @param objectMapper mapper used to serialize the responses
+   * @param enabled whether responses are precomputed at all
+   * @param compression codings in which the list and pages are compressed ahead of time
+   * @param maxCompressedPages largest number of compressed pages kept per load
+   */
+  public PlayerResponseCache(
+      ObjectMapper objectMapper,
+      @Value("${player.response.precomputed:false}") boolean enabled,
+      ResponseCompression compression,
+      @Value("${player.response.precompressed-pages:1024}") int maxCompressedPages) {
+    this.objectMapper = objectMapper;
+    this.enabled = enabled;
+    this.codings = compression.precompressedCodings();
+    this.maxCompressedPages = maxCompressedPages;
+    this.responses =
+        new Responses(
+            new String[0], Map.of(), enabled ? new byte[] {'[', ']'} : null, Map.of());
+  }
+
+  /**
+   * Indicates whether responses are precomputed.
+   *
+   * @return {@code true} if the controller should serve responses from this cache
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public Runnable prepareLoad(List<PlayerDTO> players) {
+    if (!enabled) {
+      return () -> {};
+    }
+    long start = System.nanoTime();
+    Map<String, byte[]> byId = new HashMap<>((int) (players.size() / 0.75f) + 1);
+    for (PlayerDTO player : players) {
+      byId.put(player.getPlayerId(), serialize(player));
+    }
+    Responses prepared = prepare(players, byId);
+    logger.info(
+        "Precomputed {} player responses ({} bytes for the full list) in {} ms",
+        byId.size(),
+        prepared.all().length,
+        (System.nanoTime() - start) / 1_000_000);
+    return () -> responses = prepared;
+  }
+
+  @Override
+  public Runnable prepareChanges(List<PlayerDTO> players, PlayerChanges changes) {
+    if (!enabled) {
+      return () -> {};
+    }
+    long start = System.nanoTime();
+    Map<String, byte[]> byId = new HashMap<>(responses.byId());
+    changes.deletedIds().forEach(byId::remove);
+    for (List<PlayerDTO> changed : List.of(changes.inserted(), changes.updated())) {
+      for (PlayerDTO player : changed) {
+        byId.put(player.getPlayerId(), serialize(player));
+      }
+    }
+    Responses prepared = prepare(players, byId);
+    logger.info(
+        "Updated {} precomputed player responses in {} ms",
+        changes.size(),
+        (System.nanoTime() - start) / 1_000_000);
+    return () -> responses = prepared;
+  }
+
+  /**
+   * Returns the serialized player with the given ID.
+   *
+   * @param playerId ID of the player
+   * @return the JSON bytes, or {@code null} if there is no such player or the cache is disabled
+   */
+  public byte[] findPlayer(String playerId) {
+    return responses.byId().get(playerId);
+  }
+
+  /**
+   * Returns the serialized list of all players, ordered by ID.
+   *
+   * @return the JSON bytes, or {@code null} if the cache is disabled
+   */
+  public byte[] allPlayers() {
+    return responses.all();
+  }
+
+  /**
+   * Returns the list of all players compressed ahead of time.
+   *
+   * @param coding the content coding
+   * @return the compressed JSON bytes, or {@code null} if the list is not compressed in the coding
+   */
+  byte[] allPlayers(ContentCoding coding) {
+    return responses.compressedAll().get(coding);
+  }
+
+  /**
+   * Returns a page compressed in the given coding, compressing it on first use. Compressed pages
+   * are kept until the next load.
+   *
+   * @param after ID of the last player of the previous page, or {@code null} for the first page
+   * @param limit maximum number of players in the page
+   * @param coding the content coding
+   * @return the compressed JSON bytes, or {@code null} if pages are not compressed in the coding or
+   *     the compressed pages are at their limit
+   */
+  byte[] page(String after, int limit, ContentCoding coding) {
+    if (!codings.contains(coding)) {
+      return null;
+    }
+    Responses current = responses;
+    int from = from(current, after);
+    int to = to(current, from, limit);
+    // Positions identify a page within the load that the compressed pages belong to
+    String key = coding.token() + ':' + from + ':' + to;
+    byte[] body = current.pages().get(key);
+    if (body != null) {
+      return body;
+    }
+    if (current.pages().size() >= maxCompressedPages) {
+      return null;
+    }
+    byte[] identity = page(current, from, to);
+    return current.pages().computeIfAbsent(key, ignored -> coding.encode(identity));
+  }
+
+  /**
+   * Returns one page of players ordered by ID, like {@link
+   * com.playerdata.playerdataservice.service.PlayerService#getPlayersPage(String, int)}, by
+   * copying the precomputed bytes of its players.
+   *
+   * @param after ID of the last player of the previous page, or {@code null} for the first page
+   * @param limit maximum number of players in the page
+   * @return the JSON bytes, or {@code null} if the cache is disabled
+   */
+  public byte[] page(String after, int limit) {
+    if (!enabled) {
+      return null;
+    }
+    Responses current = responses;
+    int from = from(current, after);
+    return page(current, from, to(current, from, limit));
+  }
+
+  /** Returns the position of the first player after the given ID. */
+  private static int from(Responses current, String after) {
+    if (after == null) {
+      return 0;
+    }
+    int index = Arrays.binarySearch(current.ids(), after);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  private static int to(Responses current, int from, int limit) {
+    return (int) Math.min((long) from + limit, current.ids().length);
+  }
+
+  /** Joins the players from position {@code from} to {@code to} into a page. */
+  private static byte[] page(Responses current, int from, int to) {
+    byte[][] parts = new byte[to - from][];
+    // The last player of the page is the cursor if another page follows
+    byte[] cursor = to > from && to < current.ids().length ? quote(current.ids()[to - 1]) : NULL;
+    // Fixed parts, separators between players, and the closing brace
+    int length =
+        PAGE_START.length + PAGE_CURSOR.length + cursor.length + Math.max(0, parts.length - 1) + 1;
+    for (int i = 0; i < parts.length; i++) {
+      parts[i] = current.byId().get(current.ids()[from + i]);
+      length += parts[i].length;
+    }
+
+    byte[] body = new byte[length];
+    int position = copy(PAGE_START, body, 0);
+    for (int i = 0; i < parts.length; i++) {
+      if (i > 0) {
+        body[position++] = ',';
+      }
+      position = copy(parts[i], body, position);
+    }
+    position = copy(PAGE_CURSOR, body, position);
+    position = copy(cursor, body, position);
+    body[position] = '}';
+    return body;
+  }
+
+  /**
+   * Writes an ID as a JSON string, escaped the way Jackson escapes it by default: quotes,
+   * backslashes and control characters only.
+   */
+  private static byte[] quote(String value) {
+    StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> quoted.append("\\\"");
+        case '\\' -> quoted.append("\\\\");
+        case '\b' -> quoted.append("\\b");
+        case '\f' -> quoted.append("\\f");
+        case '\n' -> quoted.append("\\n");
+        case '\r' -> quoted.append("\\r");
+        case '\t' -> quoted.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            quoted.append(String.format("\\u%04X", (int) c));
+          } else {
+            quoted.append(c);
+          }
+        }
+      }
+    }
+    return quoted.append('"').toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /** Joins the responses into the list of all players and compresses it, without publishing. */
+  private Responses prepare(List<PlayerDTO> players, Map<String, byte[]> byId) {
+    String[] ids = new String[players.size()];
+    ByteArrayOutputStream list = new ByteArrayOutputStream(players.size() * 512);
+    list.write('[');
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = players.get(i).getPlayerId();
+      byte[] body = byId.get(ids[i]);
+      if (i > 0) {
+        list.write(',');
+      }
+      list.write(body, 0, body.length);
+    }
+    list.write(']');
+    byte[] body = list.toByteArray();
+    Map<ContentCoding, byte[]> compressedBodies = new EnumMap<>(ContentCoding.class);
+    for (ContentCoding coding : codings) {
+      long start = System.nanoTime();
+      byte[] compressedBody = coding.encode(body);
+      compressedBodies.put(coding, compressedBody);
+      logger.info(
+          "Compressed the player list with {} to {} bytes in {} ms",
+          coding.token(),
+          compressedBody.length,
+          (System.nanoTime() - start) / 1_000_000);
+    }
+    return new Responses(ids, byId, body, compressedBodies);
+  }
+
+  private byte[] serialize(Object value) {
+    try {
+      return objectMapper.writeValueAsBytes(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Cannot serialize " + value, e);
+    }
+  }
+
+  private static int copy(byte[] source, byte[] target, int position) {
+    System.arraycopy(source, 0, target, position, source.length);
+    return position + source.length;
+  }
+
+  /**
+   * Responses of one load, published together.
+   *
+   * @param ids the ID of every player, in order
+   * @param byId the JSON bytes of each player
+   * @param all the list of all players, or {@code null} if the cache is disabled
+   * @param compressedAll the list of all players in each precompressed coding
+   * @param pages pages compressed so far, by coding and position
+   */
+  private record Responses(
+      String[] ids,
+      Map<String, byte[]> byId,
+      byte[] all,
+      Map<ContentCoding, byte[]> compressedAll,
+      Map<String, byte[]> pages) {
+
+    Responses(
+        String[] ids,
+        Map<String, byte[]> byId,
+        byte[] all,
+        Map<ContentCoding, byte[]> compressedAll) {
+      this(ids, byId, all, compressedAll, new ConcurrentHashMap<>());
+    }
+  }
+}
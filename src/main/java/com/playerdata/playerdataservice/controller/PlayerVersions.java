@@ -0,0 +1,184 @@
+package com.playerdata.playerdataservice.controller;
+
+import com.playerdata.playerdataservice.dto.PlayerContent;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.service.PlayerChanges;
+import com.playerdata.playerdataservice.service.PlayersLoadedListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * HTTP validators (strong ETag and Last-Modified) of the player resources, computed once per load
+ * so that a conditional request can be answered without reading the store or serializing
+ * anything.
+ *
+ * <p>The ETag of a player is a SHA-256 digest of its {@link PlayerContent}; the ETag of the player
+ * list is a digest of all player digests in ID order, and pages derive theirs from the list. A
+ * resource keeps its ETag and Last-Modified time across loads for as long as its content does not
+ * change. After a reload only the changed players are digested again. The validators are published
+ * after the response bodies of the same load.
+ */
+@Component
+@Order(PlayersLoadedListener.VALIDATOR_ORDER)
+public class PlayerVersions implements PlayersLoadedListener {
+
+  private final Clock clock;
+  private volatile Snapshot snapshot;
+
+  /** Constructs PlayerVersions on the system clock. */
+  public PlayerVersions() {
+    this(Clock.systemUTC());
+  }
+
+  PlayerVersions(Clock clock) {
+    this.clock = clock;
+    this.snapshot = new Snapshot(Map.of(), version(digest(new byte[0]), clock.millis()));
+  }
+
+  @Override
+  public Runnable prepareLoad(List<PlayerDTO> players) {
+    return prepare(players, playerId -> true);
+  }
+
+  @Override
+  public Runnable prepareChanges(List<PlayerDTO> players, PlayerChanges changes) {
+    Set<String> changed = new HashSet<>();
+    changes.inserted().forEach(player -> changed.add(player.getPlayerId()));
+    changes.updated().forEach(player -> changed.add(player.getPlayerId()));
+    return prepare(players, changed::contains);
+  }
+
+  /**
+   * Computes the validators of the given players, digesting only those that may have changed and
+   * reusing the previous digests of the others, and returns the step that publishes them.
+   */
+  private Runnable prepare(List<PlayerDTO> players, Predicate<String> mayHaveChanged) {
+    Snapshot previous = snapshot;
+    long now = clock.millis();
+    Map<String, Version> byId = new HashMap<>((int) (players.size() / 0.75f) + 1);
+    MessageDigest listDigest = sha256();
+    for (PlayerDTO player : players) {
+      Version before = previous.byId().get(player.getPlayerId());
+      byte[] digest =
+          before == null || mayHaveChanged.test(player.getPlayerId())
+              ? digest(PlayerContent.bytes(player))
+              : before.digest();
+      listDigest.update(digest);
+      byId.put(player.getPlayerId(), unchangedOrNew(before, digest, now));
+    }
+    Snapshot prepared =
+        new Snapshot(byId, unchangedOrNew(previous.all(), listDigest.digest(), now));
+    return () -> snapshot = prepared;
+  }
+
+  /**
+   * Returns the validators of one player.
+   *
+   * @param playerId ID of the player
+   * @return the validators, or {@code null} if there is no such player
+   */
+  public Version findPlayer(String playerId) {
+    return snapshot.byId().get(playerId);
+  }
+
+  /**
+   * Returns the validators of the list of all players.
+   *
+   * @return the validators
+   */
+  public Version allPlayers() {
+    return snapshot.all();
+  }
+
+  /**
+   * Returns the validators of one page of players. A page is determined by the list it is cut
+   * from and its parameters, so it changes exactly when the list does.
+   *
+   * @param after ID of the last player of the previous page, or {@code null} for the first page
+   * @param limit maximum number of players in the page
+   * @return the validators
+   */
+  public Version page(String after, int limit) {
+    Version all = snapshot.all();
+    MessageDigest digest = sha256();
+    digest.update(all.digest());
+    String parameters = limit + ":" + (after == null ? "" : "+" + after);
+    digest.update(parameters.getBytes(StandardCharsets.UTF_8));
+    return new Version(eTag(digest.digest()), all.lastModified(), null);
+  }
+
+  /**
+   * Returns the validators of a statistics result, which is determined by the list of players and
+   * the query, so it changes exactly when the list does.
+   *
+   * @param query the statistics query in canonical form
+   * @return the validators
+   */
+  public Version stats(String query) {
+    Version all = snapshot.all();
+    MessageDigest digest = sha256();
+    digest.update(all.digest());
+    digest.update(("stats?" + query).getBytes(StandardCharsets.UTF_8));
+    return new Version(eTag(digest.digest()), all.lastModified(), null);
+  }
+
+  private static Version unchangedOrNew(Version before, byte[] digest, long now) {
+    if (before != null && Arrays.equals(before.digest(), digest)) {
+      return before;
+    }
+    return version(digest, now);
+  }
+
+  private static Version version(byte[] digest, long lastModified) {
+    return new Version(eTag(digest), lastModified, digest);
+  }
+
+  private static String eTag(byte[] digest) {
+    // 128 bits of SHA-256 are plenty to tell versions of one resource apart
+    return "\""
+        + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16))
+        + "\"";
+  }
+
+  private static byte[] digest(byte[] content) {
+    return sha256().digest(content);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * Validators of one resource.
+   *
+   * @param eTag strong entity tag, quoted
+   * @param lastModified time of the load that last changed the resource, in epoch milliseconds
+   * @param digest SHA-256 digest of the content, or {@code null} for pages
+   */
+  public record Version(String eTag, long lastModified, byte[] digest) {}
+
+  /**
+   * Validators of one load.
+   *
+   * @param byId validators of each player
+   * @param all validators of the player list
+   */
+  private record Snapshot(Map<String, Version> byId, Version all) {}
+}
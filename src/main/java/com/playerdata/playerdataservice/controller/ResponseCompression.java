@@ -0,0 +1,95 @@
+package com.playerdata.playerdataservice.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decides how the player responses are compressed. Two mechanisms are combined:
+ *
+ * <ul>
+ *   <li>{@code server.compression.enabled=true}: the server compresses bodies with gzip as they
+ *       are written, for every response of a listed media type above the minimum size;
+ *   <li>{@code player.response.precompressed}: the precomputed JSON list of all players, and its
+ *       pages, are compressed once per load in each listed coding ({@code gzip}, {@code zstd}) and
+ *       served as they are to clients accepting the coding.
+ * </ul>
+ *
+ * <p>The server does not compress a response with a strong {@code ETag}, since a strong validator
+ * must change with the bytes. A response that may be compressed, by either mechanism, therefore
+ * gets the weak form of its entity tag, which the identity and compressed bodies share.
+ */
+@Component
+public class ResponseCompression {
+
+  private final boolean onTheFly;
+  private final Set<ContentCoding> precompressed;
+
+  /**
+   * Constructs a ResponseCompression.
+   *
+   * @param onTheFly whether the server compresses responses with gzip as they are written
+   * @param precompressed codings in which precomputed responses are compressed ahead of time
+   */
+  public ResponseCompression(
+      @Value("${server.compression.enabled:false}") boolean onTheFly,
+      @Value("${player.response.precompressed:}") List<String> precompressed) {
+    this.onTheFly = onTheFly;
+    EnumSet<ContentCoding> codings = EnumSet.noneOf(ContentCoding.class);
+    for (String token : precompressed) {
+      if (!token.isBlank()) {
+        codings.add(ContentCoding.of(token));
+      }
+    }
+    this.precompressed = Collections.unmodifiableSet(codings);
+  }
+
+  /**
+   * Indicates whether responses are compressed at all, and so depend on {@code Accept-Encoding}.
+   *
+   * @return {@code true} if either mechanism is enabled
+   */
+  boolean isEnabled() {
+    return onTheFly || !precompressed.isEmpty();
+  }
+
+  /**
+   * Returns the codings in which precomputed responses are compressed ahead of time.
+   *
+   * @return the codings, possibly none
+   */
+  Set<ContentCoding> precompressedCodings() {
+    return precompressed;
+  }
+
+  /**
+   * Picks the coding of a body compressed ahead of time for a request.
+   *
+   * @param request the current request
+   * @return the coding, or {@code null} if the request accepts none of the precompressed codings
+   */
+  ContentCoding precompressed(WebRequest request) {
+    return ContentCoding.negotiate(request.getHeaderValues(HttpHeaders.ACCEPT_ENCODING), precompressed);
+  }
+
+  /**
+   * Returns the entity tag to send with a response, weak if the response may be compressed.
+   *
+   * @param request the current request
+   * @param eTag strong entity tag of the body, quoted
+   * @return the entity tag
+   */
+  String eTag(WebRequest request, String eTag) {
+    String[] acceptEncoding = request.getHeaderValues(HttpHeaders.ACCEPT_ENCODING);
+    boolean mayCompress =
+        (onTheFly && ContentCoding.negotiate(acceptEncoding, Set.of(ContentCoding.GZIP)) != null)
+            || ContentCoding.negotiate(acceptEncoding, precompressed) != null;
+    return mayCompress ? "W/" + eTag : eTag;
+  }
+}
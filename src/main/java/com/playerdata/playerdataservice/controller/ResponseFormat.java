@@ -0,0 +1,92 @@
+package com.playerdata.playerdataservice.controller;
+
+import com.playerdata.playerdataservice.wire.PlayerColumnsCodec;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Wire formats of the player resources. JSON, CBOR and Smile bodies are written by the message
+ * converters of the same media types; the columnar format is written by {@link
+ * PlayerColumnsCodec}, for the list of all players only. The controller negotiates the format
+ * itself where it writes bytes of its own or computes validators, since those differ per format.
+ */
+enum ResponseFormat {
+  JSON(MediaType.APPLICATION_JSON, null),
+  CBOR(MediaType.APPLICATION_CBOR, "cbor"),
+  SMILE(new MediaType("application", "x-jackson-smile"), "smile"),
+  COLUMNS(PlayerColumnsCodec.MEDIA_TYPE, "columns");
+
+  private final MediaType mediaType;
+  private final String eTagSuffix;
+
+  ResponseFormat(MediaType mediaType, String eTagSuffix) {
+    this.mediaType = mediaType;
+    this.eTagSuffix = eTagSuffix;
+  }
+
+  /**
+   * Returns the media type of the format.
+   *
+   * @return the media type
+   */
+  MediaType mediaType() {
+    return mediaType;
+  }
+
+  /**
+   * Returns the entity tag of a resource in this format. Each format gets a tag of its own, so a
+   * cache never revalidates the body of one format with the tag of another.
+   *
+   * @param eTag strong entity tag of the resource, quoted
+   * @return the entity tag of the resource in this format
+   */
+  String eTag(String eTag) {
+    return eTagSuffix == null
+        ? eTag
+        : eTag.substring(0, eTag.length() - 1) + "-" + eTagSuffix + "\"";
+  }
+
+  /**
+   * Picks the format to answer a request in from its {@code Accept} header: the first format, in
+   * declaration order, included in the acceptable media type of highest quality. A missing header
+   * or a wildcard therefore selects JSON, and the columnar format is only chosen when asked for
+   * explicitly. Falls back to JSON when no format is acceptable, or the header cannot be parsed,
+   * so that the message converters answer such requests as before.
+   *
+   * @param request the current request
+   * @param columns whether the resource is available in the columnar format
+   * @return the format of the response
+   */
+  static ResponseFormat negotiate(WebRequest request, boolean columns) {
+    String[] accept = request.getHeaderValues(HttpHeaders.ACCEPT);
+    if (accept == null) {
+      return JSON;
+    }
+    List<MediaType> acceptable;
+    try {
+      acceptable = new ArrayList<>(MediaType.parseMediaTypes(Arrays.asList(accept)));
+    } catch (InvalidMediaTypeException e) {
+      return JSON;
+    }
+    // Stable, so types of equal quality keep the client's order
+    acceptable.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+    for (MediaType mediaType : acceptable) {
+      if (mediaType.getQualityValue() == 0) {
+        break;
+      }
+      for (ResponseFormat format : values()) {
+        if ((columns || format != COLUMNS) && mediaType.includes(format.mediaType)) {
+          return format;
+        }
+      }
+    }
+    return JSON;
+  }
+}
@@ -0,0 +1,148 @@
+package com.playerdata.playerdataservice.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread, enabled with {@code
+ * player.threads.pinning-diagnostics=true}. On Java 21 a virtual thread that blocks inside a
+ * {@code synchronized} block or a native frame cannot unmount, so it holds one of the few carrier
+ * threads for as long as it waits; H2 and parts of Hibernate and HikariCP synchronize on their
+ * monitors, which makes this the main risk of running the JPA store on virtual threads.
+ *
+ * <p>The monitor subscribes in-process to the JFR {@code jdk.VirtualThreadPinned} event and logs a
+ * warning with the blocking stack for every pin that lasts longer than {@code
+ * player.threads.pinning-threshold}. The monitor starts as a {@link BeanFactoryPostProcessor},
+ * which the context runs before it creates any other bean, so pins during the startup load are
+ * reported as well without the loading beans having to depend on it. Being created that early, it
+ * reads its settings from the {@link Environment} rather than through injected values.
+ */
+@Component
+public class VirtualThreadPinningMonitor
+    implements BeanFactoryPostProcessor, EnvironmentAware, DisposableBean {
+
+  /** JFR event emitted when a virtual thread blocks while pinned. */
+  static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+  private static final int MAX_FRAMES = 12;
+  private static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(20);
+
+  private boolean enabled;
+  private Duration threshold;
+  private final AtomicLong pinnedCount = new AtomicLong();
+  private RecordingStream stream;
+
+  /** Constructs a VirtualThreadPinningMonitor configured by {@link #setEnvironment}. */
+  public VirtualThreadPinningMonitor() {
+    this(false, DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Constructs a VirtualThreadPinningMonitor.
+   *
+   * @param enabled whether pinning is monitored at all
+   * @param threshold shortest pin that is reported
+   */
+  VirtualThreadPinningMonitor(boolean enabled, Duration threshold) {
+    this.enabled = enabled;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Reads {@code player.threads.pinning-diagnostics} and {@code player.threads.pinning-threshold}.
+   *
+   * @param environment the application's environment
+   */
+  @Override
+  public void setEnvironment(Environment environment) {
+    enabled = environment.getProperty("player.threads.pinning-diagnostics", Boolean.class, false);
+    threshold =
+        environment.getProperty(
+            "player.threads.pinning-threshold", Duration.class, DEFAULT_THRESHOLD);
+  }
+
+  @Override
+  public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+    start();
+  }
+
+  @Override
+  public void destroy() {
+    stop();
+  }
+
+  /** Starts listening for pinning events if the monitor is enabled. */
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(PINNED_EVENT, this::report);
+    stream.startAsync();
+    logger.info("Reporting virtual threads pinned for longer than {} ms", threshold.toMillis());
+  }
+
+  /** Stops listening for pinning events. */
+  public void stop() {
+    if (stream != null) {
+      stream.close();
+    }
+  }
+
+  /**
+   * Returns the number of pins reported since the monitor started.
+   *
+   * @return the number of pinning events
+   */
+  public long getPinnedCount() {
+    return pinnedCount.get();
+  }
+
+  private void report(RecordedEvent event) {
+    pinnedCount.incrementAndGet();
+    RecordedThread thread = event.getThread();
+    logger.warn(
+        "Virtual thread {} was pinned to its carrier for {} ms{}",
+        thread == null ? "?" : thread.getJavaName(),
+        event.getDuration().toMillis(),
+        format(event.getStackTrace()));
+  }
+
+  private static String format(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "";
+    }
+    StringBuilder trace = new StringBuilder();
+    List<RecordedFrame> frames = stackTrace.getFrames();
+    for (RecordedFrame frame : frames.subList(0, Math.min(MAX_FRAMES, frames.size()))) {
+      trace
+          .append("\n\tat ")
+          .append(frame.getMethod().getType().getName())
+          .append('.')
+          .append(frame.getMethod().getName())
+          .append(':')
+          .append(frame.getLineNumber());
+    }
+    if (frames.size() > MAX_FRAMES || stackTrace.isTruncated()) {
+      trace.append("\n\t...");
+    }
+    return trace.toString();
+  }
+}
@@ -0,0 +1,24 @@
+package com.playerdata.playerdataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Result of a batch lookup of players by ID.
+ */
+@Getter
+@AllArgsConstructor
+public class PlayerBatchDTO {
+
+  /**
+   * The players that were found, in the order their IDs were requested.
+   */
+  private List<PlayerDTO> players;
+
+  /**
+   * The requested IDs without a player, in the order they were requested.
+   */
+  private List<String> missingIds;
+}
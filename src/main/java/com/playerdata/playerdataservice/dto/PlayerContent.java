@@ -0,0 +1,117 @@
+package com.playerdata.playerdataservice.dto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Canonical binary encoding of the content of a {@link PlayerDTO}, shared by everything that
+ * needs to tell whether a player changed: reload diffs hash it, ETags digest it.
+ *
+ * <p>Every field is written explicitly, in declaration order, as a presence byte followed by its
+ * value: strings as their UTF-8 length and bytes, integers as 4 bytes, dates as their 8-byte epoch
+ * day. The encoding therefore depends only on the values, not on how the DTO renders itself, and
+ * no two different players encode alike. A field added to {@link PlayerDTO} must be added here.
+ */
+public final class PlayerContent {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private PlayerContent() {}
+
+  /**
+   * Encodes the content of a player.
+   *
+   * @param player the player
+   * @return the encoded fields
+   */
+  public static byte[] bytes(PlayerDTO player) {
+    Encoder encoder = new Encoder();
+    encoder.string(player.getPlayerId());
+    encoder.integer(player.getBirthYear());
+    encoder.integer(player.getBirthMonth());
+    encoder.integer(player.getBirthDay());
+    encoder.string(player.getBirthCountry());
+    encoder.string(player.getBirthState());
+    encoder.string(player.getBirthCity());
+    encoder.integer(player.getDeathYear());
+    encoder.integer(player.getDeathMonth());
+    encoder.integer(player.getDeathDay());
+    encoder.string(player.getDeathCountry());
+    encoder.string(player.getDeathState());
+    encoder.string(player.getDeathCity());
+    encoder.string(player.getFirstName());
+    encoder.string(player.getLastName());
+    encoder.string(player.getGivenName());
+    encoder.integer(player.getWeight());
+    encoder.integer(player.getHeight());
+    encoder.string(player.getBats());
+    encoder.string(player.getThrowingHand());
+    encoder.date(player.getDebut());
+    encoder.date(player.getFinalGame());
+    encoder.string(player.getRetroId());
+    encoder.string(player.getBbrefId());
+    return encoder.toByteArray();
+  }
+
+  /**
+   * Hashes the content of a player with 64-bit FNV-1a over {@link #bytes}. Two different versions
+   * of one player collide with a probability of about 2<sup>-64</sup>.
+   *
+   * @param player the player
+   * @return the hash
+   */
+  public static long hash(PlayerDTO player) {
+    long hash = FNV_OFFSET_BASIS;
+    for (byte b : bytes(player)) {
+      hash ^= b & 0xff;
+      hash *= FNV_PRIME;
+    }
+    return hash;
+  }
+
+  /** Writes tagged values into a growing byte array. */
+  private static final class Encoder {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+    void string(String value) {
+      if (present(value)) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int32(bytes.length);
+        out.write(bytes, 0, bytes.length);
+      }
+    }
+
+    void integer(Integer value) {
+      if (present(value)) {
+        int32(value);
+      }
+    }
+
+    void date(LocalDate value) {
+      if (present(value)) {
+        long epochDay = value.toEpochDay();
+        int32((int) (epochDay >>> 32));
+        int32((int) epochDay);
+      }
+    }
+
+    byte[] toByteArray() {
+      return out.toByteArray();
+    }
+
+    private boolean present(Object value) {
+      out.write(value == null ? 0 : 1);
+      return value != null;
+    }
+
+    private void int32(int value) {
+      out.write(value >>> 24);
+      out.write(value >>> 16);
+      out.write(value >>> 8);
+      out.write(value);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.playerdata.playerdataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of players, ordered by player ID, returned by keyset pagination.
+ */
+@Getter
+@AllArgsConstructor
+public class PlayerPageDTO {
+
+  /**
+   * The players of this page.
+   */
+  private List<PlayerDTO> players;
+
+  /**
+   * Cursor to pass as {@code after} to fetch the next page, or {@code null} on the last page.
+   */
+  private String nextCursor;
+}
@@ -0,0 +1,35 @@
+package com.playerdata.playerdataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Statistics over all players: one entry per group of players that share the values of the
+ * grouped fields, ordered by those values.
+ */
+@Getter
+@AllArgsConstructor
+public class PlayerStatsDTO {
+
+  /**
+   * The fields the players were grouped by, in the order of the group keys.
+   */
+  private List<String> groupBy;
+
+  /**
+   * The metrics computed for every group, such as {@code count} or {@code avg:height}.
+   */
+  private List<String> metrics;
+
+  /**
+   * Number of players the statistics cover.
+   */
+  private long players;
+
+  /**
+   * The groups that have at least one player.
+   */
+  private List<PlayerStatsGroupDTO> groups;
+}
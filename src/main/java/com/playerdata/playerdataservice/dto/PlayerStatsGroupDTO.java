@@ -0,0 +1,31 @@
+package com.playerdata.playerdataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Metrics of one group of players.
+ */
+@Getter
+@AllArgsConstructor
+public class PlayerStatsGroupDTO {
+
+  /**
+   * Value of every grouped field for the players of this group; {@code null} for players without
+   * a value.
+   */
+  private Map<String, Object> key;
+
+  /**
+   * Number of players in this group.
+   */
+  private long players;
+
+  /**
+   * Value of every metric. Counts and sums are whole numbers and averages decimals; every metric
+   * but the counts is {@code null} when no player of the group has a value of its field.
+   */
+  private Map<String, Number> metrics;
+}
@@ -0,0 +1,20 @@
+package com.playerdata.playerdataservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Autocomplete suggestion: the ID and names of a matching player, without the rest of its data.
+ */
+@Getter
+@AllArgsConstructor
+public class PlayerSuggestionDTO {
+
+  private String playerId;
+
+  private String firstName;
+
+  private String lastName;
+
+  private String givenName;
+}
@@ -4,9 +4,13 @@ import com.playerdata.playerdataservice.dto.ErrorResponseDto;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 /**
  * Global exception handler for handling exceptions across the application. Uses Spring's {@link
@@ -26,14 +30,96 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(PlayerNotFoundException.class)
   public ResponseEntity<ErrorResponseDto> handlePlayerNotFoundException(
           PlayerNotFoundException ex, HttpServletRequest request) {
-    ErrorResponseDto errorResponse = ErrorResponseDto.builder()
+    ErrorResponseDto errorResponse = playerNotFound(ex.getMessage(), request.getRequestURI());
+
+    return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+  }
+
+  /**
+   * Builds the body of a 404 response for a missing player. Also used to precompute the bodies
+   * written without going through an exception, so both paths produce the same response.
+   *
+   * @param message the detail message
+   * @param path the request URI
+   * @return the error response
+   */
+  public static ErrorResponseDto playerNotFound(String message, String path) {
+    return ErrorResponseDto.builder()
             .status(HttpStatus.NOT_FOUND.value())
             .error("Player Not Found")
+            .message(message)
+            .path(path)
+            .build();
+  }
+
+  /**
+   * Handles {@link InvalidRequestException}, returning a 400 status code with the reason the
+   * request was rejected.
+   *
+   * @param ex the exception thrown when request parameters are out of range
+   * @param request the HTTP request during which the exception occurred
+   * @return a {@link ResponseEntity} containing the error response and HTTP status
+   */
+  @ExceptionHandler(InvalidRequestException.class)
+  public ResponseEntity<ErrorResponseDto> handleInvalidRequestException(
+      InvalidRequestException ex, HttpServletRequest request) {
+    ErrorResponseDto errorResponse = ErrorResponseDto.builder()
+            .status(HttpStatus.BAD_REQUEST.value())
+            .error("Bad Request")
             .message(ex.getMessage())
             .path(request.getRequestURI())
             .build();
 
-    return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Handles query parameters that cannot be converted to the expected type, returning a 400 status
+   * code instead of treating them as server errors.
+   *
+   * @param ex the exception thrown when a parameter cannot be bound
+   * @param request the HTTP request during which the exception occurred
+   * @return a {@link ResponseEntity} containing the error response and HTTP status
+   */
+  @ExceptionHandler({BindException.class, MethodArgumentTypeMismatchException.class})
+  public ResponseEntity<ErrorResponseDto> handleBindingException(
+      Exception ex, HttpServletRequest request) {
+    String parameter =
+        ex instanceof MethodArgumentTypeMismatchException mismatch
+            ? mismatch.getName()
+            : ((BindException) ex).getFieldErrors().stream()
+                .map(FieldError::getField)
+                .findFirst()
+                .orElse("request");
+    ErrorResponseDto errorResponse = ErrorResponseDto.builder()
+            .status(HttpStatus.BAD_REQUEST.value())
+            .error("Bad Request")
+            .message("Invalid value for parameter '" + parameter + "'")
+            .path(request.getRequestURI())
+            .build();
+
+    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Handles request bodies that are missing or are not valid JSON of the expected shape, returning
+   * a 400 status code.
+   *
+   * @param ex the exception thrown when the request body cannot be read
+   * @param request the HTTP request during which the exception occurred
+   * @return a {@link ResponseEntity} containing the error response and HTTP status
+   */
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ResponseEntity<ErrorResponseDto> handleUnreadableBody(
+      HttpMessageNotReadableException ex, HttpServletRequest request) {
+    ErrorResponseDto errorResponse = ErrorResponseDto.builder()
+            .status(HttpStatus.BAD_REQUEST.value())
+            .error("Bad Request")
+            .message("Request body is missing or malformed")
+            .path(request.getRequestURI())
+            .build();
+
+    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
   }
 
   /**
@@ -0,0 +1,16 @@
+package com.playerdata.playerdataservice.exception;
+
+/**
+ * Exception thrown when a request carries parameters outside the range the service accepts.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+  /**
+   * Constructs a new InvalidRequestException with a specified message.
+   *
+   * @param message the detail message for the exception.
+   */
+  public InvalidRequestException(String message) {
+    super(message);
+  }
+}
@@ -2,6 +2,9 @@ package com.playerdata.playerdataservice.exception;
 
 /**
  * Exception thrown when a player is not found in the data service.
+ *
+ * <p>A missing player is an expected outcome rather than a fault, so the exception does not
+ * capture a stack trace, which would be the most expensive part of answering a lookup miss.
  */
 public class PlayerNotFoundException extends RuntimeException {
 
@@ -11,6 +14,26 @@ public class PlayerNotFoundException extends RuntimeException {
    * @param message the detail message for the exception.
    */
   public PlayerNotFoundException(String message) {
-    super(message);
+    super(message, null, false, false);
+  }
+
+  /**
+   * Constructs a new PlayerNotFoundException for a player ID.
+   *
+   * @param playerId ID of the player that was not found
+   * @return the exception
+   */
+  public static PlayerNotFoundException forId(String playerId) {
+    return new PlayerNotFoundException(message(playerId));
+  }
+
+  /**
+   * Returns the detail message reported when a player ID is not found.
+   *
+   * @param playerId ID of the player that was not found
+   * @return the message
+   */
+  public static String message(String playerId) {
+    return "Player with ID " + playerId + " not found";
   }
 }
@@ -0,0 +1,35 @@
+package com.playerdata.playerdataservice.ingest;
+
+import java.time.Duration;
+
+/**
+ * Summary of a single run of the {@link PlayerIngestPipeline}.
+ *
+ * @param rowsRead number of data rows read from the source file, excluding the header
+ * @param rowsLoaded number of rows that passed parsing and validation and were written
+ * @param rejects rows skipped because they could not be parsed, failed validation or were
+ *     superseded by a later row with the same player ID
+ * @param elapsed wall-clock time of the whole run
+ */
+public record IngestReport(
+    long rowsRead, long rowsLoaded, RejectReport rejects, Duration elapsed) {
+
+  /**
+   * Number of rows skipped by the run.
+   *
+   * @return the number of rejected rows
+   */
+  public long rowsRejected() {
+    return rejects.rows();
+  }
+
+  /**
+   * Throughput of the run measured over all rows read.
+   *
+   * @return rows read per second, or 0 if the run took no measurable time
+   */
+  public double rowsPerSecond() {
+    long nanos = elapsed.toNanos();
+    return nanos == 0 ? 0 : rowsRead * 1_000_000_000d / nanos;
+  }
+}
@@ -0,0 +1,138 @@
+package com.playerdata.playerdataservice.ingest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reader stage for memory-mapped CSV files. Maps the file through {@link FileChannel#map} and cuts
+ * it into read-only slices that each hold a whole number of rows, without copying or decoding any
+ * bytes. The slices are decoded by {@link PlayerRowDecoder}, typically on other threads.
+ *
+ * <p>Files larger than the mapping window are mapped one window at a time; a new window always
+ * starts at the beginning of a row, and slices handed out earlier stay valid.
+ */
+public final class MappedCsvReader implements Closeable {
+
+  /** Largest region mapped at once. */
+  static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+
+  private final FileChannel channel;
+  private final long fileSize;
+  private final int windowSize;
+  private MappedByteBuffer window;
+  private long windowStart;
+  private int position;
+
+  private MappedCsvReader(FileChannel channel, int windowSize) throws IOException {
+    this.channel = channel;
+    this.fileSize = channel.size();
+    this.windowSize = windowSize;
+    map(0);
+  }
+
+  /**
+   * Opens and maps a CSV file.
+   *
+   * @param file the file to read
+   * @return a reader positioned at the first row
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public static MappedCsvReader open(Path file) throws IOException {
+    return open(file, DEFAULT_WINDOW_SIZE);
+  }
+
+  static MappedCsvReader open(Path file, int windowSize) throws IOException {
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      return new MappedCsvReader(channel, windowSize);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the next run of up to {@code maxRows} rows.
+   *
+   * @param maxRows maximum number of rows in the returned chunk
+   * @return the next chunk, or {@code null} once the end of the file has been reached
+   * @throws IOException if the next window cannot be mapped or a single row does not fit in one
+   */
+  public Chunk nextChunk(int maxRows) throws IOException {
+    while (windowStart + position < fileSize) {
+      int limit = window.limit();
+      int rows = 0;
+      int rowEnd = position;
+      int i = position;
+      boolean inQuotes = false;
+      while (i < limit && rows < maxRows) {
+        byte b = window.get(i++);
+        if (inQuotes) {
+          if (b == '\\' && i < limit && isEscapable(window.get(i))) {
+            i++;
+          } else if (b == '"') {
+            inQuotes = false;
+          }
+        } else if (b == '"') {
+          inQuotes = true;
+        } else if (b == '\n') {
+          rows++;
+          rowEnd = i;
+        }
+      }
+      if (rowEnd < limit && i == limit && windowStart + limit == fileSize) {
+        // Last row of the file without a trailing line break
+        rows++;
+        rowEnd = limit;
+      }
+      if (rows > 0) {
+        ByteBuffer slice = window.slice(position, rowEnd - position).asReadOnlyBuffer();
+        position = rowEnd;
+        return new Chunk(slice, rows);
+      }
+      if (position == 0) {
+        throw new IOException("Row at offset " + windowStart + " does not fit in one window");
+      }
+      map(windowStart + position);
+    }
+    return null;
+  }
+
+  /**
+   * Skips the next row, typically the header.
+   *
+   * @throws IOException if the next window cannot be mapped
+   */
+  public void skipRow() throws IOException {
+    nextChunk(1);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private void map(long start) throws IOException {
+    long size = Math.min(windowSize, fileSize - start);
+    window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+    windowStart = start;
+    position = 0;
+  }
+
+  static boolean isEscapable(byte b) {
+    return b == '"' || b == '\\';
+  }
+
+  /**
+   * A run of complete rows.
+   *
+   * @param data read-only view of the rows, positioned at the first byte
+   * @param rows number of rows in the view
+   */
+  public record Chunk(ByteBuffer data, int rows) {}
+}
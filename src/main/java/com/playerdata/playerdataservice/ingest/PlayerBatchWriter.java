@@ -0,0 +1,31 @@
+package com.playerdata.playerdataservice.ingest;
+
+import com.playerdata.playerdataservice.model.Player;
+
+import java.util.List;
+
+/**
+ * Writer stage of the {@link PlayerIngestPipeline}. Receives the accepted players of one load in
+ * file order, one batch at a time, always from the same thread.
+ */
+public interface PlayerBatchWriter {
+
+  /**
+   * Stores a batch of players.
+   *
+   * @param players players accepted by the parse stage, never containing a repeated player ID
+   */
+  void write(List<Player> players);
+
+  /**
+   * Replaces players written by earlier batches of this load with later rows of the same ID, so
+   * that the last row of a repeated ID wins, as if every row were saved in turn. Called at most
+   * once, after the last batch and before {@link #complete()}, and only if the file repeats IDs.
+   *
+   * @param players the last row of each repeated ID, never containing a repeated player ID
+   */
+  void replace(List<Player> players);
+
+  /** Called once after the last batch of a successful load. */
+  default void complete() {}
+}
@@ -0,0 +1,210 @@
+package com.playerdata.playerdataservice.ingest;
+
+import com.playerdata.playerdataservice.model.Player;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reflection-free validator of the Bean Validation constraints declared on {@link Player}. Every
+ * constraint is a {@link Rule} and is checked with plain comparisons, so validating a row walks no
+ * constraint metadata, allocates nothing and builds no dates; only a rejected row pays for listing
+ * its rules. The rule names and messages are those a Bean Validation violation of the same
+ * constraint reports, and the verdicts are checked against Hibernate Validator by the tests, so
+ * the constraints on {@link Player} and the rules here must change together.
+ */
+public final class PlayerConstraints {
+
+  private PlayerConstraints() {}
+
+  /** One constraint of {@link Player}; its ordinal is its bit in a violation mask. */
+  public enum Rule {
+    PLAYER_ID_NOT_NULL("playerId", "NotNull", "ID is required"),
+    BIRTH_YEAR_POSITIVE("birthYear", "Positive", "Birth year must be a positive number"),
+    BIRTH_MONTH_MIN("birthMonth", "Min", "Birth month must be at least 1"),
+    BIRTH_MONTH_MAX("birthMonth", "Max", "Birth month must be at most 12"),
+    BIRTH_DAY_MIN("birthDay", "Min", "Birth day must be at least 1"),
+    BIRTH_DAY_MAX("birthDay", "Max", "Birth day must be at most 31"),
+    DEATH_YEAR_POSITIVE("deathYear", "Positive", "Death year must be a positive number"),
+    DEATH_MONTH_MIN("deathMonth", "Min", "Death month must be at least 1"),
+    DEATH_MONTH_MAX("deathMonth", "Max", "Death month must be at most 12"),
+    DEATH_DAY_MIN("deathDay", "Min", "Death day must be at least 1"),
+    DEATH_DAY_MAX("deathDay", "Max", "Death day must be at most 31"),
+    FIRST_NAME_NOT_NULL("firstName", "NotNull", "First name is required"),
+    LAST_NAME_NOT_NULL("lastName", "NotNull", "Last name is required"),
+    WEIGHT_POSITIVE("weight", "Positive", "Weight must be a positive number"),
+    HEIGHT_POSITIVE("height", "Positive", "Height must be a positive number"),
+    BATS_PATTERN("bats", "Pattern", "Bats must be 'L' (left) or 'R' (right)"),
+    THROWING_HAND_PATTERN(
+        "throwingHand", "Pattern", "Throwing hand must be 'L' (left) or 'R' (right)"),
+    DEATH_DATE_ASSERT_TRUE(
+        "validDeathDate",
+        "AssertTrue",
+        "Death date must be after birth date if both are provided"),
+    DEBUT_DATE_ASSERT_TRUE(
+        "validDebutDate",
+        "AssertTrue",
+        "Debut date must be before or on the same day as the final game date");
+
+    private static final Rule[] VALUES = values();
+
+    private final String property;
+    private final String name;
+    private final String message;
+
+    Rule(String property, String constraint, String message) {
+      this.property = property;
+      this.name = property + "." + constraint;
+      this.message = message;
+    }
+
+    /**
+     * Returns the constrained property, as in a violation's property path.
+     *
+     * @return the property name
+     */
+    public String property() {
+      return property;
+    }
+
+    /**
+     * Returns the name of the rule: the property and the simple name of the constraint
+     * annotation, such as {@code birthMonth.Max}.
+     *
+     * @return the rule name
+     */
+    public String ruleName() {
+      return name;
+    }
+
+    /**
+     * Returns the message of the constraint.
+     *
+     * @return the message declared on the constraint annotation
+     */
+    public String message() {
+      return message;
+    }
+
+    /**
+     * Decodes a violation mask.
+     *
+     * @param violations mask returned by {@link #violations(Player)}
+     * @return the violated rules in declaration order
+     */
+    public static List<Rule> of(int violations) {
+      List<Rule> rules = new ArrayList<>(Integer.bitCount(violations));
+      for (int bits = violations; bits != 0; bits &= bits - 1) {
+        rules.add(VALUES[Integer.numberOfTrailingZeros(bits)]);
+      }
+      return rules;
+    }
+
+    private int bit() {
+      return 1 << ordinal();
+    }
+  }
+
+  /**
+   * Checks every constraint of a player.
+   *
+   * @param player player to validate
+   * @return a mask with the bit of every violated {@link Rule} set, 0 if the player is valid
+   */
+  public static int violations(Player player) {
+    int violations = 0;
+    if (player.getPlayerId() == null) {
+      violations |= Rule.PLAYER_ID_NOT_NULL.bit();
+    }
+    violations |= positive(player.getBirthYear(), Rule.BIRTH_YEAR_POSITIVE);
+    violations |= range(player.getBirthMonth(), 1, 12, Rule.BIRTH_MONTH_MIN, Rule.BIRTH_MONTH_MAX);
+    violations |= range(player.getBirthDay(), 1, 31, Rule.BIRTH_DAY_MIN, Rule.BIRTH_DAY_MAX);
+    violations |= positive(player.getDeathYear(), Rule.DEATH_YEAR_POSITIVE);
+    violations |= range(player.getDeathMonth(), 1, 12, Rule.DEATH_MONTH_MIN, Rule.DEATH_MONTH_MAX);
+    violations |= range(player.getDeathDay(), 1, 31, Rule.DEATH_DAY_MIN, Rule.DEATH_DAY_MAX);
+    if (player.getFirstName() == null) {
+      violations |= Rule.FIRST_NAME_NOT_NULL.bit();
+    }
+    if (player.getLastName() == null) {
+      violations |= Rule.LAST_NAME_NOT_NULL.bit();
+    }
+    violations |= positive(player.getWeight(), Rule.WEIGHT_POSITIVE);
+    violations |= positive(player.getHeight(), Rule.HEIGHT_POSITIVE);
+    violations |= hand(player.getBats(), Rule.BATS_PATTERN);
+    violations |= hand(player.getThrowingHand(), Rule.THROWING_HAND_PATTERN);
+    if (!isDeathAfterBirth(player)) {
+      violations |= Rule.DEATH_DATE_ASSERT_TRUE.bit();
+    }
+    if (!isDebutNotAfterFinalGame(player.getDebut(), player.getFinalGame())) {
+      violations |= Rule.DEBUT_DATE_ASSERT_TRUE.bit();
+    }
+    return violations;
+  }
+
+  /** {@code @Positive}: {@code null} is valid. */
+  private static int positive(Integer value, Rule rule) {
+    return value != null && value <= 0 ? rule.bit() : 0;
+  }
+
+  /** {@code @Min} and {@code @Max}: {@code null} is valid. */
+  private static int range(Integer value, int min, int max, Rule minRule, Rule maxRule) {
+    if (value == null) {
+      return 0;
+    }
+    return (value < min ? minRule.bit() : 0) | (value > max ? maxRule.bit() : 0);
+  }
+
+  /** {@code @Pattern(regexp = "^[LR]$")}: the whole value must be one of the two letters. */
+  private static int hand(String value, Rule rule) {
+    if (value == null
+        || value.length() == 1 && (value.charAt(0) == 'L' || value.charAt(0) == 'R')) {
+      return 0;
+    }
+    return rule.bit();
+  }
+
+  /**
+   * Same verdict as {@code Player.isValidDeathDate()}: missing months and days count as 1, and a
+   * date that {@link LocalDate#of(int, int, int)} would reject fails the rule.
+   */
+  private static boolean isDeathAfterBirth(Player player) {
+    if (player.getBirthYear() == null || player.getDeathYear() == null) {
+      return true;
+    }
+    int birthYear = player.getBirthYear();
+    int birthMonth = orFirst(player.getBirthMonth());
+    int birthDay = orFirst(player.getBirthDay());
+    int deathYear = player.getDeathYear();
+    int deathMonth = orFirst(player.getDeathMonth());
+    int deathDay = orFirst(player.getDeathDay());
+    if (!isValidDate(birthYear, birthMonth, birthDay)
+        || !isValidDate(deathYear, deathMonth, deathDay)) {
+      return false;
+    }
+    if (deathYear != birthYear) {
+      return deathYear > birthYear;
+    }
+    return deathMonth != birthMonth ? deathMonth > birthMonth : deathDay > birthDay;
+  }
+
+  /** Same verdict as {@code Player.isValidDebutDate()}. */
+  private static boolean isDebutNotAfterFinalGame(LocalDate debut, LocalDate finalGame) {
+    return debut == null || finalGame == null || !debut.isAfter(finalGame);
+  }
+
+  private static int orFirst(Integer value) {
+    return value != null ? value : 1;
+  }
+
+  private static boolean isValidDate(int year, int month, int day) {
+    return year >= Year.MIN_VALUE
+        && year <= Year.MAX_VALUE
+        && month >= 1
+        && month <= 12
+        && day >= 1
+        && day <= Month.of(month).length(Year.isLeap(year));
+  }
+}
@@ -0,0 +1,559 @@
+package com.playerdata.playerdataservice.ingest;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import com.playerdata.playerdataservice.model.Player;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Staged loader for the player CSV file.
+ *
+ * <ol>
+ *   <li>The reader stage runs on the calling thread and cuts the file into chunks of raw rows,
+ *       either as slices of the memory-mapped file or as rows split by OpenCSV.
+ *   <li>The parse stage parses and validates chunks in parallel on a fixed pool of worker threads.
+ *   <li>The writer stage runs on a single thread, consumes parsed chunks in file order and hands
+ *       the accepted players to a {@link PlayerBatchWriter}.
+ * </ol>
+ *
+ * When virtual threads are enabled ({@code spring.threads.virtual.enabled}), the writer stage,
+ * which mostly waits on JDBC, runs on a virtual thread. The parse stage is CPU-bound and stays on
+ * platform threads, since virtual threads would only add scheduling overhead there.
+ *
+ * The stages are connected through a bounded queue, so a slow writer throttles the reader instead
+ * of letting parsed rows pile up in memory.
+ *
+ * <p>Rows are validated against the constraints of {@link Player} in the parse stage, either by
+ * the reflection-free {@link PlayerConstraints} ({@code player.ingest.validation=compiled}, the
+ * default) or by Bean Validation ({@code bean}); both give the same verdicts. Rejected rows are not
+ * logged one by one but collected per chunk into a {@link RejectReport} that the run returns and
+ * summarizes in one log line.
+ *
+ * <p>Every run adds to the {@code player.ingest.rows.read}, {@code .loaded} and {@code .rejected}
+ * counters, records its duration in {@code player.ingest.duration} and its throughput in the
+ * {@code player.ingest.throughput} gauge. Rejected rows also count once per failed rule in {@code
+ * player.ingest.rejections}, tagged with the {@code rule}: the constrained property and constraint
+ * such as {@code birthMonth.Max}, {@code malformed} or {@code duplicateId}.
+ *
+ * <p>When the file repeats a player ID the last valid row wins, as if every row were saved in
+ * turn. An earlier row still in the writer's current batch is replaced in place; one already
+ * written is replaced through {@link PlayerBatchWriter#replace} once the last batch is written.
+ * Each superseded row counts as a {@code duplicateId} reject, so that rows read still add up to
+ * rows loaded plus rows rejected.
+ *
+ * <p>With {@link PlayerSnapshots} enabled, a file whose contents match the last snapshot is not
+ * parsed at all: its players are restored from the snapshot and handed to the writer stage in
+ * batches on the calling thread. Such a run reports every restored player as read and loaded, and
+ * no rejects.
+ */
+@Component
+public class PlayerIngestPipeline {
+
+  private static final Logger logger = LoggerFactory.getLogger(PlayerIngestPipeline.class);
+
+  /** Marker placed on the queue by the reader once the whole file has been read. */
+  private static final Future<ParsedChunk> END_OF_INPUT = CompletableFuture.completedFuture(null);
+
+  /** Number of rejected rows a run keeps in full in its {@link RejectReport}. */
+  public static final int MAX_REJECT_SAMPLES = 100;
+
+  private final Validator validator;
+  private final Path csvFile;
+  private final int batchSize;
+  private final int parallelism;
+  private final Parser parser;
+  private final ValidationMode validation;
+  private final boolean virtualThreads;
+  private final PlayerSnapshots snapshots;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+  private final Counter rowsRead;
+  private final Counter rowsLoaded;
+  private final Counter rowsRejected;
+  private final Timer duration;
+  private volatile double rowsPerSecond;
+
+  /**
+   * Constructs a PlayerIngestPipeline.
+   *
+   * @param validator validator for player constraints
+   * @param csvFile default CSV file to load
+   * @param batchSize number of rows per parse chunk and per write batch
+   * @param parallelism number of parse threads, or 0 to use one per available processor
+   * @param parser CSV parser used by the reader and parse stages
+   * @param validation how rows are validated in the parse stage
+   * @param virtualThreads whether the writer stage runs on a virtual thread
+   * @param snapshots binary snapshots of previous loads
+   * @param meterRegistry registry the ingest meters are registered with
+   */
+  public PlayerIngestPipeline(
+      Validator validator,
+      @Value("${player.csv.path:./player.csv}") Path csvFile,
+      @Value("${player.ingest.batch-size:1000}") int batchSize,
+      @Value("${player.ingest.parallelism:0}") int parallelism,
+      @Value("${player.ingest.parser:mapped}") Parser parser,
+      @Value("${player.ingest.validation:compiled}") ValidationMode validation,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+      PlayerSnapshots snapshots,
+      MeterRegistry meterRegistry) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("player.ingest.batch-size must be positive");
+    }
+    this.validator = validator;
+    this.csvFile = csvFile;
+    this.batchSize = batchSize;
+    this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    this.parser = parser;
+    this.validation = validation;
+    this.virtualThreads = virtualThreads;
+    this.snapshots = snapshots;
+    this.meterRegistry = meterRegistry;
+    this.rowsRead = rowCounter("read", "Rows read from the player CSV file");
+    this.rowsLoaded = rowCounter("loaded", "Rows that were loaded into the store");
+    this.rowsRejected = rowCounter("rejected", "Rows that were skipped");
+    this.duration =
+        Timer.builder("player.ingest.duration")
+            .description("Duration of a player CSV load")
+            .register(meterRegistry);
+    Gauge.builder("player.ingest.throughput", this, pipeline -> pipeline.rowsPerSecond)
+        .description("Rows read per second by the last player CSV load")
+        .baseUnit("rows.per.second")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Loads the configured CSV file.
+   *
+   * @param batchWriter writer stage that stores accepted players
+   * @return summary of the run
+   * @throws IOException if the file cannot be read
+   * @throws InterruptedException if the calling thread is interrupted while loading
+   * @throws ExecutionException if the parse or writer stage fails
+   */
+  public IngestReport ingest(PlayerBatchWriter batchWriter)
+      throws IOException, InterruptedException, ExecutionException {
+    return ingest(csvFile, batchWriter);
+  }
+
+  /**
+   * Loads the given CSV file.
+   *
+   * @param file CSV file with a header row followed by player rows
+   * @param batchWriter writer stage that stores accepted players
+   * @return summary of the run
+   * @throws IOException if the file cannot be read
+   * @throws InterruptedException if the calling thread is interrupted while loading
+   * @throws ExecutionException if the parse or writer stage fails
+   */
+  public IngestReport ingest(Path file, PlayerBatchWriter batchWriter)
+      throws IOException, InterruptedException, ExecutionException {
+    long start = System.nanoTime();
+    if (!snapshots.isEnabled()) {
+      return parse(file, batchWriter, start);
+    }
+    byte[] sourceHash = PlayerSnapshots.hash(file);
+    List<Player> restored = snapshots.restore(sourceHash);
+    if (restored != null) {
+      return restore(file, restored, batchWriter, start);
+    }
+    List<Player> accepted = new ArrayList<>();
+    IngestReport report =
+        parse(
+            file,
+            new PlayerBatchWriter() {
+              @Override
+              public void write(List<Player> players) {
+                accepted.addAll(players);
+                batchWriter.write(players);
+              }
+
+              @Override
+              public void replace(List<Player> players) {
+                replaceAll(accepted, players);
+                batchWriter.replace(players);
+              }
+
+              @Override
+              public void complete() {
+                batchWriter.complete();
+              }
+            },
+            start);
+    snapshots.save(sourceHash, accepted);
+    return report;
+  }
+
+  /** Hands the players of a snapshot to the writer stage in batches, without parsing the file. */
+  private IngestReport restore(
+      Path file, List<Player> players, PlayerBatchWriter batchWriter, long start) {
+    for (int from = 0; from < players.size(); from += batchSize) {
+      batchWriter.write(players.subList(from, Math.min(from + batchSize, players.size())));
+    }
+    batchWriter.complete();
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+    IngestReport report =
+        new IngestReport(
+            players.size(),
+            players.size(),
+            new RejectCollector(MAX_REJECT_SAMPLES).toReport(),
+            elapsed);
+    record(report);
+    logger.info(
+        "Restored {} players for {} from snapshot in {} ms",
+        report.rowsLoaded(),
+        file,
+        elapsed.toMillis());
+    return report;
+  }
+
+  /** Runs the reader, parse and writer stages over the file. */
+  private IngestReport parse(Path file, PlayerBatchWriter batchWriter, long start)
+      throws IOException, InterruptedException, ExecutionException {
+    ExecutorService parsers =
+        Executors.newFixedThreadPool(
+            parallelism, Thread.ofPlatform().name("player-ingest-parse-", 1).factory());
+    ThreadFactory writerFactory =
+        virtualThreads
+            ? Thread.ofVirtual().name("player-ingest-writer").factory()
+            : Thread.ofPlatform().name("player-ingest-writer").factory();
+    ExecutorService writerThread = Executors.newSingleThreadExecutor(writerFactory);
+    BlockingQueue<Future<ParsedChunk>> pending = new ArrayBlockingQueue<>(parallelism * 2);
+    RejectCollector rejects = new RejectCollector(MAX_REJECT_SAMPLES);
+    try {
+      Future<Long> writer = writerThread.submit(() -> drain(pending, batchWriter, rejects));
+      long rowsRead;
+      try {
+        rowsRead =
+            switch (parser) {
+              case MAPPED -> readMapped(file, parsers, pending, writer);
+              case OPENCSV -> readOpenCsv(file, parsers, pending, writer);
+            };
+      } catch (IOException | RuntimeException e) {
+        writer.cancel(true);
+        throw e;
+      }
+      enqueue(pending, END_OF_INPUT, writer);
+      long loaded = writer.get();
+
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+      IngestReport report = new IngestReport(rowsRead, loaded, rejects.toReport(), elapsed);
+      record(report);
+      logger.info(
+          "Loaded {} of {} players from {} ({} rejected) in {} ms, {} rows/s",
+          report.rowsLoaded(),
+          report.rowsRead(),
+          file,
+          report.rowsRejected(),
+          report.elapsed().toMillis(),
+          Math.round(report.rowsPerSecond()));
+      if (report.rowsRejected() > 0) {
+        logger.warn(
+            "Rejected {} rows from {} by rule: {}",
+            report.rowsRejected(),
+            file,
+            report.rejects().byRule());
+      }
+      return report;
+    } finally {
+      parsers.shutdownNow();
+      writerThread.shutdownNow();
+    }
+  }
+
+  /** Reader stage on top of the memory-mapped file: cuts it into row-aligned byte slices. */
+  private long readMapped(
+      Path file,
+      ExecutorService parsers,
+      BlockingQueue<Future<ParsedChunk>> pending,
+      Future<Long> writer)
+      throws IOException, InterruptedException, ExecutionException {
+    long rowsRead = 0;
+    try (MappedCsvReader reader = MappedCsvReader.open(file)) {
+      reader.skipRow(); // Skip header
+      MappedCsvReader.Chunk chunk;
+      while ((chunk = reader.nextChunk(batchSize)) != null) {
+        ByteBuffer rows = chunk.data();
+        enqueue(pending, parsers.submit(() -> decodeChunk(rows)), writer);
+        rowsRead += chunk.rows();
+      }
+    }
+    return rowsRead;
+  }
+
+  /** Reader stage on top of OpenCSV: cuts the file into lists of split rows. */
+  private long readOpenCsv(
+      Path file,
+      ExecutorService parsers,
+      BlockingQueue<Future<ParsedChunk>> pending,
+      Future<Long> writer)
+      throws IOException, InterruptedException, ExecutionException {
+    long rowsRead = 0;
+    try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(file))) {
+      csvReader.readNext(); // Skip header
+      List<String[]> rows = new ArrayList<>(batchSize);
+      String[] values;
+      while ((values = csvReader.readNext()) != null) {
+        rows.add(values);
+        rowsRead++;
+        if (rows.size() == batchSize) {
+          List<String[]> chunk = rows;
+          enqueue(pending, parsers.submit(() -> parseChunk(chunk)), writer);
+          rows = new ArrayList<>(batchSize);
+        }
+      }
+      if (!rows.isEmpty()) {
+        List<String[]> chunk = rows;
+        enqueue(pending, parsers.submit(() -> parseChunk(chunk)), writer);
+      }
+    } catch (CsvValidationException e) {
+      throw new IOException("Malformed CSV in " + file, e);
+    }
+    return rowsRead;
+  }
+
+  /**
+   * Hands a chunk to the writer stage, blocking while the queue is full. Fails fast if the writer
+   * has already stopped, since nothing would ever drain the queue again.
+   */
+  private static void enqueue(
+      BlockingQueue<Future<ParsedChunk>> pending, Future<ParsedChunk> chunk, Future<Long> writer)
+      throws InterruptedException, ExecutionException {
+    while (!pending.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+      if (writer.isDone()) {
+        writer.get();
+        throw new IllegalStateException("Writer stage stopped before the end of input");
+      }
+    }
+  }
+
+  /**
+   * Writer stage: consumes parsed chunks in file order until the end-of-input marker.
+   *
+   * @param rejects collector the rejects of every chunk are added to, in file order
+   * @return the number of players written
+   */
+  private long drain(
+      BlockingQueue<Future<ParsedChunk>> pending,
+      PlayerBatchWriter batchWriter,
+      RejectCollector rejects)
+      throws InterruptedException, ExecutionException {
+    Set<String> seenIds = new HashSet<>();
+    // Last row of each ID that repeats one written by an earlier batch, in file order
+    Map<String, Player> replacements = new LinkedHashMap<>();
+    long loaded = 0;
+    Future<ParsedChunk> next;
+    while ((next = pending.take()) != END_OF_INPUT) {
+      ParsedChunk chunk = next.get();
+      rejects.addAll(chunk.rejects());
+      List<Player> batch = new ArrayList<>(chunk.accepted().size());
+      for (Player player : chunk.accepted()) {
+        String playerId = player.getPlayerId();
+        if (seenIds.add(playerId)) {
+          batch.add(player);
+          continue;
+        }
+        logger.trace("{}: Replacing player with a later row of the same ID", playerId);
+        rejects.reject(playerId, "duplicateId", "Superseded by a later row with the same ID");
+        // Repeated IDs are rare, so a scan of the current batch is cheaper than indexing it
+        int index = indexOf(batch, playerId);
+        if (index >= 0) {
+          batch.set(index, player);
+        } else {
+          replacements.put(playerId, player);
+        }
+      }
+      batchWriter.write(batch);
+      loaded += batch.size();
+    }
+    if (!replacements.isEmpty()) {
+      batchWriter.replace(new ArrayList<>(replacements.values()));
+    }
+    batchWriter.complete();
+    return loaded;
+  }
+
+  private static int indexOf(List<Player> batch, String playerId) {
+    for (int i = batch.size() - 1; i >= 0; i--) {
+      if (batch.get(i).getPlayerId().equals(playerId)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Replaces the players in a list that have the ID of one of the given players.
+   *
+   * @param players players to update in place
+   * @param replacements later rows, at most one per ID
+   */
+  private static void replaceAll(List<Player> players, List<Player> replacements) {
+    Map<String, Player> byId = new HashMap<>((int) (replacements.size() / 0.75f) + 1);
+    replacements.forEach(player -> byId.put(player.getPlayerId(), player));
+    players.replaceAll(player -> byId.getOrDefault(player.getPlayerId(), player));
+  }
+
+  /** Parse stage: decodes and validates one slice of the mapped file. */
+  private ParsedChunk decodeChunk(ByteBuffer rows) {
+    PlayerRowDecoder decoder = new PlayerRowDecoder(rows);
+    List<Player> accepted = new ArrayList<>(batchSize);
+    RejectCollector rejects = new RejectCollector(MAX_REJECT_SAMPLES);
+    while (decoder.hasNext()) {
+      Player player;
+      try {
+        player = decoder.next();
+      } catch (IllegalArgumentException e) {
+        rejectMalformed(rejects, decoder.firstColumn(), e);
+        continue;
+      }
+      if (isValidPlayer(player, rejects)) {
+        accepted.add(player);
+      }
+    }
+    return new ParsedChunk(accepted, rejects);
+  }
+
+  /** Parse stage: parses and validates one chunk of rows split by OpenCSV. */
+  private ParsedChunk parseChunk(List<String[]> rows) {
+    List<Player> accepted = new ArrayList<>(rows.size());
+    RejectCollector rejects = new RejectCollector(MAX_REJECT_SAMPLES);
+    for (String[] values : rows) {
+      Player player;
+      try {
+        player = PlayerRowParser.parse(values);
+      } catch (IllegalArgumentException e) {
+        rejectMalformed(rejects, values.length > 0 ? values[0] : "", e);
+        continue;
+      }
+      if (isValidPlayer(player, rejects)) {
+        accepted.add(player);
+      }
+    }
+    return new ParsedChunk(accepted, rejects);
+  }
+
+  private static void rejectMalformed(
+      RejectCollector rejects, String playerId, IllegalArgumentException e) {
+    logger.trace("{}: Skipping player due to malformed row: {}", playerId, e.getMessage());
+    rejects.reject(playerId, "malformed", e.getMessage());
+  }
+
+  /**
+   * Validates a player entity and records its failed rules if it is invalid.
+   *
+   * @param player player entity to validate
+   * @param rejects collector of the chunk the player belongs to
+   * @return true if valid, false otherwise
+   */
+  private boolean isValidPlayer(Player player, RejectCollector rejects) {
+    Map<String, String> errors;
+    if (validation == ValidationMode.COMPILED) {
+      int violations = PlayerConstraints.violations(player);
+      if (violations == 0) {
+        return true;
+      }
+      errors = new TreeMap<>();
+      for (PlayerConstraints.Rule rule : PlayerConstraints.Rule.of(violations)) {
+        errors.put(rule.ruleName(), rule.message());
+      }
+    } else {
+      Set<ConstraintViolation<Player>> violations = validator.validate(player);
+      if (violations.isEmpty()) {
+        return true;
+      }
+      errors = new TreeMap<>();
+      for (ConstraintViolation<Player> violation : violations) {
+        errors.put(ruleName(violation), violation.getMessage());
+      }
+    }
+    logger.trace("{}: Skipping player due to validation errors: {}", player.getPlayerId(), errors);
+    rejects.reject(player.getPlayerId(), errors);
+    return false;
+  }
+
+  /** Names a violation after the constrained property and the constraint annotation. */
+  static String ruleName(ConstraintViolation<?> violation) {
+    return violation.getPropertyPath()
+        + "."
+        + violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName();
+  }
+
+  private void record(IngestReport report) {
+    rowsRead.increment(report.rowsRead());
+    rowsLoaded.increment(report.rowsLoaded());
+    rowsRejected.increment(report.rowsRejected());
+    report.rejects().byRule().forEach((rule, count) -> rejection(rule).increment(count));
+    duration.record(report.elapsed());
+    rowsPerSecond = report.rowsPerSecond();
+  }
+
+  private Counter rowCounter(String outcome, String description) {
+    return Counter.builder("player.ingest.rows." + outcome)
+        .description(description)
+        .baseUnit("rows")
+        .register(meterRegistry);
+  }
+
+  /** Returns the counter of one rejection rule, registering it on first use. */
+  private Counter rejection(String rule) {
+    return rejections.computeIfAbsent(
+        rule,
+        key ->
+            Counter.builder("player.ingest.rejections")
+                .description("Rows rejected by each rule; a row can fail several")
+                .tag("rule", key)
+                .register(meterRegistry));
+  }
+
+  /** CSV parsers available to the reader and parse stages. */
+  public enum Parser {
+    /** Memory-mapped file decoded by {@link PlayerRowDecoder}. */
+    MAPPED,
+    /** OpenCSV rows mapped by {@link PlayerRowParser}. */
+    OPENCSV
+  }
+
+  /** Validators available to the parse stage. */
+  public enum ValidationMode {
+    /** Reflection-free {@link PlayerConstraints}. */
+    COMPILED,
+    /** Bean Validation through the application's {@link Validator}. */
+    BEAN
+  }
+
+  /** Output of the parse stage for one chunk. */
+  private record ParsedChunk(List<Player> accepted, RejectCollector rejects) {}
+}
@@ -0,0 +1,263 @@
+package com.playerdata.playerdataservice.ingest;
+
+import com.playerdata.playerdataservice.model.Player;
+import com.playerdata.playerdataservice.util.ParsingUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static com.playerdata.playerdataservice.ingest.MappedCsvReader.isEscapable;
+
+/**
+ * Decodes rows of the 24-column player CSV straight from bytes, typically a chunk handed out by
+ * {@link MappedCsvReader}. Field boundaries are recorded as byte offsets; integer and date columns
+ * are decoded from those offsets without building intermediate strings, so only the text columns
+ * of {@link Player} allocate.
+ *
+ * <p>The results match {@link PlayerRowParser} applied to the rows read by OpenCSV. Quoted fields
+ * follow the same rules: a doubled quote or a backslash-escaped quote or backslash inside quotes
+ * stands for the character itself. Values outside the fast paths (signs, very long numbers,
+ * unusual date layouts) fall back to {@link ParsingUtils} so that edge cases behave identically.
+ *
+ * <p>Instances are not thread-safe; use one decoder per chunk.
+ */
+public final class PlayerRowDecoder {
+
+  private final ByteBuffer data;
+  private final int limit;
+  private final int[] starts = new int[PlayerRowParser.COLUMN_COUNT];
+  private final int[] ends = new int[PlayerRowParser.COLUMN_COUNT];
+  private final boolean[] quoted = new boolean[PlayerRowParser.COLUMN_COUNT];
+  private byte[] scratch = new byte[64];
+  private int position;
+
+  /**
+   * Constructs a decoder over the rows between the buffer's position and limit.
+   *
+   * @param data bytes of one or more complete rows
+   */
+  public PlayerRowDecoder(ByteBuffer data) {
+    this.data = data;
+    this.position = data.position();
+    this.limit = data.limit();
+  }
+
+  /**
+   * Indicates whether another row is available.
+   *
+   * @return {@code true} if {@link #next()} will return a row
+   */
+  public boolean hasNext() {
+    return position < limit;
+  }
+
+  /**
+   * Decodes the next row. The decoder always advances past the row, even if it is malformed.
+   *
+   * @return Player entity
+   * @throws IllegalArgumentException if the row has the wrong number of columns or a numeric column
+   *     is malformed
+   */
+  public Player next() {
+    int columns = scanRow();
+    if (columns != PlayerRowParser.COLUMN_COUNT) {
+      throw new IllegalArgumentException(
+          "Expected " + PlayerRowParser.COLUMN_COUNT + " columns but found " + columns);
+    }
+    return new Player(
+        text(0),
+        intOrZero(1),
+        intOrZero(2),
+        intOrZero(3),
+        text(4),
+        text(5),
+        text(6),
+        intOrNull(7),
+        intOrNull(8),
+        intOrNull(9),
+        text(10),
+        text(11),
+        text(12),
+        text(13),
+        text(14),
+        text(15),
+        intOrZero(16),
+        intOrZero(17),
+        text(18),
+        text(19),
+        date(20),
+        date(21),
+        text(22),
+        text(23));
+  }
+
+  /**
+   * Returns the first column of the row decoded last, for diagnostics.
+   *
+   * @return the first column, or an empty string if the row had no content
+   */
+  public String firstColumn() {
+    return ends[0] > starts[0] ? text(0) : "";
+  }
+
+  /**
+   * Records the field offsets of the next row and advances past its line break.
+   *
+   * @return the number of columns in the row
+   */
+  private int scanRow() {
+    int column = 0;
+    int i = position;
+    int fieldStart = i;
+    boolean fieldQuoted = false;
+    boolean inQuotes = false;
+    int rowEnd = limit;
+    int next = limit;
+    while (i < limit) {
+      byte b = data.get(i);
+      if (inQuotes) {
+        if (b == '\\' && i + 1 < limit && isEscapable(data.get(i + 1))) {
+          i += 2;
+          continue;
+        }
+        if (b == '"') {
+          inQuotes = false;
+        }
+      } else if (b == '"') {
+        inQuotes = true;
+        fieldQuoted = true;
+      } else if (b == ',') {
+        column = endField(column, fieldStart, i, fieldQuoted);
+        fieldStart = i + 1;
+        fieldQuoted = false;
+      } else if (b == '\n') {
+        rowEnd = i;
+        next = i + 1;
+        break;
+      }
+      i++;
+    }
+    if (rowEnd > fieldStart && data.get(rowEnd - 1) == '\r') {
+      rowEnd--;
+    }
+    column = endField(column, fieldStart, rowEnd, fieldQuoted);
+    position = next;
+    return column;
+  }
+
+  private int endField(int column, int start, int end, boolean fieldQuoted) {
+    if (column < starts.length) {
+      starts[column] = start;
+      ends[column] = end;
+      quoted[column] = fieldQuoted;
+    }
+    return column + 1;
+  }
+
+  private String text(int column) {
+    int length = ends[column] - starts[column];
+    if (length == 0) {
+      return "";
+    }
+    if (quoted[column]) {
+      return unquote(column);
+    }
+    byte[] bytes = scratch(length);
+    data.get(starts[column], bytes, 0, length);
+    return new String(bytes, 0, length, StandardCharsets.UTF_8);
+  }
+
+  /** Slow path for quoted fields: drops the quotes and resolves escaped characters. */
+  private String unquote(int column) {
+    int end = ends[column];
+    byte[] bytes = scratch(end - starts[column]);
+    int length = 0;
+    boolean inQuotes = false;
+    for (int i = starts[column]; i < end; i++) {
+      byte b = data.get(i);
+      if (b == '"') {
+        if (inQuotes && i + 1 < end && data.get(i + 1) == '"') {
+          bytes[length++] = '"';
+          i++;
+        } else {
+          inQuotes = !inQuotes;
+        }
+      } else if (b == '\\' && inQuotes && i + 1 < end && isEscapable(data.get(i + 1))) {
+        bytes[length++] = data.get(++i);
+      } else {
+        bytes[length++] = b;
+      }
+    }
+    return new String(bytes, 0, length, StandardCharsets.UTF_8);
+  }
+
+  private Integer intOrZero(int column) {
+    return ends[column] == starts[column] ? Integer.valueOf(0) : integer(column);
+  }
+
+  private Integer intOrNull(int column) {
+    return ends[column] == starts[column] ? null : integer(column);
+  }
+
+  private Integer integer(int column) {
+    int start = starts[column];
+    int end = ends[column];
+    if (quoted[column] || end - start > 9) {
+      return ParsingUtils.parseInteger(text(column));
+    }
+    int value = 0;
+    for (int i = start; i < end; i++) {
+      int digit = data.get(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return ParsingUtils.parseInteger(text(column));
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private LocalDate date(int column) {
+    int start = starts[column];
+    if (ends[column] == start) {
+      return null;
+    }
+    if (!quoted[column] && ends[column] - start == 10) {
+      if (data.get(start + 2) == '/' && data.get(start + 5) == '/') {
+        return date(digits(start + 6, 4), digits(start + 3, 2), digits(start, 2), column);
+      }
+      if (data.get(start + 4) == '-' && data.get(start + 7) == '-') {
+        return date(digits(start, 4), digits(start + 5, 2), digits(start + 8, 2), column);
+      }
+    }
+    return ParsingUtils.parseLocalDate(text(column));
+  }
+
+  private LocalDate date(int year, int month, int day, int column) {
+    if ((year | month | day) < 0) {
+      return ParsingUtils.parseLocalDate(text(column));
+    }
+    long epochDay = ParsingUtils.toEpochDay(year, month, day);
+    return epochDay == ParsingUtils.NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+  }
+
+  /** Decodes a run of ASCII digits, or returns -1 if any byte is not a digit. */
+  private int digits(int start, int count) {
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      int digit = data.get(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private byte[] scratch(int length) {
+    if (scratch.length < length) {
+      scratch = new byte[Math.max(length, scratch.length * 2)];
+    }
+    return scratch;
+  }
+}
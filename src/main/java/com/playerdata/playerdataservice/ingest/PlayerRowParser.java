@@ -0,0 +1,53 @@
+package com.playerdata.playerdataservice.ingest;
+
+import com.playerdata.playerdataservice.model.Player;
+import com.playerdata.playerdataservice.util.ParsingUtils;
+
+/** Maps a row of the 24-column player CSV onto a {@link Player} entity. */
+public final class PlayerRowParser {
+
+  /** Number of columns in a player CSV row. */
+  public static final int COLUMN_COUNT = 24;
+
+  private PlayerRowParser() {}
+
+  /**
+   * Parses CSV values into a Player entity.
+   *
+   * @param values CSV values
+   * @return Player entity
+   * @throws IllegalArgumentException if the row has the wrong number of columns or a numeric column
+   *     is malformed
+   */
+  public static Player parse(String[] values) {
+    if (values.length != COLUMN_COUNT) {
+      throw new IllegalArgumentException(
+          "Expected " + COLUMN_COUNT + " columns but found " + values.length);
+    }
+    return new Player(
+        values[0],
+        ParsingUtils.parseInteger(values[1]),
+        ParsingUtils.parseInteger(values[2]),
+        ParsingUtils.parseInteger(values[3]),
+        values[4],
+        values[5],
+        values[6],
+        ParsingUtils.parseNullableInteger(values[7]),
+        ParsingUtils.parseNullableInteger(values[8]),
+        ParsingUtils.parseNullableInteger(values[9]),
+        values[10],
+        values[11],
+        values[12],
+        values[13],
+        values[14],
+        values[15],
+        ParsingUtils.parseInteger(values[16]),
+        ParsingUtils.parseInteger(values[17]),
+        values[18],
+        values[19],
+        ParsingUtils.parseLocalDate(values[20]),
+        ParsingUtils.parseLocalDate(values[21]),
+        values[22],
+        values[23]);
+  }
+}
@@ -0,0 +1,362 @@
+package com.playerdata.playerdataservice.ingest;
+
+import com.playerdata.playerdataservice.model.Player;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary, columnar encoding of the players accepted by one load of the player CSV file.
+ *
+ * <pre>
+ * int     magic ("PLYS")
+ * int     format version
+ * byte[16] fingerprint of the source CSV file
+ * int     number of rows
+ * int     number of dictionary strings, n
+ * int[n+1] offsets of the strings in the dictionary bytes
+ * byte[]  dictionary bytes, the distinct strings in UTF-8
+ * per string column:  int[rows] dictionary index, -1 for null
+ * per integer column: byte[(rows+7)/8] null bitmap, int[rows] values
+ * per date column:    byte[(rows+7)/8] null bitmap, long[rows] epoch days
+ * long    CRC32C of everything before it
+ * </pre>
+ *
+ * Every distinct string is stored once, however many rows and columns share it, and decoded once,
+ * so the restored players share their string instances too.
+ */
+final class PlayerSnapshotFormat {
+
+  /** Bump whenever the layout, or what the parse and validation stages accept, changes. */
+  static final int VERSION = 1;
+
+  private static final int MAGIC = 0x504C5953;
+  static final int HASH_LENGTH = 16;
+  private static final int HEADER_LENGTH = 4 + 4 + HASH_LENGTH + 4 + 4;
+
+  private static final List<Function<Player, String>> STRING_COLUMNS =
+      List.of(
+          Player::getPlayerId,
+          Player::getBirthCountry,
+          Player::getBirthState,
+          Player::getBirthCity,
+          Player::getDeathCountry,
+          Player::getDeathState,
+          Player::getDeathCity,
+          Player::getFirstName,
+          Player::getLastName,
+          Player::getGivenName,
+          Player::getBats,
+          Player::getThrowingHand,
+          Player::getRetroId,
+          Player::getBbrefId);
+
+  private static final List<Function<Player, Integer>> INTEGER_COLUMNS =
+      List.of(
+          Player::getBirthYear,
+          Player::getBirthMonth,
+          Player::getBirthDay,
+          Player::getDeathYear,
+          Player::getDeathMonth,
+          Player::getDeathDay,
+          Player::getWeight,
+          Player::getHeight);
+
+  private static final List<Function<Player, LocalDate>> DATE_COLUMNS =
+      List.of(Player::getDebut, Player::getFinalGame);
+
+  private PlayerSnapshotFormat() {}
+
+  /**
+   * Contents of a snapshot.
+   *
+   * @param sourceHash fingerprint of the CSV file the players were loaded from
+   * @param players the players, in the order they were written
+   */
+  record Contents(byte[] sourceHash, List<Player> players) {}
+
+  /**
+   * Encodes players into a snapshot.
+   *
+   * @param sourceHash fingerprint of the CSV file the players were loaded from
+   * @param players players to encode
+   * @return the encoded snapshot
+   */
+  static ByteBuffer encode(byte[] sourceHash, List<Player> players) {
+    if (sourceHash.length != HASH_LENGTH) {
+      throw new IllegalArgumentException("Source hash must be a " + HASH_LENGTH + "-byte fingerprint");
+    }
+    int rows = players.size();
+    Map<String, Integer> ids = new HashMap<>();
+    List<byte[]> dictionary = new ArrayList<>();
+    int[][] strings = new int[STRING_COLUMNS.size()][rows];
+    long dictionaryLength = 0;
+    for (int column = 0; column < strings.length; column++) {
+      Function<Player, String> getter = STRING_COLUMNS.get(column);
+      for (int row = 0; row < rows; row++) {
+        String value = getter.apply(players.get(row));
+        if (value == null) {
+          strings[column][row] = -1;
+          continue;
+        }
+        Integer id = ids.get(value);
+        if (id == null) {
+          id = dictionary.size();
+          ids.put(value, id);
+          byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+          dictionary.add(bytes);
+          dictionaryLength += bytes.length;
+        }
+        strings[column][row] = id;
+      }
+    }
+
+    int bitmapLength = (rows + 7) / 8;
+    long length =
+        HEADER_LENGTH
+            + 4L * (dictionary.size() + 1)
+            + dictionaryLength
+            + 4L * rows * STRING_COLUMNS.size()
+            + (bitmapLength + 4L * rows) * INTEGER_COLUMNS.size()
+            + (bitmapLength + 8L * rows) * DATE_COLUMNS.size()
+            + 8;
+    if (length > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Snapshot would exceed 2 GB");
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate((int) length);
+    buffer.putInt(MAGIC).putInt(VERSION).put(sourceHash).putInt(rows).putInt(dictionary.size());
+    int offset = 0;
+    buffer.putInt(offset);
+    for (byte[] bytes : dictionary) {
+      offset += bytes.length;
+      buffer.putInt(offset);
+    }
+    dictionary.forEach(buffer::put);
+    for (int[] column : strings) {
+      for (int id : column) {
+        buffer.putInt(id);
+      }
+    }
+    for (Function<Player, Integer> getter : INTEGER_COLUMNS) {
+      putNulls(buffer, players, getter);
+      for (Player player : players) {
+        Integer value = getter.apply(player);
+        buffer.putInt(value == null ? 0 : value);
+      }
+    }
+    for (Function<Player, LocalDate> getter : DATE_COLUMNS) {
+      putNulls(buffer, players, getter);
+      for (Player player : players) {
+        LocalDate value = getter.apply(player);
+        buffer.putLong(value == null ? 0 : value.toEpochDay());
+      }
+    }
+    buffer.putLong(checksum(buffer.duplicate().flip()));
+    return buffer.flip();
+  }
+
+  /**
+   * Writes a snapshot next to its final location and moves it into place, so a reader never sees
+   * a partly written file.
+   *
+   * @param file snapshot file
+   * @param sourceHash fingerprint of the CSV file the players were loaded from
+   * @param players players to write
+   * @throws IOException if the file cannot be written
+   */
+  static void write(Path file, byte[] sourceHash, List<Player> players) throws IOException {
+    ByteBuffer snapshot = encode(sourceHash, players);
+    Path directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+        while (snapshot.hasRemaining()) {
+          channel.write(snapshot);
+        }
+        channel.force(true);
+      }
+      Files.move(
+          temporary,
+          file,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  /**
+   * Memory-maps and decodes a snapshot file.
+   *
+   * @param file snapshot file
+   * @return the contents
+   * @throws IOException if the file cannot be read, or is not a valid snapshot of this version
+   */
+  static Contents read(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Snapshot " + file + " is too large");
+      }
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return decode(mapped);
+    }
+  }
+
+  /**
+   * Decodes a snapshot after verifying its checksum.
+   *
+   * @param buffer the encoded snapshot, from its position to its limit
+   * @return the contents
+   * @throws IOException if the buffer is not a valid snapshot of this version
+   */
+  static Contents decode(ByteBuffer buffer) throws IOException {
+    ByteBuffer snapshot = buffer.slice();
+    if (snapshot.limit() < HEADER_LENGTH + 4 + 8) {
+      throw new IOException("Snapshot is truncated");
+    }
+    if (snapshot.getInt(0) != MAGIC) {
+      throw new IOException("Not a player snapshot");
+    }
+    if (snapshot.getInt(4) != VERSION) {
+      throw new IOException("Unsupported snapshot version " + snapshot.getInt(4));
+    }
+    int checksumPosition = snapshot.limit() - 8;
+    if (checksum(snapshot.slice(0, checksumPosition)) != snapshot.getLong(checksumPosition)) {
+      throw new IOException("Snapshot checksum mismatch");
+    }
+    try {
+      return decodeVerified(snapshot.limit(checksumPosition));
+    } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+      throw new IOException("Malformed snapshot", e);
+    }
+  }
+
+  private static Contents decodeVerified(ByteBuffer snapshot) throws IOException {
+    snapshot.position(8);
+    byte[] sourceHash = new byte[HASH_LENGTH];
+    snapshot.get(sourceHash);
+    int rows = snapshot.getInt();
+    int dictionarySize = snapshot.getInt();
+    int[] offsets = new int[dictionarySize + 1];
+    getInts(snapshot, offsets);
+    // One bulk copy of the dictionary bytes; decoding from an array takes the String fast paths
+    byte[] utf8 = new byte[offsets[dictionarySize]];
+    snapshot.get(utf8);
+    String[] dictionary = new String[dictionarySize];
+    for (int i = 0; i < dictionarySize; i++) {
+      dictionary[i] =
+          new String(utf8, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+    }
+
+    // Columns are read with bulk copies too, which stay fast before the JIT has compiled anything
+    int[] ids = new int[rows];
+    String[][] strings = new String[STRING_COLUMNS.size()][rows];
+    for (String[] column : strings) {
+      getInts(snapshot, ids);
+      for (int row = 0; row < rows; row++) {
+        column[row] = ids[row] < 0 ? null : dictionary[ids[row]];
+      }
+    }
+    int[] values = new int[rows];
+    Integer[][] integers = new Integer[INTEGER_COLUMNS.size()][rows];
+    for (Integer[] column : integers) {
+      byte[] nulls = getNulls(snapshot, rows);
+      getInts(snapshot, values);
+      for (int row = 0; row < rows; row++) {
+        column[row] = isNull(nulls, row) ? null : values[row];
+      }
+    }
+    long[] days = new long[rows];
+    LocalDate[][] dates = new LocalDate[DATE_COLUMNS.size()][rows];
+    for (LocalDate[] column : dates) {
+      byte[] nulls = getNulls(snapshot, rows);
+      snapshot.asLongBuffer().get(days);
+      snapshot.position(snapshot.position() + 8 * rows);
+      for (int row = 0; row < rows; row++) {
+        column[row] = isNull(nulls, row) ? null : LocalDate.ofEpochDay(days[row]);
+      }
+    }
+    if (snapshot.hasRemaining()) {
+      throw new IOException("Snapshot has trailing bytes");
+    }
+
+    List<Player> players = new ArrayList<>(rows);
+    for (int row = 0; row < rows; row++) {
+      players.add(
+          new Player(
+              strings[0][row],
+              integers[0][row],
+              integers[1][row],
+              integers[2][row],
+              strings[1][row],
+              strings[2][row],
+              strings[3][row],
+              integers[3][row],
+              integers[4][row],
+              integers[5][row],
+              strings[4][row],
+              strings[5][row],
+              strings[6][row],
+              strings[7][row],
+              strings[8][row],
+              strings[9][row],
+              integers[6][row],
+              integers[7][row],
+              strings[10][row],
+              strings[11][row],
+              dates[0][row],
+              dates[1][row],
+              strings[12][row],
+              strings[13][row]));
+    }
+    return new Contents(sourceHash, players);
+  }
+
+  private static <T> void putNulls(
+      ByteBuffer buffer, List<Player> players, Function<Player, T> getter) {
+    byte[] nulls = new byte[(players.size() + 7) / 8];
+    for (int row = 0; row < players.size(); row++) {
+      if (getter.apply(players.get(row)) == null) {
+        nulls[row >>> 3] |= (byte) (1 << (row & 7));
+      }
+    }
+    buffer.put(nulls);
+  }
+
+  private static void getInts(ByteBuffer buffer, int[] values) {
+    buffer.asIntBuffer().get(values);
+    buffer.position(buffer.position() + 4 * values.length);
+  }
+
+  private static byte[] getNulls(ByteBuffer buffer, int rows) {
+    byte[] nulls = new byte[(rows + 7) / 8];
+    buffer.get(nulls);
+    return nulls;
+  }
+
+  private static boolean isNull(byte[] nulls, int row) {
+    return (nulls[row >>> 3] & (1 << (row & 7))) != 0;
+  }
+
+  private static long checksum(ByteBuffer bytes) {
+    CRC32C crc = new CRC32C();
+    crc.update(bytes);
+    return crc.getValue();
+  }
+}
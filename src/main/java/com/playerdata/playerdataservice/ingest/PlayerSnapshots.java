@@ -0,0 +1,139 @@
+package com.playerdata.playerdataservice.ingest;
+
+import com.playerdata.playerdataservice.model.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary snapshot of the players accepted by the last successful load, enabled with {@code
+ * player.snapshot.enabled=true}.
+ *
+ * <p>After the {@link PlayerIngestPipeline} has loaded a CSV file it saves the accepted players to
+ * {@code player.snapshot.path}, together with a fingerprint of the file. On the next load of a
+ * file with the same fingerprint the players are restored from the memory-mapped snapshot instead,
+ * skipping the parse and validation stages. A snapshot that is missing, was written for another
+ * file, has another format version or fails its checksum is ignored and replaced after the CSV
+ * load.
+ */
+@Component
+public class PlayerSnapshots {
+
+  private static final Logger logger = LoggerFactory.getLogger(PlayerSnapshots.class);
+
+  private final boolean enabled;
+  private final Path file;
+
+  /**
+   * Constructs a PlayerSnapshots.
+   *
+   * @param enabled whether snapshots are read and written at all
+   * @param file snapshot file
+   */
+  public PlayerSnapshots(
+      @Value("${player.snapshot.enabled:false}") boolean enabled,
+      @Value("${player.snapshot.path:./player.snapshot}") Path file) {
+    this.enabled = enabled;
+    this.file = file;
+  }
+
+  /**
+   * Indicates whether snapshots are read and written.
+   *
+   * @return {@code true} if enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Computes the fingerprint a snapshot of a CSV file is keyed by: the size of the file with its
+   * CRC32C and CRC32. Both checksums are JVM intrinsics, so fingerprinting the file takes a few
+   * milliseconds even at startup, where a cryptographic digest would still be interpreted. The
+   * fingerprint guards against a changed file, not a forged one; whoever can write the CSV file
+   * is trusted anyway.
+   *
+   * @param csvFile CSV file
+   * @return the fingerprint of the file contents
+   * @throws IOException if the file cannot be read
+   */
+  public static byte[] hash(Path csvFile) throws IOException {
+    CRC32C crc32c = new CRC32C();
+    CRC32 crc32 = new CRC32();
+    long size;
+    try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+      size = channel.size();
+      for (long position = 0; position < size; position += Integer.MAX_VALUE) {
+        long length = Math.min(Integer.MAX_VALUE, size - position);
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        crc32c.update(mapped.duplicate());
+        crc32.update(mapped);
+      }
+    }
+    return ByteBuffer.allocate(PlayerSnapshotFormat.HASH_LENGTH)
+        .putLong(size)
+        .putInt((int) crc32c.getValue())
+        .putInt((int) crc32.getValue())
+        .array();
+  }
+
+  /**
+   * Restores the players of a CSV file from the snapshot.
+   *
+   * @param sourceHash fingerprint of the CSV file, see {@link #hash(Path)}
+   * @return the players, or {@code null} if there is no valid snapshot of that file
+   */
+  public List<Player> restore(byte[] sourceHash) {
+    PlayerSnapshotFormat.Contents contents;
+    try {
+      contents = PlayerSnapshotFormat.read(file);
+    } catch (NoSuchFileException e) {
+      logger.debug("No player snapshot at {}", file);
+      return null;
+    } catch (IOException e) {
+      logger.warn("Ignoring player snapshot {}: {}", file, e.getMessage());
+      return null;
+    }
+    if (!Arrays.equals(sourceHash, contents.sourceHash())) {
+      logger.info("Player snapshot {} is stale, loading the CSV file", file);
+      return null;
+    }
+    return contents.players();
+  }
+
+  /**
+   * Replaces the snapshot. Failing to write it only costs the next start its shortcut, so errors
+   * are logged rather than thrown.
+   *
+   * @param sourceHash fingerprint of the CSV file the players were loaded from
+   * @param players players accepted by the load, in file order
+   */
+  public void save(byte[] sourceHash, List<Player> players) {
+    try {
+      long start = System.nanoTime();
+      PlayerSnapshotFormat.write(file, sourceHash, players);
+      logger.info(
+          "Saved {} players to snapshot {} ({} bytes) in {} ms",
+          players.size(),
+          file,
+          Files.size(file),
+          (System.nanoTime() - start) / 1_000_000);
+    } catch (IOException | RuntimeException e) {
+      logger.warn("Could not save player snapshot {}", file, e);
+    }
+  }
+}
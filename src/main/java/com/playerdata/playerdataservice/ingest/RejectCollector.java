@@ -0,0 +1,90 @@
+package com.playerdata.playerdataservice.ingest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the rejected rows of one parse chunk, or of a whole run once the chunks are added in
+ * file order. Not thread-safe; every chunk has its own collector.
+ */
+final class RejectCollector {
+
+  private final int maxSamples;
+  private final Map<String, Long> byRule = new TreeMap<>();
+  private final List<RejectReport.RejectedRow> samples = new ArrayList<>();
+  private long rows;
+
+  /**
+   * Constructs a RejectCollector.
+   *
+   * @param maxSamples number of rejected rows kept in full
+   */
+  RejectCollector(int maxSamples) {
+    this.maxSamples = maxSamples;
+  }
+
+  /**
+   * Records a rejected row.
+   *
+   * @param playerId ID of the row
+   * @param errors message of every failed rule, by rule name
+   */
+  void reject(String playerId, Map<String, String> errors) {
+    rows++;
+    for (String rule : errors.keySet()) {
+      byRule.merge(rule, 1L, Long::sum);
+    }
+    if (samples.size() < maxSamples) {
+      samples.add(new RejectReport.RejectedRow(playerId, Collections.unmodifiableMap(errors)));
+    }
+  }
+
+  /**
+   * Records a row rejected by a single rule.
+   *
+   * @param playerId ID of the row
+   * @param rule name of the failed rule
+   * @param message why the row failed it
+   */
+  void reject(String playerId, String rule, String message) {
+    reject(playerId, Map.of(rule, message));
+  }
+
+  /**
+   * Adds the rejects of a collector for rows that follow the rows collected so far.
+   *
+   * @param other collector of the following rows
+   */
+  void addAll(RejectCollector other) {
+    rows += other.rows;
+    other.byRule.forEach((rule, count) -> byRule.merge(rule, count, Long::sum));
+    for (RejectReport.RejectedRow row : other.samples) {
+      if (samples.size() == maxSamples) {
+        break;
+      }
+      samples.add(row);
+    }
+  }
+
+  /**
+   * Returns the number of rows rejected so far.
+   *
+   * @return the number of rejected rows
+   */
+  long rows() {
+    return rows;
+  }
+
+  /**
+   * Returns the rejects collected so far.
+   *
+   * @return an immutable report
+   */
+  RejectReport toReport() {
+    return new RejectReport(
+        rows, Collections.unmodifiableMap(new TreeMap<>(byRule)), List.copyOf(samples));
+  }
+}
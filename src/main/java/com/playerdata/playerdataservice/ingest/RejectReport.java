@@ -0,0 +1,23 @@
+package com.playerdata.playerdataservice.ingest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows rejected by one run of the {@link PlayerIngestPipeline}, in place of one log line per row.
+ *
+ * @param rows number of rejected rows
+ * @param byRule number of rows that failed each rule, by rule name; a row can fail several
+ * @param samples the first {@link PlayerIngestPipeline#MAX_REJECT_SAMPLES} rejected rows in file
+ *     order
+ */
+public record RejectReport(long rows, Map<String, Long> byRule, List<RejectedRow> samples) {
+
+  /**
+   * One rejected row.
+   *
+   * @param playerId ID of the row, as far as it could be read
+   * @param errors message of every failed rule, by rule name
+   */
+  public record RejectedRow(String playerId, Map<String, String> errors) {}
+}
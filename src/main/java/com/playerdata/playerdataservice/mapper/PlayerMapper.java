@@ -24,6 +24,11 @@ public interface PlayerMapper {
      */
     PlayerDTO toDTO(Player player);
 
-    // Uncomment if needed
-    // Player toEntity(PlayerDTO dto);
+    /**
+     * Converts a PlayerDTO back to a Player entity.
+     *
+     * @param dto the PlayerDTO to convert
+     * @return the converted Player entity
+     */
+    Player toEntity(PlayerDTO dto);
 }
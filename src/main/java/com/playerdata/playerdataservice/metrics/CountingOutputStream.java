@@ -0,0 +1,42 @@
+package com.playerdata.playerdataservice.metrics;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** Output stream that counts the bytes written through it. */
+public final class CountingOutputStream extends FilterOutputStream {
+
+  private long count;
+
+  /**
+   * Constructs a CountingOutputStream.
+   *
+   * @param out stream the bytes are passed on to
+   */
+  public CountingOutputStream(OutputStream out) {
+    super(out);
+  }
+
+  /**
+   * Returns the number of bytes written so far.
+   *
+   * @return the byte count
+   */
+  public long count() {
+    return count;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    out.write(b);
+    count++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    // FilterOutputStream would pass arrays on one byte at a time
+    out.write(b, off, len);
+    count += len;
+  }
+}
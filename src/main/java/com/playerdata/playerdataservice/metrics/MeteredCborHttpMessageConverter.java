@@ -0,0 +1,41 @@
+package com.playerdata.playerdataservice.metrics;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * CBOR ({@code application/cbor}) converter that records the serialization time and size of every
+ * body it writes in {@link ResponseMetrics}. Its mapper is built by Spring Boot's
+ * {@link Jackson2ObjectMapperBuilder}, with the same modules and {@code spring.jackson} settings as
+ * the JSON mapper, so a CBOR body holds the same fields and values as the JSON one.
+ */
+@Component
+public class MeteredCborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+  private final ResponseMetrics responseMetrics;
+
+  /**
+   * Constructs a MeteredCborHttpMessageConverter.
+   *
+   * @param objectMapperBuilder builder of the application's mappers, one instance per use
+   * @param responseMetrics meters the bodies are recorded in
+   */
+  public MeteredCborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder objectMapperBuilder, ResponseMetrics responseMetrics) {
+    super(objectMapperBuilder.factory(new CBORFactory()).build());
+    this.responseMetrics = responseMetrics;
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+      throws IOException {
+    MeteredConverters.write(
+        responseMetrics, outputMessage, message -> super.writeInternal(object, type, message));
+  }
+}
@@ -0,0 +1,73 @@
+package com.playerdata.playerdataservice.metrics;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** Recording shared by the metered message converters of each wire format. */
+final class MeteredConverters {
+
+  /**
+   * Endpoint tag of bodies written outside a controller method, such as actuator responses or 404s
+   * of unknown paths.
+   */
+  static final String NO_ENDPOINT = "none";
+
+  private MeteredConverters() {}
+
+  /**
+   * Writes a body and records its serialization time and size under the current endpoint.
+   *
+   * @param responseMetrics meters the body is recorded in
+   * @param outputMessage message to write to
+   * @param writer the converter's own write of the body
+   * @throws IOException if the body cannot be written
+   */
+  static void write(
+      ResponseMetrics responseMetrics, HttpOutputMessage outputMessage, BodyWriter writer)
+      throws IOException {
+    CountingOutputStream body = new CountingOutputStream(outputMessage.getBody());
+    long start = System.nanoTime();
+    writer.write(
+        new HttpOutputMessage() {
+          @Override
+          public OutputStream getBody() {
+            return body;
+          }
+
+          @Override
+          public HttpHeaders getHeaders() {
+            return outputMessage.getHeaders();
+          }
+        });
+    responseMetrics.record(endpoint(), System.nanoTime() - start, body.count());
+  }
+
+  /** Returns the name of the {@code @Controller} method handling the current request. */
+  private static String endpoint() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    Object handler =
+        attributes == null
+            ? null
+            : attributes.getAttribute(
+                HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    return handler instanceof HandlerMethod method
+            && AnnotatedElementUtils.hasAnnotation(method.getBeanType(), Controller.class)
+        ? method.getMethod().getName()
+        : NO_ENDPOINT;
+  }
+
+  /** Writes a body to a message. */
+  @FunctionalInterface
+  interface BodyWriter {
+    void write(HttpOutputMessage outputMessage) throws IOException;
+  }
+}
@@ -0,0 +1,40 @@
+package com.playerdata.playerdataservice.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON converter that records the serialization time and size of every body it writes in {@link
+ * ResponseMetrics}. Spring Boot uses it in place of its own {@link
+ * MappingJackson2HttpMessageConverter}, with the application's {@link ObjectMapper}, so responses
+ * are unchanged.
+ */
+@Component
+public class MeteredJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+  private final ResponseMetrics responseMetrics;
+
+  /**
+   * Constructs a MeteredJsonHttpMessageConverter.
+   *
+   * @param objectMapper mapper used to write the bodies
+   * @param responseMetrics meters the bodies are recorded in
+   */
+  public MeteredJsonHttpMessageConverter(
+      ObjectMapper objectMapper, ResponseMetrics responseMetrics) {
+    super(objectMapper);
+    this.responseMetrics = responseMetrics;
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+      throws IOException {
+    MeteredConverters.write(
+        responseMetrics, outputMessage, message -> super.writeInternal(object, type, message));
+  }
+}
@@ -0,0 +1,84 @@
+package com.playerdata.playerdataservice.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization time and size of player responses, tagged with the controller method that
+ * produced them ({@code endpoint}). The meters of each endpoint are registered once and cached, so
+ * recording a response costs one map lookup and two lock-free updates.
+ *
+ * <ul>
+ *   <li>{@code player.response.serialization}: time to write a response body, including the
+ *       socket writes of bodies larger than the output buffer;
+ *   <li>{@code player.response.size}: size of a response body in bytes, including precomputed
+ *       bodies that are not serialized at all.
+ * </ul>
+ */
+@Component
+public class ResponseMetrics {
+
+  static final String SERIALIZATION = "player.response.serialization";
+  static final String SIZE = "player.response.size";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Meters> byEndpoint = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs ResponseMetrics.
+   *
+   * @param meterRegistry registry the meters are registered with
+   */
+  public ResponseMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Records a serialized response.
+   *
+   * @param endpoint name of the controller method
+   * @param nanos time taken to write the body
+   * @param bytes size of the body
+   */
+  public void record(String endpoint, long nanos, long bytes) {
+    Meters meters = meters(endpoint);
+    meters.serialization().record(nanos, TimeUnit.NANOSECONDS);
+    meters.size().record(bytes);
+  }
+
+  /**
+   * Records a response written from bytes serialized ahead of time.
+   *
+   * @param endpoint name of the controller method
+   * @param bytes size of the body
+   */
+  public void recordSize(String endpoint, long bytes) {
+    meters(endpoint).size().record(bytes);
+  }
+
+  private Meters meters(String endpoint) {
+    Meters meters = byEndpoint.get(endpoint);
+    return meters != null ? meters : byEndpoint.computeIfAbsent(endpoint, this::register);
+  }
+
+  private Meters register(String endpoint) {
+    return new Meters(
+        Timer.builder(SERIALIZATION)
+            .description("Time to write a player response body")
+            .tag("endpoint", endpoint)
+            .register(meterRegistry),
+        DistributionSummary.builder(SIZE)
+            .description("Size of a player response body")
+            .baseUnit("bytes")
+            .tag("endpoint", endpoint)
+            .register(meterRegistry));
+  }
+
+  private record Meters(Timer serialization, DistributionSummary size) {}
+}
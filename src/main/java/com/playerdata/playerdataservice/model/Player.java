@@ -14,6 +14,8 @@ import java.time.LocalDate;
 /**
  * Represents a player entity with personal and statistical information.
  * This class includes validations for fields such as birth date, death date, and playing statistics.
+ * The ingest checks them with {@link com.playerdata.playerdataservice.ingest.PlayerConstraints},
+ * which must be kept in line with the annotations.
  */
 @Entity
 @Getter
@@ -0,0 +1,143 @@
+package com.playerdata.playerdataservice.reload;
+
+import com.playerdata.playerdataservice.service.PlayerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reloads the player file when it changes on disk, enabled with {@code player.reload.watch=true}.
+ *
+ * <p>The directory of {@code player.csv.path} is watched with a {@link WatchService}. Once the file
+ * has been created or modified, the watcher waits until no further event arrives for {@code
+ * player.reload.quiet-period}, so a file that is still being written is not read halfway, and then
+ * calls {@link PlayerService#reloadPlayers()}. Replacing the file by renaming a complete copy over
+ * it is the safest way to update it. A failed reload is logged and the served players stay as they
+ * were.
+ */
+@Component
+public class PlayerFileWatcher {
+
+  private static final Logger logger = LoggerFactory.getLogger(PlayerFileWatcher.class);
+
+  private final PlayerService playerService;
+  private final Path csvFile;
+  private final boolean enabled;
+  private final Duration quietPeriod;
+  private WatchService watchService;
+  private Thread thread;
+
+  /**
+   * Constructs a PlayerFileWatcher.
+   *
+   * @param playerService service that reloads the players
+   * @param csvFile player file to watch
+   * @param enabled whether the file is watched at all
+   * @param quietPeriod time without further changes to wait for before reloading
+   */
+  public PlayerFileWatcher(
+      PlayerService playerService,
+      @Value("${player.csv.path:./player.csv}") Path csvFile,
+      @Value("${player.reload.watch:false}") boolean enabled,
+      @Value("${player.reload.quiet-period:2s}") Duration quietPeriod) {
+    this.playerService = playerService;
+    this.csvFile = csvFile.toAbsolutePath().normalize();
+    this.enabled = enabled;
+    this.quietPeriod = quietPeriod;
+  }
+
+  /**
+   * Starts watching the player file if the watcher is enabled.
+   *
+   * @throws IOException if the directory of the file cannot be watched
+   */
+  @PostConstruct
+  public void start() throws IOException {
+    if (!enabled) {
+      return;
+    }
+    Path directory = csvFile.getParent();
+    watchService = directory.getFileSystem().newWatchService();
+    directory.register(
+        watchService,
+        StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_MODIFY);
+    thread = Thread.ofPlatform().name("player-file-watcher").daemon().start(this::watch);
+    logger.info("Watching {} for changes", csvFile);
+  }
+
+  /**
+   * Stops watching the player file.
+   *
+   * @throws IOException if the watch service cannot be closed
+   */
+  @PreDestroy
+  public void stop() throws IOException {
+    if (watchService != null) {
+      watchService.close();
+    }
+  }
+
+  private void watch() {
+    try {
+      while (true) {
+        if (!affectsFile(watchService.take())) {
+          continue;
+        }
+        // Wait until the writer has finished, however many events it produces
+        WatchKey key;
+        while ((key = watchService.poll(quietPeriod.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+          affectsFile(key);
+        }
+        reload();
+      }
+    } catch (ClosedWatchServiceException e) {
+      logger.debug("Stopped watching {}", csvFile);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Consumes the events of a key and tells whether one of them concerns the player file. */
+  private boolean affectsFile(WatchKey key) {
+    boolean affected = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW
+          || csvFile.getFileName().equals(event.context())) {
+        affected = true;
+      }
+    }
+    key.reset();
+    return affected;
+  }
+
+  private void reload() {
+    try {
+      playerService.reloadPlayers();
+    } catch (Exception e) {
+      logger.warn("Reload of {} failed, keeping the players already loaded", csvFile, e);
+    }
+  }
+
+  /**
+   * Indicates whether the watcher thread is running.
+   *
+   * @return {@code true} between a successful start and stop
+   */
+  boolean isWatching() {
+    return thread != null && thread.isAlive();
+  }
+}
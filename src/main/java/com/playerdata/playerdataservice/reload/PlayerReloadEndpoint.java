@@ -0,0 +1,50 @@
+package com.playerdata.playerdataservice.reload;
+
+import com.playerdata.playerdataservice.service.PlayerChanges;
+import com.playerdata.playerdataservice.service.PlayerService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint that reloads the player file on demand: {@code POST /actuator/reload} applies
+ * the changes of the file and answers with the number of inserted, updated and deleted players.
+ *
+ * <p>The endpoint is not authenticated, so it is left out of the default web exposure. Expose it
+ * only on a management port that the public cannot reach, such as {@code
+ * management.server.address=127.0.0.1} with a {@code management.server.port} of its own.
+ */
+@Component
+@Endpoint(id = "reload")
+public class PlayerReloadEndpoint {
+
+  private final PlayerService playerService;
+
+  /**
+   * Constructs a PlayerReloadEndpoint.
+   *
+   * @param playerService service that reloads the players
+   */
+  public PlayerReloadEndpoint(PlayerService playerService) {
+    this.playerService = playerService;
+  }
+
+  /**
+   * Reloads the player file.
+   *
+   * @return the number of players inserted, updated and deleted by the reload
+   * @throws Exception if the file cannot be loaded; the served players are then left as they were
+   */
+  @WriteOperation
+  public Map<String, Integer> reload() throws Exception {
+    PlayerChanges changes = playerService.reloadPlayers();
+    Map<String, Integer> summary = new LinkedHashMap<>();
+    summary.put("inserted", changes.inserted().size());
+    summary.put("updated", changes.updated().size());
+    summary.put("deleted", changes.deletedIds().size());
+    return summary;
+  }
+}
@@ -1,13 +1,48 @@
 package com.playerdata.playerdataservice.repository;
 
 import com.playerdata.playerdataservice.model.Player;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for accessing and managing {@link Player} entities.
  * Extends {@link JpaRepository} to provide standard CRUD operations.
  */
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, String> {
+
+  /**
+   * Retrieves the first players ordered by ID.
+   *
+   * @param limit maximum number of players to return
+   * @return the players with the lowest IDs
+   */
+  List<Player> findAllByOrderByPlayerIdAsc(Limit limit);
+
+  /**
+   * Retrieves the players following a given ID, ordered by ID.
+   *
+   * @param playerId exclusive lower bound for the IDs
+   * @param limit maximum number of players to return
+   * @return the players whose IDs sort after {@code playerId}
+   */
+  List<Player> findByPlayerIdGreaterThanOrderByPlayerIdAsc(String playerId, Limit limit);
+
+  /**
+   * Streams all players ordered by ID, fetching rows from the database in batches. Must be
+   * consumed inside a transaction and closed afterwards.
+   *
+   * @return a stream over all players
+   */
+  @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+  @Query("select p from Player p order by p.playerId asc")
+  Stream<Player> streamAllByOrderByPlayerIdAsc();
 }
@@ -0,0 +1,111 @@
+package com.playerdata.playerdataservice.search;
+
+import java.util.Collection;
+
+/**
+ * Immutable Bloom filter over the player IDs of one load. It answers "definitely absent" for most
+ * unknown IDs, so lookups of IDs that do not exist, such as those of bots scanning the ID space,
+ * can be answered without a store round trip. An ID that was loaded is never reported absent; an
+ * unknown ID is reported as possibly present with roughly the configured false positive
+ * probability, and is then resolved by the store as usual.
+ *
+ * <p>Each ID is hashed once to 64 bits and the probe positions are derived from the two halves of
+ * the hash (double hashing), so a probe costs one pass over the ID and a few bit tests.
+ */
+public final class PlayerIdFilter {
+
+  /** Filter that reports every ID as possibly present, used until the first load completes. */
+  public static final PlayerIdFilter ALLOW_ALL = new PlayerIdFilter(new long[0], 0);
+
+  private final long[] bits;
+  private final int hashes;
+
+  private PlayerIdFilter(long[] bits, int hashes) {
+    this.bits = bits;
+    this.hashes = hashes;
+  }
+
+  /**
+   * Builds a filter sized for the given IDs.
+   *
+   * @param ids IDs to add
+   * @param falsePositiveProbability target probability that an unknown ID passes the filter,
+   *     between 0 and 1 exclusive
+   * @return the filter
+   * @throws IllegalArgumentException if the probability is out of range
+   */
+  public static PlayerIdFilter build(Collection<String> ids, double falsePositiveProbability) {
+    if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+      throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1");
+    }
+    int count = Math.max(ids.size(), 1);
+    double ln2 = Math.log(2);
+    // Optimal size and number of hash functions for the target probability
+    long bitCount =
+        Math.max(64, (long) Math.ceil(-count * Math.log(falsePositiveProbability) / (ln2 * ln2)));
+    int hashes = Math.max(1, (int) Math.round((double) bitCount / count * ln2));
+    long words = Math.min((bitCount + 63) / 64, Integer.MAX_VALUE);
+    PlayerIdFilter filter = new PlayerIdFilter(new long[(int) words], hashes);
+    for (String id : ids) {
+      filter.add(id);
+    }
+    return filter;
+  }
+
+  /**
+   * Tests whether an ID may have been loaded.
+   *
+   * @param id the player ID
+   * @return {@code false} if the ID was certainly not loaded, {@code true} if it may have been
+   */
+  public boolean mightContain(String id) {
+    if (hashes == 0) {
+      return true;
+    }
+    long hash = hash(id);
+    long bitCount = (long) bits.length * 64;
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 0; i < hashes; i++) {
+      long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+      if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the size of the filter.
+   *
+   * @return the number of bits
+   */
+  public long bitCount() {
+    return (long) bits.length * 64;
+  }
+
+  private void add(String id) {
+    long hash = hash(id);
+    long bitCount = (long) bits.length * 64;
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 0; i < hashes; i++) {
+      long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+      bits[(int) (index >>> 6)] |= 1L << index;
+    }
+  }
+
+  /** 64-bit FNV-1a over the characters, finished with the MurmurHash3 mixer to spread the bits. */
+  private static long hash(String id) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < id.length(); i++) {
+      hash = (hash ^ id.charAt(i)) * 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,283 @@
+package com.playerdata.playerdataservice.search;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable autocomplete index over the first, last and given names of one load of players.
+ *
+ * <p>Every word of the three name fields is normalized (accents stripped, lower case, punctuation
+ * removed) and stored once in a sorted array of terms, together with the sorted ordinals of the
+ * players that carry it. The sorted array doubles as a trie: all terms sharing a prefix form one
+ * contiguous run, so a prefix lookup is two binary searches, and the fuzzy mode walks the terms in
+ * order while reusing the edit-distance rows of the prefix shared with the previous term and
+ * skipping whole runs that can no longer match.
+ *
+ * <p>A query matches a player when every word of the query is a prefix of, or within the allowed
+ * number of edits of a prefix of, one of the player's name words. Players are ranked by the total
+ * cost of their matches, whole words before prefixes, then by ID.
+ */
+public final class PlayerNameIndex {
+
+  /** Index over no players. */
+  public static final PlayerNameIndex EMPTY = build(List.of());
+
+  /** Largest supported number of edits per query word. */
+  public static final int MAX_EDITS = 2;
+
+  /** Longest supported query word, which bounds the edit-distance rows. */
+  public static final int MAX_WORD_LENGTH = 64;
+
+  private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+  private static final Pattern WORD_SEPARATORS = Pattern.compile("[\\s\\-]+");
+  private static final Pattern NOT_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private final List<PlayerDTO> players;
+  private final String[] terms;
+  private final int[][] postings;
+  private final int maxTermLength;
+
+  private PlayerNameIndex(List<PlayerDTO> players) {
+    Map<String, List<Integer>> byTerm = new TreeMap<>();
+    for (int i = 0; i < players.size(); i++) {
+      PlayerDTO player = players.get(i);
+      for (String name :
+          new String[] {player.getFirstName(), player.getLastName(), player.getGivenName()}) {
+        for (String word : words(name)) {
+          List<Integer> ordinals = byTerm.computeIfAbsent(word, k -> new ArrayList<>(1));
+          // Names of one player are visited together, so a repeated word is always the last entry
+          if (ordinals.isEmpty() || ordinals.get(ordinals.size() - 1) != i) {
+            ordinals.add(i);
+          }
+        }
+      }
+    }
+    this.players = players;
+    this.terms = byTerm.keySet().toArray(String[]::new);
+    this.postings = new int[terms.length][];
+    int longest = 0;
+    for (int i = 0; i < terms.length; i++) {
+      postings[i] = byTerm.get(terms[i]).stream().mapToInt(Integer::intValue).toArray();
+      longest = Math.max(longest, terms[i].length());
+    }
+    this.maxTermLength = longest;
+  }
+
+  /**
+   * Builds the index over the names of the given players.
+   *
+   * @param players players with distinct IDs, in any order
+   * @return the index
+   */
+  public static PlayerNameIndex build(Collection<PlayerDTO> players) {
+    List<PlayerDTO> sorted = new ArrayList<>(players);
+    sorted.sort(Comparator.comparing(PlayerDTO::getPlayerId));
+    return new PlayerNameIndex(List.copyOf(sorted));
+  }
+
+  /**
+   * Returns the number of distinct name words in the index.
+   *
+   * @return the number of terms
+   */
+  public int termCount() {
+    return terms.length;
+  }
+
+  /**
+   * Finds the best matching players for a partially typed name.
+   *
+   * @param query one or more name words, the last of which may be incomplete
+   * @param maxEdits number of edits allowed per query word, from 0 to {@link #MAX_EDITS}
+   * @param limit maximum number of players to return
+   * @return up to {@code limit} players, best match first
+   * @throws IllegalArgumentException if {@code maxEdits} is out of range or a query word is longer
+   *     than {@link #MAX_WORD_LENGTH}
+   */
+  public List<PlayerDTO> complete(String query, int maxEdits, int limit) {
+    if (maxEdits < 0 || maxEdits > MAX_EDITS) {
+      throw new IllegalArgumentException("maxEdits must be between 0 and " + MAX_EDITS);
+    }
+    List<String> words = words(query);
+    if (words.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    Map<Integer, Integer> costs = null;
+    for (String word : words) {
+      if (word.length() > MAX_WORD_LENGTH) {
+        throw new IllegalArgumentException(
+            "Query words must not be longer than " + MAX_WORD_LENGTH + " characters");
+      }
+      Map<Integer, Integer> wordCosts =
+          maxEdits == 0 ? prefixMatches(word) : fuzzyMatches(word, maxEdits);
+      costs = costs == null ? wordCosts : intersect(costs, wordCosts);
+      if (costs.isEmpty()) {
+        return List.of();
+      }
+    }
+    return top(costs, limit);
+  }
+
+  /** Normalizes a name or query into its words. */
+  static List<String> words(String text) {
+    if (text == null || text.isBlank()) {
+      return List.of();
+    }
+    String folded =
+        ACCENTS
+            .matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+            .replaceAll("")
+            .toLowerCase(Locale.ROOT);
+    List<String> words = new ArrayList<>(2);
+    for (String part : WORD_SEPARATORS.split(folded.strip())) {
+      String word = NOT_ALPHANUMERIC.matcher(part).replaceAll("");
+      if (!word.isEmpty()) {
+        words.add(word);
+      }
+    }
+    return words;
+  }
+
+  /** Exact prefix mode: one contiguous run of terms, a whole word costs 0 and a prefix 1. */
+  private Map<Integer, Integer> prefixMatches(String prefix) {
+    Map<Integer, Integer> costs = new HashMap<>();
+    for (int i = firstAtOrAfter(prefix), end = endOfPrefix(prefix); i < end; i++) {
+      addAll(costs, i, terms[i].length() == prefix.length() ? 0 : 1);
+    }
+    return costs;
+  }
+
+  /**
+   * Fuzzy prefix mode. Computes the Levenshtein rows of the query against each term one character
+   * at a time; rows of the prefix shared with the previous term are reused, and once every cell of
+   * a row exceeds {@code maxEdits} the whole run of terms below that prefix is skipped.
+   *
+   * <p>A term matching within {@code d} edits costs {@code 2d}, or {@code 2d + 1} if only a prefix
+   * of it matches, so fewer edits always rank first and whole words rank before prefixes.
+   */
+  private Map<Integer, Integer> fuzzyMatches(String word, int maxEdits) {
+    int width = word.length() + 1;
+    int[][] rows = new int[maxTermLength + 1][width];
+    // Best distance of the whole query against any prefix of the term up to each depth
+    int[] bestPrefix = new int[maxTermLength + 1];
+    for (int j = 0; j < width; j++) {
+      rows[0][j] = j;
+    }
+    bestPrefix[0] = word.length();
+
+    Map<Integer, Integer> costs = new HashMap<>();
+    String previous = "";
+    int computed = 0;
+    int i = 0;
+    while (i < terms.length) {
+      String term = terms[i];
+      int depth = Math.min(computed, commonPrefixLength(previous, term));
+      boolean pruned = false;
+      while (depth < term.length()) {
+        depth++;
+        int[] above = rows[depth - 1];
+        int[] row = rows[depth];
+        char c = term.charAt(depth - 1);
+        row[0] = depth;
+        int rowMin = depth;
+        for (int j = 1; j < width; j++) {
+          int substitution = above[j - 1] + (word.charAt(j - 1) == c ? 0 : 1);
+          row[j] = Math.min(substitution, Math.min(above[j], row[j - 1]) + 1);
+          rowMin = Math.min(rowMin, row[j]);
+        }
+        bestPrefix[depth] = Math.min(bestPrefix[depth - 1], row[width - 1]);
+        if (rowMin > maxEdits) {
+          pruned = true;
+          break;
+        }
+      }
+      previous = term;
+      computed = depth;
+      int prefixDistance = bestPrefix[depth];
+      if (pruned) {
+        // No longer prefix can get closer, so the whole run below this prefix shares one outcome
+        int end = endOfPrefix(term.substring(0, depth));
+        if (prefixDistance <= maxEdits) {
+          for (; i < end; i++) {
+            addAll(costs, i, 2 * prefixDistance + 1);
+          }
+        }
+        i = end;
+        continue;
+      }
+      if (prefixDistance <= maxEdits) {
+        addAll(costs, i, Math.min(2 * rows[depth][width - 1], 2 * prefixDistance + 1));
+      }
+      i++;
+    }
+    return costs;
+  }
+
+  private void addAll(Map<Integer, Integer> costs, int term, int cost) {
+    for (int ordinal : postings[term]) {
+      costs.merge(ordinal, cost, Math::min);
+    }
+  }
+
+  private static Map<Integer, Integer> intersect(
+      Map<Integer, Integer> costs, Map<Integer, Integer> wordCosts) {
+    Map<Integer, Integer> result = new HashMap<>();
+    Map<Integer, Integer> smaller = costs.size() <= wordCosts.size() ? costs : wordCosts;
+    Map<Integer, Integer> larger = smaller == costs ? wordCosts : costs;
+    smaller.forEach(
+        (ordinal, cost) -> {
+          Integer other = larger.get(ordinal);
+          if (other != null) {
+            result.put(ordinal, cost + other);
+          }
+        });
+    return result;
+  }
+
+  /** Selects the {@code limit} cheapest players without sorting every candidate. */
+  private List<PlayerDTO> top(Map<Integer, Integer> costs, int limit) {
+    Comparator<Map.Entry<Integer, Integer>> ranking =
+        Map.Entry.<Integer, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey());
+    PriorityQueue<Map.Entry<Integer, Integer>> best = new PriorityQueue<>(limit, ranking.reversed());
+    for (Map.Entry<Integer, Integer> candidate : costs.entrySet()) {
+      best.offer(candidate);
+      if (best.size() > limit) {
+        best.poll();
+      }
+    }
+    List<Map.Entry<Integer, Integer>> ranked = new ArrayList<>(best);
+    ranked.sort(ranking);
+    return ranked.stream().map(entry -> players.get(entry.getKey())).toList();
+  }
+
+  private int firstAtOrAfter(String prefix) {
+    int index = Arrays.binarySearch(terms, prefix);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  /** Returns the index of the first term that does not start with the prefix. */
+  private int endOfPrefix(String prefix) {
+    return firstAtOrAfter(prefix + Character.MAX_VALUE);
+  }
+
+  private static int commonPrefixLength(String a, String b) {
+    int length = Math.min(a.length(), b.length());
+    int i = 0;
+    while (i < length && a.charAt(i) == b.charAt(i)) {
+      i++;
+    }
+    return i;
+  }
+}
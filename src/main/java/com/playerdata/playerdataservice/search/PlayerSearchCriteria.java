@@ -0,0 +1,27 @@
+package com.playerdata.playerdataservice.search;
+
+/**
+ * Filters of a player search. Every filter is optional; a player matches when it passes all the
+ * filters that are set. Text filters match the whole value, ignoring case, and blank values count
+ * as not set. Year ranges are inclusive and may be open on either side.
+ *
+ * @param birthCountry country of birth
+ * @param birthState state of birth
+ * @param bats batting hand
+ * @param throwingHand throwing hand
+ * @param lastName last name
+ * @param debutFrom earliest debut year
+ * @param debutTo latest debut year
+ * @param finalGameFrom earliest year of the final game
+ * @param finalGameTo latest year of the final game
+ */
+public record PlayerSearchCriteria(
+    String birthCountry,
+    String birthState,
+    String bats,
+    String throwingHand,
+    String lastName,
+    Integer debutFrom,
+    Integer debutTo,
+    Integer finalGameFrom,
+    Integer finalGameTo) {}
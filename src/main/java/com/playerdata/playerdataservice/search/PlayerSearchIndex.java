@@ -0,0 +1,231 @@
+package com.playerdata.playerdataservice.search;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable secondary indexes over one load of players, built once so that searches never scan
+ * the whole dataset.
+ *
+ * <p>Players are numbered by their position in ID order and every index maps values to these
+ * ordinals:
+ *
+ * <ul>
+ *   <li>low-cardinality columns (birth country and state, batting and throwing hand) keep one
+ *       bitmap per distinct value;
+ *   <li>the last name, with thousands of distinct values, keeps a sorted array of ordinals per
+ *       value, which is far smaller than a bitmap per value;
+ *   <li>debut and final game dates keep all ordinals sorted by date, so a year range is two binary
+ *       searches and one contiguous run.
+ * </ul>
+ *
+ * A search intersects the bitmaps of the filters that are set and walks the result in ID order,
+ * which also makes keyset pagination by player ID free.
+ */
+public final class PlayerSearchIndex {
+
+  /** Index over no players. */
+  public static final PlayerSearchIndex EMPTY = build(List.of());
+
+  private final List<PlayerDTO> players;
+  private final String[] ids;
+  private final Map<String, BitSet> byBirthCountry;
+  private final Map<String, BitSet> byBirthState;
+  private final Map<String, BitSet> byBats;
+  private final Map<String, BitSet> byThrowingHand;
+  private final Map<String, int[]> byLastName;
+  private final DateIndex byDebut;
+  private final DateIndex byFinalGame;
+
+  private PlayerSearchIndex(List<PlayerDTO> players) {
+    this.players = players;
+    this.ids = players.stream().map(PlayerDTO::getPlayerId).toArray(String[]::new);
+    this.byBirthCountry = bitmaps(players, PlayerDTO::getBirthCountry);
+    this.byBirthState = bitmaps(players, PlayerDTO::getBirthState);
+    this.byBats = bitmaps(players, PlayerDTO::getBats);
+    this.byThrowingHand = bitmaps(players, PlayerDTO::getThrowingHand);
+    this.byLastName = postings(players, PlayerDTO::getLastName);
+    this.byDebut = DateIndex.build(players, PlayerDTO::getDebut);
+    this.byFinalGame = DateIndex.build(players, PlayerDTO::getFinalGame);
+  }
+
+  /**
+   * Builds the indexes over the given players.
+   *
+   * @param players players with distinct IDs, in any order
+   * @return the index
+   */
+  public static PlayerSearchIndex build(Collection<PlayerDTO> players) {
+    List<PlayerDTO> sorted = new ArrayList<>(players);
+    sorted.sort(Comparator.comparing(PlayerDTO::getPlayerId));
+    return new PlayerSearchIndex(List.copyOf(sorted));
+  }
+
+  /**
+   * Returns the number of indexed players.
+   *
+   * @return the number of players
+   */
+  public int size() {
+    return players.size();
+  }
+
+  /**
+   * Finds the players that match the criteria, ordered by ID.
+   *
+   * @param criteria filters to apply
+   * @param after ID of the last player of the previous page, or {@code null} for the first page
+   * @param limit maximum number of players to return
+   * @return up to {@code limit} matching players whose IDs sort after {@code after}
+   */
+  public List<PlayerDTO> search(PlayerSearchCriteria criteria, String after, int limit) {
+    BitSet matches = new BitSet(players.size());
+    matches.set(0, players.size());
+    and(matches, byBirthCountry, criteria.birthCountry());
+    and(matches, byBirthState, criteria.birthState());
+    and(matches, byBats, criteria.bats());
+    and(matches, byThrowingHand, criteria.throwingHand());
+    String lastName = key(criteria.lastName());
+    if (lastName != null) {
+      matches.and(toBitSet(byLastName.getOrDefault(lastName, new int[0])));
+    }
+    if (criteria.debutFrom() != null || criteria.debutTo() != null) {
+      matches.and(byDebut.select(criteria.debutFrom(), criteria.debutTo()));
+    }
+    if (criteria.finalGameFrom() != null || criteria.finalGameTo() != null) {
+      matches.and(byFinalGame.select(criteria.finalGameFrom(), criteria.finalGameTo()));
+    }
+
+    int from = 0;
+    if (after != null) {
+      int index = Arrays.binarySearch(ids, after);
+      from = index >= 0 ? index + 1 : -index - 1;
+    }
+    List<PlayerDTO> result = new ArrayList<>(Math.min(limit, matches.cardinality()));
+    for (int i = matches.nextSetBit(from);
+        i >= 0 && result.size() < limit;
+        i = matches.nextSetBit(i + 1)) {
+      result.add(players.get(i));
+    }
+    return result;
+  }
+
+  private static void and(BitSet matches, Map<String, BitSet> index, String value) {
+    String key = key(value);
+    if (key != null) {
+      BitSet bitmap = index.get(key);
+      if (bitmap == null) {
+        matches.clear();
+      } else {
+        matches.and(bitmap);
+      }
+    }
+  }
+
+  /** Normalizes a filter or column value, or returns {@code null} if it is blank. */
+  private static String key(String value) {
+    return value == null || value.isBlank() ? null : value.strip().toLowerCase(Locale.ROOT);
+  }
+
+  private static Map<String, BitSet> bitmaps(
+      List<PlayerDTO> players, Function<PlayerDTO, String> column) {
+    Map<String, BitSet> index = new HashMap<>();
+    for (int i = 0; i < players.size(); i++) {
+      String key = key(column.apply(players.get(i)));
+      if (key != null) {
+        index.computeIfAbsent(key, k -> new BitSet()).set(i);
+      }
+    }
+    return index;
+  }
+
+  private static Map<String, int[]> postings(
+      List<PlayerDTO> players, Function<PlayerDTO, String> column) {
+    Map<String, List<Integer>> lists = new HashMap<>();
+    for (int i = 0; i < players.size(); i++) {
+      String key = key(column.apply(players.get(i)));
+      if (key != null) {
+        lists.computeIfAbsent(key, k -> new ArrayList<>(1)).add(i);
+      }
+    }
+    // Ordinals were appended in ascending order, so every array is sorted
+    Map<String, int[]> index = new HashMap<>((int) (lists.size() / 0.75f) + 1);
+    lists.forEach((key, ordinals) -> index.put(key, ordinals.stream().mapToInt(i -> i).toArray()));
+    return index;
+  }
+
+  private static BitSet toBitSet(int[] ordinals) {
+    BitSet bitmap = new BitSet();
+    for (int ordinal : ordinals) {
+      bitmap.set(ordinal);
+    }
+    return bitmap;
+  }
+
+  /**
+   * Range index over one date column.
+   *
+   * @param epochDays dates of the players that have one, ascending
+   * @param ordinals ordinals of those players, in the same order
+   */
+  private record DateIndex(long[] epochDays, int[] ordinals) {
+
+    static DateIndex build(List<PlayerDTO> players, Function<PlayerDTO, LocalDate> column) {
+      Integer[] dated =
+          IntStream.range(0, players.size())
+              .filter(i -> column.apply(players.get(i)) != null)
+              .boxed()
+              .toArray(Integer[]::new);
+      Arrays.sort(dated, Comparator.comparing(i -> column.apply(players.get(i))));
+      long[] epochDays = new long[dated.length];
+      int[] ordinals = new int[dated.length];
+      for (int i = 0; i < dated.length; i++) {
+        ordinals[i] = dated[i];
+        epochDays[i] = column.apply(players.get(dated[i])).toEpochDay();
+      }
+      return new DateIndex(epochDays, ordinals);
+    }
+
+    /** Selects the players whose date falls within the given years, both inclusive. */
+    BitSet select(Integer fromYear, Integer toYear) {
+      int from = fromYear == null ? 0 : firstAtOrAfter(firstDay(fromYear));
+      int to = toYear == null ? epochDays.length : firstAtOrAfter(firstDay((long) toYear + 1));
+      BitSet bitmap = new BitSet();
+      for (int i = from; i < to; i++) {
+        bitmap.set(ordinals[i]);
+      }
+      return bitmap;
+    }
+
+    private static long firstDay(long year) {
+      return LocalDate.of((int) Math.clamp(year, Year.MIN_VALUE, Year.MAX_VALUE), 1, 1).toEpochDay();
+    }
+
+    private int firstAtOrAfter(long epochDay) {
+      int low = 0;
+      int high = epochDays.length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (epochDays[mid] < epochDay) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+  }
+}
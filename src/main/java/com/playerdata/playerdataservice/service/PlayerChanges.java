@@ -0,0 +1,35 @@
+package com.playerdata.playerdataservice.service;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+
+import java.util.List;
+
+/**
+ * Difference between the players being served and a newly read player file, as applied by {@link
+ * PlayerService#reloadPlayers()}. A player counts as updated when any of its fields changed.
+ *
+ * @param inserted players whose IDs were not loaded before, ordered by ID
+ * @param updated new content of the players whose content changed, ordered by ID
+ * @param deletedIds IDs of the players that are no longer in the file, ordered
+ */
+public record PlayerChanges(
+    List<PlayerDTO> inserted, List<PlayerDTO> updated, List<String> deletedIds) {
+
+  /**
+   * Indicates whether the reload changed nothing.
+   *
+   * @return {@code true} if no player was inserted, updated or deleted
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Returns the number of changed players.
+   *
+   * @return inserted, updated and deleted players together
+   */
+  public int size() {
+    return inserted.size() + updated.size() + deletedIds.size();
+  }
+}
@@ -1,64 +1,151 @@
 package com.playerdata.playerdataservice.service;
 
-import com.opencsv.CSVReader;
+import com.playerdata.playerdataservice.cache.PlayerLookupCache;
+import com.playerdata.playerdataservice.dto.PlayerBatchDTO;
+import com.playerdata.playerdataservice.dto.PlayerContent;
 import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.dto.PlayerPageDTO;
+import com.playerdata.playerdataservice.dto.PlayerSuggestionDTO;
+import com.playerdata.playerdataservice.exception.InvalidRequestException;
 import com.playerdata.playerdataservice.exception.PlayerNotFoundException;
-import com.playerdata.playerdataservice.model.Player;
-import com.playerdata.playerdataservice.repository.PlayerRepository;
+import com.playerdata.playerdataservice.ingest.PlayerBatchWriter;
+import com.playerdata.playerdataservice.ingest.PlayerIngestPipeline;
 import com.playerdata.playerdataservice.mapper.PlayerMapper;
-import com.playerdata.playerdataservice.util.ParsingUtils;
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validator;
+import com.playerdata.playerdataservice.model.Player;
+import com.playerdata.playerdataservice.search.PlayerIdFilter;
+import com.playerdata.playerdataservice.search.PlayerNameIndex;
+import com.playerdata.playerdataservice.search.PlayerSearchCriteria;
+import com.playerdata.playerdataservice.search.PlayerSearchIndex;
+import com.playerdata.playerdataservice.store.PlayerStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
 import javax.annotation.PostConstruct;
-import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
-/** Service class for managing player data. */
+/**
+ * Service class for managing player data.
+ *
+ * <p>Lookups by ID are timed in {@code player.lookup}, tagged {@code result=hit} or {@code
+ * result=miss}, and full listings in {@code player.list}.
+ *
+ * <p>Every load also builds a {@link PlayerIdFilter} over the loaded IDs. Lookups of IDs it rules
+ * out, single or batched, are answered as misses without asking the store. Lookups that pass the
+ * filter go through the {@link PlayerLookupCache}, if enabled, which every load and reload
+ * invalidates for the players it changed.
+ *
+ * <p>The player file can be reloaded while the application runs. A reload diffs the file against
+ * the served players by ID and content hash and only writes the inserted, updated and deleted
+ * players to the store and the listeners; it is timed in {@code player.reload} and its changes are
+ * counted in {@code player.reload.changes}, tagged with the {@code type} of change.
+ */
 @Service
 @Validated
 public class PlayerService {
 
+  /** Largest page size accepted by {@link #getPlayersPage(String, int)}. */
+  public static final int MAX_PAGE_SIZE = 1000;
+
+  /** Largest number of suggestions returned by {@link #autocompletePlayers(String, int, int)}. */
+  public static final int MAX_SUGGESTIONS = 50;
+
+  /** Number of IDs resolved per store lookup by {@link #forEachPlayerById}. */
+  public static final int BATCH_CHUNK_SIZE = 500;
+
+  /** Share of unknown IDs that the ID filter lets through to the store. */
+  static final double ID_FILTER_FALSE_POSITIVE_PROBABILITY = 0.01;
+
   private static final Logger logger = LoggerFactory.getLogger(PlayerService.class);
-  private final PlayerRepository playerRepository;
-  private final Validator validator;
+  private final PlayerStore playerStore;
+  private final PlayerIngestPipeline ingestPipeline;
+  private final PlayerLookupCache lookupCache;
+  private final List<PlayersLoadedListener> loadedListeners;
+  private final Timer lookupHits;
+  private final Timer lookupMisses;
+  private final Timer listTimer;
+  private final Timer reloadTimer;
+  private final Counter insertedCounter;
+  private final Counter updatedCounter;
+  private final Counter deletedCounter;
+  private final ReentrantLock reloadLock = new ReentrantLock();
+  private volatile View view =
+      new View(
+          List.of(),
+          Map.of(),
+          PlayerSearchIndex.EMPTY,
+          PlayerNameIndex.EMPTY,
+          PlayerIdFilter.ALLOW_ALL);
 
   /**
-   * Constructs a PlayerService with repository and validator.
+   * Constructs a PlayerService with store and ingest pipeline.
    *
-   * @param playerRepository repository for player data
-   * @param validator validator for player constraints
+   * @param playerStore storage backend for player data
+   * @param ingestPipeline pipeline that loads the player CSV file
+   * @param lookupCache read-through cache of lookups by ID
+   * @param loadedListeners beans to notify after each load
+   * @param meterRegistry registry the lookup timers are registered with
    */
-  public PlayerService(PlayerRepository playerRepository, Validator validator) {
-    this.playerRepository = playerRepository;
-    this.validator = validator;
+  public PlayerService(
+      PlayerStore playerStore,
+      PlayerIngestPipeline ingestPipeline,
+      PlayerLookupCache lookupCache,
+      List<PlayersLoadedListener> loadedListeners,
+      MeterRegistry meterRegistry) {
+    this.playerStore = playerStore;
+    this.ingestPipeline = ingestPipeline;
+    this.lookupCache = lookupCache;
+    this.loadedListeners = loadedListeners;
+    this.lookupHits = lookupTimer(meterRegistry, "hit");
+    this.lookupMisses = lookupTimer(meterRegistry, "miss");
+    this.listTimer =
+        Timer.builder("player.list")
+            .description("Time to retrieve all players")
+            .register(meterRegistry);
+    this.reloadTimer =
+        Timer.builder("player.reload")
+            .description("Time to reload the player file and apply its changes")
+            .register(meterRegistry);
+    this.insertedCounter = changeCounter(meterRegistry, "inserted");
+    this.updatedCounter = changeCounter(meterRegistry, "updated");
+    this.deletedCounter = changeCounter(meterRegistry, "deleted");
   }
 
   /**
-   * Loads players from a CSV file into the database.
+   * Loads players from a CSV file into the player store, then builds the search and autocomplete
+   * indexes and the ID filter over the loaded players and notifies the {@link
+   * PlayersLoadedListener}s.
    *
    * @throws Exception if an error occurs during loading
    */
   @PostConstruct
-  @Transactional
   public void loadPlayers() throws Exception {
-    try (CSVReader csvReader = new CSVReader(new FileReader("./player.csv"))) {
-      String[] values;
-      csvReader.readNext(); // Skip header
-      while ((values = csvReader.readNext()) != null) {
-        Player player = parsePlayer(values);
-        if (isValidPlayer(player)) {
-          playerRepository.save(player);
-        }
+    try {
+      ingestPipeline.ingest(playerStore.newWriter());
+      List<PlayerDTO> players = new ArrayList<>();
+      playerStore.forEach(players::add);
+      Map<String, Long> contentHashes = new HashMap<>((int) (players.size() / 0.75f) + 1);
+      for (PlayerDTO player : players) {
+        contentHashes.put(player.getPlayerId(), PlayerContent.hash(player));
       }
+      // Nothing is served before the first load, so the store needs no separate commit step
+      publish(players, contentHashes, null, () -> {});
     } catch (Exception e) {
       logger.error("Error loading players", e);
       throw new Exception("Failed to load player data", e);
@@ -66,67 +153,239 @@ public class PlayerService {
   }
 
   /**
-   * Validates a player entity.
+   * Reads the player file again and applies only what changed since the last load or reload.
+   * Every accepted row is compared with the served player of the same ID by a hash of its content;
+   * the store then receives just the inserted, updated and deleted players, and the listeners are
+   * notified with the same changes. Requests in flight are never blocked: the indexes and the
+   * listener data of the new players are prepared while the previous ones are served, then the
+   * store applies the changes and every view is published right after it, bodies before
+   * validators (see {@link PlayersLoadedListener}). The views are separate references, so they are
+   * not swapped as one, but nothing is computed between the swaps. Concurrent reloads run one at a
+   * time.
    *
-   * @param player player entity to validate
-   * @return true if valid, false otherwise
+   * @return the applied changes, empty if the file holds the players already served
+   * @throws Exception if the file cannot be loaded; the served players are then left as they were
    */
-  private boolean isValidPlayer(Player player) {
-    Set<ConstraintViolation<Player>> violations = validator.validate(player);
-    if (!violations.isEmpty()) {
-      String errors =
-          violations.stream()
-              .map(ConstraintViolation::getMessage)
-              .collect(Collectors.joining(", "));
-      logger.warn("{}: Skipping player due to validation errors: {}", player.getPlayerId(), errors);
-      return false;
+  public PlayerChanges reloadPlayers() throws Exception {
+    reloadLock.lock();
+    try {
+      long start = System.nanoTime();
+      View current = view;
+      Map<String, Long> contentHashes =
+          new HashMap<>((int) (current.contentHashes().size() / 0.75f) + 1);
+      Map<String, Player> inserted = new LinkedHashMap<>();
+      Map<String, Player> updated = new LinkedHashMap<>();
+      Map<String, PlayerDTO> changed = new HashMap<>();
+      Consumer<Player> compare =
+          player -> {
+            PlayerDTO dto = PlayerMapper.INSTANCE.toDTO(player);
+            long hash = PlayerContent.hash(dto);
+            Long before = current.contentHashes().get(player.getPlayerId());
+            contentHashes.put(player.getPlayerId(), hash);
+            if (before == null || before != hash) {
+              (before == null ? inserted : updated).put(player.getPlayerId(), player);
+              changed.put(player.getPlayerId(), dto);
+            }
+          };
+      ingestPipeline.ingest(
+          new PlayerBatchWriter() {
+            @Override
+            public void write(List<Player> batch) {
+              batch.forEach(compare);
+            }
+
+            @Override
+            public void replace(List<Player> players) {
+              // The last row of a repeated ID is compared as if the earlier one had not been read
+              for (Player player : players) {
+                inserted.remove(player.getPlayerId());
+                updated.remove(player.getPlayerId());
+                changed.remove(player.getPlayerId());
+                compare.accept(player);
+              }
+            }
+          });
+      List<Player> insertedPlayers = new ArrayList<>(inserted.values());
+      List<Player> updatedPlayers = new ArrayList<>(updated.values());
+      List<String> deletedIds = new ArrayList<>();
+      for (String playerId : current.contentHashes().keySet()) {
+        if (!contentHashes.containsKey(playerId)) {
+          deletedIds.add(playerId);
+        }
+      }
+      PlayerChanges changes =
+          new PlayerChanges(
+              sortedDTOs(insertedPlayers, changed),
+              sortedDTOs(updatedPlayers, changed),
+              deletedIds.stream().sorted().toList());
+      if (!changes.isEmpty()) {
+        publish(
+            merge(current.players(), changes),
+            contentHashes,
+            changes,
+            () -> playerStore.applyChanges(insertedPlayers, updatedPlayers, deletedIds));
+      }
+      insertedCounter.increment(changes.inserted().size());
+      updatedCounter.increment(changes.updated().size());
+      deletedCounter.increment(changes.deletedIds().size());
+      long elapsed = System.nanoTime() - start;
+      reloadTimer.record(elapsed, TimeUnit.NANOSECONDS);
+      logger.info(
+          "Reloaded players: {} inserted, {} updated, {} deleted in {} ms",
+          changes.inserted().size(),
+          changes.updated().size(),
+          changes.deletedIds().size(),
+          elapsed / 1_000_000);
+      return changes;
+    } catch (Exception e) {
+      logger.error("Error reloading players", e);
+      throw new Exception("Failed to reload player data", e);
+    } finally {
+      reloadLock.unlock();
     }
-    return true;
   }
 
   /**
-   * Parses CSV values into a Player entity.
+   * Retrieves all players as DTOs.
    *
-   * @param values CSV values
-   * @return Player entity
+   * @return list of PlayerDTOs
    */
-  private Player parsePlayer(String[] values) {
-    return new Player(
-        values[0],
-        ParsingUtils.parseInteger(values[1]),
-        ParsingUtils.parseInteger(values[2]),
-        ParsingUtils.parseInteger(values[3]),
-        values[4],
-        values[5],
-        values[6],
-        ParsingUtils.parseNullableInteger(values[7]),
-        ParsingUtils.parseNullableInteger(values[8]),
-        ParsingUtils.parseNullableInteger(values[9]),
-        values[10],
-        values[11],
-        values[12],
-        values[13],
-        values[14],
-        values[15],
-        ParsingUtils.parseInteger(values[16]),
-        ParsingUtils.parseInteger(values[17]),
-        values[18],
-        values[19],
-        ParsingUtils.parseLocalDate(values[20]),
-        ParsingUtils.parseLocalDate(values[21]),
-        values[22],
-        values[23]);
+  public List<PlayerDTO> getAllPlayers() {
+    return listTimer.record(() -> playerStore.findAll());
   }
 
   /**
-   * Retrieves all players as DTOs.
+   * Retrieves one page of players ordered by ID.
    *
-   * @return list of PlayerDTOs
+   * @param after ID of the last player of the previous page, or {@code null} for the first page
+   * @param limit maximum number of players in the page, from 1 to {@link #MAX_PAGE_SIZE}
+   * @return the page, with a cursor for the next page if there are more players
+   * @throws InvalidRequestException if the limit is out of range
    */
-  public List<PlayerDTO> getAllPlayers() {
-    return playerRepository.findAll().stream()
-        .map(PlayerMapper.INSTANCE::toDTO)
-        .collect(Collectors.toList());
+  public PlayerPageDTO getPlayersPage(String after, int limit) throws InvalidRequestException {
+    checkLimit(limit);
+    // Fetch one extra row to tell whether another page follows
+    return toPage(playerStore.findPage(after, limit + 1), limit);
+  }
+
+  /**
+   * Searches players through the secondary indexes built at load time, one page at a time.
+   *
+   * @param criteria filters to apply
+   * @param after ID of the last player of the previous page, or {@code null} for the first page
+   * @param limit maximum number of players in the page, from 1 to {@link #MAX_PAGE_SIZE}
+   * @return the matching players ordered by ID, with a cursor for the next page if there are more
+   * @throws InvalidRequestException if the limit is out of range
+   */
+  public PlayerPageDTO searchPlayers(PlayerSearchCriteria criteria, String after, int limit)
+      throws InvalidRequestException {
+    checkLimit(limit);
+    return toPage(view.searchIndex().search(criteria, after, limit + 1), limit);
+  }
+
+  /**
+   * Suggests players whose first, last or given names start with the words typed so far, ignoring
+   * case and accents. Served from the name index built at load time, never from the store.
+   *
+   * @param query one or more name words, the last of which may be incomplete
+   * @param fuzziness number of typos tolerated per word, from 0 to {@link PlayerNameIndex#MAX_EDITS}
+   * @param limit maximum number of suggestions, from 1 to {@link #MAX_SUGGESTIONS}
+   * @return suggestions, best match first
+   * @throws InvalidRequestException if a parameter is out of range
+   */
+  public List<PlayerSuggestionDTO> autocompletePlayers(String query, int fuzziness, int limit)
+      throws InvalidRequestException {
+    if (limit < 1 || limit > MAX_SUGGESTIONS) {
+      throw new InvalidRequestException("limit must be between 1 and " + MAX_SUGGESTIONS);
+    }
+    if (fuzziness < 0 || fuzziness > PlayerNameIndex.MAX_EDITS) {
+      throw new InvalidRequestException(
+          "fuzziness must be between 0 and " + PlayerNameIndex.MAX_EDITS);
+    }
+    if (query.length() > PlayerNameIndex.MAX_WORD_LENGTH * 4) {
+      throw new InvalidRequestException("q is too long");
+    }
+    try {
+      return view.nameIndex().complete(query, fuzziness, limit).stream()
+          .map(
+              player ->
+                  new PlayerSuggestionDTO(
+                      player.getPlayerId(),
+                      player.getFirstName(),
+                      player.getLastName(),
+                      player.getGivenName()))
+          .toList();
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequestException(e.getMessage());
+    }
+  }
+
+  /**
+   * Looks up several players at once.
+   *
+   * @param playerIds IDs of the players; duplicates are resolved once
+   * @return the players found and the IDs without a player, both in request order
+   */
+  public PlayerBatchDTO getPlayersByIds(List<String> playerIds) {
+    List<PlayerDTO> players = new ArrayList<>(playerIds.size());
+    List<String> missingIds = new ArrayList<>();
+    forEachPlayerById(playerIds, players::add, missingIds::add);
+    return new PlayerBatchDTO(players, missingIds);
+  }
+
+  /**
+   * Looks up several players and passes each result on as soon as its chunk is resolved, so a
+   * large batch can be written out without holding all of its players. The IDs are resolved {@link
+   * #BATCH_CHUNK_SIZE} at a time with one store lookup per chunk instead of one per ID, leaving out
+   * the IDs that the ID filter rules out and those cached on the heap. Players loaded for a batch
+   * are not added to the cache.
+   *
+   * @param playerIds IDs of the players, none of them {@code null}; duplicates are resolved once
+   * @param found callback invoked for each player found, in request order
+   * @param missing callback invoked for each ID without a player, in request order
+   */
+  public void forEachPlayerById(
+      List<String> playerIds, Consumer<? super PlayerDTO> found, Consumer<String> missing) {
+    List<String> distinct = new ArrayList<>(new LinkedHashSet<>(playerIds));
+    PlayerIdFilter filter = view.idFilter();
+    for (int from = 0; from < distinct.size(); from += BATCH_CHUNK_SIZE) {
+      int to = Math.min(from + BATCH_CHUNK_SIZE, distinct.size());
+      List<String> chunk = distinct.subList(from, to);
+      List<String> candidates = new ArrayList<>(chunk.size());
+      for (String playerId : chunk) {
+        if (filter.mightContain(playerId)) {
+          candidates.add(playerId);
+        }
+      }
+      Map<String, PlayerDTO> byId = new HashMap<>((int) (candidates.size() / 0.75f) + 1);
+      Map<String, Optional<PlayerDTO>> cached = lookupCache.getAllPresent(candidates);
+      cached.forEach((playerId, player) -> player.ifPresent(p -> byId.put(playerId, p)));
+      if (!cached.isEmpty()) {
+        candidates.removeIf(cached::containsKey);
+      }
+      if (!candidates.isEmpty()) {
+        for (PlayerDTO player : playerStore.findAllById(candidates)) {
+          byId.put(player.getPlayerId(), player);
+        }
+      }
+      for (String playerId : chunk) {
+        PlayerDTO player = byId.get(playerId);
+        if (player != null) {
+          found.accept(player);
+        } else {
+          missing.accept(playerId);
+        }
+      }
+    }
+  }
+
+  /**
+   * Passes every player, ordered by ID, to the given action without building the full list.
+   *
+   * @param action callback invoked once per player
+   */
+  public void forEachPlayer(Consumer<? super PlayerDTO> action) {
+    playerStore.forEach(action);
   }
 
   /**
@@ -137,9 +396,146 @@ public class PlayerService {
    * @throws PlayerNotFoundException if the player is not found
    */
   public PlayerDTO getPlayerDTOById(String playerId) throws PlayerNotFoundException {
-    return playerRepository.findById(playerId)
-            .map(PlayerMapper.INSTANCE::toDTO)
-            .orElseThrow(() -> new PlayerNotFoundException("Player with ID " + playerId + " not found"));
+    return findPlayerDTOById(playerId).orElseThrow(() -> PlayerNotFoundException.forId(playerId));
+  }
+
+  /**
+   * Looks up a player by ID without treating a miss as an error, for callers that answer misses
+   * themselves. IDs ruled out by the ID filter are not looked up in the cache or the store.
+   *
+   * @param playerId ID of the player
+   * @return the player, or empty if there is no player with that ID
+   */
+  public Optional<PlayerDTO> findPlayerDTOById(String playerId) {
+    long start = System.nanoTime();
+    Optional<PlayerDTO> player =
+        view.idFilter().mightContain(playerId)
+            ? lookupCache.get(playerId, playerStore::findById)
+            : Optional.empty();
+    (player.isPresent() ? lookupHits : lookupMisses)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return player;
+  }
+
+  /**
+   * Builds the indexes and the ID filter over the given players and has every listener prepare its
+   * data, all while the previous players are served. Then commits the store, invalidates the cached
+   * lookups of the changed players and publishes the new views back to back: the service's own
+   * view in one reference, then the listeners' data in listener order.
+   *
+   * @param players every player, sorted by ID
+   * @param contentHashes content hash of every player, by ID
+   * @param changes changes of a reload, or {@code null} after a full load
+   * @param storeCommit applies the changes to the store
+   */
+  private void publish(
+      List<PlayerDTO> players,
+      Map<String, Long> contentHashes,
+      PlayerChanges changes,
+      Runnable storeCommit) {
+    List<PlayerDTO> served = Collections.unmodifiableList(players);
+    View prepared =
+        new View(
+            served,
+            contentHashes,
+            PlayerSearchIndex.build(players),
+            PlayerNameIndex.build(players),
+            PlayerIdFilter.build(
+                players.stream().map(PlayerDTO::getPlayerId).toList(),
+                ID_FILTER_FALSE_POSITIVE_PROBABILITY));
+    List<Runnable> publications = new ArrayList<>(loadedListeners.size());
+    for (PlayersLoadedListener listener : loadedListeners) {
+      publications.add(
+          changes == null
+              ? listener.prepareLoad(served)
+              : listener.prepareChanges(served, changes));
+    }
+
+    storeCommit.run();
+    if (changes == null) {
+      lookupCache.invalidateAll();
+    } else {
+      List<String> changedIds = new ArrayList<>(changes.deletedIds());
+      changes.inserted().forEach(player -> changedIds.add(player.getPlayerId()));
+      changes.updated().forEach(player -> changedIds.add(player.getPlayerId()));
+      lookupCache.invalidate(changedIds);
+    }
+    view = prepared;
+    publications.forEach(Runnable::run);
   }
 
+  /** Applies the changes of a reload to a copy of the sorted player list. */
+  private static List<PlayerDTO> merge(List<PlayerDTO> players, PlayerChanges changes) {
+    Map<String, PlayerDTO> updated = new HashMap<>();
+    changes.updated().forEach(player -> updated.put(player.getPlayerId(), player));
+    Set<String> deletedIds = Set.copyOf(changes.deletedIds());
+    List<PlayerDTO> merged = new ArrayList<>(players.size() + changes.inserted().size());
+    for (PlayerDTO player : players) {
+      if (!deletedIds.contains(player.getPlayerId())) {
+        merged.add(updated.getOrDefault(player.getPlayerId(), player));
+      }
+    }
+    merged.addAll(changes.inserted());
+    merged.sort(Comparator.comparing(PlayerDTO::getPlayerId));
+    return merged;
+  }
+
+  private static List<PlayerDTO> sortedDTOs(List<Player> players, Map<String, PlayerDTO> dtos) {
+    return players.stream()
+        .map(player -> dtos.get(player.getPlayerId()))
+        .sorted(Comparator.comparing(PlayerDTO::getPlayerId))
+        .toList();
+  }
+
+  private static Counter changeCounter(MeterRegistry meterRegistry, String type) {
+    return Counter.builder("player.reload.changes")
+        .description("Players changed by reloads of the player file")
+        .tag("type", type)
+        .register(meterRegistry);
+  }
+
+  private static Timer lookupTimer(MeterRegistry meterRegistry, String result) {
+    return Timer.builder("player.lookup")
+        .description("Time to look up a player by ID")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Checks the size of a page of players, for callers that must reject it before doing any other
+   * work, such as evaluating conditional request headers.
+   *
+   * @param limit maximum number of players in the page
+   * @throws InvalidRequestException if the limit is not from 1 to {@link #MAX_PAGE_SIZE}
+   */
+  public static void checkLimit(int limit) throws InvalidRequestException {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+    }
+  }
+
+  /** Turns up to {@code limit + 1} players into a page of at most {@code limit}. */
+  private static PlayerPageDTO toPage(List<PlayerDTO> players, int limit) {
+    if (players.size() <= limit) {
+      return new PlayerPageDTO(players, null);
+    }
+    List<PlayerDTO> page = players.subList(0, limit);
+    return new PlayerPageDTO(page, page.get(limit - 1).getPlayerId());
+  }
+
+  /**
+   * The players being served and what the service derives from them, published as one.
+   *
+   * @param players every player, sorted by ID
+   * @param contentHashes content hash of every player, by ID
+   * @param searchIndex secondary indexes of the players
+   * @param nameIndex autocomplete index of the players' names
+   * @param idFilter filter of the IDs of the players
+   */
+  private record View(
+      List<PlayerDTO> players,
+      Map<String, Long> contentHashes,
+      PlayerSearchIndex searchIndex,
+      PlayerNameIndex nameIndex,
+      PlayerIdFilter idFilter) {}
 }
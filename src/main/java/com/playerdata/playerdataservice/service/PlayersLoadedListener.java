@@ -0,0 +1,51 @@
+package com.playerdata.playerdataservice.service;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+
+import java.util.List;
+
+/**
+ * Callback for beans that derive their own read-only data from the loaded players, such as
+ * precomputed responses. {@link PlayerService} notifies every such bean after each successful
+ * load, before the application starts serving requests, and again after every reload that changed
+ * players.
+ *
+ * <p>Notification has two phases. Each listener first prepares its data for the new players while
+ * the previous data is still served, and returns a step that publishes it. Once every listener has
+ * prepared, and the store holds the changes, the service runs the publishing steps back to back in
+ * {@link org.springframework.core.annotation.Order} order. Publishing should be no more than a
+ * write of a volatile reference.
+ *
+ * <p>Listeners that serve response bodies are ordered {@link #BODY_ORDER}, before those that serve
+ * HTTP validators at {@link #VALIDATOR_ORDER}. The controller reads a validator before the body, so
+ * a response can never pair the body of the previous load with the validator of the new one.
+ */
+public interface PlayersLoadedListener {
+
+  /** Order of listeners whose data ends up in response bodies. */
+  int BODY_ORDER = 0;
+
+  /** Order of listeners whose data ends up in validators, published after every body. */
+  int VALIDATOR_ORDER = 100;
+
+  /**
+   * Prepares the data of a full load without publishing it.
+   *
+   * @param players every loaded player, ordered by ID; the list and its DTOs must not be modified
+   * @return the step that publishes the prepared data
+   */
+  Runnable prepareLoad(List<PlayerDTO> players);
+
+  /**
+   * Prepares the data of a reload without publishing it. Implementations that can update their
+   * data in place should only redo the work for the changed players; by default everything is
+   * derived again as for a full load.
+   *
+   * @param players every player after the reload, ordered by ID; must not be modified
+   * @param changes the players inserted, updated and deleted by the reload, never empty
+   * @return the step that publishes the prepared data
+   */
+  default Runnable prepareChanges(List<PlayerDTO> players, PlayerChanges changes) {
+    return prepareLoad(players);
+  }
+}
@@ -0,0 +1,245 @@
+package com.playerdata.playerdataservice.stats;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.dto.PlayerStatsDTO;
+import com.playerdata.playerdataservice.dto.PlayerStatsGroupDTO;
+import com.playerdata.playerdataservice.exception.InvalidRequestException;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.service.PlayersLoadedListener;
+import com.playerdata.playerdataservice.store.ColumnarPlayerStore;
+import com.playerdata.playerdataservice.store.IntColumn;
+import com.playerdata.playerdataservice.store.PlayerColumns;
+import com.playerdata.playerdataservice.store.PlayerStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group-by statistics over all loaded players, such as the number of players per birth country or
+ * the average height by batting hand.
+ *
+ * <p>Every load is held as {@link PlayerColumns}: the columns of the {@link ColumnarPlayerStore}
+ * when that is the store, otherwise columns built from the loaded players. A query is answered by
+ * a fork-join scan over the primitive columns ({@link StatsScan}) on the common pool. Results are
+ * cached per load, since they cannot change until the next one.
+ */
+@Service
+@Order(PlayersLoadedListener.BODY_ORDER)
+public class PlayerStats implements PlayersLoadedListener {
+
+  /** Largest number of groups a query may produce, counting every combination of keys. */
+  public static final int MAX_GROUPS = 16_384;
+
+  /** Largest number of results cached per load. */
+  static final int MAX_CACHED_RESULTS = 256;
+
+  private static final Logger logger = LoggerFactory.getLogger(PlayerStats.class);
+
+  private static final Comparator<Object> KEY_ORDER =
+      Comparator.nullsFirst(
+          (left, right) -> {
+            @SuppressWarnings("unchecked")
+            Comparable<Object> comparable = (Comparable<Object>) left;
+            return comparable.compareTo(right);
+          });
+
+  private final PlayerStore playerStore;
+  private final Timer computed;
+  private final Timer cached;
+  private volatile Load load = new Load(StatsDataset.of(PlayerColumns.EMPTY));
+
+  /**
+   * Constructs a PlayerStats.
+   *
+   * @param playerStore store whose columns are reused when it keeps them
+   * @param meterRegistry registry the query timers are registered with
+   */
+  public PlayerStats(PlayerStore playerStore, MeterRegistry meterRegistry) {
+    this.playerStore = playerStore;
+    this.computed = queryTimer(meterRegistry, "computed");
+    this.cached = queryTimer(meterRegistry, "cached");
+  }
+
+  @Override
+  public Runnable prepareLoad(List<PlayerDTO> players) {
+    if (playerStore instanceof ColumnarPlayerStore columnar) {
+      // The store's columns only hold the new players once the store has been updated, which
+      // happens before publishing; deriving the dataset from them takes a few milliseconds
+      return () -> load = prepare(columnar.columns());
+    }
+    Load prepared =
+        prepare(PlayerColumns.of(players.stream().map(PlayerMapper.INSTANCE::toEntity).toList()));
+    return () -> load = prepared;
+  }
+
+  private Load prepare(PlayerColumns columns) {
+    long start = System.nanoTime();
+    Load prepared = new Load(StatsDataset.of(columns));
+    logger.info(
+        "Prepared statistics over {} players in {} ms",
+        columns.size(),
+        (System.nanoTime() - start) / 1_000_000);
+    return prepared;
+  }
+
+  /**
+   * Computes statistics over all loaded players.
+   *
+   * @param query fields to group by and metrics to compute
+   * @return one entry per group with players, ordered by key
+   * @throws InvalidRequestException if the grouped fields have more than {@link #MAX_GROUPS}
+   *     combinations of values
+   */
+  public PlayerStatsDTO compute(PlayerStatsQuery query) {
+    long start = System.nanoTime();
+    Load current = load;
+    PlayerStatsDTO result = current.results.get(query);
+    if (result != null) {
+      cached.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return result;
+    }
+    result = scan(current.dataset, query);
+    if (current.results.size() < MAX_CACHED_RESULTS) {
+      current.results.putIfAbsent(query, result);
+    }
+    computed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return result;
+  }
+
+  private PlayerStatsDTO scan(StatsDataset dataset, PlayerStatsQuery query) {
+    List<StatsField> groupBy = query.groupBy();
+    StatsDataset.GroupKeys[] fieldKeys = new StatsDataset.GroupKeys[groupBy.size()];
+    long groups = 1;
+    for (int field = 0; field < fieldKeys.length; field++) {
+      fieldKeys[field] = dataset.keys(groupBy.get(field));
+      groups *= fieldKeys[field].cardinality();
+      if (groups > MAX_GROUPS) {
+        throw new InvalidRequestException(
+            "Grouping by "
+                + groupBy.stream().map(StatsField::fieldName).toList()
+                + " gives more than "
+                + MAX_GROUPS
+                + " groups");
+      }
+    }
+    int[][] keys = new int[fieldKeys.length][];
+    int[] strides = new int[fieldKeys.length];
+    int stride = 1;
+    for (int field = fieldKeys.length - 1; field >= 0; field--) {
+      keys[field] = fieldKeys[field].codes();
+      strides[field] = stride;
+      stride *= (int) fieldKeys[field].cardinality();
+    }
+
+    List<StatsField> measured = new ArrayList<>();
+    for (StatsMetric metric : query.metrics()) {
+      if (metric.field() != null && !measured.contains(metric.field())) {
+        measured.add(metric.field());
+      }
+    }
+    IntColumn[] measures = new IntColumn[measured.size()];
+    for (int measure = 0; measure < measures.length; measure++) {
+      measures[measure] = measured.get(measure).ints(dataset);
+    }
+
+    StatsScan.Totals totals =
+        StatsScan.run(
+            ForkJoinPool.commonPool(), keys, strides, measures, (int) groups, dataset.size());
+
+    List<Group> found = new ArrayList<>();
+    for (int group = 0; group < groups; group++) {
+      if (totals.players[group] == 0) {
+        continue;
+      }
+      Object[] key = new Object[fieldKeys.length];
+      for (int field = 0; field < key.length; field++) {
+        int code = group / strides[field] % (int) fieldKeys[field].cardinality();
+        key[field] = fieldKeys[field].values().apply(code);
+      }
+      found.add(new Group(group, key));
+    }
+    found.sort(Group::compareTo);
+
+    List<PlayerStatsGroupDTO> entries = new ArrayList<>(found.size());
+    for (Group group : found) {
+      Map<String, Object> key = new LinkedHashMap<>();
+      for (int field = 0; field < group.key.length; field++) {
+        key.put(groupBy.get(field).fieldName(), group.key[field]);
+      }
+      Map<String, Number> metrics = new LinkedHashMap<>();
+      for (StatsMetric metric : query.metrics()) {
+        metrics.put(
+            metric.metricName(),
+            value(totals, metric, measured.indexOf(metric.field()), group.index));
+      }
+      entries.add(new PlayerStatsGroupDTO(key, totals.players[group.index], metrics));
+    }
+    return new PlayerStatsDTO(
+        groupBy.stream().map(StatsField::fieldName).toList(),
+        query.metrics().stream().map(StatsMetric::metricName).toList(),
+        dataset.size(),
+        entries);
+  }
+
+  private static Number value(StatsScan.Totals totals, StatsMetric metric, int measure, int group) {
+    if (metric.field() == null) {
+      return totals.players[group];
+    }
+    long count = totals.counts[measure][group];
+    if (metric.function() == StatsFunction.COUNT) {
+      return count;
+    }
+    if (count == 0) {
+      return null;
+    }
+    return switch (metric.function()) {
+      case SUM -> totals.sums[measure][group];
+      case AVG -> (double) totals.sums[measure][group] / count;
+      case MIN -> (int) totals.mins[measure][group];
+      case MAX -> (int) totals.maxs[measure][group];
+      case COUNT -> count;
+    };
+  }
+
+  private static Timer queryTimer(MeterRegistry meterRegistry, String result) {
+    return Timer.builder("player.stats")
+        .description("Time to answer a statistics query")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /** A group with players: its index in the totals and the value of every grouped field. */
+  private record Group(int index, Object[] key) implements Comparable<Group> {
+
+    @Override
+    public int compareTo(Group other) {
+      for (int field = 0; field < key.length; field++) {
+        int order = KEY_ORDER.compare(key[field], other.key[field]);
+        if (order != 0) {
+          return order;
+        }
+      }
+      return 0;
+    }
+  }
+
+  /** Dataset of one load, with the results computed over it so far. */
+  private record Load(StatsDataset dataset, Map<PlayerStatsQuery, PlayerStatsDTO> results) {
+
+    Load(StatsDataset dataset) {
+      this(dataset, new ConcurrentHashMap<>());
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.playerdata.playerdataservice.stats;
+
+import com.playerdata.playerdataservice.exception.InvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Statistics request: the fields to group the players by, and the metrics to compute for every
+ * group. Without fields to group by, the whole dataset forms a single group.
+ *
+ * @param groupBy fields to group by, in the order of the group keys
+ * @param metrics metrics to compute, in the order of the response
+ */
+public record PlayerStatsQuery(List<StatsField> groupBy, List<StatsMetric> metrics) {
+
+  /** Largest number of fields to group by. */
+  public static final int MAX_GROUP_BY = 3;
+
+  /** Largest number of metrics per request. */
+  public static final int MAX_METRICS = 10;
+
+  /**
+   * Constructs a PlayerStatsQuery, copying both lists.
+   *
+   * @param groupBy fields to group by
+   * @param metrics metrics to compute
+   */
+  public PlayerStatsQuery {
+    groupBy = List.copyOf(groupBy);
+    metrics = List.copyOf(metrics);
+  }
+
+  /**
+   * Parses the request parameters of a statistics request.
+   *
+   * @param groupBy names of the fields to group by; blank names are ignored
+   * @param metrics metrics such as {@code count} or {@code avg:height}; blank metrics are ignored
+   *     and no metric at all means {@code count}
+   * @return the parsed query
+   * @throws InvalidRequestException if a field or metric is unknown, a field is repeated, or there
+   *     are too many of either
+   */
+  public static PlayerStatsQuery parse(List<String> groupBy, List<String> metrics) {
+    List<StatsField> fields = new ArrayList<>();
+    for (String fieldName : groupBy) {
+      if (fieldName.isBlank()) {
+        continue;
+      }
+      StatsField field = StatsField.of(fieldName.trim());
+      if (field == null) {
+        throw new InvalidRequestException(
+            "Cannot group by '" + fieldName.trim() + "'; fields are " + StatsField.names(false));
+      }
+      if (fields.contains(field)) {
+        throw new InvalidRequestException("Cannot group by '" + fieldName.trim() + "' twice");
+      }
+      fields.add(field);
+    }
+    if (fields.size() > MAX_GROUP_BY) {
+      throw new InvalidRequestException(
+          "Cannot group by more than " + MAX_GROUP_BY + " fields at once");
+    }
+    List<StatsMetric> parsed = new ArrayList<>();
+    for (String metric : metrics) {
+      if (!metric.isBlank()) {
+        parsed.add(StatsMetric.parse(metric));
+      }
+    }
+    if (parsed.isEmpty()) {
+      parsed.add(StatsMetric.COUNT);
+    }
+    if (parsed.size() > MAX_METRICS) {
+      throw new InvalidRequestException(
+          "Cannot compute more than " + MAX_METRICS + " metrics at once");
+    }
+    return new PlayerStatsQuery(fields, parsed);
+  }
+
+  /**
+   * Returns the query in a canonical form, which identifies its result within one load.
+   *
+   * @return the query as request parameters, such as {@code groupBy=bats&metrics=count,avg:height}
+   */
+  public String canonical() {
+    return "groupBy="
+        + groupBy.stream().map(StatsField::fieldName).collect(Collectors.joining(","))
+        + "&metrics="
+        + metrics.stream().map(StatsMetric::metricName).collect(Collectors.joining(","));
+  }
+}
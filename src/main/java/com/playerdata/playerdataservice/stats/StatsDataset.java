@@ -0,0 +1,126 @@
+package com.playerdata.playerdataservice.stats;
+
+import com.playerdata.playerdataservice.store.IntColumn;
+import com.playerdata.playerdataservice.store.PlayerColumns;
+import com.playerdata.playerdataservice.store.StringColumn;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Columns of one load, with the derived columns the statistics need and the group keys of every
+ * field grouped by so far.
+ *
+ * @param columns stored columns
+ * @param debutYear year of the debut
+ * @param finalGameYear year of the final game
+ * @param careerDays days from debut to final game
+ * @param careerYears whole years from debut to final game
+ * @param keys group keys by field, filled on first use
+ */
+record StatsDataset(
+    PlayerColumns columns,
+    IntColumn debutYear,
+    IntColumn finalGameYear,
+    IntColumn careerDays,
+    IntColumn careerYears,
+    Map<StatsField, GroupKeys> keys) {
+
+  /** Derives the columns of a load. */
+  static StatsDataset of(PlayerColumns columns) {
+    int rows = columns.size();
+    int[] debutYears = new int[rows];
+    int[] finalGameYears = new int[rows];
+    int[] careerDays = new int[rows];
+    int[] careerYears = new int[rows];
+    BitSet noDebut = new BitSet(rows);
+    BitSet noFinalGame = new BitSet(rows);
+    BitSet noCareer = new BitSet(rows);
+    for (int row = 0; row < rows; row++) {
+      LocalDate debut = date(columns.debut(), row);
+      LocalDate finalGame = date(columns.finalGame(), row);
+      if (debut == null) {
+        noDebut.set(row);
+      } else {
+        debutYears[row] = debut.getYear();
+      }
+      if (finalGame == null) {
+        noFinalGame.set(row);
+      } else {
+        finalGameYears[row] = finalGame.getYear();
+      }
+      if (debut == null || finalGame == null) {
+        noCareer.set(row);
+      } else {
+        careerDays[row] = (int) ChronoUnit.DAYS.between(debut, finalGame);
+        careerYears[row] = (int) ChronoUnit.YEARS.between(debut, finalGame);
+      }
+    }
+    return new StatsDataset(
+        columns,
+        new IntColumn(debutYears, noDebut),
+        new IntColumn(finalGameYears, noFinalGame),
+        new IntColumn(careerDays, noCareer),
+        new IntColumn(careerYears, (BitSet) noCareer.clone()),
+        new ConcurrentHashMap<>());
+  }
+
+  /** Returns the number of players. */
+  int size() {
+    return columns.size();
+  }
+
+  /** Returns the group keys of a field, computing them on first use. */
+  GroupKeys keys(StatsField field) {
+    return keys.computeIfAbsent(
+        field, key -> key.isNumeric() ? numericKeys(key.ints(this)) : textKeys(key.strings(this)));
+  }
+
+  private static GroupKeys textKeys(StringColumn column) {
+    int[] codes = new int[column.size()];
+    for (int row = 0; row < codes.length; row++) {
+      codes[row] = column.code(row);
+    }
+    return new GroupKeys(column.cardinality(), codes, column::decode);
+  }
+
+  /** Numbers are keyed by their offset from the smallest value, {@code null} by 0. */
+  private static GroupKeys numericKeys(IntColumn column) {
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (int row = 0; row < column.size(); row++) {
+      if (!column.isNull(row)) {
+        min = Math.min(min, column.get(row));
+        max = Math.max(max, column.get(row));
+      }
+    }
+    long first = min;
+    long cardinality = min > max ? 1 : max - min + 2;
+    int[] codes = new int[column.size()];
+    if (cardinality <= Integer.MAX_VALUE) {
+      for (int row = 0; row < codes.length; row++) {
+        codes[row] = column.isNull(row) ? 0 : (int) (column.get(row) - first + 1);
+      }
+    }
+    return new GroupKeys(
+        cardinality, codes, code -> code == 0 ? null : (Object) (int) (code - 1 + first));
+  }
+
+  private static LocalDate date(IntColumn epochDays, int row) {
+    return epochDays.isNull(row) ? null : LocalDate.ofEpochDay(epochDays.get(row));
+  }
+
+  /**
+   * Dense keys of one field.
+   *
+   * @param cardinality number of distinct keys, {@code null} included
+   * @param codes key of every row, from 0 to {@code cardinality - 1}; only valid if the
+   *     cardinality fits an {@code int}
+   * @param values value each key stands for
+   */
+  record GroupKeys(long cardinality, int[] codes, IntFunction<Object> values) {}
+}
@@ -0,0 +1,103 @@
+package com.playerdata.playerdataservice.stats;
+
+import com.playerdata.playerdataservice.store.IntColumn;
+import com.playerdata.playerdataservice.store.StringColumn;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Player field that statistics can group by. Numeric fields can also be aggregated. Besides the
+ * stored fields, the debut and final game years and the career length, from debut to final game in
+ * days and in whole years, are derived once per load.
+ */
+public enum StatsField {
+  BIRTH_COUNTRY("birthCountry", data -> data.columns().birthCountry(), null),
+  BIRTH_STATE("birthState", data -> data.columns().birthState(), null),
+  BIRTH_CITY("birthCity", data -> data.columns().birthCity(), null),
+  DEATH_COUNTRY("deathCountry", data -> data.columns().deathCountry(), null),
+  DEATH_STATE("deathState", data -> data.columns().deathState(), null),
+  DEATH_CITY("deathCity", data -> data.columns().deathCity(), null),
+  BATS("bats", data -> data.columns().bats(), null),
+  THROWING_HAND("throwingHand", data -> data.columns().throwingHand(), null),
+  BIRTH_YEAR("birthYear", null, data -> data.columns().birthYear()),
+  DEATH_YEAR("deathYear", null, data -> data.columns().deathYear()),
+  WEIGHT("weight", null, data -> data.columns().weight()),
+  HEIGHT("height", null, data -> data.columns().height()),
+  DEBUT_YEAR("debutYear", null, StatsDataset::debutYear),
+  FINAL_GAME_YEAR("finalGameYear", null, StatsDataset::finalGameYear),
+  CAREER_DAYS("careerDays", null, StatsDataset::careerDays),
+  CAREER_YEARS("careerYears", null, StatsDataset::careerYears);
+
+  private static final StatsField[] VALUES = values();
+
+  private final String fieldName;
+  private final Function<StatsDataset, StringColumn> strings;
+  private final Function<StatsDataset, IntColumn> ints;
+
+  StatsField(
+      String fieldName,
+      Function<StatsDataset, StringColumn> strings,
+      Function<StatsDataset, IntColumn> ints) {
+    this.fieldName = fieldName;
+    this.strings = strings;
+    this.ints = ints;
+  }
+
+  /**
+   * Returns the name of the field in requests and responses.
+   *
+   * @return the field name, such as {@code birthCountry}
+   */
+  public String fieldName() {
+    return fieldName;
+  }
+
+  /**
+   * Indicates whether the field holds numbers, which can be aggregated.
+   *
+   * @return {@code true} for numeric fields
+   */
+  public boolean isNumeric() {
+    return ints != null;
+  }
+
+  /**
+   * Looks a field up by name.
+   *
+   * @param fieldName name of the field
+   * @return the field, or {@code null} if there is no field of that name
+   */
+  public static StatsField of(String fieldName) {
+    for (StatsField field : VALUES) {
+      if (field.fieldName.equals(fieldName)) {
+        return field;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Lists the names of the fields, for error messages.
+   *
+   * @param numericOnly whether to list the numeric fields only
+   * @return the names, separated by commas
+   */
+  static String names(boolean numericOnly) {
+    return Arrays.stream(VALUES)
+        .filter(field -> !numericOnly || field.isNumeric())
+        .map(StatsField::fieldName)
+        .collect(Collectors.joining(", "));
+  }
+
+  /** Returns the column of a text field. */
+  StringColumn strings(StatsDataset data) {
+    return strings.apply(data);
+  }
+
+  /** Returns the column of a numeric field. */
+  IntColumn ints(StatsDataset data) {
+    return ints.apply(data);
+  }
+}
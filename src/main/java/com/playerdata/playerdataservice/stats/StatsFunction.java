@@ -0,0 +1,26 @@
+package com.playerdata.playerdataservice.stats;
+
+import java.util.Locale;
+
+/** Aggregate function of a statistics metric. Only {@link #COUNT} applies to whole groups. */
+public enum StatsFunction {
+  /** Number of players, or of players with a value of the field. */
+  COUNT,
+  /** Sum of the values. */
+  SUM,
+  /** Mean of the values. */
+  AVG,
+  /** Smallest value. */
+  MIN,
+  /** Largest value. */
+  MAX;
+
+  /**
+   * Returns the name of the function in requests and responses.
+   *
+   * @return the lower-case name, such as {@code avg}
+   */
+  public String functionName() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+}
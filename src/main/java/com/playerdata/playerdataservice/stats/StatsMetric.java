@@ -0,0 +1,72 @@
+package com.playerdata.playerdataservice.stats;
+
+import com.playerdata.playerdataservice.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * One aggregate computed for every group, written as {@code function:field}, such as {@code
+ * avg:height}, or as {@code count} for the number of players in the group.
+ *
+ * @param function aggregate function
+ * @param field numeric field the function aggregates, or {@code null} for the group count
+ */
+public record StatsMetric(StatsFunction function, StatsField field) {
+
+  /** Number of players in the group. */
+  public static final StatsMetric COUNT = new StatsMetric(StatsFunction.COUNT, null);
+
+  /**
+   * Parses a metric.
+   *
+   * @param metric the metric, such as {@code count} or {@code max:weight}
+   * @return the parsed metric
+   * @throws InvalidRequestException if the function or field is unknown, or the field is not
+   *     numeric
+   */
+  public static StatsMetric parse(String metric) {
+    String trimmed = metric.trim();
+    int colon = trimmed.indexOf(':');
+    String functionName = colon < 0 ? trimmed : trimmed.substring(0, colon);
+    StatsFunction function = function(functionName.toLowerCase(Locale.ROOT));
+    if (function == null) {
+      throw new InvalidRequestException(
+          "Unknown stats function '" + functionName + "'; expected count, sum, avg, min or max");
+    }
+    if (colon < 0) {
+      if (function != StatsFunction.COUNT) {
+        throw new InvalidRequestException(
+            "Stats function '" + functionName + "' needs a field, as in " + functionName
+                + ":height");
+      }
+      return COUNT;
+    }
+    String fieldName = trimmed.substring(colon + 1);
+    StatsField field = StatsField.of(fieldName);
+    if (field == null || !field.isNumeric()) {
+      throw new InvalidRequestException(
+          "Cannot aggregate '" + fieldName + "'; numeric fields are " + StatsField.names(true));
+    }
+    return new StatsMetric(function, field);
+  }
+
+  /**
+   * Returns the metric in the form it is parsed from.
+   *
+   * @return the metric name, such as {@code avg:height}
+   */
+  public String metricName() {
+    return field == null
+        ? function.functionName()
+        : function.functionName() + ":" + field.fieldName();
+  }
+
+  private static StatsFunction function(String functionName) {
+    for (StatsFunction function : StatsFunction.values()) {
+      if (function.functionName().equals(functionName)) {
+        return function;
+      }
+    }
+    return null;
+  }
+}
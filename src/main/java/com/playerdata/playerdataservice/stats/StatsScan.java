@@ -0,0 +1,159 @@
+package com.playerdata.playerdataservice.stats;
+
+import com.playerdata.playerdataservice.store.IntColumn;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join scan that aggregates a range of rows into dense per-group arrays.
+ *
+ * <p>The group of a row is the mixed-radix number formed by the keys of the grouped fields, so
+ * groups are plain array indexes and no row is ever boxed or hashed. Ranges are split until they
+ * are small enough; every leaf aggregates its rows column by column into arrays of its own, and
+ * the partial totals are added up as the tasks join.
+ */
+final class StatsScan extends RecursiveTask<StatsScan.Totals> {
+
+  /** Fewest rows worth a task of their own. */
+  static final int MIN_ROWS_PER_TASK = 4096;
+
+  /** Most memory the partial totals of one scan may take at once. */
+  static final long MEMORY_BUDGET = 32L << 20;
+
+  private final int[][] keys;
+  private final int[] strides;
+  private final IntColumn[] measures;
+  private final int groups;
+  private final int from;
+  private final int to;
+  private final int rowsPerTask;
+
+  private StatsScan(
+      int[][] keys,
+      int[] strides,
+      IntColumn[] measures,
+      int groups,
+      int from,
+      int to,
+      int rowsPerTask) {
+    this.keys = keys;
+    this.strides = strides;
+    this.measures = measures;
+    this.groups = groups;
+    this.from = from;
+    this.to = to;
+    this.rowsPerTask = rowsPerTask;
+  }
+
+  /**
+   * Aggregates all rows.
+   *
+   * @param pool pool to run the tasks in
+   * @param keys group key of every row, per grouped field
+   * @param strides weight of each grouped field's key in the group index
+   * @param measures numeric columns to aggregate
+   * @param groups number of groups
+   * @param rows number of rows
+   * @return the totals of every group
+   */
+  static Totals run(
+      ForkJoinPool pool,
+      int[][] keys,
+      int[] strides,
+      IntColumn[] measures,
+      int groups,
+      int rows) {
+    long bytesPerTask = (long) groups * (1 + 4L * measures.length) * Long.BYTES;
+    long tasks =
+        Math.max(1, Math.min(4L * pool.getParallelism(), MEMORY_BUDGET / bytesPerTask));
+    int rowsPerTask = (int) Math.max(MIN_ROWS_PER_TASK, (rows + tasks - 1) / tasks);
+    return pool.invoke(new StatsScan(keys, strides, measures, groups, 0, rows, rowsPerTask));
+  }
+
+  @Override
+  protected Totals compute() {
+    if (to - from <= rowsPerTask) {
+      return scan();
+    }
+    int middle = (from + to) >>> 1;
+    StatsScan left = new StatsScan(keys, strides, measures, groups, from, middle, rowsPerTask);
+    StatsScan right = new StatsScan(keys, strides, measures, groups, middle, to, rowsPerTask);
+    left.fork();
+    Totals totals = right.compute();
+    return left.join().add(totals);
+  }
+
+  private Totals scan() {
+    int[] group = new int[to - from];
+    for (int field = 0; field < keys.length; field++) {
+      int[] fieldKeys = keys[field];
+      int stride = strides[field];
+      for (int row = from; row < to; row++) {
+        group[row - from] += fieldKeys[row] * stride;
+      }
+    }
+    Totals totals = new Totals(groups, measures.length);
+    for (int index : group) {
+      totals.players[index]++;
+    }
+    for (int measure = 0; measure < measures.length; measure++) {
+      IntColumn column = measures[measure];
+      long[] counts = totals.counts[measure];
+      long[] sums = totals.sums[measure];
+      long[] mins = totals.mins[measure];
+      long[] maxs = totals.maxs[measure];
+      for (int row = from; row < to; row++) {
+        if (column.isNull(row)) {
+          continue;
+        }
+        int index = group[row - from];
+        long value = column.get(row);
+        counts[index]++;
+        sums[index] += value;
+        mins[index] = Math.min(mins[index], value);
+        maxs[index] = Math.max(maxs[index], value);
+      }
+    }
+    return totals;
+  }
+
+  /** Totals of every group: the players, and the count, sum, min and max of every measure. */
+  static final class Totals {
+
+    final long[] players;
+    final long[][] counts;
+    final long[][] sums;
+    final long[][] mins;
+    final long[][] maxs;
+
+    Totals(int groups, int measures) {
+      players = new long[groups];
+      counts = new long[measures][groups];
+      sums = new long[measures][groups];
+      mins = new long[measures][groups];
+      maxs = new long[measures][groups];
+      for (int measure = 0; measure < measures; measure++) {
+        Arrays.fill(mins[measure], Long.MAX_VALUE);
+        Arrays.fill(maxs[measure], Long.MIN_VALUE);
+      }
+    }
+
+    /** Adds other totals into these and returns these. */
+    Totals add(Totals other) {
+      for (int group = 0; group < players.length; group++) {
+        players[group] += other.players[group];
+      }
+      for (int measure = 0; measure < counts.length; measure++) {
+        for (int group = 0; group < players.length; group++) {
+          counts[measure][group] += other.counts[measure][group];
+          sums[measure][group] += other.sums[measure][group];
+          mins[measure][group] = Math.min(mins[measure][group], other.mins[measure][group]);
+          maxs[measure][group] = Math.max(maxs[measure][group], other.maxs[measure][group]);
+        }
+      }
+      return this;
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.playerdata.playerdataservice.store;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.ingest.PlayerBatchWriter;
+import com.playerdata.playerdataservice.model.Player;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Compact {@link PlayerStore} that keeps the whole dataset on the heap as {@link PlayerColumns}
+ * instead of one object graph per player. A lookup binary-searches the sorted IDs and builds the
+ * {@link PlayerDTO} of the row it finds; listings are views that build each DTO as it is read, so
+ * serializing all players never holds more than the DTO being written. As with {@link
+ * InMemoryPlayerStore}, each load is published as one immutable set of columns that replaces the
+ * previous one atomically; readers never block.
+ *
+ * <p>The returned DTOs are built for each call and are not shared.
+ */
+@Component
+@ConditionalOnProperty(name = "player.store.type", havingValue = "columnar")
+public class ColumnarPlayerStore implements PlayerStore {
+
+  private volatile PlayerColumns columns = PlayerColumns.EMPTY;
+
+  @Override
+  public Optional<PlayerDTO> findById(String playerId) {
+    PlayerColumns current = columns;
+    int row = current.indexOf(playerId);
+    return row >= 0 ? Optional.of(current.toDTO(row)) : Optional.empty();
+  }
+
+  @Override
+  public List<PlayerDTO> findAllById(Collection<String> playerIds) {
+    PlayerColumns current = columns;
+    List<PlayerDTO> players = new ArrayList<>(playerIds.size());
+    for (String playerId : playerIds) {
+      int row = current.indexOf(playerId);
+      if (row >= 0) {
+        players.add(current.toDTO(row));
+      }
+    }
+    return players;
+  }
+
+  @Override
+  public List<PlayerDTO> findAll() {
+    PlayerColumns current = columns;
+    return new RowView(current, 0, current.size());
+  }
+
+  @Override
+  public List<PlayerDTO> findPage(String after, int limit) {
+    PlayerColumns current = columns;
+    int from = after == null ? 0 : current.indexAfter(after);
+    int to = (int) Math.min((long) from + limit, current.size());
+    return new RowView(current, from, to);
+  }
+
+  @Override
+  public void forEach(Consumer<? super PlayerDTO> action) {
+    PlayerColumns current = columns;
+    for (int row = 0; row < current.size(); row++) {
+      action.accept(current.toDTO(row));
+    }
+  }
+
+  @Override
+  public PlayerBatchWriter newWriter() {
+    return new ColumnsWriter();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Rebuilds the columns from the unchanged rows and the changed players, and publishes them as
+   * the new columns.
+   */
+  @Override
+  public void applyChanges(
+      List<Player> inserted, List<Player> updated, Collection<String> deletedIds) {
+    PlayerColumns current = columns;
+    Set<String> replaced = new HashSet<>(deletedIds);
+    updated.forEach(player -> replaced.add(player.getPlayerId()));
+    List<Player> players = new ArrayList<>(current.size() + inserted.size());
+    for (int row = 0; row < current.size(); row++) {
+      if (!replaced.contains(current.playerId().get(row))) {
+        players.add(current.toPlayer(row));
+      }
+    }
+    players.addAll(inserted);
+    players.addAll(updated);
+    columns = PlayerColumns.of(players);
+  }
+
+  /**
+   * Returns the columns of the current load, for scans over all players.
+   *
+   * @return the columns, never modified once returned
+   */
+  public PlayerColumns columns() {
+    return columns;
+  }
+
+  /** Read-only list over a range of rows that builds the DTO of a row whenever it is read. */
+  private static final class RowView extends AbstractList<PlayerDTO> implements RandomAccess {
+
+    private final PlayerColumns columns;
+    private final int from;
+    private final int to;
+
+    RowView(PlayerColumns columns, int from, int to) {
+      this.columns = columns;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public PlayerDTO get(int index) {
+      if (index < 0 || index >= to - from) {
+        throw new IndexOutOfBoundsException(index);
+      }
+      return columns.toDTO(from + index);
+    }
+
+    @Override
+    public int size() {
+      return to - from;
+    }
+
+    @Override
+    public List<PlayerDTO> subList(int fromIndex, int toIndex) {
+      if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+        throw new IndexOutOfBoundsException("Range " + fromIndex + ".." + toIndex);
+      }
+      return new RowView(columns, from + fromIndex, from + toIndex);
+    }
+  }
+
+  /** Collects the players of a load and publishes their columns once the load completes. */
+  private class ColumnsWriter implements PlayerBatchWriter {
+
+    private final List<Player> players = new ArrayList<>();
+
+    @Override
+    public void write(List<Player> batch) {
+      players.addAll(batch);
+    }
+
+    @Override
+    public void replace(List<Player> batch) {
+      Map<String, Player> byId = new HashMap<>((int) (batch.size() / 0.75f) + 1);
+      batch.forEach(player -> byId.put(player.getPlayerId(), player));
+      players.replaceAll(player -> byId.getOrDefault(player.getPlayerId(), player));
+    }
+
+    @Override
+    public void complete() {
+      columns = PlayerColumns.of(players);
+    }
+  }
+}
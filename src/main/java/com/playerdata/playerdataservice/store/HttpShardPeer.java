@@ -0,0 +1,149 @@
+package com.playerdata.playerdataservice.store;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ShardPeer} that reads the shards of another node from its {@link ShardPeerServer}.
+ *
+ * <p>While the other node is starting, its server refuses connections; until the first request
+ * gets through, refused connections are retried for up to the startup timeout, so nodes started
+ * together wait for each other's first load instead of failing. Once the peer has answered, a
+ * request fails as soon as it cannot connect, so a node that goes down later does not hold request
+ * threads for the startup timeout.
+ */
+final class HttpShardPeer implements ShardPeer {
+
+  private static final TypeReference<PlayerDTO> PLAYER = new TypeReference<>() {};
+
+  private static final TypeReference<List<PlayerDTO>> PLAYERS = new TypeReference<>() {};
+
+  private static final Duration RETRY_INTERVAL = Duration.ofMillis(200);
+
+  private final URI base;
+  private final ObjectMapper objectMapper;
+  private final Duration startupTimeout;
+  private final Duration requestTimeout;
+  private final HttpClient client;
+  private volatile boolean contacted;
+
+  /**
+   * Constructs an HttpShardPeer.
+   *
+   * @param node {@code host:port} of the other node's shard server
+   * @param objectMapper mapper for the players received
+   * @param startupTimeout how long to retry refused connections before the peer first answers
+   * @param connectTimeout how long to wait for a connection to be established
+   * @param requestTimeout how long to wait for each response
+   */
+  HttpShardPeer(
+      String node,
+      ObjectMapper objectMapper,
+      Duration startupTimeout,
+      Duration connectTimeout,
+      Duration requestTimeout) {
+    this.base = URI.create("http://" + node.trim() + "/shards/");
+    this.objectMapper = objectMapper;
+    this.startupTimeout = startupTimeout;
+    this.requestTimeout = requestTimeout;
+    this.client =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(connectTimeout)
+            .build();
+  }
+
+  @Override
+  public Optional<PlayerDTO> findById(int shard, String playerId) {
+    HttpResponse<byte[]> response = send(get(shard + "/players/" + encode(playerId)));
+    if (response.statusCode() == 404) {
+      return Optional.empty();
+    }
+    return Optional.of(read(response, PLAYER));
+  }
+
+  @Override
+  public List<PlayerDTO> findAllById(int shard, Collection<String> playerIds) {
+    byte[] body;
+    try {
+      body = objectMapper.writeValueAsBytes(playerIds);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    HttpRequest request =
+        HttpRequest.newBuilder(base.resolve(shard + "/lookup"))
+            .timeout(requestTimeout)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    return read(send(request), PLAYERS);
+  }
+
+  @Override
+  public List<PlayerDTO> findPage(int shard, String after, int limit) {
+    String query = "?limit=" + limit + (after == null ? "" : "&after=" + encode(after));
+    return read(send(get(shard + "/page" + query)), PLAYERS);
+  }
+
+  private HttpRequest get(String path) {
+    return HttpRequest.newBuilder(base.resolve(path)).timeout(requestTimeout).GET().build();
+  }
+
+  private HttpResponse<byte[]> send(HttpRequest request) {
+    long deadline = System.nanoTime() + startupTimeout.toNanos();
+    while (true) {
+      try {
+        HttpResponse<byte[]> response =
+            client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        contacted = true;
+        return response;
+      } catch (ConnectException e) {
+        if (contacted || System.nanoTime() - deadline >= 0) {
+          throw new UncheckedIOException("Shard server " + base + " is unreachable", e);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Request to shard server " + base + " failed", e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while reading from " + base, e);
+      }
+      try {
+        Thread.sleep(RETRY_INTERVAL);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for " + base, e);
+      }
+    }
+  }
+
+  private <T> T read(HttpResponse<byte[]> response, TypeReference<T> type) {
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException(
+          "Shard server answered " + response.statusCode() + " to " + response.uri());
+    }
+    try {
+      return objectMapper.readValue(response.body(), type);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+}
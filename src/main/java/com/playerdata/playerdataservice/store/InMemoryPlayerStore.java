@@ -0,0 +1,148 @@
+package com.playerdata.playerdataservice.store;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.ingest.PlayerBatchWriter;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Read-optimized {@link PlayerStore} that keeps the whole dataset on the heap. Every player is
+ * mapped to its {@link PlayerDTO} once at load time, so a lookup is a single hash probe without
+ * any database, entity or mapping work. The data of a load is published as one immutable snapshot
+ * that replaces the previous one atomically; readers never block.
+ *
+ * <p>The returned DTOs are shared between callers and must not be modified.
+ */
+@Component
+@ConditionalOnProperty(name = "player.store.type", havingValue = "memory")
+public class InMemoryPlayerStore implements PlayerStore {
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+  @Override
+  public Optional<PlayerDTO> findById(String playerId) {
+    return Optional.ofNullable(snapshot.byId().get(playerId));
+  }
+
+  @Override
+  public List<PlayerDTO> findAllById(Collection<String> playerIds) {
+    Map<String, PlayerDTO> byId = snapshot.byId();
+    List<PlayerDTO> players = new ArrayList<>(playerIds.size());
+    for (String playerId : playerIds) {
+      PlayerDTO player = byId.get(playerId);
+      if (player != null) {
+        players.add(player);
+      }
+    }
+    return players;
+  }
+
+  @Override
+  public List<PlayerDTO> findAll() {
+    return snapshot.all();
+  }
+
+  @Override
+  public List<PlayerDTO> findPage(String after, int limit) {
+    Snapshot current = snapshot;
+    int from = 0;
+    if (after != null) {
+      int index = Arrays.binarySearch(current.ids(), after);
+      from = index >= 0 ? index + 1 : -index - 1;
+    }
+    int to = (int) Math.min((long) from + limit, current.ids().length);
+    return current.all().subList(from, to);
+  }
+
+  @Override
+  public void forEach(Consumer<? super PlayerDTO> action) {
+    snapshot.all().forEach(action);
+  }
+
+  @Override
+  public PlayerBatchWriter newWriter() {
+    return new SnapshotWriter();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Copies the current snapshot, maps only the changed players and publishes the copy as the new
+   * snapshot.
+   */
+  @Override
+  public void applyChanges(
+      List<Player> inserted, List<Player> updated, Collection<String> deletedIds) {
+    Map<String, PlayerDTO> byId = new HashMap<>(snapshot.byId());
+    deletedIds.forEach(byId::remove);
+    for (List<Player> players : List.of(inserted, updated)) {
+      for (Player player : players) {
+        byId.put(player.getPlayerId(), PlayerMapper.INSTANCE.toDTO(player));
+      }
+    }
+    snapshot = Snapshot.of(new ArrayList<>(byId.values()));
+  }
+
+  /**
+   * Immutable view of one load.
+   *
+   * @param byId players by ID
+   * @param all players sorted by ID
+   * @param ids IDs of {@code all}, in the same order, for keyset lookups
+   */
+  private record Snapshot(Map<String, PlayerDTO> byId, List<PlayerDTO> all, String[] ids) {
+    static final Snapshot EMPTY = new Snapshot(Map.of(), List.of(), new String[0]);
+
+    /** Builds a snapshot over the given players, sorting them in place. */
+    static Snapshot of(List<PlayerDTO> players) {
+      players.sort(Comparator.comparing(PlayerDTO::getPlayerId));
+      Map<String, PlayerDTO> byId = new HashMap<>((int) (players.size() / 0.75f) + 1);
+      String[] ids = new String[players.size()];
+      for (int i = 0; i < ids.length; i++) {
+        PlayerDTO player = players.get(i);
+        byId.put(player.getPlayerId(), player);
+        ids[i] = player.getPlayerId();
+      }
+      return new Snapshot(byId, List.copyOf(players), ids);
+    }
+  }
+
+  /** Collects the DTOs of a load and publishes them as a new snapshot once the load completes. */
+  private class SnapshotWriter implements PlayerBatchWriter {
+
+    private final List<PlayerDTO> players = new ArrayList<>();
+
+    @Override
+    public void write(List<Player> batch) {
+      for (Player player : batch) {
+        players.add(PlayerMapper.INSTANCE.toDTO(player));
+      }
+    }
+
+    @Override
+    public void replace(List<Player> batch) {
+      Map<String, PlayerDTO> byId = new HashMap<>((int) (batch.size() / 0.75f) + 1);
+      for (Player player : batch) {
+        byId.put(player.getPlayerId(), PlayerMapper.INSTANCE.toDTO(player));
+      }
+      players.replaceAll(player -> byId.getOrDefault(player.getPlayerId(), player));
+    }
+
+    @Override
+    public void complete() {
+      snapshot = Snapshot.of(players);
+    }
+  }
+}
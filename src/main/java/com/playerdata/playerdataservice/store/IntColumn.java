@@ -0,0 +1,73 @@
+package com.playerdata.playerdataservice.store;
+
+import java.util.BitSet;
+
+/**
+ * Immutable column of nullable integers in a {@link PlayerColumns}: the values in an {@code int[]}
+ * and the rows that are {@code null} in a bitmap, so a scan reads primitives without unboxing.
+ */
+public final class IntColumn {
+
+  private final int[] values;
+  private final BitSet nulls;
+
+  /**
+   * Constructs an IntColumn.
+   *
+   * @param values value of every row, 0 where the row is {@code null}; the array is kept, not
+   *     copied
+   * @param nulls rows that are {@code null}
+   */
+  public IntColumn(int[] values, BitSet nulls) {
+    this.values = values;
+    this.nulls = nulls;
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return the number of rows
+   */
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Indicates whether a row is {@code null}.
+   *
+   * @param row row index
+   * @return {@code true} if the row has no value
+   */
+  public boolean isNull(int row) {
+    return nulls.get(row);
+  }
+
+  /**
+   * Returns the value of a row.
+   *
+   * @param row row index
+   * @return the value, or 0 if the row is {@code null}
+   */
+  public int get(int row) {
+    return values[row];
+  }
+
+  /**
+   * Returns the value of a row as an object.
+   *
+   * @param row row index
+   * @return the value, or {@code null}
+   */
+  public Integer getBoxed(int row) {
+    return nulls.get(row) ? null : values[row];
+  }
+
+  /**
+   * Returns the number of {@code null} rows.
+   *
+   * @return the number of rows without a value
+   */
+  public int nullCount() {
+    return nulls.cardinality();
+  }
+}
@@ -0,0 +1,80 @@
+package com.playerdata.playerdataservice.store;
+
+import com.playerdata.playerdataservice.ingest.PlayerBatchWriter;
+import com.playerdata.playerdataservice.model.Player;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Persists players in batches, one transaction per batch, and flushes and clears the persistence
+ * context after each batch so that memory use does not grow with the size of the file. Combined
+ * with {@code hibernate.jdbc.batch_size} the inserts of a batch are sent to the database as JDBC
+ * batches.
+ *
+ * <p>Into an empty table the players are inserted with {@code persist}, which needs no select per
+ * player. Into a table that already holds players they are merged, so a player that is stored
+ * already is updated rather than rejected as a duplicate key.
+ */
+class JpaPlayerBatchWriter implements PlayerBatchWriter {
+
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean emptyTable;
+
+  /**
+   * Constructs a JpaPlayerBatchWriter.
+   *
+   * @param entityManager shared entity manager
+   * @param transactionTemplate template used to run each batch in its own transaction
+   * @param emptyTable whether the table held no players when the load started
+   */
+  JpaPlayerBatchWriter(
+      EntityManager entityManager, TransactionTemplate transactionTemplate, boolean emptyTable) {
+    this.entityManager = entityManager;
+    this.transactionTemplate = transactionTemplate;
+    this.emptyTable = emptyTable;
+  }
+
+  /**
+   * Stores a batch of players that no earlier batch of this load wrote.
+   *
+   * @param players players new to this load
+   */
+  @Override
+  public void write(List<Player> players) {
+    if (players.isEmpty()) {
+      return;
+    }
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          for (Player player : players) {
+            if (emptyTable) {
+              entityManager.persist(player);
+            } else {
+              entityManager.merge(player);
+            }
+          }
+          entityManager.flush();
+          entityManager.clear();
+        });
+  }
+
+  /**
+   * Updates players inserted by an earlier batch.
+   *
+   * @param players later rows of players that are already stored
+   */
+  @Override
+  public void replace(List<Player> players) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          for (Player player : players) {
+            entityManager.merge(player);
+          }
+          entityManager.flush();
+          entityManager.clear();
+        });
+  }
+}
@@ -0,0 +1,173 @@
+package com.playerdata.playerdataservice.store;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.ingest.PlayerBatchWriter;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import com.playerdata.playerdataservice.repository.PlayerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link PlayerStore} backed by the JPA {@link PlayerRepository}.
+ *
+ * <p>Lookups time the repository query ({@code player.repository}) and the mapping of its entities
+ * to DTOs ({@code player.mapper}) separately, both tagged with the {@code operation}.
+ */
+@Component
+@ConditionalOnProperty(name = "player.store.type", havingValue = "jpa", matchIfMissing = true)
+public class JpaPlayerStore implements PlayerStore {
+
+  private final PlayerRepository playerRepository;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final OperationTimers findByIdTimers;
+  private final OperationTimers findAllByIdTimers;
+  private final OperationTimers findAllTimers;
+  private final OperationTimers findPageTimers;
+
+  /**
+   * Constructs a JpaPlayerStore.
+   *
+   * @param playerRepository repository for player data
+   * @param entityManager shared entity manager used for batch inserts
+   * @param transactionTemplate template used to run each insert batch in its own transaction
+   * @param meterRegistry registry the repository and mapper timers are registered with
+   */
+  public JpaPlayerStore(
+      PlayerRepository playerRepository,
+      EntityManager entityManager,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry) {
+    this.playerRepository = playerRepository;
+    this.entityManager = entityManager;
+    this.transactionTemplate = transactionTemplate;
+    this.findByIdTimers = OperationTimers.register(meterRegistry, "findById");
+    this.findAllByIdTimers = OperationTimers.register(meterRegistry, "findAllById");
+    this.findAllTimers = OperationTimers.register(meterRegistry, "findAll");
+    this.findPageTimers = OperationTimers.register(meterRegistry, "findPage");
+  }
+
+  @Override
+  public Optional<PlayerDTO> findById(String playerId) {
+    Optional<Player> player =
+        findByIdTimers.repository().record(() -> playerRepository.findById(playerId));
+    return findByIdTimers.mapper().record(() -> player.map(PlayerMapper.INSTANCE::toDTO));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Issues a single query with an {@code IN} list of all the IDs.
+   */
+  @Override
+  public List<PlayerDTO> findAllById(Collection<String> playerIds) {
+    List<Player> players =
+        findAllByIdTimers.repository().record(() -> playerRepository.findAllById(playerIds));
+    return findAllByIdTimers.mapper().record(() -> toDTOs(players));
+  }
+
+  @Override
+  public List<PlayerDTO> findAll() {
+    List<Player> players = findAllTimers.repository().record(() -> playerRepository.findAll());
+    return findAllTimers.mapper().record(() -> toDTOs(players));
+  }
+
+  @Override
+  public List<PlayerDTO> findPage(String after, int limit) {
+    List<Player> players =
+        findPageTimers
+            .repository()
+            .record(
+                () ->
+                    after == null
+                        ? playerRepository.findAllByOrderByPlayerIdAsc(Limit.of(limit))
+                        : playerRepository.findByPlayerIdGreaterThanOrderByPlayerIdAsc(
+                            after, Limit.of(limit)));
+    return findPageTimers.mapper().record(() -> toDTOs(players));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Runs a cursor over the table inside a transaction and detaches each entity once it has been
+   * handed on, so the persistence context stays empty however large the table is.
+   */
+  @Override
+  public void forEach(Consumer<? super PlayerDTO> action) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          try (Stream<Player> players = playerRepository.streamAllByOrderByPlayerIdAsc()) {
+            players.forEach(
+                player -> {
+                  action.accept(PlayerMapper.INSTANCE.toDTO(player));
+                  entityManager.detach(player);
+                });
+          }
+        });
+  }
+
+  @Override
+  public PlayerBatchWriter newWriter() {
+    return new JpaPlayerBatchWriter(
+        entityManager, transactionTemplate, playerRepository.count() == 0);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Runs in a single transaction: the deletes as one statement, the inserts as JDBC batches and
+   * each update as a merge of the changed row. Concurrent queries keep reading the committed rows
+   * until the transaction commits.
+   */
+  @Override
+  public void applyChanges(
+      List<Player> inserted, List<Player> updated, Collection<String> deletedIds) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          if (!deletedIds.isEmpty()) {
+            playerRepository.deleteAllByIdInBatch(deletedIds);
+          }
+          for (Player player : inserted) {
+            entityManager.persist(player);
+          }
+          for (Player player : updated) {
+            entityManager.merge(player);
+          }
+          entityManager.flush();
+          entityManager.clear();
+        });
+  }
+
+  private static List<PlayerDTO> toDTOs(List<Player> players) {
+    return players.stream().map(PlayerMapper.INSTANCE::toDTO).collect(Collectors.toList());
+  }
+
+  /** Repository and mapper timers of one store operation. */
+  private record OperationTimers(Timer repository, Timer mapper) {
+
+    static OperationTimers register(MeterRegistry meterRegistry, String operation) {
+      return new OperationTimers(
+          Timer.builder("player.repository")
+              .description("Time spent in PlayerRepository queries")
+              .tag("operation", operation)
+              .register(meterRegistry),
+          Timer.builder("player.mapper")
+              .description("Time to map player entities to DTOs")
+              .tag("operation", operation)
+              .register(meterRegistry));
+    }
+  }
+}
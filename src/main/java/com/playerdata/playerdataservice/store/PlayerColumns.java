@@ -0,0 +1,268 @@
+package com.playerdata.playerdataservice.store;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.model.Player;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable columnar copy of a set of players, one column per field, with rows sorted by player ID.
+ * Integers and dates are primitive {@link IntColumn}s, dates as epoch days, so no row holds a
+ * boxed {@code Integer} or a {@code LocalDate}. The player, retro and Baseball-Reference IDs are
+ * unique per player and stored as plain {@link StringColumn}s, where a Baseball-Reference ID
+ * shares the instance of the player ID it almost always equals. Every other string is
+ * dictionary-encoded, which stores each country, state, city, name and hand once however many
+ * players share it. A {@link PlayerDTO} exists only while a caller holds the one returned by
+ * {@link #toDTO(int)}.
+ *
+ * <p>Aggregates scan the columns they need directly, reading primitives and dictionary codes from
+ * contiguous arrays instead of chasing one object graph per player.
+ *
+ * @param playerId player IDs, sorted
+ * @param birthYear birth years
+ * @param birthMonth birth months
+ * @param birthDay birth days
+ * @param birthCountry birth countries
+ * @param birthState birth states
+ * @param birthCity birth cities
+ * @param deathYear death years
+ * @param deathMonth death months
+ * @param deathDay death days
+ * @param deathCountry death countries
+ * @param deathState death states
+ * @param deathCity death cities
+ * @param firstName first names
+ * @param lastName last names
+ * @param givenName given names
+ * @param weight weights in pounds
+ * @param height heights in inches
+ * @param bats batting hands
+ * @param throwingHand throwing hands
+ * @param debut debut dates as epoch days
+ * @param finalGame final game dates as epoch days
+ * @param retroId Retrosheet IDs
+ * @param bbrefId Baseball-Reference IDs
+ */
+public record PlayerColumns(
+    StringColumn playerId,
+    IntColumn birthYear,
+    IntColumn birthMonth,
+    IntColumn birthDay,
+    StringColumn birthCountry,
+    StringColumn birthState,
+    StringColumn birthCity,
+    IntColumn deathYear,
+    IntColumn deathMonth,
+    IntColumn deathDay,
+    StringColumn deathCountry,
+    StringColumn deathState,
+    StringColumn deathCity,
+    StringColumn firstName,
+    StringColumn lastName,
+    StringColumn givenName,
+    IntColumn weight,
+    IntColumn height,
+    StringColumn bats,
+    StringColumn throwingHand,
+    IntColumn debut,
+    IntColumn finalGame,
+    StringColumn retroId,
+    StringColumn bbrefId) {
+
+  /** Columns without rows. */
+  public static final PlayerColumns EMPTY = of(List.of());
+
+  /**
+   * Builds the columns of a set of players.
+   *
+   * @param players players with distinct IDs, in any order
+   * @return the columns, with rows sorted by player ID
+   * @throws ArithmeticException if a date lies too far from 1970 to fit an {@code int} epoch day
+   */
+  public static PlayerColumns of(Collection<Player> players) {
+    Player[] rows = players.toArray(Player[]::new);
+    Arrays.sort(rows, Comparator.comparing(Player::getPlayerId));
+    String[] ids = strings(rows, Player::getPlayerId);
+    return new PlayerColumns(
+        StringColumn.plain(ids),
+        ints(rows, Player::getBirthYear),
+        ints(rows, Player::getBirthMonth),
+        ints(rows, Player::getBirthDay),
+        StringColumn.dictionary(strings(rows, Player::getBirthCountry)),
+        StringColumn.dictionary(strings(rows, Player::getBirthState)),
+        StringColumn.dictionary(strings(rows, Player::getBirthCity)),
+        ints(rows, Player::getDeathYear),
+        ints(rows, Player::getDeathMonth),
+        ints(rows, Player::getDeathDay),
+        StringColumn.dictionary(strings(rows, Player::getDeathCountry)),
+        StringColumn.dictionary(strings(rows, Player::getDeathState)),
+        StringColumn.dictionary(strings(rows, Player::getDeathCity)),
+        StringColumn.dictionary(strings(rows, Player::getFirstName)),
+        StringColumn.dictionary(strings(rows, Player::getLastName)),
+        StringColumn.dictionary(strings(rows, Player::getGivenName)),
+        ints(rows, Player::getWeight),
+        ints(rows, Player::getHeight),
+        StringColumn.dictionary(strings(rows, Player::getBats)),
+        StringColumn.dictionary(strings(rows, Player::getThrowingHand)),
+        epochDays(rows, Player::getDebut),
+        epochDays(rows, Player::getFinalGame),
+        StringColumn.plain(strings(rows, Player::getRetroId)),
+        StringColumn.plain(sharing(strings(rows, Player::getBbrefId), ids)));
+  }
+
+  /**
+   * Returns the number of players.
+   *
+   * @return the number of rows
+   */
+  public int size() {
+    return playerId.size();
+  }
+
+  /**
+   * Finds the row of a player.
+   *
+   * @param id player ID
+   * @return the row, or a negative number if there is no player with that ID
+   */
+  public int indexOf(String id) {
+    int row = playerId.binarySearch(id);
+    return row >= 0 ? row : -1;
+  }
+
+  /**
+   * Finds the first row whose player ID sorts after a given ID.
+   *
+   * @param id player ID, not necessarily stored
+   * @return the row, or {@link #size()} if every ID sorts before or equal to it
+   */
+  public int indexAfter(String id) {
+    int row = playerId.binarySearch(id);
+    return row >= 0 ? row + 1 : -row - 1;
+  }
+
+  /**
+   * Materializes the DTO of a row. Every call builds a new DTO.
+   *
+   * @param row row index
+   * @return the player
+   */
+  public PlayerDTO toDTO(int row) {
+    PlayerDTO dto = new PlayerDTO();
+    dto.setPlayerId(playerId.get(row));
+    dto.setBirthYear(birthYear.getBoxed(row));
+    dto.setBirthMonth(birthMonth.getBoxed(row));
+    dto.setBirthDay(birthDay.getBoxed(row));
+    dto.setBirthCountry(birthCountry.get(row));
+    dto.setBirthState(birthState.get(row));
+    dto.setBirthCity(birthCity.get(row));
+    dto.setDeathYear(deathYear.getBoxed(row));
+    dto.setDeathMonth(deathMonth.getBoxed(row));
+    dto.setDeathDay(deathDay.getBoxed(row));
+    dto.setDeathCountry(deathCountry.get(row));
+    dto.setDeathState(deathState.get(row));
+    dto.setDeathCity(deathCity.get(row));
+    dto.setFirstName(firstName.get(row));
+    dto.setLastName(lastName.get(row));
+    dto.setGivenName(givenName.get(row));
+    dto.setWeight(weight.getBoxed(row));
+    dto.setHeight(height.getBoxed(row));
+    dto.setBats(bats.get(row));
+    dto.setThrowingHand(throwingHand.get(row));
+    dto.setDebut(date(debut, row));
+    dto.setFinalGame(date(finalGame, row));
+    dto.setRetroId(retroId.get(row));
+    dto.setBbrefId(bbrefId.get(row));
+    return dto;
+  }
+
+  /**
+   * Materializes the entity of a row, for rebuilding the columns with some players changed.
+   *
+   * @param row row index
+   * @return the player
+   */
+  Player toPlayer(int row) {
+    return new Player(
+        playerId.get(row),
+        birthYear.getBoxed(row),
+        birthMonth.getBoxed(row),
+        birthDay.getBoxed(row),
+        birthCountry.get(row),
+        birthState.get(row),
+        birthCity.get(row),
+        deathYear.getBoxed(row),
+        deathMonth.getBoxed(row),
+        deathDay.getBoxed(row),
+        deathCountry.get(row),
+        deathState.get(row),
+        deathCity.get(row),
+        firstName.get(row),
+        lastName.get(row),
+        givenName.get(row),
+        weight.getBoxed(row),
+        height.getBoxed(row),
+        bats.get(row),
+        throwingHand.get(row),
+        date(debut, row),
+        date(finalGame, row),
+        retroId.get(row),
+        bbrefId.get(row));
+  }
+
+  private static LocalDate date(IntColumn epochDays, int row) {
+    return epochDays.isNull(row) ? null : LocalDate.ofEpochDay(epochDays.get(row));
+  }
+
+  private static String[] strings(Player[] rows, Function<Player, String> getter) {
+    String[] values = new String[rows.length];
+    for (int row = 0; row < rows.length; row++) {
+      values[row] = getter.apply(rows[row]);
+    }
+    return values;
+  }
+
+  /** Replaces every value equal to the one of the same row in {@code others} by that instance. */
+  private static String[] sharing(String[] values, String[] others) {
+    for (int row = 0; row < values.length; row++) {
+      if (others[row].equals(values[row])) {
+        values[row] = others[row];
+      }
+    }
+    return values;
+  }
+
+  private static IntColumn ints(Player[] rows, Function<Player, Integer> getter) {
+    int[] values = new int[rows.length];
+    BitSet nulls = new BitSet(rows.length);
+    for (int row = 0; row < rows.length; row++) {
+      Integer value = getter.apply(rows[row]);
+      if (value == null) {
+        nulls.set(row);
+      } else {
+        values[row] = value;
+      }
+    }
+    return new IntColumn(values, nulls);
+  }
+
+  private static IntColumn epochDays(Player[] rows, Function<Player, LocalDate> getter) {
+    int[] values = new int[rows.length];
+    BitSet nulls = new BitSet(rows.length);
+    for (int row = 0; row < rows.length; row++) {
+      LocalDate value = getter.apply(rows[row]);
+      if (value == null) {
+        nulls.set(row);
+      } else {
+        values[row] = Math.toIntExact(value.toEpochDay());
+      }
+    }
+    return new IntColumn(values, nulls);
+  }
+}
@@ -0,0 +1,77 @@
+package com.playerdata.playerdataservice.store;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.ingest.PlayerBatchWriter;
+import com.playerdata.playerdataservice.model.Player;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Storage backend for player data. The backend is selected with the {@code player.store.type}
+ * property: {@code jpa} (the default) keeps players in the H2 database behind {@link
+ * com.playerdata.playerdataservice.repository.PlayerRepository}, {@code memory} keeps an
+ * immutable, pre-indexed copy on the heap, {@code columnar} keeps a compact, immutable copy on the
+ * heap as {@link PlayerColumns}, and {@code sharded} splits that copy into shards by player ID,
+ * optionally spread over several nodes ({@link ShardedPlayerStore}).
+ */
+public interface PlayerStore {
+
+  /**
+   * Looks up a player.
+   *
+   * @param playerId ID of the player
+   * @return the player, or empty if there is no player with that ID
+   */
+  Optional<PlayerDTO> findById(String playerId);
+
+  /**
+   * Looks up several players in one pass.
+   *
+   * @param playerIds distinct IDs of the players
+   * @return the players that exist, in no particular order
+   */
+  List<PlayerDTO> findAllById(Collection<String> playerIds);
+
+  /**
+   * Retrieves all players.
+   *
+   * @return list of PlayerDTOs
+   */
+  List<PlayerDTO> findAll();
+
+  /**
+   * Retrieves one page of players ordered by ID, starting after a given ID (keyset pagination).
+   *
+   * @param after ID of the last player of the previous page, or {@code null} for the first page
+   * @param limit maximum number of players to return
+   * @return up to {@code limit} players whose IDs sort after {@code after}
+   */
+  List<PlayerDTO> findPage(String after, int limit);
+
+  /**
+   * Passes every player, ordered by ID, to the given action without materializing the full list.
+   *
+   * @param action callback invoked once per player
+   */
+  void forEach(Consumer<? super PlayerDTO> action);
+
+  /**
+   * Creates the writer stage for a full load of the store.
+   *
+   * @return a writer that receives the players of one load
+   */
+  PlayerBatchWriter newWriter();
+
+  /**
+   * Applies the changes of a reload in one step, touching only the given players. Readers see
+   * either all of the changes or none of them and are never blocked while they are applied.
+   *
+   * @param inserted players whose IDs are not stored yet
+   * @param updated new content of stored players
+   * @param deletedIds IDs of stored players to remove
+   */
+  void applyChanges(List<Player> inserted, List<Player> updated, Collection<String> deletedIds);
+}
@@ -0,0 +1,18 @@
+package com.playerdata.playerdataservice.store;
+
+/**
+ * Exception thrown when a node of a {@link ShardedPlayerStore} is asked to read a shard it does not
+ * own. The shard server answers it with 421 Misdirected Request.
+ */
+final class ShardNotOwnedException extends IllegalArgumentException {
+
+  /**
+   * Constructs a new ShardNotOwnedException.
+   *
+   * @param shard the shard that was requested
+   * @param nodeIndex index of the node that received the request
+   */
+  ShardNotOwnedException(int shard, int nodeIndex) {
+    super("Shard " + shard + " is not owned by node " + nodeIndex);
+  }
+}
@@ -0,0 +1,42 @@
+package com.playerdata.playerdataservice.store;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read access to the shards another node of a {@link ShardedPlayerStore} owns. Every method reads
+ * one shard, which must be owned by the node behind this peer.
+ */
+interface ShardPeer {
+
+  /**
+   * Looks up a player.
+   *
+   * @param shard shard of the player
+   * @param playerId ID of the player
+   * @return the player, or empty if the shard has no player with that ID
+   */
+  Optional<PlayerDTO> findById(int shard, String playerId);
+
+  /**
+   * Looks up several players of one shard.
+   *
+   * @param shard shard of the players
+   * @param playerIds distinct IDs of the players
+   * @return the players that exist, in no particular order
+   */
+  List<PlayerDTO> findAllById(int shard, Collection<String> playerIds);
+
+  /**
+   * Retrieves players of one shard ordered by ID, starting after a given ID.
+   *
+   * @param shard shard to read
+   * @param after ID to start after, or {@code null} to start with the first player
+   * @param limit maximum number of players to return
+   * @return up to {@code limit} players of the shard whose IDs sort after {@code after}
+   */
+  List<PlayerDTO> findPage(int shard, String after, int limit);
+}
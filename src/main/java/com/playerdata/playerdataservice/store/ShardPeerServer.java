@@ -0,0 +1,169 @@
+package com.playerdata.playerdataservice.store;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP server through which the other nodes of a {@link ShardedPlayerStore} read the shards of
+ * this node. It runs on its own port, separate from the public API, so it can serve while the
+ * application is still starting. Requests are handled on virtual threads.
+ *
+ * <ul>
+ *   <li>{@code GET /shards/{shard}/players/{playerId}}: the player, or 404
+ *   <li>{@code POST /shards/{shard}/lookup} with a JSON array of IDs: the players found
+ *   <li>{@code GET /shards/{shard}/page?after={playerId}&limit={n}}: players ordered by ID
+ * </ul>
+ *
+ * <p>A request for a shard this node does not own is answered with 421 Misdirected Request, one
+ * with a malformed shard, limit or escape sequence with 400 Bad Request. IDs in paths and query
+ * strings are encoded with {@link java.net.URLEncoder}.
+ */
+final class ShardPeerServer {
+
+  /** Status of a request for a shard this node does not own. */
+  static final int MISDIRECTED = 421;
+
+  private static final Logger logger = LoggerFactory.getLogger(ShardPeerServer.class);
+
+  private static final TypeReference<List<String>> IDS = new TypeReference<>() {};
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final ShardPeer shards;
+  private final ObjectMapper objectMapper;
+
+  private ShardPeerServer(
+      HttpServer server, ExecutorService executor, ShardPeer shards, ObjectMapper objectMapper) {
+    this.server = server;
+    this.executor = executor;
+    this.shards = shards;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Starts a server.
+   *
+   * @param address address to listen on; port 0 picks a free port
+   * @param shards shards to serve
+   * @param objectMapper mapper for the players sent
+   * @return the running server
+   * @throws IOException if the address cannot be bound
+   */
+  static ShardPeerServer start(
+      InetSocketAddress address, ShardPeer shards, ObjectMapper objectMapper) throws IOException {
+    HttpServer server = HttpServer.create(address, 0);
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    ShardPeerServer peerServer = new ShardPeerServer(server, executor, shards, objectMapper);
+    server.createContext("/shards/", peerServer::handle);
+    server.setExecutor(executor);
+    server.start();
+    return peerServer;
+  }
+
+  /**
+   * Returns the port the server listens on.
+   *
+   * @return the port
+   */
+  int port() {
+    return server.getAddress().getPort();
+  }
+
+  /** Stops the server without waiting for requests in flight. */
+  void stop() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      try {
+        respond(exchange);
+      } catch (ShardNotOwnedException e) {
+        exchange.sendResponseHeaders(MISDIRECTED, -1);
+      } catch (IllegalArgumentException e) {
+        exchange.sendResponseHeaders(400, -1);
+      } catch (RuntimeException e) {
+        logger.error("Error serving shard request {}", exchange.getRequestURI(), e);
+        exchange.sendResponseHeaders(500, -1);
+      }
+    }
+  }
+
+  private void respond(HttpExchange exchange) throws IOException {
+    // "", "shards", shard, resource[, playerId]
+    String[] path = exchange.getRequestURI().getRawPath().split("/", 5);
+    if (path.length < 4) {
+      exchange.sendResponseHeaders(404, -1);
+      return;
+    }
+    int shard = Integer.parseInt(path[2]);
+    String method = exchange.getRequestMethod();
+    if (path.length == 5 && path[3].equals("players") && method.equals("GET")) {
+      Optional<PlayerDTO> player = shards.findById(shard, decode(path[4]));
+      if (player.isPresent()) {
+        send(exchange, player.get());
+      } else {
+        exchange.sendResponseHeaders(404, -1);
+      }
+    } else if (path.length == 4 && path[3].equals("lookup") && method.equals("POST")) {
+      List<String> playerIds;
+      try (InputStream body = exchange.getRequestBody()) {
+        playerIds = objectMapper.readValue(body, IDS);
+      }
+      send(exchange, shards.findAllById(shard, playerIds));
+    } else if (path.length == 4 && path[3].equals("page") && method.equals("GET")) {
+      Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+      int limit = Integer.parseInt(query.getOrDefault("limit", "100"));
+      send(exchange, shards.findPage(shard, query.get("after"), limit));
+    } else {
+      exchange.sendResponseHeaders(404, -1);
+    }
+  }
+
+  private void send(HttpExchange exchange, Object body) throws IOException {
+    byte[] bytes = objectMapper.writeValueAsBytes(body);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static Map<String, String> query(String rawQuery) {
+    Map<String, String> parameters = new HashMap<>();
+    if (rawQuery == null) {
+      return parameters;
+    }
+    for (String parameter : rawQuery.split("&")) {
+      int equals = parameter.indexOf('=');
+      if (equals > 0) {
+        parameters.put(
+            decode(parameter.substring(0, equals)), decode(parameter.substring(equals + 1)));
+      }
+    }
+    return parameters;
+  }
+
+  private static String decode(String value) {
+    return URLDecoder.decode(value, StandardCharsets.UTF_8);
+  }
+}
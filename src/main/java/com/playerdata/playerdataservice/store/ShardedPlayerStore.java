@@ -0,0 +1,554 @@
+package com.playerdata.playerdataservice.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.ingest.PlayerBatchWriter;
+import com.playerdata.playerdataservice.model.Player;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * {@link PlayerStore} that hashes player IDs into a fixed number of shards, each kept as its own
+ * {@link PlayerColumns} with its own write lock. A lookup touches one shard; batch lookups, pages
+ * and full scans fan out across the shards in parallel and merge their results by ID.
+ *
+ * <p>In multi-node mode ({@code player.shard.nodes} lists more than one node) every node owns the
+ * shards whose number modulo the node count is its index, keeps only the players of those shards,
+ * and routes reads of the other shards to their owners. Nodes talk to each other through a small
+ * HTTP server of their own ({@link ShardPeerServer}), started as soon as the node's first load has
+ * been stored, so that nodes starting at the same time can read each other's shards while they
+ * finish their own startup. Every node reads and reloads the full player file itself; nothing is
+ * written across nodes.
+ *
+ * <p>Writes lock only the shards they change, in shard order, and publish all of those shards in
+ * one step, so readers see either all of the changes of a load or reload or none of them. The
+ * returned DTOs are built for each call and are not shared.
+ */
+@Component
+@ConditionalOnProperty(name = "player.store.type", havingValue = "sharded")
+public class ShardedPlayerStore implements PlayerStore, ShardPeer {
+
+  private static final Logger logger = LoggerFactory.getLogger(ShardedPlayerStore.class);
+
+  /** Players fetched per request when a full scan reads a shard of another node. */
+  static final int PEER_PAGE_SIZE = 1000;
+
+  private final int shardCount;
+  private final int nodeCount;
+  private final int nodeIndex;
+  private final ShardPeer[] peers;
+  private final ReentrantLock[] locks;
+  private final ExecutorService peerExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  private final ObjectMapper objectMapper;
+  private final int serverPort;
+  private final Object publishLock = new Object();
+  private volatile PlayerColumns[] shards;
+  private ShardPeerServer server;
+
+  /**
+   * Constructs a ShardedPlayerStore.
+   *
+   * @param objectMapper mapper for the players exchanged with other nodes
+   * @param shardCount number of shards, the same on every node
+   * @param nodes {@code host:port} of the shard server of every node, in node order; empty or a
+   *     single node keeps all shards in this process
+   * @param nodeIndex index of this node in {@code nodes}
+   * @param peerTimeout how long to wait for another node's shard server to come up
+   * @param peerConnectTimeout how long to wait for a connection to another node
+   * @param peerRequestTimeout how long to wait for another node to answer a request
+   */
+  public ShardedPlayerStore(
+      ObjectMapper objectMapper,
+      @Value("${player.shard.count:8}") int shardCount,
+      @Value("${player.shard.nodes:}") List<String> nodes,
+      @Value("${player.shard.node-index:0}") int nodeIndex,
+      @Value("${player.shard.peer-timeout:30s}") Duration peerTimeout,
+      @Value("${player.shard.peer-connect-timeout:2s}") Duration peerConnectTimeout,
+      @Value("${player.shard.peer-request-timeout:10s}") Duration peerRequestTimeout) {
+    if (shardCount < 1) {
+      throw new IllegalArgumentException("player.shard.count must be at least 1");
+    }
+    this.nodeCount = Math.max(1, nodes.size());
+    if (nodeIndex < 0 || nodeIndex >= nodeCount) {
+      throw new IllegalArgumentException(
+          "player.shard.node-index must be between 0 and " + (nodeCount - 1));
+    }
+    this.shardCount = shardCount;
+    this.nodeIndex = nodeIndex;
+    this.objectMapper = objectMapper;
+    this.peers = new ShardPeer[nodeCount];
+    for (int node = 0; node < nodes.size(); node++) {
+      if (node != nodeIndex) {
+        peers[node] =
+            new HttpShardPeer(
+                nodes.get(node), objectMapper, peerTimeout, peerConnectTimeout, peerRequestTimeout);
+      }
+    }
+    this.serverPort = nodes.size() > 1 ? port(nodes.get(nodeIndex)) : -1;
+    this.locks = new ReentrantLock[shardCount];
+    this.shards = new PlayerColumns[shardCount];
+    for (int shard = 0; shard < shardCount; shard++) {
+      locks[shard] = new ReentrantLock();
+      if (owns(shard)) {
+        shards[shard] = PlayerColumns.EMPTY;
+      }
+    }
+  }
+
+  /**
+   * Returns the shard of a player. The hash only depends on the ID, so every node agrees on it.
+   *
+   * @param playerId ID of the player
+   * @param shardCount number of shards
+   * @return the shard, from 0 to {@code shardCount - 1}
+   */
+  static int shardOf(String playerId, int shardCount) {
+    // Spread String.hashCode (murmur3 finalizer) so that IDs sharing a prefix do not cluster
+    int hash = playerId.hashCode();
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return Math.floorMod(hash, shardCount);
+  }
+
+  /**
+   * Routes the shards of another node to the given peer instead of its shard server, such as a
+   * second store in the same process.
+   *
+   * @param node index of the other node
+   * @param peer peer that reads the shards of that node
+   */
+  void connect(int node, ShardPeer peer) {
+    if (node == nodeIndex) {
+      throw new IllegalArgumentException("Node " + node + " is this node");
+    }
+    peers[node] = peer;
+  }
+
+  @Override
+  public Optional<PlayerDTO> findById(String playerId) {
+    int shard = shardOf(playerId, shardCount);
+    return owns(shard) ? findById(shard, playerId) : peerOf(shard).findById(shard, playerId);
+  }
+
+  @Override
+  public List<PlayerDTO> findAllById(Collection<String> playerIds) {
+    List<List<String>> byShard = new ArrayList<>(shardCount);
+    for (int shard = 0; shard < shardCount; shard++) {
+      byShard.add(new ArrayList<>());
+    }
+    for (String playerId : playerIds) {
+      byShard.get(shardOf(playerId, shardCount)).add(playerId);
+    }
+    PlayerColumns[] current = shards;
+    List<List<PlayerDTO>> found =
+        fanOut(
+            shard -> {
+              List<String> ids = byShard.get(shard);
+              if (ids.isEmpty()) {
+                return List.of();
+              }
+              return owns(shard)
+                  ? findAllById(current[shard], ids)
+                  : peerOf(shard).findAllById(shard, ids);
+            },
+            false);
+    List<PlayerDTO> players = new ArrayList<>(playerIds.size());
+    found.forEach(players::addAll);
+    return players;
+  }
+
+  @Override
+  public List<PlayerDTO> findAll() {
+    return merge(scanAll(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public List<PlayerDTO> findPage(String after, int limit) {
+    PlayerColumns[] current = shards;
+    return merge(
+        fanOut(
+            shard ->
+                owns(shard)
+                    ? findPage(current[shard], after, limit)
+                    : peerOf(shard).findPage(shard, after, limit),
+            false),
+        limit);
+  }
+
+  @Override
+  public void forEach(Consumer<? super PlayerDTO> action) {
+    merge(scanAll(), Integer.MAX_VALUE).forEach(action);
+  }
+
+  @Override
+  public PlayerBatchWriter newWriter() {
+    return new ShardsWriter();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Only the shards of this node that hold a changed player are locked and rebuilt, in parallel;
+   * changes to the shards of other nodes are left to those nodes' own reloads.
+   */
+  @Override
+  public void applyChanges(
+      List<Player> inserted, List<Player> updated, Collection<String> deletedIds) {
+    ShardChanges[] changes = new ShardChanges[shardCount];
+    for (Player player : inserted) {
+      changesOf(changes, player.getPlayerId()).added.add(player);
+    }
+    for (Player player : updated) {
+      ShardChanges shardChanges = changesOf(changes, player.getPlayerId());
+      shardChanges.added.add(player);
+      shardChanges.removedIds.add(player.getPlayerId());
+    }
+    for (String playerId : deletedIds) {
+      changesOf(changes, playerId).removedIds.add(playerId);
+    }
+    int[] changed =
+        IntStream.range(0, shardCount)
+            .filter(shard -> changes[shard] != null && owns(shard))
+            .toArray();
+    replaceShards(changed, shard -> changes[shard].applyTo(shards[shard]));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws ShardNotOwnedException if this node does not own the shard
+   */
+  @Override
+  public Optional<PlayerDTO> findById(int shard, String playerId) {
+    PlayerColumns columns = localShard(shard);
+    int row = columns.indexOf(playerId);
+    return row >= 0 ? Optional.of(columns.toDTO(row)) : Optional.empty();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws ShardNotOwnedException if this node does not own the shard
+   */
+  @Override
+  public List<PlayerDTO> findAllById(int shard, Collection<String> playerIds) {
+    return findAllById(localShard(shard), playerIds);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws ShardNotOwnedException if this node does not own the shard
+   */
+  @Override
+  public List<PlayerDTO> findPage(int shard, String after, int limit) {
+    return findPage(localShard(shard), after, limit);
+  }
+
+  /** Stops the shard server and the threads that read other nodes. */
+  @PreDestroy
+  public void close() {
+    synchronized (publishLock) {
+      if (server != null) {
+        server.stop();
+        server = null;
+      }
+    }
+    peerExecutor.shutdownNow();
+  }
+
+  /**
+   * Returns the port of this node's shard server.
+   *
+   * @return the port, or -1 if the server is not running
+   */
+  int serverPort() {
+    synchronized (publishLock) {
+      return server != null ? server.port() : -1;
+    }
+  }
+
+  private boolean owns(int shard) {
+    return shard % nodeCount == nodeIndex;
+  }
+
+  private ShardPeer peerOf(int shard) {
+    ShardPeer peer = peers[shard % nodeCount];
+    if (peer == null) {
+      throw new IllegalStateException("No peer is configured for node " + shard % nodeCount);
+    }
+    return peer;
+  }
+
+  private PlayerColumns localShard(int shard) {
+    if (shard < 0 || shard >= shardCount || !owns(shard)) {
+      throw new ShardNotOwnedException(shard, nodeIndex);
+    }
+    return shards[shard];
+  }
+
+  private ShardChanges changesOf(ShardChanges[] changes, String playerId) {
+    int shard = shardOf(playerId, shardCount);
+    if (changes[shard] == null) {
+      changes[shard] = new ShardChanges();
+    }
+    return changes[shard];
+  }
+
+  /** Reads every player of every shard, each shard ordered by ID. */
+  private List<List<PlayerDTO>> scanAll() {
+    PlayerColumns[] current = shards;
+    return fanOut(
+        shard -> owns(shard) ? findPage(current[shard], null, Integer.MAX_VALUE) : scanPeer(shard),
+        true);
+  }
+
+  private List<PlayerDTO> scanPeer(int shard) {
+    ShardPeer peer = peerOf(shard);
+    List<PlayerDTO> players = new ArrayList<>();
+    String after = null;
+    while (true) {
+      List<PlayerDTO> page = peer.findPage(shard, after, PEER_PAGE_SIZE);
+      players.addAll(page);
+      if (page.size() < PEER_PAGE_SIZE) {
+        return players;
+      }
+      after = page.get(page.size() - 1).getPlayerId();
+    }
+  }
+
+  /**
+   * Reads every shard. The shards of other nodes are read on virtual threads, so that their
+   * requests overlap with each other and with the local reads; the local shards are read in the
+   * calling thread, or on the common pool if {@code parallel} is set.
+   */
+  private <T> List<T> fanOut(IntFunction<T> read, boolean parallel) {
+    List<CompletableFuture<T>> remote = new ArrayList<>(shardCount);
+    for (int shard = 0; shard < shardCount; shard++) {
+      int remoteShard = shard;
+      remote.add(
+          owns(shard)
+              ? null
+              : CompletableFuture.supplyAsync(() -> read.apply(remoteShard), peerExecutor));
+    }
+    Object[] results = new Object[shardCount];
+    IntStream local = IntStream.range(0, shardCount).filter(this::owns);
+    (parallel ? local.parallel() : local).forEach(shard -> results[shard] = read.apply(shard));
+    List<T> all = new ArrayList<>(shardCount);
+    for (int shard = 0; shard < shardCount; shard++) {
+      if (owns(shard)) {
+        @SuppressWarnings("unchecked")
+        T result = (T) results[shard];
+        all.add(result);
+      } else {
+        all.add(join(remote.get(shard)));
+      }
+    }
+    return all;
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /** Merges lists ordered by ID into one ordered list of at most {@code limit} players. */
+  private static List<PlayerDTO> merge(List<List<PlayerDTO>> sorted, int limit) {
+    int total = 0;
+    PriorityQueue<Cursor> heads = new PriorityQueue<>();
+    for (List<PlayerDTO> players : sorted) {
+      total += players.size();
+      if (!players.isEmpty()) {
+        heads.add(new Cursor(players));
+      }
+    }
+    List<PlayerDTO> merged = new ArrayList<>(Math.min(total, limit));
+    while (merged.size() < limit && !heads.isEmpty()) {
+      Cursor head = heads.poll();
+      merged.add(head.players.get(head.next++));
+      if (head.next < head.players.size()) {
+        heads.add(head);
+      }
+    }
+    return merged;
+  }
+
+  private static List<PlayerDTO> findAllById(PlayerColumns columns, Collection<String> playerIds) {
+    List<PlayerDTO> players = new ArrayList<>(playerIds.size());
+    for (String playerId : playerIds) {
+      int row = columns.indexOf(playerId);
+      if (row >= 0) {
+        players.add(columns.toDTO(row));
+      }
+    }
+    return players;
+  }
+
+  private static List<PlayerDTO> findPage(PlayerColumns columns, String after, int limit) {
+    int from = after == null ? 0 : columns.indexAfter(after);
+    int to = (int) Math.min((long) from + limit, columns.size());
+    List<PlayerDTO> players = new ArrayList<>(Math.max(0, to - from));
+    for (int row = from; row < to; row++) {
+      players.add(columns.toDTO(row));
+    }
+    return players;
+  }
+
+  /**
+   * Rebuilds the given shards while holding their locks, then publishes them together and starts
+   * the shard server if this is the first load of a node in multi-node mode.
+   */
+  private void replaceShards(int[] changed, IntFunction<PlayerColumns> rebuild) {
+    for (int shard : changed) {
+      locks[shard].lock();
+    }
+    try {
+      PlayerColumns[] rebuilt = new PlayerColumns[shardCount];
+      IntStream.of(changed).parallel().forEach(shard -> rebuilt[shard] = rebuild.apply(shard));
+      synchronized (publishLock) {
+        PlayerColumns[] next = shards.clone();
+        for (int shard : changed) {
+          next[shard] = rebuilt[shard];
+        }
+        shards = next;
+        if (serverPort >= 0 && server == null) {
+          startServer();
+        }
+      }
+    } finally {
+      for (int shard : changed) {
+        locks[shard].unlock();
+      }
+    }
+  }
+
+  private void startServer() {
+    try {
+      server = ShardPeerServer.start(new InetSocketAddress(serverPort), this, objectMapper);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot start the shard server on port " + serverPort, e);
+    }
+    logger.info(
+        "Serving shards {} of {} to other nodes on port {}",
+        IntStream.range(0, shardCount).filter(this::owns).boxed().toList(),
+        shardCount,
+        server.port());
+  }
+
+  private static int port(String node) {
+    int colon = node.lastIndexOf(':');
+    try {
+      return Integer.parseInt(node.substring(colon + 1).trim());
+    } catch (NumberFormatException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Node '" + node + "' is not host:port", e);
+    }
+  }
+
+  /** Position in one of the ordered lists being merged. */
+  private static final class Cursor implements Comparable<Cursor> {
+
+    private final List<PlayerDTO> players;
+    private int next;
+
+    Cursor(List<PlayerDTO> players) {
+      this.players = players;
+    }
+
+    @Override
+    public int compareTo(Cursor other) {
+      return players.get(next).getPlayerId().compareTo(other.players.get(other.next).getPlayerId());
+    }
+  }
+
+  /** Players added to and removed from one shard by a reload. */
+  private static final class ShardChanges {
+
+    private final List<Player> added = new ArrayList<>();
+    private final Set<String> removedIds = new HashSet<>();
+
+    PlayerColumns applyTo(PlayerColumns columns) {
+      List<Player> players = new ArrayList<>(columns.size() + added.size());
+      for (int row = 0; row < columns.size(); row++) {
+        if (!removedIds.contains(columns.playerId().get(row))) {
+          players.add(columns.toPlayer(row));
+        }
+      }
+      players.addAll(added);
+      return PlayerColumns.of(players);
+    }
+  }
+
+  /** Collects the players of this node's shards and publishes them once the load completes. */
+  private class ShardsWriter implements PlayerBatchWriter {
+
+    private final List<List<Player>> players = new ArrayList<>(shardCount);
+
+    ShardsWriter() {
+      for (int shard = 0; shard < shardCount; shard++) {
+        players.add(owns(shard) ? new ArrayList<>() : null);
+      }
+    }
+
+    @Override
+    public void write(List<Player> batch) {
+      for (Player player : batch) {
+        List<Player> shard = players.get(shardOf(player.getPlayerId(), shardCount));
+        if (shard != null) {
+          shard.add(player);
+        }
+      }
+    }
+
+    @Override
+    public void replace(List<Player> batch) {
+      Map<String, Player> byId = new HashMap<>((int) (batch.size() / 0.75f) + 1);
+      batch.forEach(player -> byId.put(player.getPlayerId(), player));
+      for (List<Player> shard : players) {
+        if (shard != null) {
+          shard.replaceAll(player -> byId.getOrDefault(player.getPlayerId(), player));
+        }
+      }
+    }
+
+    @Override
+    public void complete() {
+      int[] owned = IntStream.range(0, shardCount).filter(ShardedPlayerStore.this::owns).toArray();
+      replaceShards(owned, shard -> PlayerColumns.of(players.get(shard)));
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package com.playerdata.playerdataservice.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable column of strings in a {@link PlayerColumns}, stored in one of two ways.
+ *
+ * <ul>
+ *   <li>A dictionary-encoded column stores every distinct value once and one code per row, two
+ *       bytes while the column has fewer than 65,536 distinct values and four bytes otherwise.
+ *       Code 0 stands for {@code null}. Rows can be grouped by code without touching the strings.
+ *   <li>A plain column stores one reference per row, for values that are nearly unique anyway.
+ * </ul>
+ */
+public final class StringColumn {
+
+  private final String[] values;
+  private final String[] dictionary;
+  private final char[] shortCodes;
+  private final int[] codes;
+
+  private StringColumn(String[] values, String[] dictionary, char[] shortCodes, int[] codes) {
+    this.values = values;
+    this.dictionary = dictionary;
+    this.shortCodes = shortCodes;
+    this.codes = codes;
+  }
+
+  /**
+   * Builds a plain column.
+   *
+   * @param values value of every row; the array is kept, not copied
+   * @return the column
+   */
+  static StringColumn plain(String[] values) {
+    return new StringColumn(values, null, null, null);
+  }
+
+  /**
+   * Builds a dictionary-encoded column. Codes are assigned in order of first appearance.
+   *
+   * @param values value of every row
+   * @return the column
+   */
+  static StringColumn dictionary(String[] values) {
+    Map<String, Integer> known = new HashMap<>();
+    List<String> dictionary = new ArrayList<>();
+    dictionary.add(null);
+    int[] codes = new int[values.length];
+    for (int row = 0; row < values.length; row++) {
+      String value = values[row];
+      if (value == null) {
+        continue;
+      }
+      Integer code = known.get(value);
+      if (code == null) {
+        code = dictionary.size();
+        known.put(value, code);
+        dictionary.add(value);
+      }
+      codes[row] = code;
+    }
+    String[] entries = dictionary.toArray(String[]::new);
+    if (entries.length > Character.MAX_VALUE + 1) {
+      return new StringColumn(null, entries, null, codes);
+    }
+    char[] shortCodes = new char[codes.length];
+    for (int row = 0; row < codes.length; row++) {
+      shortCodes[row] = (char) codes[row];
+    }
+    return new StringColumn(null, entries, shortCodes, null);
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return the number of rows
+   */
+  public int size() {
+    if (values != null) {
+      return values.length;
+    }
+    return shortCodes != null ? shortCodes.length : codes.length;
+  }
+
+  /**
+   * Returns the value of a row.
+   *
+   * @param row row index
+   * @return the value, possibly {@code null}
+   */
+  public String get(int row) {
+    return values != null ? values[row] : dictionary[code(row)];
+  }
+
+  /**
+   * Indicates whether the column stores codes into a dictionary.
+   *
+   * @return {@code true} for a dictionary-encoded column, {@code false} for a plain one
+   */
+  public boolean isDictionaryEncoded() {
+    return dictionary != null;
+  }
+
+  /**
+   * Returns the number of codes of a dictionary-encoded column, {@code null} included.
+   *
+   * @return one more than the number of distinct non-null values
+   * @throws IllegalStateException if the column is plain
+   */
+  public int cardinality() {
+    requireDictionary();
+    return dictionary.length;
+  }
+
+  /**
+   * Returns the dictionary code of a row.
+   *
+   * @param row row index
+   * @return the code, from 0 ({@code null}) to {@link #cardinality()} - 1
+   * @throws IllegalStateException if the column is plain
+   */
+  public int code(int row) {
+    requireDictionary();
+    return shortCodes != null ? shortCodes[row] : codes[row];
+  }
+
+  /**
+   * Returns the value a dictionary code stands for.
+   *
+   * @param code dictionary code
+   * @return the value, {@code null} for code 0
+   * @throws IllegalStateException if the column is plain
+   */
+  public String decode(int code) {
+    requireDictionary();
+    return dictionary[code];
+  }
+
+  /**
+   * Finds a value in a plain column whose rows are sorted.
+   *
+   * @param value value to find
+   * @return the row of the value, or {@code -(insertion point) - 1} as {@link
+   *     Arrays#binarySearch(Object[], Object)}
+   */
+  int binarySearch(String value) {
+    return Arrays.binarySearch(values, value);
+  }
+
+  private void requireDictionary() {
+    if (dictionary == null) {
+      throw new IllegalStateException("Column is not dictionary-encoded");
+    }
+  }
+}
@@ -1,14 +1,22 @@
 package com.playerdata.playerdataservice.util;
 
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 public class ParsingUtils {
 
+    /** Sentinel returned by {@link #parseEpochDay(CharSequence)} when there is no valid date. */
+    public static final long NO_DATE = Long.MIN_VALUE;
+
     private static final DateTimeFormatter FORMATTER1 = DateTimeFormatter.ofPattern("dd/MM/yyyy");
     private static final DateTimeFormatter FORMATTER2 = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    /** Days from 0000-01-01 to 1970-01-01 in the proleptic ISO calendar. */
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
     /**
      * Parses a string to an Integer. Returns 0 if the input string is empty.
      *
@@ -16,7 +24,7 @@ public class ParsingUtils {
      * @return the parsed integer, or 0 if the input is empty
      */
     public static Integer parseInteger(String value) {
-        return value.isEmpty() ? 0 : Integer.parseInt(value);
+        return value.isEmpty() ? 0 : parseIntStrict(value);
     }
 
     /**
@@ -26,7 +34,48 @@ public class ParsingUtils {
      * @return the parsed integer, or null if the input is empty
      */
     public static Integer parseNullableInteger(String value) {
-        return value.isEmpty() ? null : Integer.parseInt(value);
+        return value.isEmpty() ? null : parseIntStrict(value);
+    }
+
+    /**
+     * Parses a decimal integer made of ASCII digits with an optional leading sign, without boxing
+     * and without throwing.
+     *
+     * @param value the characters to parse
+     * @param fallback the value to return if the input is empty, malformed or out of range
+     * @return the parsed integer, or {@code fallback}
+     */
+    public static int parseInt(CharSequence value, int fallback) {
+        int length = value.length();
+        if (length == 0) {
+            return fallback;
+        }
+        int i = 0;
+        boolean negative = false;
+        char first = value.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return fallback;
+            }
+            negative = first == '-';
+            i = 1;
+        }
+        // Accumulate negatively so that Integer.MIN_VALUE is representable
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int multiplyMin = limit / 10;
+        int result = 0;
+        for (; i < length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyMin) {
+                return fallback;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return fallback;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
     }
 
     /**
@@ -37,13 +86,104 @@ public class ParsingUtils {
      * @return the parsed LocalDate, or null if parsing fails
      */
     public static LocalDate parseLocalDate(String value) {
+        long epochDay = parseEpochDay(value);
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Parses a date in the "dd/MM/yyyy" or "yyyy-MM-dd" format to its epoch day, with the same
+     * results as {@link #parseLocalDate(String)}. The format is detected from the separator
+     * positions and the digits are decoded by hand, so the common cases neither allocate nor throw.
+     *
+     * @param value the characters to parse
+     * @return the number of days since 1970-01-01, or {@link #NO_DATE} if parsing fails
+     */
+    public static long parseEpochDay(CharSequence value) {
+        int length = value.length();
+        if (length == 0) {
+            return NO_DATE;
+        }
+        if (length == 10) {
+            int year = -1;
+            int month = -1;
+            int day = -1;
+            if (value.charAt(2) == '/' && value.charAt(5) == '/') {
+                day = digits(value, 0, 2);
+                month = digits(value, 3, 2);
+                year = digits(value, 6, 4);
+            } else if (value.charAt(4) == '-' && value.charAt(7) == '-') {
+                year = digits(value, 0, 4);
+                month = digits(value, 5, 2);
+                day = digits(value, 8, 2);
+            }
+            if ((year | month | day) >= 0) {
+                return toEpochDay(year, month, day);
+            }
+        }
+        return parseEpochDayWithFormatters(value);
+    }
+
+    /**
+     * Converts a date to its epoch day the way both supported patterns resolve it: a day past the
+     * end of the month is clamped to the last day of the month, anything else out of range has no
+     * date. Intended for callers that decode the date fields themselves.
+     *
+     * @param year the year, from 1
+     * @param month the month, from 1 to 12
+     * @param day the day of the month, from 1 to 31
+     * @return the number of days since 1970-01-01, or {@link #NO_DATE} if the fields are out of
+     *     range
+     */
+    public static long toEpochDay(int year, int month, int day) {
+        if (year <= 0 || year > Year.MAX_VALUE || month < 1 || month > 12 || day < 1 || day > 31) {
+            return NO_DATE;
+        }
+        boolean leapYear = Year.isLeap(year);
+        int dayOfMonth = Math.min(day, Month.of(month).length(leapYear));
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += dayOfMonth - 1;
+        if (month > 2) {
+            total -= leapYear ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static Integer parseIntStrict(String value) {
+        int result = parseInt(value, Integer.MIN_VALUE);
+        // Off the fast path (or exactly MIN_VALUE): let the JDK decide, and throw if malformed
+        return result != Integer.MIN_VALUE ? result : Integer.parseInt(value);
+    }
+
+    /** Decodes a run of ASCII digits, or returns -1 if any character is not a digit. */
+    private static int digits(CharSequence value, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /** Slow path for inputs outside the two fixed-width layouts. */
+    private static long parseEpochDayWithFormatters(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && c != '/' && c != '-' && c != '+') {
+                // Neither pattern can match, no need to let the formatters throw
+                return NO_DATE;
+            }
+        }
         try {
-            return LocalDate.parse(value, FORMATTER1);
+            return LocalDate.parse(value, FORMATTER1).toEpochDay();
         } catch (DateTimeParseException e1) {
             try {
-                return LocalDate.parse(value, FORMATTER2);
+                return LocalDate.parse(value, FORMATTER2).toEpochDay();
             } catch (DateTimeParseException e2) {
-                return null;
+                return NO_DATE;
             }
         }
     }
@@ -0,0 +1,243 @@
+package com.playerdata.playerdataservice.wire;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Columnar CBOR encoding of a list of players, the bulk format of {@code GET /api/players}.
+ *
+ * <pre>
+ * {
+ *   "version": 1,
+ *   "count": n,
+ *   "playerId": [n strings],
+ *   "birthYear": [n integers or nulls],
+ *   ...
+ *   "debut": [n epoch days or nulls],
+ *   ...
+ * }
+ * </pre>
+ *
+ * There is one array per {@link PlayerDTO} field, so every field name is written once rather than
+ * once per player, and dates are written as epoch days. Strings are written with CBOR string
+ * references (tag 25), so a repeated value such as a country or a batting hand costs one or two
+ * bytes after its first occurrence. Columns unknown to the reader are skipped, so columns can be
+ * added without a new version.
+ */
+public final class PlayerColumnsCodec {
+
+  /** Media type of the encoding. */
+  public static final String MEDIA_TYPE_VALUE = "application/vnd.playerdata.columns+cbor";
+
+  /** Media type of the encoding. */
+  public static final MediaType MEDIA_TYPE = MediaType.valueOf(MEDIA_TYPE_VALUE);
+
+  /** Bump whenever the meaning of an existing column changes. */
+  static final int VERSION = 1;
+
+  private static final CBORFactory FACTORY =
+      CBORFactory.builder().enable(CBORGenerator.Feature.STRINGREF).build();
+
+  private static final List<Column<?>> COLUMNS =
+      List.of(
+          text("playerId", PlayerDTO::getPlayerId, PlayerDTO::setPlayerId),
+          number("birthYear", PlayerDTO::getBirthYear, PlayerDTO::setBirthYear),
+          number("birthMonth", PlayerDTO::getBirthMonth, PlayerDTO::setBirthMonth),
+          number("birthDay", PlayerDTO::getBirthDay, PlayerDTO::setBirthDay),
+          text("birthCountry", PlayerDTO::getBirthCountry, PlayerDTO::setBirthCountry),
+          text("birthState", PlayerDTO::getBirthState, PlayerDTO::setBirthState),
+          text("birthCity", PlayerDTO::getBirthCity, PlayerDTO::setBirthCity),
+          number("deathYear", PlayerDTO::getDeathYear, PlayerDTO::setDeathYear),
+          number("deathMonth", PlayerDTO::getDeathMonth, PlayerDTO::setDeathMonth),
+          number("deathDay", PlayerDTO::getDeathDay, PlayerDTO::setDeathDay),
+          text("deathCountry", PlayerDTO::getDeathCountry, PlayerDTO::setDeathCountry),
+          text("deathState", PlayerDTO::getDeathState, PlayerDTO::setDeathState),
+          text("deathCity", PlayerDTO::getDeathCity, PlayerDTO::setDeathCity),
+          text("firstName", PlayerDTO::getFirstName, PlayerDTO::setFirstName),
+          text("lastName", PlayerDTO::getLastName, PlayerDTO::setLastName),
+          text("givenName", PlayerDTO::getGivenName, PlayerDTO::setGivenName),
+          number("weight", PlayerDTO::getWeight, PlayerDTO::setWeight),
+          number("height", PlayerDTO::getHeight, PlayerDTO::setHeight),
+          text("bats", PlayerDTO::getBats, PlayerDTO::setBats),
+          text("throwingHand", PlayerDTO::getThrowingHand, PlayerDTO::setThrowingHand),
+          date("debut", PlayerDTO::getDebut, PlayerDTO::setDebut),
+          date("finalGame", PlayerDTO::getFinalGame, PlayerDTO::setFinalGame),
+          text("retroId", PlayerDTO::getRetroId, PlayerDTO::setRetroId),
+          text("bbrefId", PlayerDTO::getBbrefId, PlayerDTO::setBbrefId));
+
+  private static final Map<String, Column<?>> COLUMNS_BY_NAME =
+      COLUMNS.stream().collect(Collectors.toUnmodifiableMap(Column::name, Function.identity()));
+
+  private PlayerColumnsCodec() {}
+
+  /**
+   * Writes players in the columnar encoding. The stream is not closed.
+   *
+   * @param players the players, in the order they are to be read back
+   * @param out stream to write to
+   * @throws IOException if the stream cannot be written
+   */
+  public static void write(List<PlayerDTO> players, OutputStream out) throws IOException {
+    try (JsonGenerator generator = FACTORY.createGenerator(out)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.writeStartObject(players, COLUMNS.size() + 2);
+      generator.writeNumberField("version", VERSION);
+      generator.writeNumberField("count", players.size());
+      for (Column<?> column : COLUMNS) {
+        generator.writeFieldName(column.name());
+        generator.writeStartArray(players, players.size());
+        for (PlayerDTO player : players) {
+          column.write(generator, player);
+        }
+        generator.writeEndArray();
+      }
+      generator.writeEndObject();
+    }
+  }
+
+  /**
+   * Reads players written by {@link #write(List, OutputStream)}. The stream is not closed.
+   *
+   * @param in stream to read from
+   * @return the players, in the order they were written
+   * @throws IOException if the stream cannot be read, or does not hold the columnar encoding
+   */
+  public static List<PlayerDTO> read(InputStream in) throws IOException {
+    try (JsonParser parser = FACTORY.createParser(in)) {
+      parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Expected an object of player columns");
+      }
+      List<PlayerDTO> players = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.currentName();
+        parser.nextToken();
+        if (name.equals("version")) {
+          if (parser.getIntValue() != VERSION) {
+            throw new JsonParseException(
+                parser, "Unsupported player columns version " + parser.getIntValue());
+          }
+        } else if (name.equals("count")) {
+          int count = parser.getIntValue();
+          if (count < 0) {
+            throw new JsonParseException(parser, "Negative player count " + count);
+          }
+          players = new ArrayList<>(count);
+          for (int i = 0; i < count; i++) {
+            players.add(new PlayerDTO());
+          }
+        } else if (!COLUMNS_BY_NAME.containsKey(name)) {
+          parser.skipChildren();
+        } else if (players == null) {
+          throw new JsonParseException(parser, "Column " + name + " precedes the player count");
+        } else {
+          readColumn(parser, COLUMNS_BY_NAME.get(name), players);
+        }
+      }
+      if (players == null) {
+        throw new JsonParseException(parser, "Missing player count");
+      }
+      return players;
+    }
+  }
+
+  private static void readColumn(JsonParser parser, Column<?> column, List<PlayerDTO> players)
+      throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      throw new JsonParseException(parser, "Column " + column.name() + " is not an array");
+    }
+    for (PlayerDTO player : players) {
+      if (parser.nextToken() == JsonToken.END_ARRAY) {
+        throw new JsonParseException(parser, "Column " + column.name() + " is too short");
+      }
+      column.read(parser, player);
+    }
+    if (parser.nextToken() != JsonToken.END_ARRAY) {
+      throw new JsonParseException(parser, "Column " + column.name() + " is too long");
+    }
+  }
+
+  private static Column<String> text(
+      String name, Function<PlayerDTO, String> getter, BiConsumer<PlayerDTO, String> setter) {
+    return new Column<>(
+        name,
+        getter,
+        setter,
+        JsonGenerator::writeString,
+        parser -> {
+          if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw new JsonParseException(parser, "Expected a string in column " + name);
+          }
+          return parser.getText();
+        });
+  }
+
+  private static Column<Integer> number(
+      String name, Function<PlayerDTO, Integer> getter, BiConsumer<PlayerDTO, Integer> setter) {
+    return new Column<>(
+        name, getter, setter, JsonGenerator::writeNumber, JsonParser::getIntValue);
+  }
+
+  private static Column<LocalDate> date(
+      String name, Function<PlayerDTO, LocalDate> getter, BiConsumer<PlayerDTO, LocalDate> setter) {
+    return new Column<>(
+        name,
+        getter,
+        setter,
+        (generator, date) -> generator.writeNumber(date.toEpochDay()),
+        parser -> LocalDate.ofEpochDay(parser.getLongValue()));
+  }
+
+  /** Writes a non-null value. */
+  @FunctionalInterface
+  private interface ValueWriter<T> {
+    void write(JsonGenerator generator, T value) throws IOException;
+  }
+
+  /** Reads the non-null value at the current token. */
+  @FunctionalInterface
+  private interface ValueReader<T> {
+    T read(JsonParser parser) throws IOException;
+  }
+
+  /** One field of {@link PlayerDTO}, written as an array with one value or null per player. */
+  private record Column<T>(
+      String name,
+      Function<PlayerDTO, T> getter,
+      BiConsumer<PlayerDTO, T> setter,
+      ValueWriter<T> writer,
+      ValueReader<T> reader) {
+
+    void write(JsonGenerator generator, PlayerDTO player) throws IOException {
+      T value = getter.apply(player);
+      if (value == null) {
+        generator.writeNull();
+      } else {
+        writer.write(generator, value);
+      }
+    }
+
+    void read(JsonParser parser, PlayerDTO player) throws IOException {
+      if (parser.currentToken() != JsonToken.VALUE_NULL) {
+        setter.accept(player, reader.read(parser));
+      }
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.playerdata.playerdataservice.cache;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerLookupCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<String> loaded = new ArrayList<>();
+
+  @Test
+  void testGet_loadsEachPlayerOnce() {
+    PlayerLookupCache cache = cache(true, 100, 0);
+
+    assertThat(cache.get("aaronha01", this::load)).contains(player("aaronha01"));
+    assertThat(cache.get("aaronha01", this::load)).contains(player("aaronha01"));
+    assertThat(cache.get("nobody", this::load)).isEmpty();
+    assertThat(cache.get("nobody", this::load)).isEmpty();
+
+    assertThat(loaded).containsExactly("aaronha01", "nobody");
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tags("cache", "players", "tier", "heap", "result", "hit")
+                .functionCounter()
+                .count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void testGetAllPresent_returnsOnlyCachedResults() {
+    PlayerLookupCache cache = cache(true, 100, 0);
+    cache.get("aaronha01", this::load);
+    cache.get("nobody", this::load);
+
+    assertThat(cache.getAllPresent(List.of("aaronha01", "nobody", "ruthba01")))
+        .containsOnlyKeys("aaronha01", "nobody")
+        .containsEntry("nobody", Optional.empty());
+    assertThat(gets("hit")).isZero();
+    assertThat(gets("miss")).isEqualTo(2);
+  }
+
+  @Test
+  void testEviction_movesPlayersOffHeapAndBack() {
+    PlayerLookupCache cache = cache(true, 1, 1024 * 1024);
+    cache.get("aaronha01", this::load);
+    cache.get("ruthba01", this::load);
+    cache.cleanUp();
+
+    Function<String, Optional<PlayerDTO>> failing =
+        playerId -> {
+          throw new AssertionError("Loaded " + playerId);
+        };
+    assertThat(cache.get("aaronha01", failing)).contains(player("aaronha01"));
+    cache.cleanUp();
+    assertThat(cache.get("ruthba01", failing)).contains(player("ruthba01"));
+
+    assertThat(loaded).containsExactly("aaronha01", "ruthba01");
+    assertThat(meterRegistry.get("player.cache.off-heap.bytes").gauge().value()).isPositive();
+  }
+
+  @Test
+  void testInvalidate_removesPlayersFromBothTiers() {
+    PlayerLookupCache cache = cache(true, 1, 1024 * 1024);
+    cache.get("aaronha01", this::load);
+    cache.get("ruthba01", this::load);
+    cache.cleanUp();
+
+    cache.invalidate(List.of("aaronha01", "ruthba01"));
+    cache.get("aaronha01", this::load);
+    cache.get("ruthba01", this::load);
+
+    assertThat(loaded).containsExactly("aaronha01", "ruthba01", "aaronha01", "ruthba01");
+  }
+
+  @Test
+  void testInvalidateAll_removesEveryPlayer() {
+    PlayerLookupCache cache = cache(true, 100, 0);
+    cache.get("aaronha01", this::load);
+
+    cache.invalidateAll();
+    cache.get("aaronha01", this::load);
+
+    assertThat(loaded).containsExactly("aaronha01", "aaronha01");
+  }
+
+  @Test
+  void testDisabled_loadsEveryTime() {
+    PlayerLookupCache cache = cache(false, 100, 0);
+
+    cache.get("aaronha01", this::load);
+    cache.get("aaronha01", this::load);
+
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(cache.getAllPresent(List.of("aaronha01"))).isEmpty();
+    assertThat(loaded).containsExactly("aaronha01", "aaronha01");
+    assertThat(meterRegistry.find("cache.gets").meters()).isEmpty();
+  }
+
+  private double gets(String result) {
+    return meterRegistry
+        .get("cache.gets")
+        .tags("cache", "players", "tier", "heap", "result", result)
+        .functionCounter()
+        .count();
+  }
+
+  private PlayerLookupCache cache(boolean enabled, long heapMaxSize, long offHeapMaxBytes) {
+    return new PlayerLookupCache(
+        new Jackson2ObjectMapperBuilder(),
+        meterRegistry,
+        enabled,
+        heapMaxSize,
+        Duration.ZERO,
+        DataSize.ofBytes(offHeapMaxBytes),
+        Duration.ZERO);
+  }
+
+  private Optional<PlayerDTO> load(String playerId) {
+    loaded.add(playerId);
+    return playerId.equals("nobody") ? Optional.empty() : Optional.of(player(playerId));
+  }
+
+  private static PlayerDTO player(String playerId) {
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId(playerId);
+    player.setBirthYear(1934);
+    player.setDebut(LocalDate.of(1954, 4, 13));
+    return player;
+  }
+}
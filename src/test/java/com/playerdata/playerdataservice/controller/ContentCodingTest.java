@@ -0,0 +1,74 @@
+package com.playerdata.playerdataservice.controller;
+
+import com.github.luben.zstd.Zstd;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
+
+class ContentCodingTest {
+
+  private static final Set<ContentCoding> BOTH = EnumSet.allOf(ContentCoding.class);
+
+  @Test
+  void testNegotiate_picksHighestQuality() {
+    assertThat(ContentCoding.negotiate(new String[] {"zstd;q=0.5, gzip"}, BOTH))
+        .isEqualTo(ContentCoding.GZIP);
+    assertThat(ContentCoding.negotiate(new String[] {"gzip;q=0.5", "zstd;q=0.8"}, BOTH))
+        .isEqualTo(ContentCoding.ZSTD);
+  }
+
+  @Test
+  void testNegotiate_prefersZstdOnTies() {
+    assertThat(ContentCoding.negotiate(new String[] {"gzip, deflate, br, zstd"}, BOTH))
+        .isEqualTo(ContentCoding.ZSTD);
+    assertThat(ContentCoding.negotiate(new String[] {"*"}, BOTH)).isEqualTo(ContentCoding.ZSTD);
+  }
+
+  @Test
+  void testNegotiate_onlyPicksAvailableCodings() {
+    assertThat(
+            ContentCoding.negotiate(
+                new String[] {"zstd, x-gzip"}, EnumSet.of(ContentCoding.GZIP)))
+        .isEqualTo(ContentCoding.GZIP);
+    assertThat(ContentCoding.negotiate(new String[] {"zstd"}, EnumSet.of(ContentCoding.GZIP)))
+        .isNull();
+  }
+
+  @Test
+  void testNegotiate_honorsRefusals() {
+    assertThat(ContentCoding.negotiate(new String[] {"gzip;q=0, *"}, EnumSet.of(ContentCoding.GZIP)))
+        .isNull();
+    assertThat(ContentCoding.negotiate(new String[] {"*;q=0"}, BOTH)).isNull();
+    assertThat(ContentCoding.negotiate(new String[] {"identity"}, BOTH)).isNull();
+    assertThat(ContentCoding.negotiate(null, BOTH)).isNull();
+  }
+
+  @Test
+  void testEncode_roundTrips() throws Exception {
+    byte[] body = "[{\"playerId\":\"aaronha01\"}]".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    byte[] gzip = ContentCoding.GZIP.encode(body);
+    byte[] zstd = ContentCoding.ZSTD.encode(body);
+
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+      assertThat(in.readAllBytes()).isEqualTo(body);
+    }
+    assertThat(Zstd.decompress(zstd, body.length)).isEqualTo(body);
+    assertThat(gzip.length).isLessThan(body.length / 4);
+    assertThat(zstd.length).isLessThan(body.length / 4);
+  }
+
+  @Test
+  void testOf_rejectsUnknownToken() {
+    assertThat(ContentCoding.of(" GZIP ")).isEqualTo(ContentCoding.GZIP);
+    assertThat(catchThrowable(() -> ContentCoding.of("br")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
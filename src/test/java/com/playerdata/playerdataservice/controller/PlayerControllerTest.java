@@ -1,38 +1,115 @@
 package com.playerdata.playerdataservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.playerdata.playerdataservice.dto.PlayerBatchDTO;
 import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.dto.PlayerPageDTO;
+import com.playerdata.playerdataservice.dto.PlayerStatsDTO;
+import com.playerdata.playerdataservice.dto.PlayerStatsGroupDTO;
+import com.playerdata.playerdataservice.dto.PlayerSuggestionDTO;
+import com.playerdata.playerdataservice.exception.GlobalExceptionHandler;
+import com.playerdata.playerdataservice.exception.InvalidRequestException;
 import com.playerdata.playerdataservice.exception.PlayerNotFoundException;
+import com.playerdata.playerdataservice.metrics.ResponseMetrics;
+import com.playerdata.playerdataservice.search.PlayerSearchCriteria;
 import com.playerdata.playerdataservice.service.PlayerService;
+import com.playerdata.playerdataservice.stats.PlayerStats;
+import com.playerdata.playerdataservice.stats.PlayerStatsQuery;
+import com.playerdata.playerdataservice.stats.StatsField;
+import com.playerdata.playerdataservice.stats.StatsFunction;
+import com.playerdata.playerdataservice.stats.StatsMetric;
+import com.playerdata.playerdataservice.wire.PlayerColumnsCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
+import static java.util.stream.Collectors.joining;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class PlayerControllerTest {
 
+  private static final PlayerVersions.Version ALL_VERSION =
+      new PlayerVersions.Version("\"all\"", 1_700_000_000_000L, null);
+
+  private static final PlayerVersions.Version PAGE_VERSION =
+      new PlayerVersions.Version("\"page\"", 1_700_000_000_000L, null);
+
+  private static final PlayerVersions.Version PLAYER_VERSION =
+      new PlayerVersions.Version("\"one\"", 1_700_000_000_000L, null);
+
   @Mock private PlayerService playerService;
 
-  @InjectMocks private PlayerController playerController;
+  @Mock private PlayerStats playerStats;
+
+  @Spy private ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  @Mock private PlayerResponseCache responseCache;
+
+  @Mock private PlayerVersions playerVersions;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private PlayerController playerController;
 
   private MockMvc mockMvc;
 
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
+    when(playerVersions.allPlayers()).thenReturn(ALL_VERSION);
+    when(playerVersions.page(any(), anyInt())).thenReturn(PAGE_VERSION);
+    meterRegistry = new SimpleMeterRegistry();
+    playerController =
+        new PlayerController(
+            playerService,
+            playerStats,
+            objectMapper,
+            responseCache,
+            playerVersions,
+            new ResponseCompression(false, List.of()),
+            new ResponseMetrics(meterRegistry),
+            Duration.ZERO,
+            1000);
     mockMvc = MockMvcBuilders.standaloneSetup(playerController).build();
   }
 
@@ -60,33 +137,703 @@ class PlayerControllerTest {
     String playerID = "1";
     PlayerDTO player = new PlayerDTO();
     player.setPlayerId(playerID);
-    when(playerService.getPlayerDTOById(playerID)).thenReturn(player);
+    when(playerService.findPlayerDTOById(playerID)).thenReturn(Optional.of(player));
 
     // Act
-    ResponseEntity<PlayerDTO> response = playerController.getPlayerById(playerID);
+    ResponseEntity<?> response = playerController.getPlayerById(playerID, webRequest());
 
     // Assert
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     assertThat(response.getBody()).isEqualTo(player);
 
     // Verify service method was called
-    verify(playerService, times(1)).getPlayerDTOById(playerID);
+    verify(playerService, times(1)).findPlayerDTOById(playerID);
+  }
+
+  @Test
+  void testGetPlayerById_returnsNotFoundBody_whenNotFound() throws Exception {
+    // Arrange
+    String playerID = "99\"9";
+    when(playerService.findPlayerDTOById(playerID)).thenReturn(Optional.empty());
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/players/99%229");
+
+    // Act
+    ResponseEntity<?> response =
+        playerController.getPlayerById(playerID, new ServletWebRequest(request));
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    byte[] expected =
+        objectMapper.writeValueAsBytes(
+            new GlobalExceptionHandler()
+                .handlePlayerNotFoundException(PlayerNotFoundException.forId(playerID), request)
+                .getBody());
+    assertThat((byte[]) response.getBody()).isEqualTo(expected);
+    verify(playerService).findPlayerDTOById(playerID);
+  }
+
+  @Test
+  void testGetPlayersPage_returnsPageWithCursor() throws Exception {
+    // Arrange
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId("b");
+    when(playerService.getPlayersPage("a", 1)).thenReturn(new PlayerPageDTO(List.of(player), "b"));
+
+    // Act and Assert
+    mockMvc
+        .perform(get("/api/players").param("limit", "1").param("after", "a"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.players[0].playerId").value("b"))
+        .andExpect(jsonPath("$.nextCursor").value("b"));
+    verify(playerService, never()).getAllPlayers();
+  }
+
+  @Test
+  void testSearchPlayers_bindsCriteriaFromQueryParameters() throws Exception {
+    // Arrange
+    PlayerSearchCriteria criteria =
+        new PlayerSearchCriteria("USA", null, "R", null, "Aaron", 1950, 1960, null, null);
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId("aaronha01");
+    when(playerService.searchPlayers(criteria, null, 100))
+        .thenReturn(new PlayerPageDTO(List.of(player), null));
+
+    // Act and Assert
+    mockMvc
+        .perform(
+            get("/api/players/search")
+                .param("birthCountry", "USA")
+                .param("bats", "R")
+                .param("lastName", "Aaron")
+                .param("debutFrom", "1950")
+                .param("debutTo", "1960"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+        .andExpect(jsonPath("$.players[0].playerId").value("aaronha01"));
+    verify(playerService, never()).findPlayerDTOById(any());
+  }
+
+  @Test
+  void testGetPlayerById_writesPrecomputedBytes_whenEnabled() throws Exception {
+    // Arrange
+    byte[] body = "{\"playerId\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+    when(responseCache.isEnabled()).thenReturn(true);
+    when(responseCache.findPlayer("1")).thenReturn(body);
+    when(playerVersions.findPlayer("1")).thenReturn(PLAYER_VERSION);
+
+    // Act and Assert
+    mockMvc
+        .perform(get("/api/players/1"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"one\""))
+        .andExpect(content().bytes(body));
+    verify(playerService, never()).findPlayerDTOById(any());
+    assertThat(
+            meterRegistry
+                .get("player.response.size")
+                .tag("endpoint", "getPlayerById")
+                .summary()
+                .totalAmount())
+        .isEqualTo(body.length);
+  }
+
+  @Test
+  void testGetPlayerById_fallsBackToService_whenNotPrecomputed() {
+    // Arrange
+    when(responseCache.isEnabled()).thenReturn(true);
+    when(playerService.findPlayerDTOById("999")).thenReturn(Optional.empty());
+
+    // Act
+    ResponseEntity<?> response = playerController.getPlayerById("999", webRequest());
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    verify(playerService).findPlayerDTOById("999");
+  }
+
+  @Test
+  void testGetAllPlayers_writesPrecomputedBytes_whenEnabled() throws Exception {
+    // Arrange
+    byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+    when(responseCache.isEnabled()).thenReturn(true);
+    when(responseCache.allPlayers()).thenReturn(body);
+
+    // Act and Assert
+    mockMvc
+        .perform(get("/api/players"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"all\""))
+        .andExpect(content().bytes(body));
+    verify(playerService, never()).getAllPlayers();
+  }
+
+  @Test
+  void testGetAllPlayers_writesPrecompressedBytes_whenEncodingAccepted() throws Exception {
+    // Arrange
+    byte[] body = {0x28, (byte) 0xb5, 0x2f, (byte) 0xfd};
+    when(responseCache.isEnabled()).thenReturn(true);
+    when(responseCache.allPlayers(ContentCoding.ZSTD)).thenReturn(body);
+
+    // Act and Assert
+    compressingMockMvc()
+        .perform(get("/api/players").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0.5, zstd"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "zstd"))
+        .andExpect(header().string(HttpHeaders.ETAG, "W/\"all\""))
+        .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+        .andExpect(content().bytes(body));
+    verify(responseCache, never()).allPlayers();
+  }
+
+  @Test
+  void testGetPlayersPage_writesIdentityBytes_whenNoPrecompressedEncodingAccepted()
+      throws Exception {
+    // Arrange
+    byte[] body = "{\"players\":[],\"nextCursor\":null}".getBytes(StandardCharsets.UTF_8);
+    when(responseCache.isEnabled()).thenReturn(true);
+    when(responseCache.page(null, 10)).thenReturn(body);
+
+    // Act and Assert
+    compressingMockMvc()
+        .perform(get("/api/players").param("limit", "10").header(HttpHeaders.ACCEPT_ENCODING, "br"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"page\""))
+        .andExpect(content().bytes(body));
+    verify(responseCache, never()).page(any(), anyInt(), any());
+    verifyNoInteractions(playerService);
+  }
+
+  @Test
+  void testGetPlayerById_variesNotFoundLikeFound_whenCompressionEnabled() throws Exception {
+    // Arrange
+    when(playerService.findPlayerDTOById("missing")).thenReturn(Optional.empty());
+
+    // Act and Assert
+    compressingMockMvc()
+        .perform(get("/api/players/missing"))
+        .andExpect(status().isNotFound())
+        .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"));
+  }
+
+  @Test
+  void testGetAllPlayers_returnsNotModified_whenWeakETagMatches() throws Exception {
+    compressingMockMvc()
+        .perform(
+            get("/api/players")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"all\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "W/\"all\""));
+    verifyNoInteractions(playerService, responseCache);
+  }
+
+  @Test
+  void testGetPlayerById_returnsNotModified_whenETagMatches() throws Exception {
+    // Arrange
+    when(playerVersions.findPlayer("1")).thenReturn(PLAYER_VERSION);
+
+    // Act and Assert
+    mockMvc
+        .perform(get("/api/players/1").header(HttpHeaders.IF_NONE_MATCH, "\"one\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"one\""))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+        .andExpect(content().string(""));
+    verifyNoInteractions(playerService, responseCache);
+  }
+
+  @Test
+  void testGetPlayerById_returnsNotModified_whenNotModifiedSince() throws Exception {
+    // Arrange
+    when(playerVersions.findPlayer("1")).thenReturn(PLAYER_VERSION);
+
+    // Act and Assert
+    mockMvc
+        .perform(
+            get("/api/players/1")
+                .header(HttpHeaders.IF_MODIFIED_SINCE, "Tue, 14 Nov 2023 22:13:20 GMT"))
+        .andExpect(status().isNotModified());
+    verifyNoInteractions(playerService);
+  }
+
+  @Test
+  void testGetPlayerById_returnsPlayerWithValidators_whenETagDiffers() throws Exception {
+    // Arrange
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId("1");
+    when(playerVersions.findPlayer("1")).thenReturn(PLAYER_VERSION);
+    when(playerService.findPlayerDTOById("1")).thenReturn(Optional.of(player));
+
+    // Act and Assert
+    mockMvc
+        .perform(get("/api/players/1").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"one\""))
+        .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Tue, 14 Nov 2023 22:13:20 GMT"))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+        .andExpect(jsonPath("$.playerId").value("1"));
+  }
+
+  @Test
+  void testGetAllPlayers_returnsNotModified_whenETagMatches() throws Exception {
+    mockMvc
+        .perform(get("/api/players").header(HttpHeaders.IF_NONE_MATCH, "\"all\""))
+        .andExpect(status().isNotModified());
+
+    verifyNoInteractions(playerService);
+  }
+
+  @Test
+  void testGetPlayersPage_returnsNotModified_whenETagMatches() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/players")
+                .param("limit", "10")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"page\""))
+        .andExpect(status().isNotModified());
+
+    verify(playerVersions).page(null, 10);
+    verifyNoInteractions(playerService);
+  }
+
+  @Test
+  void testGetPlayersPage_rejectsLimit_evenWhenNotModifiedSince() {
+    // Arrange
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, "Tue, 14 Nov 2023 22:13:20 GMT");
+
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () -> playerController.getPlayersPage(0, null, new ServletWebRequest(request)));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(InvalidRequestException.class);
+    verifyNoInteractions(playerVersions, playerService);
+  }
+
+  @Test
+  void testGetPlayerStats_parsesQueryAndReturnsGroups() throws Exception {
+    // Arrange
+    PlayerStatsQuery query =
+        new PlayerStatsQuery(
+            List.of(StatsField.BATS),
+            List.of(StatsMetric.COUNT, new StatsMetric(StatsFunction.AVG, StatsField.HEIGHT)));
+    when(playerVersions.stats("groupBy=bats&metrics=count,avg:height")).thenReturn(PAGE_VERSION);
+    when(playerStats.compute(query))
+        .thenReturn(
+            new PlayerStatsDTO(
+                List.of("bats"),
+                List.of("count", "avg:height"),
+                3,
+                List.of(
+                    new PlayerStatsGroupDTO(
+                        Map.of("bats", "L"), 3, Map.of("count", 3L, "avg:height", 72.5)))));
+
+    // Act and Assert
+    mockMvc
+        .perform(
+            get("/api/players/stats").param("groupBy", "bats").param("metrics", "count,avg:height"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"page\""))
+        .andExpect(jsonPath("$.groups[0].key.bats").value("L"))
+        .andExpect(jsonPath("$.groups[0].metrics['avg:height']").value(72.5));
+  }
+
+  @Test
+  void testGetPlayerStats_returnsNotModified_whenETagMatches() throws Exception {
+    when(playerVersions.stats("groupBy=&metrics=count")).thenReturn(PAGE_VERSION);
+
+    mockMvc
+        .perform(get("/api/players/stats").header(HttpHeaders.IF_NONE_MATCH, "\"page\""))
+        .andExpect(status().isNotModified());
+
+    verifyNoInteractions(playerStats);
+  }
+
+  @Test
+  void testCacheControl_usesConfiguredMaxAge() throws Exception {
+    // Arrange
+    PlayerController cachingController =
+        new PlayerController(
+            playerService,
+            playerStats,
+            objectMapper,
+            responseCache,
+            playerVersions,
+            new ResponseCompression(false, List.of()),
+            new ResponseMetrics(meterRegistry),
+            Duration.ofMinutes(5),
+            1000);
+
+    // Act
+    ResponseEntity<?> response = cachingController.getAllPlayers(webRequest());
+
+    // Assert
+    assertThat(response.getHeaders().getCacheControl())
+        .isEqualTo("max-age=300, must-revalidate, public");
+  }
+
+  @Test
+  void testGetPlayerById_writesCbor_whenAccepted() throws Exception {
+    // Arrange
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId("1");
+    when(responseCache.isEnabled()).thenReturn(true);
+    when(playerVersions.findPlayer("1")).thenReturn(PLAYER_VERSION);
+    when(playerService.findPlayerDTOById("1")).thenReturn(Optional.of(player));
+
+    // Act
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/players/1").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"one-cbor\""))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+            .andReturn();
+
+    // Assert
+    ObjectMapper cborMapper = CBORMapper.builder().findAndAddModules().build();
+    assertThat(cborMapper.readValue(result.getResponse().getContentAsByteArray(), PlayerDTO.class))
+        .isEqualTo(player);
+    verify(responseCache, never()).findPlayer(any());
+  }
+
+  @Test
+  void testGetPlayerById_returnsNotModified_onlyForETagOfSameFormat() throws Exception {
+    // Arrange
+    when(playerVersions.findPlayer("1")).thenReturn(PLAYER_VERSION);
+    when(playerService.findPlayerDTOById("1")).thenReturn(Optional.of(new PlayerDTO()));
+
+    // Act and Assert
+    mockMvc
+        .perform(
+            get("/api/players/1")
+                .accept("application/x-jackson-smile")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"one-smile\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    mockMvc
+        .perform(
+            get("/api/players/1")
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"one-smile\""))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void testGetPlayerById_throwsNotFound_whenBinaryFormatAccepted() {
+    // Arrange
+    when(playerService.findPlayerDTOById("999")).thenReturn(Optional.empty());
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/players/999");
+    request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE);
+
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () -> playerController.getPlayerById("999", new ServletWebRequest(request)));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(PlayerNotFoundException.class);
+  }
+
+  @Test
+  void testGetAllPlayers_prefersJson_forWildcardsAndHigherQuality() throws Exception {
+    // Arrange
+    byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+    when(responseCache.isEnabled()).thenReturn(true);
+    when(responseCache.allPlayers()).thenReturn(body);
+
+    // Act and Assert
+    for (String accept :
+        List.of(
+            "*/*",
+            "application/*",
+            "application/cbor;q=0.5, application/json",
+            PlayerColumnsCodec.MEDIA_TYPE_VALUE + ";q=0, */*")) {
+      mockMvc
+          .perform(get("/api/players").header(HttpHeaders.ACCEPT, accept))
+          .andExpect(status().isOk())
+          .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+          .andExpect(header().string(HttpHeaders.ETAG, "\"all\""))
+          .andExpect(content().bytes(body));
+    }
+  }
+
+  @Test
+  void testGetAllPlayers_writesColumns_whenAccepted() throws Exception {
+    // Arrange
+    PlayerDTO player1 = new PlayerDTO();
+    player1.setPlayerId("1");
+    player1.setBats("R");
+    PlayerDTO player2 = new PlayerDTO();
+    player2.setPlayerId("2");
+    when(playerService.getAllPlayers()).thenReturn(List.of(player1, player2));
+
+    // Act
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/players").accept(PlayerColumnsCodec.MEDIA_TYPE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(PlayerColumnsCodec.MEDIA_TYPE))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"all-columns\""))
+            .andReturn();
+
+    // Assert
+    byte[] body = result.getResponse().getContentAsByteArray();
+    assertThat(PlayerColumnsCodec.read(new ByteArrayInputStream(body)))
+        .containsExactly(player1, player2);
+    verify(responseCache, never()).allPlayers();
+    assertThat(
+            meterRegistry
+                .get("player.response.size")
+                .tag("endpoint", "getAllPlayers")
+                .summary()
+                .totalAmount())
+        .isEqualTo(body.length);
+  }
+
+  @Test
+  void testAutocompletePlayers_returnsSuggestions() throws Exception {
+    // Arrange
+    when(playerService.autocompletePlayers("hank aa", 1, 10))
+        .thenReturn(
+            List.of(new PlayerSuggestionDTO("aaronha01", "Hank", "Aaron", "Henry Louis")));
+
+    // Act and Assert
+    mockMvc
+        .perform(get("/api/players/autocomplete").param("q", "hank aa").param("fuzziness", "1"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+        .andExpect(jsonPath("$[0].playerId").value("aaronha01"))
+        .andExpect(jsonPath("$[0].lastName").value("Aaron"));
+  }
+
+  @Test
+  void testStreamPlayers_writesNdjson() throws Exception {
+    // Arrange
+    stubForEachPlayer("1", "2");
+
+    // Act
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/players").param("stream", "ndjson"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    // Assert
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string(startsWith("{\"playerId\":\"1\"")))
+        .andExpect(content().string(containsString("}\n{\"playerId\":\"2\"")))
+        .andExpect(content().string(endsWith("}\n")));
+    verify(playerService, never()).getAllPlayers();
+    assertThat(
+            meterRegistry
+                .get("player.response.size")
+                .tag("endpoint", "streamPlayers")
+                .summary()
+                .totalAmount())
+        .isEqualTo(result.getResponse().getContentAsByteArray().length);
+    assertThat(
+            meterRegistry
+                .get("player.response.serialization")
+                .tag("endpoint", "streamPlayers")
+                .timer()
+                .count())
+        .isEqualTo(1);
   }
 
   @Test
-  void testGetPlayerById_throwsPlayerNotFoundException_whenNotFound() {
+  void testStreamPlayers_writesJsonArray() throws Exception {
     // Arrange
-    String playerID = "999";
-    when(playerService.getPlayerDTOById(playerID))
-        .thenThrow(new PlayerNotFoundException("Player with ID " + playerID + " not found"));
+    stubForEachPlayer("1", "2");
+
+    // Act
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/players").param("stream", "json"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    // Assert
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[1].playerId").value("2"));
+  }
+
+  @Test
+  void testStreamPlayers_rejectsUnknownFormat() {
+    Throwable thrown = catchThrowable(() -> playerController.streamPlayers("xml"));
+
+    assertThat(thrown).isInstanceOf(InvalidRequestException.class);
+  }
+
+  @Test
+  void testGetPlayersBatch_returnsFoundAndMissing() throws Exception {
+    // Arrange
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId("aaronha01");
+    when(playerService.getPlayersByIds(List.of("aaronha01", "nobody")))
+        .thenReturn(new PlayerBatchDTO(List.of(player), List.of("nobody")));
+
+    // Act
+    MvcResult result =
+        mockMvc
+            .perform(
+                post("/api/players/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[\"aaronha01\",\"nobody\"]"))
+            .andReturn();
+
+    // Assert
+    verify(playerService).getPlayersByIds(List.of("aaronha01", "nobody"));
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.players[0].playerId").value("aaronha01"))
+        .andExpect(jsonPath("$.missingIds[0]").value("nobody"));
+    verify(playerService, never()).forEachPlayerById(any(), any(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testGetPlayersBatch_streamsLargeBatches() throws Exception {
+    // Arrange
+    List<String> playerIds =
+        IntStream.range(0, PlayerService.BATCH_CHUNK_SIZE + 1).mapToObj(i -> "p" + i).toList();
+    doAnswer(
+            invocation -> {
+              Consumer<PlayerDTO> found = invocation.getArgument(1);
+              Consumer<String> missing = invocation.getArgument(2);
+              List<String> ids = invocation.getArgument(0);
+              PlayerDTO player = new PlayerDTO();
+              player.setPlayerId(ids.get(0));
+              found.accept(player);
+              ids.subList(1, ids.size()).forEach(missing);
+              return null;
+            })
+        .when(playerService)
+        .forEachPlayerById(eq(playerIds), any(), any());
+
+    // Act
+    MvcResult result =
+        mockMvc
+            .perform(
+                post("/api/players/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(playerIds)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    // Assert
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.players.length()").value(1))
+        .andExpect(jsonPath("$.players[0].playerId").value("p0"))
+        .andExpect(jsonPath("$.missingIds.length()").value(PlayerService.BATCH_CHUNK_SIZE))
+        .andExpect(jsonPath("$.missingIds[0]").value("p1"));
+    verify(playerService, never()).getPlayersByIds(any());
+  }
+
+  @Test
+  void testGetPlayersBatch_rejectsOversizedBatch() throws Exception {
+    List<String> playerIds = IntStream.range(0, 1001).mapToObj(i -> "p" + i).toList();
+
+    Throwable thrown =
+        catchThrowable(() -> playerController.getPlayersBatch(json(playerIds)));
 
-    // Act & Assert
-    Throwable thrown = catchThrowable(() -> playerController.getPlayerById(playerID));
     assertThat(thrown)
-        .isInstanceOf(PlayerNotFoundException.class)
-        .hasMessageContaining("Player with ID " + playerID + " not found");
+        .isInstanceOf(InvalidRequestException.class)
+        .hasMessageContaining("more than 1000");
+    verifyNoInteractions(playerService);
+  }
 
-    // Verify service method was called
-    verify(playerService, times(1)).getPlayerDTOById(playerID);
+  @Test
+  void testGetPlayersBatch_stopsReadingAtFirstIdOverLimit() throws Exception {
+    // Everything after the 1001st ID is left unparsed, including the malformed tail
+    String ids =
+        IntStream.range(0, 1001).mapToObj(i -> "\"p" + i + "\"").collect(joining(","));
+    ByteArrayInputStream body =
+        new ByteArrayInputStream(("[" + ids + ",{oops").getBytes(StandardCharsets.UTF_8));
+
+    Throwable thrown = catchThrowable(() -> playerController.getPlayersBatch(body));
+
+    assertThat(thrown)
+        .isInstanceOf(InvalidRequestException.class)
+        .hasMessageContaining("more than 1000");
+  }
+
+  @Test
+  void testGetPlayersBatch_rejectsNullIds() throws Exception {
+    ByteArrayInputStream body = json(Arrays.asList("a", null));
+
+    Throwable thrown = catchThrowable(() -> playerController.getPlayersBatch(body));
+
+    assertThat(thrown).isInstanceOf(InvalidRequestException.class);
+  }
+
+  @Test
+  void testGetPlayersBatch_rejectsMalformedBody() {
+    for (String body : List.of("", "{}", "[\"a\"", "[[\"a\"]]", "[\"a\",}")) {
+      Throwable thrown =
+          catchThrowable(
+              () ->
+                  playerController.getPlayersBatch(
+                      new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))));
+
+      assertThat(thrown).as(body).isInstanceOf(InvalidRequestException.class);
+    }
+  }
+
+  private ByteArrayInputStream json(List<String> playerIds) throws Exception {
+    return new ByteArrayInputStream(objectMapper.writeValueAsBytes(playerIds));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void stubForEachPlayer(String... playerIds) {
+    doAnswer(
+            invocation -> {
+              Consumer<PlayerDTO> action = invocation.getArgument(0);
+              for (String playerId : playerIds) {
+                PlayerDTO player = new PlayerDTO();
+                player.setPlayerId(playerId);
+                action.accept(player);
+              }
+              return null;
+            })
+        .when(playerService)
+        .forEachPlayer(any());
+  }
+
+  /** MockMvc of a controller serving the list and pages precompressed in gzip and zstd. */
+  private MockMvc compressingMockMvc() {
+    PlayerController compressingController =
+        new PlayerController(
+            playerService,
+            playerStats,
+            objectMapper,
+            responseCache,
+            playerVersions,
+            new ResponseCompression(false, List.of("gzip", "zstd")),
+            new ResponseMetrics(meterRegistry),
+            Duration.ZERO,
+            1000);
+    return MockMvcBuilders.standaloneSetup(compressingController).build();
+  }
+
+  private static ServletWebRequest webRequest() {
+    return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
   }
 }
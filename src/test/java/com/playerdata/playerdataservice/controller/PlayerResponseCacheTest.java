@@ -0,0 +1,206 @@
+package com.playerdata.playerdataservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.dto.PlayerPageDTO;
+import com.playerdata.playerdataservice.service.PlayerChanges;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PlayerResponseCacheTest {
+
+  private final ObjectMapper objectMapper =
+      JsonMapper.builder()
+          .findAndAddModules()
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .build();
+
+  private PlayerResponseCache responseCache;
+  private PlayerDTO first;
+  private PlayerDTO second;
+
+  @BeforeEach
+  void setUp() {
+    responseCache =
+        new PlayerResponseCache(
+            objectMapper, true, new ResponseCompression(false, List.of()), 0);
+    first = player("aaronha01", "Hank \"Hammer\"");
+    second = player("ruthba01", "Babe");
+    responseCache.prepareLoad(List.of(first, second)).run();
+  }
+
+  @Test
+  void testFindPlayer_matchesJacksonOutput() throws Exception {
+    assertArrayEquals(
+        objectMapper.writeValueAsBytes(first), responseCache.findPlayer("aaronha01"));
+    assertNull(responseCache.findPlayer("unknown"));
+  }
+
+  @Test
+  void testAllPlayers_matchesJacksonOutput() throws Exception {
+    assertArrayEquals(
+        objectMapper.writeValueAsBytes(List.of(first, second)),
+        responseCache.allPlayers());
+  }
+
+  @Test
+  void testPage_matchesJacksonOutput() throws Exception {
+    PlayerPageDTO page = new PlayerPageDTO(List.of(first), "aaronha01");
+    PlayerPageDTO lastPage = new PlayerPageDTO(List.of(second), null);
+    PlayerPageDTO emptyPage = new PlayerPageDTO(List.of(), null);
+
+    assertArrayEquals(objectMapper.writeValueAsBytes(page), responseCache.page(null, 1));
+    assertArrayEquals(objectMapper.writeValueAsBytes(lastPage), responseCache.page("b", 5));
+    assertArrayEquals(
+        objectMapper.writeValueAsBytes(emptyPage), responseCache.page("ruthba01", 1));
+  }
+
+  @Test
+  void testPage_escapesCursorLikeJackson() throws Exception {
+    PlayerDTO odd = player("a\"b\\c\n\u0001é", "Odd");
+    responseCache.prepareLoad(List.of(odd, first)).run();
+
+    assertArrayEquals(
+        objectMapper.writeValueAsBytes(new PlayerPageDTO(List.of(odd), odd.getPlayerId())),
+        responseCache.page(null, 1));
+  }
+
+  @Test
+  void testPlayersChanged_reserializesOnlyChangedPlayers() throws Exception {
+    byte[] unchanged = responseCache.findPlayer("aaronha01");
+    PlayerDTO updated = player("ruthba01", "George");
+    PlayerDTO inserted = player("zimmedo01", "Don");
+
+    responseCache
+        .prepareChanges(
+            List.of(first, updated, inserted),
+            new PlayerChanges(List.of(inserted), List.of(updated), List.of()))
+        .run();
+
+    assertSame(unchanged, responseCache.findPlayer("aaronha01"));
+    assertArrayEquals(
+        objectMapper.writeValueAsBytes(updated), responseCache.findPlayer("ruthba01"));
+    assertArrayEquals(
+        objectMapper.writeValueAsBytes(List.of(first, updated, inserted)),
+        responseCache.allPlayers());
+  }
+
+  @Test
+  void testPrepareChanges_publishesOnlyWhenRun() throws Exception {
+    byte[] before = responseCache.findPlayer("ruthba01");
+    byte[] list = responseCache.allPlayers();
+    PlayerDTO updated = player("ruthba01", "George");
+
+    Runnable publication =
+        responseCache.prepareChanges(
+            List.of(first, updated), new PlayerChanges(List.of(), List.of(updated), List.of()));
+
+    assertSame(before, responseCache.findPlayer("ruthba01"));
+    assertSame(list, responseCache.allPlayers());
+    publication.run();
+    assertArrayEquals(
+        objectMapper.writeValueAsBytes(updated), responseCache.findPlayer("ruthba01"));
+  }
+
+  @Test
+  void testPlayersChanged_dropsDeletedPlayers() throws Exception {
+    responseCache
+        .prepareChanges(
+            List.of(second), new PlayerChanges(List.of(), List.of(), List.of("aaronha01")))
+        .run();
+
+    assertNull(responseCache.findPlayer("aaronha01"));
+    assertArrayEquals(objectMapper.writeValueAsBytes(List.of(second)), responseCache.allPlayers());
+  }
+
+  @Test
+  void testPrecompressed_decompressesToPrecomputedBytes() throws Exception {
+    PlayerResponseCache compressing = compressingCache(16);
+    assertArrayEquals(compressing.allPlayers(), gunzip(compressing.allPlayers(ContentCoding.GZIP)));
+    assertArrayEquals(
+        compressing.page(null, 1), gunzip(compressing.page(null, 1, ContentCoding.GZIP)));
+    assertNull(compressing.allPlayers(ContentCoding.ZSTD));
+    assertNull(compressing.page(null, 1, ContentCoding.ZSTD));
+  }
+
+  @Test
+  void testPrecompressed_keepsPagesUntilNextLoad() throws Exception {
+    PlayerResponseCache compressing = compressingCache(16);
+    byte[] before = compressing.page(null, 1, ContentCoding.GZIP);
+
+    assertSame(before, compressing.page(null, 1, ContentCoding.GZIP));
+
+    PlayerDTO updated = player("aaronha01", "Henry");
+    compressing
+        .prepareChanges(
+            List.of(updated, second), new PlayerChanges(List.of(), List.of(updated), List.of()))
+        .run();
+    PlayerPageDTO updatedPage = new PlayerPageDTO(List.of(updated), "aaronha01");
+
+    assertArrayEquals(
+        objectMapper.writeValueAsBytes(updatedPage),
+        gunzip(compressing.page(null, 1, ContentCoding.GZIP)));
+  }
+
+  @Test
+  void testPrecompressed_stopsCompressingPagesAtLimit() {
+    PlayerResponseCache compressing = compressingCache(1);
+
+    assertNotNull(compressing.page(null, 1, ContentCoding.GZIP));
+    assertNull(compressing.page("aaronha01", 1, ContentCoding.GZIP));
+  }
+
+  @Test
+  void testDisabled_precomputesNothing() {
+    PlayerResponseCache disabled =
+        new PlayerResponseCache(
+            objectMapper, false, new ResponseCompression(false, List.of("gzip")), 16);
+
+    disabled.prepareLoad(List.of(first)).run();
+
+    assertFalse(disabled.isEnabled());
+    assertNull(disabled.findPlayer("aaronha01"));
+    assertNull(disabled.allPlayers());
+    assertNull(disabled.allPlayers(ContentCoding.GZIP));
+    assertNull(disabled.page(null, 1));
+  }
+
+  private PlayerResponseCache compressingCache(int maxCompressedPages) {
+    PlayerResponseCache compressing =
+        new PlayerResponseCache(
+            objectMapper,
+            true,
+            new ResponseCompression(false, List.of("gzip")),
+            maxCompressedPages);
+    compressing.prepareLoad(List.of(first, second)).run();
+    return compressing;
+  }
+
+  private static byte[] gunzip(byte[] body) throws Exception {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      return in.readAllBytes();
+    }
+  }
+
+  private static PlayerDTO player(String playerId, String firstName) {
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId(playerId);
+    player.setFirstName(firstName);
+    player.setBirthYear(1934);
+    player.setDebut(LocalDate.of(1954, 4, 13));
+    return player;
+  }
+}
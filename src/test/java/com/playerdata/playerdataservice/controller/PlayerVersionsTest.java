@@ -0,0 +1,142 @@
+package com.playerdata.playerdataservice.controller;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.service.PlayerChanges;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlayerVersionsTest {
+
+  private Clock clock;
+  private PlayerVersions playerVersions;
+
+  @BeforeEach
+  void setUp() {
+    clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(1_000L);
+    playerVersions = new PlayerVersions(clock);
+    playerVersions.prepareLoad(List.of(player("a", "Hank"), player("b", "Babe"))).run();
+  }
+
+  @Test
+  void testFindPlayer_returnsStrongETagPerPlayer() {
+    PlayerVersions.Version a = playerVersions.findPlayer("a");
+
+    assertTrue(a.eTag().startsWith("\"") && a.eTag().endsWith("\""));
+    assertNotEquals(a.eTag(), playerVersions.findPlayer("b").eTag());
+    assertEquals(1_000L, a.lastModified());
+    assertNull(playerVersions.findPlayer("c"));
+  }
+
+  @Test
+  void testReload_keepsValidatorsOfUnchangedPlayers() {
+    PlayerVersions.Version a = playerVersions.findPlayer("a");
+    PlayerVersions.Version b = playerVersions.findPlayer("b");
+    PlayerVersions.Version all = playerVersions.allPlayers();
+    when(clock.millis()).thenReturn(2_000L);
+
+    playerVersions.prepareLoad(List.of(player("a", "Hank"), player("b", "George"))).run();
+
+    assertSame(a, playerVersions.findPlayer("a"));
+    assertNotEquals(b.eTag(), playerVersions.findPlayer("b").eTag());
+    assertEquals(2_000L, playerVersions.findPlayer("b").lastModified());
+    assertNotEquals(all.eTag(), playerVersions.allPlayers().eTag());
+    assertEquals(2_000L, playerVersions.allPlayers().lastModified());
+  }
+
+  @Test
+  void testPrepareChanges_publishesOnlyWhenRun() {
+    PlayerVersions.Version b = playerVersions.findPlayer("b");
+    PlayerDTO george = player("b", "George");
+
+    Runnable publication =
+        playerVersions.prepareChanges(
+            List.of(player("a", "Hank"), george),
+            new PlayerChanges(List.of(), List.of(george), List.of()));
+
+    assertSame(b, playerVersions.findPlayer("b"));
+    publication.run();
+    assertNotEquals(b.eTag(), playerVersions.findPlayer("b").eTag());
+  }
+
+  @Test
+  void testReload_withSameContentKeepsListValidators() {
+    PlayerVersions.Version all = playerVersions.allPlayers();
+    when(clock.millis()).thenReturn(2_000L);
+
+    playerVersions.prepareLoad(List.of(player("a", "Hank"), player("b", "Babe"))).run();
+
+    assertSame(all, playerVersions.allPlayers());
+  }
+
+  @Test
+  void testPlayersChanged_digestsOnlyChangedPlayers() {
+    PlayerVersions.Version a = playerVersions.findPlayer("a");
+    PlayerVersions.Version all = playerVersions.allPlayers();
+    when(clock.millis()).thenReturn(2_000L);
+    PlayerDTO b = player("b", "George");
+    PlayerDTO c = player("c", "Cy");
+
+    playerVersions
+        .prepareChanges(
+            List.of(player("a", "Hank"), b, c),
+            new PlayerChanges(List.of(c), List.of(b), List.of()))
+        .run();
+
+    assertSame(a, playerVersions.findPlayer("a"));
+    assertEquals(2_000L, playerVersions.findPlayer("b").lastModified());
+    assertEquals(2_000L, playerVersions.findPlayer("c").lastModified());
+    assertNotEquals(all.eTag(), playerVersions.allPlayers().eTag());
+
+    // Same content as a full load of the same players
+    PlayerVersions loaded = new PlayerVersions(clock);
+    loaded.prepareLoad(List.of(player("a", "Hank"), b, c)).run();
+    assertEquals(loaded.allPlayers().eTag(), playerVersions.allPlayers().eTag());
+    assertEquals(loaded.findPlayer("b").eTag(), playerVersions.findPlayer("b").eTag());
+  }
+
+  @Test
+  void testPage_dependsOnListAndParameters() {
+    String first = playerVersions.page(null, 10).eTag();
+
+    assertEquals(first, playerVersions.page(null, 10).eTag());
+    assertNotEquals(first, playerVersions.page(null, 20).eTag());
+    assertNotEquals(first, playerVersions.page("", 10).eTag());
+    assertNotEquals(first, playerVersions.page("a", 10).eTag());
+    assertEquals(
+        playerVersions.allPlayers().lastModified(), playerVersions.page("a", 10).lastModified());
+
+    playerVersions.prepareLoad(List.of(player("a", "Hank"))).run();
+    assertNotEquals(first, playerVersions.page(null, 10).eTag());
+  }
+
+  @Test
+  void testStats_dependsOnListAndQuery() {
+    String first = playerVersions.stats("groupBy=bats&metrics=count").eTag();
+
+    assertEquals(first, playerVersions.stats("groupBy=bats&metrics=count").eTag());
+    assertNotEquals(first, playerVersions.stats("groupBy=&metrics=count").eTag());
+    assertNotEquals(first, playerVersions.page(null, 10).eTag());
+
+    playerVersions.prepareLoad(List.of(player("a", "Hank"))).run();
+    assertNotEquals(first, playerVersions.stats("groupBy=bats&metrics=count").eTag());
+  }
+
+  private static PlayerDTO player(String playerId, String firstName) {
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId(playerId);
+    player.setFirstName(firstName);
+    return player;
+  }
+}
@@ -0,0 +1,59 @@
+package com.playerdata.playerdataservice.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadPinningMonitorTest {
+
+  @Test
+  void testStart_reportsVirtualThreadBlockedInsideSynchronized() throws Exception {
+    // Arrange
+    VirtualThreadPinningMonitor monitor =
+        new VirtualThreadPinningMonitor(true, Duration.ofMillis(1));
+    Object lock = new Object();
+    monitor.start();
+    try {
+      // Act
+      Thread.ofVirtual()
+          .start(
+              () -> {
+                synchronized (lock) {
+                  sleep(100);
+                }
+              })
+          .join();
+
+      // Assert: JFR delivers events in periodic flushes
+      long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+      while (monitor.getPinnedCount() == 0 && System.nanoTime() < deadline) {
+        Thread.sleep(50);
+      }
+      assertTrue(monitor.getPinnedCount() > 0);
+    } finally {
+      monitor.stop();
+    }
+  }
+
+  @Test
+  void testStart_doesNothingWhenDisabled() {
+    VirtualThreadPinningMonitor monitor =
+        new VirtualThreadPinningMonitor(false, Duration.ofMillis(1));
+
+    monitor.start();
+    monitor.stop();
+
+    assertEquals(0, monitor.getPinnedCount());
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
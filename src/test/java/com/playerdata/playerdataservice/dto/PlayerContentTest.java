@@ -0,0 +1,80 @@
+package com.playerdata.playerdataservice.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class PlayerContentTest {
+
+  @Test
+  void testBytes_dependOnlyOnFieldValues() {
+    assertArrayEquals(PlayerContent.bytes(player()), PlayerContent.bytes(player()));
+    assertEquals(PlayerContent.hash(player()), PlayerContent.hash(player()));
+  }
+
+  @Test
+  void testBytes_changeWithEveryField() throws Exception {
+    // Guards against a field added to PlayerDTO but not to the encoding
+    byte[] original = PlayerContent.bytes(player());
+    for (Field field : PlayerDTO.class.getDeclaredFields()) {
+      if (Modifier.isStatic(field.getModifiers())) {
+        continue;
+      }
+      PlayerDTO changed = player();
+      field.setAccessible(true);
+      field.set(changed, null);
+
+      assertFalse(Arrays.equals(original, PlayerContent.bytes(changed)), field.getName());
+      assertNotEquals(PlayerContent.hash(player()), PlayerContent.hash(changed), field.getName());
+    }
+  }
+
+  @Test
+  void testBytes_keepAdjacentFieldsApart() {
+    PlayerDTO first = player();
+    first.setFirstName("Ab");
+    first.setLastName("c");
+    PlayerDTO second = player();
+    second.setFirstName("A");
+    second.setLastName("bc");
+
+    assertNotEquals(PlayerContent.hash(first), PlayerContent.hash(second));
+  }
+
+  private static PlayerDTO player() {
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId("aaronha01");
+    player.setBirthYear(1934);
+    player.setBirthMonth(2);
+    player.setBirthDay(5);
+    player.setBirthCountry("USA");
+    player.setBirthState("AL");
+    player.setBirthCity("Mobile");
+    player.setDeathYear(2021);
+    player.setDeathMonth(1);
+    player.setDeathDay(22);
+    player.setDeathCountry("USA");
+    player.setDeathState("GA");
+    player.setDeathCity("Atlanta");
+    player.setFirstName("Hank");
+    player.setLastName("Aaron");
+    player.setGivenName("Henry Louis");
+    player.setWeight(180);
+    player.setHeight(72);
+    player.setBats("R");
+    player.setThrowingHand("R");
+    player.setDebut(LocalDate.of(1954, 4, 13));
+    player.setFinalGame(LocalDate.of(1976, 10, 3));
+    player.setRetroId("aaroh101");
+    player.setBbrefId("aaronha01");
+    return player;
+  }
+}
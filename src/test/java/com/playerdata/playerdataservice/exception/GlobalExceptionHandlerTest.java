@@ -8,6 +8,9 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
@@ -45,6 +48,64 @@ class GlobalExceptionHandlerTest {
         assertEquals(requestURI, errorResponse.getPath());
     }
 
+    @Test
+    void testHandleInvalidRequestException() {
+        // Arrange
+        InvalidRequestException exception = new InvalidRequestException("limit must be between 1 and 1000");
+        String requestURI = "/api/players";
+        when(request.getRequestURI()).thenReturn(requestURI);
+
+        // Act
+        ResponseEntity<ErrorResponseDto> responseEntity = globalExceptionHandler.handleInvalidRequestException(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+        ErrorResponseDto errorResponse = responseEntity.getBody();
+        assert errorResponse != null;
+        assertEquals(HttpStatus.BAD_REQUEST.value(), errorResponse.getStatusCode());
+        assertEquals("Bad Request", errorResponse.getError());
+        assertEquals("limit must be between 1 and 1000", errorResponse.getMessage());
+        assertEquals(requestURI, errorResponse.getPath());
+    }
+
+    @Test
+    void testHandleBindingException() {
+        // Arrange
+        MethodArgumentTypeMismatchException exception =
+                new MethodArgumentTypeMismatchException("abc", Integer.class, "debutFrom", null, null);
+        String requestURI = "/api/players/search";
+        when(request.getRequestURI()).thenReturn(requestURI);
+
+        // Act
+        ResponseEntity<ErrorResponseDto> responseEntity = globalExceptionHandler.handleBindingException(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+        ErrorResponseDto errorResponse = responseEntity.getBody();
+        assert errorResponse != null;
+        assertEquals("Invalid value for parameter 'debutFrom'", errorResponse.getMessage());
+        assertEquals(requestURI, errorResponse.getPath());
+    }
+
+    @Test
+    void testHandleUnreadableBody() {
+        // Arrange
+        HttpMessageNotReadableException exception =
+                new HttpMessageNotReadableException("JSON parse error", new MockHttpInputMessage(new byte[0]));
+        String requestURI = "/api/players/batch";
+        when(request.getRequestURI()).thenReturn(requestURI);
+
+        // Act
+        ResponseEntity<ErrorResponseDto> responseEntity = globalExceptionHandler.handleUnreadableBody(exception, request);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+        ErrorResponseDto errorResponse = responseEntity.getBody();
+        assert errorResponse != null;
+        assertEquals("Request body is missing or malformed", errorResponse.getMessage());
+        assertEquals(requestURI, errorResponse.getPath());
+    }
+
     @Test
     void testHandleGeneralException() {
         // Arrange
@@ -0,0 +1,186 @@
+package com.playerdata.playerdataservice.ingest;
+
+import com.playerdata.playerdataservice.model.Player;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlayerConstraintsTest {
+
+  /** Values around every bound of the constraints, including dates LocalDate rejects. */
+  private static final Integer[] YEARS = {
+    null, Integer.MIN_VALUE, -1, 0, 1, 1899, 1900, 1952, 1953, 2000, Year.MAX_VALUE,
+    Year.MAX_VALUE + 1, Integer.MAX_VALUE
+  };
+
+  private static final Integer[] MONTHS = {null, -1, 0, 1, 2, 3, 11, 12, 13};
+  private static final Integer[] DAYS = {null, 0, 1, 2, 28, 29, 30, 31, 32};
+  private static final Integer[] MEASURES = {null, Integer.MIN_VALUE, -1, 0, 1, 180};
+  private static final String[] HANDS = {null, "", "L", "R", "B", "LR", "l", "L\n", " R"};
+  private static final String[] NAMES = {null, "", "Hank"};
+  private static final LocalDate[] DATES = {
+    null, LocalDate.of(1954, 4, 13), LocalDate.of(1954, 4, 14), LocalDate.of(1976, 10, 3)
+  };
+
+  private static Validator validator;
+
+  @BeforeAll
+  static void setUpValidator() {
+    try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+      validator = factory.getValidator();
+    }
+  }
+
+  @Test
+  void testViolations_matchBeanValidationOnRandomPlayers() {
+    // Arrange
+    Random random = new Random(42);
+
+    for (int i = 0; i < 50_000; i++) {
+      Player player = randomPlayer(random);
+
+      // Act
+      Map<String, String> compiled = compiledErrors(player);
+
+      // Assert
+      assertEquals(beanErrors(player), compiled, () -> "Verdicts differ for " + describe(player));
+    }
+  }
+
+  @Test
+  void testViolations_matchBeanValidationOnDateEdgeCases() {
+    // Arrange: every birth and death date combination of one year pair around a leap day
+    for (Integer birthYear : new Integer[] {1952, 1953}) {
+      for (Integer deathYear : new Integer[] {1952, 1953}) {
+        for (Integer birthMonth : MONTHS) {
+          for (Integer birthDay : DAYS) {
+            for (Integer deathMonth : new Integer[] {null, 2, 3}) {
+              for (Integer deathDay : new Integer[] {null, 1, 28, 29}) {
+                Player player = validPlayer();
+                player.setBirthYear(birthYear);
+                player.setBirthMonth(birthMonth);
+                player.setBirthDay(birthDay);
+                player.setDeathYear(deathYear);
+                player.setDeathMonth(deathMonth);
+                player.setDeathDay(deathDay);
+
+                // Act
+                Map<String, String> compiled = compiledErrors(player);
+
+                // Assert
+                assertEquals(
+                    beanErrors(player), compiled, () -> "Verdicts differ for " + describe(player));
+              }
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void testViolations_validPlayerHasNone() {
+    assertEquals(0, PlayerConstraints.violations(validPlayer()));
+  }
+
+  @Test
+  void testRuleOf_decodesMaskInDeclarationOrder() {
+    int mask =
+        1 << PlayerConstraints.Rule.BATS_PATTERN.ordinal()
+            | 1 << PlayerConstraints.Rule.BIRTH_YEAR_POSITIVE.ordinal();
+
+    assertEquals(
+        List.of(
+            PlayerConstraints.Rule.BIRTH_YEAR_POSITIVE, PlayerConstraints.Rule.BATS_PATTERN),
+        PlayerConstraints.Rule.of(mask));
+    assertEquals("bats.Pattern", PlayerConstraints.Rule.BATS_PATTERN.ruleName());
+  }
+
+  private static Map<String, String> compiledErrors(Player player) {
+    Map<String, String> errors = new TreeMap<>();
+    for (PlayerConstraints.Rule rule :
+        PlayerConstraints.Rule.of(PlayerConstraints.violations(player))) {
+      errors.put(rule.ruleName(), rule.message());
+    }
+    return errors;
+  }
+
+  private static Map<String, String> beanErrors(Player player) {
+    Map<String, String> errors = new TreeMap<>();
+    for (ConstraintViolation<Player> violation : validator.validate(player)) {
+      errors.put(PlayerIngestPipeline.ruleName(violation), violation.getMessage());
+    }
+    return errors;
+  }
+
+  private static Player randomPlayer(Random random) {
+    return new Player(
+        pick(random, new String[] {null, "aaronha01"}),
+        pick(random, YEARS),
+        pick(random, MONTHS),
+        pick(random, DAYS),
+        "USA",
+        "AL",
+        "Mobile",
+        pick(random, YEARS),
+        pick(random, MONTHS),
+        pick(random, DAYS),
+        "",
+        "",
+        "",
+        pick(random, NAMES),
+        pick(random, NAMES),
+        "Henry Louis",
+        pick(random, MEASURES),
+        pick(random, MEASURES),
+        pick(random, HANDS),
+        pick(random, HANDS),
+        pick(random, DATES),
+        pick(random, DATES),
+        "aaroh101",
+        "aaronha01");
+  }
+
+  private static Player validPlayer() {
+    return new Player(
+        "aaronha01", 1934, 2, 5, "USA", "AL", "Mobile", 2021, 1, 22, "USA", "GA", "Atlanta",
+        "Hank", "Aaron", "Henry Louis", 180, 72, "R", "R", LocalDate.of(1954, 4, 13),
+        LocalDate.of(1976, 10, 3), "aaroh101", "aaronha01");
+  }
+
+  private static <T> T pick(Random random, T[] values) {
+    return values[random.nextInt(values.length)];
+  }
+
+  private static String describe(Player player) {
+    return String.format(
+        "%s born %s-%s-%s died %s-%s-%s, names %s/%s, %s lb %s in, bats %s throws %s, %s to %s",
+        player.getPlayerId(),
+        player.getBirthYear(),
+        player.getBirthMonth(),
+        player.getBirthDay(),
+        player.getDeathYear(),
+        player.getDeathMonth(),
+        player.getDeathDay(),
+        player.getFirstName(),
+        player.getLastName(),
+        player.getWeight(),
+        player.getHeight(),
+        player.getBats(),
+        player.getThrowingHand(),
+        player.getDebut(),
+        player.getFinalGame());
+  }
+}
@@ -0,0 +1,340 @@
+package com.playerdata.playerdataservice.ingest;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.playerdata.playerdataservice.ingest.PlayerIngestPipeline.ValidationMode.COMPILED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class PlayerIngestPipelineTest {
+
+  private static final String HEADER =
+      "playerID,birthYear,birthMonth,birthDay,birthCountry,birthState,birthCity,deathYear,"
+          + "deathMonth,deathDay,deathCountry,deathState,deathCity,nameFirst,nameLast,nameGiven,"
+          + "weight,height,bats,throws,debut,finalGame,retroID,bbrefID";
+
+  private static final PlayerSnapshots NO_SNAPSHOTS = new PlayerSnapshots(false, null);
+
+  private static Validator validator;
+
+  @TempDir Path tempDir;
+
+  @BeforeAll
+  static void setUpValidator() {
+    try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+      validator = factory.getValidator();
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(PlayerIngestPipeline.Parser.class)
+  void testIngest_writesValidRowsAndCountsRejects(PlayerIngestPipeline.Parser parser)
+      throws Exception {
+    // Arrange
+    Path csv =
+        writeCsv(
+            "aaronha01,1934,2,5,USA,AL,Mobile,,,,,,,Hank,Aaron,Henry Louis,180,72,R,R,"
+                + "13/04/1954,03/10/1976,aaroh101,aaronha01",
+            "badbats01,1950,1,1,USA,CA,LA,,,,,,,Bad,Bats,Bad Bats,180,72,B,R,"
+                + "01/01/1970,01/01/1975,badb001,badbats01",
+            "malform01,19x0,1,1,USA,CA,LA,,,,,,,Mal,Formed,Mal Formed,180,72,R,R,"
+                + "01/01/1970,01/01/1975,malf001,malform01",
+            "aaronha01,1934,2,5,USA,AL,Mobile,,,,,,,Hank,Aaron,Henry Louis,190,72,R,R,"
+                + "13/04/1954,03/10/1976,aaroh101,aaronha01",
+            "aardsda01,1981,12,27,USA,CO,Denver,,,,,,,David,Aardsma,David Allan,215,75,R,R,"
+                + "06/04/2004,23/08/2015,aardd001,aardsda01");
+    PlayerBatchWriter writer = mock(PlayerBatchWriter.class);
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    PlayerIngestPipeline pipeline =
+        new PlayerIngestPipeline(
+            validator, csv, 2, 2, parser, COMPILED, false, NO_SNAPSHOTS, meterRegistry);
+
+    // Act
+    IngestReport report = pipeline.ingest(writer);
+
+    // Assert
+    assertEquals(5, report.rowsRead());
+    assertEquals(2, report.rowsLoaded());
+    assertEquals(3, report.rowsRejected());
+    assertEquals(List.of("aaronha01", "aardsda01"), writtenIds(writer));
+    // The later row of aaronha01 replaces the one written with the first batch
+    verify(writer)
+        .replace(argThat(players -> players.size() == 1 && players.get(0).getWeight() == 190));
+    verify(writer).complete();
+    assertEquals(5, meterRegistry.get("player.ingest.rows.read").counter().count());
+    assertEquals(2, meterRegistry.get("player.ingest.rows.loaded").counter().count());
+    assertEquals(3, meterRegistry.get("player.ingest.rows.rejected").counter().count());
+    assertEquals(1, rejections(meterRegistry, "bats.Pattern"));
+    assertEquals(1, rejections(meterRegistry, "malformed"));
+    assertEquals(1, rejections(meterRegistry, "duplicateId"));
+    assertEquals(
+        Map.of("bats.Pattern", 1L, "malformed", 1L, "duplicateId", 1L),
+        report.rejects().byRule());
+    assertEquals(
+        List.of("badbats01", "malform01", "aaronha01"),
+        report.rejects().samples().stream().map(RejectReport.RejectedRow::playerId).toList());
+    assertEquals(
+        Map.of("bats.Pattern", "Bats must be 'L' (left) or 'R' (right)"),
+        report.rejects().samples().get(0).errors());
+    assertEquals(1, meterRegistry.get("player.ingest.duration").timer().count());
+    assertTrue(meterRegistry.get("player.ingest.throughput").gauge().value() > 0);
+  }
+
+  @ParameterizedTest
+  @EnumSource(PlayerIngestPipeline.Parser.class)
+  void testIngest_lastRowOfRepeatedIdWinsWithinBatch(PlayerIngestPipeline.Parser parser)
+      throws Exception {
+    // Arrange
+    Path csv =
+        writeCsv(
+            "aaronha01,1934,2,5,USA,AL,Mobile,,,,,,,Hank,Aaron,Henry Louis,180,72,R,R,"
+                + "13/04/1954,03/10/1976,aaroh101,aaronha01",
+            "aaronha01,1934,2,5,USA,AL,Mobile,,,,,,,Hank,Aaron,Henry Louis,190,72,R,R,"
+                + "13/04/1954,03/10/1976,aaroh101,aaronha01");
+    PlayerBatchWriter writer = mock(PlayerBatchWriter.class);
+    PlayerIngestPipeline pipeline =
+        new PlayerIngestPipeline(
+            validator, csv, 100, 1, parser, COMPILED, false, NO_SNAPSHOTS,
+            new SimpleMeterRegistry());
+
+    // Act
+    IngestReport report = pipeline.ingest(writer);
+
+    // Assert
+    assertEquals(1, report.rowsLoaded());
+    assertEquals(1, report.rowsRejected());
+    assertEquals(List.of(190), writtenPlayers(writer).stream().map(Player::getWeight).toList());
+    verify(writer, never()).replace(any());
+  }
+
+  @ParameterizedTest
+  @EnumSource(PlayerIngestPipeline.Parser.class)
+  void testIngest_emptyFileWritesNothing(PlayerIngestPipeline.Parser parser) throws Exception {
+    // Arrange
+    Path csv = writeCsv();
+    PlayerBatchWriter writer = mock(PlayerBatchWriter.class);
+    PlayerIngestPipeline pipeline = new PlayerIngestPipeline(
+            validator, csv, 100, 0, parser, COMPILED, false, NO_SNAPSHOTS,
+            new SimpleMeterRegistry());
+
+    // Act
+    IngestReport report = pipeline.ingest(writer);
+
+    // Assert
+    assertEquals(0, report.rowsRead());
+    assertEquals(0, report.rowsLoaded());
+    verify(writer, never()).write(any());
+    verify(writer).complete();
+  }
+
+  @ParameterizedTest
+  @EnumSource(PlayerIngestPipeline.Parser.class)
+  void testIngest_compiledAndBeanValidationRejectTheSameRows(PlayerIngestPipeline.Parser parser)
+      throws Exception {
+    // Arrange
+    Path csv =
+        writeCsv(
+            "aaronha01,1934,2,5,USA,AL,Mobile,,,,,,,Hank,Aaron,Henry Louis,180,72,R,R,"
+                + "13/04/1954,03/10/1976,aaroh101,aaronha01",
+            "baddeath1,1950,2,29,USA,CA,LA,1940,1,1,USA,CA,LA,Bad,Death,Bad Death,0,72,B,X,"
+                + "01/01/1975,01/01/1970,badd001,baddeath1",
+            "badmonth1,1950,13,0,USA,CA,LA,2000,0,32,USA,CA,LA,Bad,Month,Bad Month,180,-1,R,R,"
+                + "01/01/1970,01/01/1975,badm001,badmonth1",
+            "leapday01,1952,2,29,USA,CA,LA,1952,3,1,USA,CA,LA,Leap,Day,Leap Day,180,72,L,L,"
+                + "01/01/1970,01/01/1970,leap001,leapday01");
+    IngestReport[] reports = new IngestReport[2];
+
+    // Act
+    for (PlayerIngestPipeline.ValidationMode validation :
+        PlayerIngestPipeline.ValidationMode.values()) {
+      reports[validation.ordinal()] =
+          new PlayerIngestPipeline(
+                  validator,
+                  csv,
+                  2,
+                  2,
+                  parser,
+                  validation,
+                  false,
+                  NO_SNAPSHOTS,
+                  new SimpleMeterRegistry())
+              .ingest(mock(PlayerBatchWriter.class));
+    }
+
+    // Assert
+    assertEquals(2, reports[0].rowsLoaded());
+    assertEquals(reports[1].rejects(), reports[0].rejects());
+    assertEquals(
+        Set.of(
+            "validDeathDate.AssertTrue",
+            "validDebutDate.AssertTrue",
+            "weight.Positive",
+            "bats.Pattern",
+            "throwingHand.Pattern"),
+        reports[0].rejects().samples().get(0).errors().keySet());
+  }
+
+  @Test
+  void testIngest_runsWriterOnVirtualThreadWhenEnabled() throws Exception {
+    // Arrange
+    Path csv =
+        writeCsv(
+            "aaronha01,1934,2,5,USA,AL,Mobile,,,,,,,Hank,Aaron,Henry Louis,180,72,R,R,"
+                + "13/04/1954,03/10/1976,aaroh101,aaronha01");
+    List<Thread> writerThreads = new ArrayList<>();
+    PlayerBatchWriter writer =
+        new PlayerBatchWriter() {
+          @Override
+          public void write(List<Player> batch) {
+            writerThreads.add(Thread.currentThread());
+          }
+
+          @Override
+          public void replace(List<Player> players) {}
+
+          @Override
+          public void complete() {
+            writerThreads.add(Thread.currentThread());
+          }
+        };
+    PlayerIngestPipeline pipeline =
+        new PlayerIngestPipeline(
+            validator,
+            csv,
+            100,
+            1,
+            PlayerIngestPipeline.Parser.MAPPED,
+            COMPILED,
+            true,
+            NO_SNAPSHOTS,
+            new SimpleMeterRegistry());
+
+    // Act
+    IngestReport report = pipeline.ingest(writer);
+
+    // Assert
+    assertEquals(1, report.rowsLoaded());
+    assertEquals(2, writerThreads.size());
+    assertTrue(writerThreads.stream().allMatch(Thread::isVirtual));
+    assertEquals("player-ingest-writer", writerThreads.get(0).getName());
+  }
+
+  @Test
+  void testIngest_restoresUnchangedFileFromSnapshot() throws Exception {
+    // Arrange
+    Path csv =
+        writeCsv(
+            "aaronha01,1934,2,5,USA,AL,Mobile,,,,,,,Hank,Aaron,Henry Louis,180,72,R,R,"
+                + "13/04/1954,03/10/1976,aaroh101,aaronha01",
+            "badbats01,1950,1,1,USA,CA,LA,,,,,,,Bad,Bats,Bad Bats,180,72,B,R,"
+                + "01/01/1970,01/01/1975,badb001,badbats01",
+            "aardsda01,1981,12,27,USA,CO,Denver,,,,,,,David,Aardsma,David Allan,215,75,R,R,"
+                + "06/04/2004,23/08/2015,aardd001,aardsda01");
+    PlayerIngestPipeline pipeline = snapshotPipeline(csv);
+    PlayerBatchWriter parsed = mock(PlayerBatchWriter.class);
+    pipeline.ingest(parsed);
+    PlayerBatchWriter restored = mock(PlayerBatchWriter.class);
+
+    // Act
+    IngestReport report = pipeline.ingest(restored);
+
+    // Assert
+    assertEquals(2, report.rowsLoaded());
+    assertEquals(0, report.rowsRejected());
+    assertEquals(List.of("aaronha01", "aardsda01"), writtenIds(restored));
+    assertEquals(writtenDtos(parsed), writtenDtos(restored));
+    verify(restored).complete();
+  }
+
+  @Test
+  void testIngest_parsesFileAgainWhenItChangedOrSnapshotIsCorrupt() throws Exception {
+    // Arrange
+    Path csv =
+        writeCsv(
+            "aaronha01,1934,2,5,USA,AL,Mobile,,,,,,,Hank,Aaron,Henry Louis,180,72,R,R,"
+                + "13/04/1954,03/10/1976,aaroh101,aaronha01");
+    PlayerIngestPipeline pipeline = snapshotPipeline(csv);
+    pipeline.ingest(mock(PlayerBatchWriter.class));
+    writeCsv(
+        "aardsda01,1981,12,27,USA,CO,Denver,,,,,,,David,Aardsma,David Allan,215,75,R,R,"
+            + "06/04/2004,23/08/2015,aardd001,aardsda01",
+        "badbats01,1950,1,1,USA,CA,LA,,,,,,,Bad,Bats,Bad Bats,180,72,B,R,"
+            + "01/01/1970,01/01/1975,badb001,badbats01");
+    PlayerBatchWriter changed = mock(PlayerBatchWriter.class);
+
+    // Act
+    IngestReport changedReport = pipeline.ingest(changed);
+    Path snapshot = tempDir.resolve("player.snapshot");
+    byte[] bytes = Files.readAllBytes(snapshot);
+    bytes[bytes.length / 2] ^= 1;
+    Files.write(snapshot, bytes);
+    PlayerBatchWriter corrupt = mock(PlayerBatchWriter.class);
+    IngestReport corruptReport = pipeline.ingest(corrupt);
+
+    // Assert
+    assertEquals(1, changedReport.rowsRejected());
+    assertEquals(List.of("aardsda01"), writtenIds(changed));
+    assertEquals(1, corruptReport.rowsRejected());
+    assertEquals(List.of("aardsda01"), writtenIds(corrupt));
+  }
+
+  private PlayerIngestPipeline snapshotPipeline(Path csv) {
+    return new PlayerIngestPipeline(
+        validator,
+        csv,
+        1,
+        1,
+        PlayerIngestPipeline.Parser.MAPPED,
+        COMPILED,
+        false,
+        new PlayerSnapshots(true, tempDir.resolve("player.snapshot")),
+        new SimpleMeterRegistry());
+  }
+
+  private static double rejections(MeterRegistry meterRegistry, String rule) {
+    return meterRegistry.get("player.ingest.rejections").tag("rule", rule).counter().count();
+  }
+
+  private Path writeCsv(String... rows) throws Exception {
+    List<String> lines = new ArrayList<>();
+    lines.add(HEADER);
+    lines.addAll(List.of(rows));
+    return Files.write(tempDir.resolve("player.csv"), lines);
+  }
+
+  private static List<String> writtenIds(PlayerBatchWriter writer) {
+    return writtenPlayers(writer).stream().map(Player::getPlayerId).toList();
+  }
+
+  private static List<PlayerDTO> writtenDtos(PlayerBatchWriter writer) {
+    return writtenPlayers(writer).stream().map(PlayerMapper.INSTANCE::toDTO).toList();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Player> writtenPlayers(PlayerBatchWriter writer) {
+    ArgumentCaptor<List<Player>> batches = ArgumentCaptor.forClass(List.class);
+    verify(writer, atLeastOnce()).write(batches.capture());
+    return batches.getAllValues().stream().flatMap(List::stream).toList();
+  }
+}
@@ -0,0 +1,109 @@
+package com.playerdata.playerdataservice.ingest;
+
+import com.opencsv.CSVReader;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerRowDecoderTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testNext_matchesOpenCsvOnPlayerCsv() throws Exception {
+    Path csv = Path.of("player.csv");
+
+    List<PlayerDTO> expected = new ArrayList<>();
+    try (CSVReader csvReader = new CSVReader(Files.newBufferedReader(csv))) {
+      csvReader.readNext();
+      String[] values;
+      while ((values = csvReader.readNext()) != null) {
+        expected.add(PlayerMapper.INSTANCE.toDTO(PlayerRowParser.parse(values)));
+      }
+    }
+
+    assertEquals(expected, decodeAll(csv, MappedCsvReader.DEFAULT_WINDOW_SIZE));
+  }
+
+  @Test
+  void testNext_spansSeveralMappingWindows() throws Exception {
+    Path csv = Path.of("player.csv");
+
+    List<PlayerDTO> oneWindow = decodeAll(csv, MappedCsvReader.DEFAULT_WINDOW_SIZE);
+    List<PlayerDTO> smallWindows = decodeAll(csv, 4096);
+
+    assertEquals(oneWindow, smallWindows);
+  }
+
+  @Test
+  void testNext_handlesQuotedFieldsAndCrLf() {
+    PlayerRowDecoder decoder =
+        decoder(
+            "\"o,neil01\",1900,1,2,USA,\"New \"\"York\"\"\",NYC,,,,,,,Pat,O'Neil,"
+                + "\"Pat \\\"Tip\\\" O'Neil\",170,70,R,R,2000-04-31,01/05/2001,onei001,oneil01\r\n");
+
+    Player player = decoder.next();
+
+    assertEquals("o,neil01", player.getPlayerId());
+    assertEquals("New \"York\"", player.getBirthState());
+    assertEquals("Pat \"Tip\" O'Neil", player.getGivenName());
+    assertNull(player.getDeathYear());
+    assertEquals(LocalDate.of(2000, 4, 30), player.getDebut());
+    assertEquals("oneil01", player.getBbrefId());
+    assertFalse(decoder.hasNext());
+  }
+
+  @Test
+  void testNext_rejectsWrongColumnCountAndMovesOn() {
+    PlayerRowDecoder decoder =
+        decoder(
+            "short01,1900\n"
+                + "ok01,1900,1,2,USA,NY,NYC,,,,,,,A,B,A B,170,70,R,R,,,ok001,ok01");
+
+    assertThrows(IllegalArgumentException.class, decoder::next);
+    assertEquals("short01", decoder.firstColumn());
+    assertEquals("ok01", decoder.next().getPlayerId());
+  }
+
+  @Test
+  void testNext_fallsBackForMalformedNumbers() {
+    PlayerRowDecoder decoder =
+        decoder("bad01,19x0,1,2,USA,NY,NYC,,,,,,,A,B,A B,170,70,R,R,,,bad001,bad01\n");
+
+    assertThrows(NumberFormatException.class, decoder::next);
+  }
+
+  private static PlayerRowDecoder decoder(String rows) {
+    return new PlayerRowDecoder(ByteBuffer.wrap(rows.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static List<PlayerDTO> decodeAll(Path csv, int windowSize) throws Exception {
+    List<PlayerDTO> players = new ArrayList<>();
+    try (MappedCsvReader reader = MappedCsvReader.open(csv, windowSize)) {
+      reader.skipRow();
+      MappedCsvReader.Chunk chunk;
+      while ((chunk = reader.nextChunk(1000)) != null) {
+        PlayerRowDecoder decoder = new PlayerRowDecoder(chunk.data());
+        int rows = 0;
+        while (decoder.hasNext()) {
+          players.add(PlayerMapper.INSTANCE.toDTO(decoder.next()));
+          rows++;
+        }
+        assertEquals(chunk.rows(), rows);
+      }
+    }
+    return players;
+  }
+}
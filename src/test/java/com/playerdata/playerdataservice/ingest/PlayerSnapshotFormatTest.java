@@ -0,0 +1,107 @@
+package com.playerdata.playerdataservice.ingest;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlayerSnapshotFormatTest {
+
+  private static final byte[] HASH = new byte[PlayerSnapshotFormat.HASH_LENGTH];
+
+  static {
+    Arrays.fill(HASH, (byte) 7);
+  }
+
+  @TempDir Path tempDir;
+
+  @Test
+  void testWriteAndRead_roundTripsNullsAndUnicode() throws Exception {
+    // Arrange
+    Player aaron =
+        new Player(
+            "aaronha01", 1934, 2, 5, "USA", "AL", "Mobile", 2021, 1, 22, "USA", "GA", "Atlanta",
+            "Hank", "Aaron", "Henry Louis", 180, 72, "R", "R", LocalDate.of(1954, 4, 13),
+            LocalDate.of(1976, 10, 3), "aaroh101", "aaronha01");
+    Player sparse = new Player();
+    sparse.setPlayerId("añezjo01");
+    sparse.setFirstName("José");
+    sparse.setLastName("Añez");
+    sparse.setBirthCountry("USA");
+    sparse.setBirthYear(0);
+    Path file = tempDir.resolve("player.snapshot");
+
+    // Act
+    PlayerSnapshotFormat.write(file, HASH, List.of(aaron, sparse));
+    PlayerSnapshotFormat.Contents contents = PlayerSnapshotFormat.read(file);
+
+    // Assert
+    assertArrayEquals(HASH, contents.sourceHash());
+    assertEquals(
+        List.of(dto(aaron), dto(sparse)), contents.players().stream().map(this::dto).toList());
+    assertNull(contents.players().get(1).getDebut());
+    assertSame(
+        contents.players().get(0).getBirthCountry(), contents.players().get(1).getBirthCountry());
+  }
+
+  @Test
+  void testDecode_rejectsCorruptedSnapshot() {
+    // Arrange
+    ByteBuffer snapshot = PlayerSnapshotFormat.encode(HASH, List.of(new Player()));
+    snapshot.put(snapshot.limit() - 9, (byte) (snapshot.get(snapshot.limit() - 9) ^ 1));
+
+    // Act
+    IOException e = assertThrows(IOException.class, () -> PlayerSnapshotFormat.decode(snapshot));
+
+    // Assert
+    assertEquals("Snapshot checksum mismatch", e.getMessage());
+  }
+
+  @Test
+  void testDecode_rejectsOtherVersion() {
+    // Arrange
+    ByteBuffer snapshot = PlayerSnapshotFormat.encode(HASH, List.of());
+    snapshot.putInt(4, PlayerSnapshotFormat.VERSION + 1);
+
+    // Act
+    IOException e = assertThrows(IOException.class, () -> PlayerSnapshotFormat.decode(snapshot));
+
+    // Assert
+    assertEquals(
+        "Unsupported snapshot version " + (PlayerSnapshotFormat.VERSION + 1), e.getMessage());
+  }
+
+  @Test
+  void testRestore_ignoresSnapshotOfAnotherFile() throws Exception {
+    // Arrange
+    Path csv = Files.writeString(tempDir.resolve("player.csv"), "playerID\n");
+    PlayerSnapshots snapshots = new PlayerSnapshots(true, tempDir.resolve("player.snapshot"));
+    snapshots.save(HASH, List.of(new Player()));
+
+    // Act
+    List<Player> players = snapshots.restore(PlayerSnapshots.hash(csv));
+
+    // Assert
+    assertNull(players);
+    assertEquals(1, snapshots.restore(HASH).size());
+  }
+
+  private PlayerDTO dto(Player player) {
+    return PlayerMapper.INSTANCE.toDTO(player);
+  }
+}
@@ -0,0 +1,100 @@
+package com.playerdata.playerdataservice.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MeteredConvertersTest {
+
+  private final ObjectMapper objectMapper = objectMapperBuilder().build();
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private ResponseMetrics responseMetrics;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    responseMetrics = new ResponseMetrics(meterRegistry);
+  }
+
+  @Test
+  void testCborConverter_writesSameValuesAsJsonAndRecordsSize() throws IOException {
+    // Arrange
+    MeteredCborHttpMessageConverter converter =
+        new MeteredCborHttpMessageConverter(objectMapperBuilder(), responseMetrics);
+
+    // Act
+    byte[] body = write(converter, MediaType.APPLICATION_CBOR);
+
+    // Assert
+    assertEquals(player(), read(converter, body));
+    assertTrue(body.length < objectMapper.writeValueAsBytes(player()).length);
+    // The debut is written as in JSON, not as an array of numbers
+    assertTrue(new String(body).contains("1954-04-13"));
+    assertEquals(body.length, recordedBytes());
+  }
+
+  @Test
+  void testSmileConverter_writesSameValuesAsJsonAndRecordsSize() throws IOException {
+    // Arrange
+    MeteredSmileHttpMessageConverter converter =
+        new MeteredSmileHttpMessageConverter(objectMapperBuilder(), responseMetrics);
+
+    // Act
+    byte[] body = write(converter, new MediaType("application", "x-jackson-smile"));
+
+    // Assert
+    assertEquals(player(), read(converter, body));
+    assertTrue(new String(body).contains("1954-04-13"));
+    assertEquals(body.length, recordedBytes());
+  }
+
+  /** Configured like the builder of Spring Boot, which writes dates as ISO strings. */
+  private static Jackson2ObjectMapperBuilder objectMapperBuilder() {
+    return Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  }
+
+  private static byte[] write(AbstractJackson2HttpMessageConverter converter, MediaType mediaType)
+      throws IOException {
+    MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+    converter.write(player(), mediaType, outputMessage);
+    return outputMessage.getBodyAsBytes();
+  }
+
+  private static Object read(AbstractJackson2HttpMessageConverter converter, byte[] body)
+      throws IOException {
+    return converter.read(PlayerDTO.class, new MockHttpInputMessage(body));
+  }
+
+  private double recordedBytes() {
+    return meterRegistry
+        .get(ResponseMetrics.SIZE)
+        .tag("endpoint", MeteredConverters.NO_ENDPOINT)
+        .summary()
+        .totalAmount();
+  }
+
+  private static PlayerDTO player() {
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId("aaronha01");
+    player.setLastName("Aaron");
+    player.setDebut(LocalDate.of(1954, 4, 13));
+    return player;
+  }
+}
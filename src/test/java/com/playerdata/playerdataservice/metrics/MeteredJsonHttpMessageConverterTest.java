@@ -0,0 +1,104 @@
+package com.playerdata.playerdataservice.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MeteredJsonHttpMessageConverterTest {
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private MeteredJsonHttpMessageConverter converter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    converter =
+        new MeteredJsonHttpMessageConverter(objectMapper, new ResponseMetrics(meterRegistry));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void testWrite_recordsSizeAndTimeOfHandlerMethod() throws Exception {
+    // Arrange
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAttribute(
+        HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+        new HandlerMethod(new TestController(), TestController.class.getMethod("getPlayer")));
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+    // Act
+    converter.write(player(), MediaType.APPLICATION_JSON, outputMessage);
+
+    // Assert
+    byte[] expected = objectMapper.writeValueAsBytes(player());
+    assertArrayEquals(expected, outputMessage.getBodyAsBytes());
+    assertEquals(
+        expected.length,
+        meterRegistry
+            .get(ResponseMetrics.SIZE)
+            .tag("endpoint", "getPlayer")
+            .summary()
+            .totalAmount());
+    assertEquals(
+        1,
+        meterRegistry
+            .get(ResponseMetrics.SERIALIZATION)
+            .tag("endpoint", "getPlayer")
+            .timer()
+            .count());
+  }
+
+  @Test
+  void testWrite_outsideRequest_usesNoEndpointTag() throws Exception {
+    // Act
+    converter.write(player(), MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+    converter.write(player(), MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+
+    // Assert
+    assertEquals(
+        2,
+        meterRegistry
+            .get(ResponseMetrics.SIZE)
+            .tag("endpoint", MeteredConverters.NO_ENDPOINT)
+            .summary()
+            .count());
+  }
+
+  private static PlayerDTO player() {
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId("aaronha01");
+    player.setLastName("Aaron");
+    return player;
+  }
+
+  @RestController
+  static class TestController {
+
+    public PlayerDTO getPlayer() {
+      return player();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.playerdata.playerdataservice.reload;
+
+import com.playerdata.playerdataservice.service.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class PlayerFileWatcherTest {
+
+  @TempDir private Path directory;
+
+  @Test
+  void testStart_reloadsOnceAfterBurstOfWrites() throws Exception {
+    // Arrange
+    Path csvFile = Files.writeString(directory.resolve("player.csv"), "playerID\n");
+    PlayerService playerService = mock(PlayerService.class);
+    PlayerFileWatcher watcher =
+        new PlayerFileWatcher(playerService, csvFile, true, Duration.ofMillis(200));
+    watcher.start();
+    try {
+      // Act
+      for (int i = 0; i < 3; i++) {
+        Files.writeString(csvFile, "playerID\na" + i + "\n");
+      }
+
+      // Assert
+      verify(playerService, timeout(10_000)).reloadPlayers();
+      verify(playerService, after(500)).reloadPlayers();
+    } finally {
+      watcher.stop();
+    }
+  }
+
+  @Test
+  void testStart_ignoresOtherFiles() throws Exception {
+    // Arrange
+    Path csvFile = Files.writeString(directory.resolve("player.csv"), "playerID\n");
+    PlayerService playerService = mock(PlayerService.class);
+    PlayerFileWatcher watcher =
+        new PlayerFileWatcher(playerService, csvFile, true, Duration.ofMillis(50));
+    watcher.start();
+    try {
+      // Act
+      Files.writeString(directory.resolve("other.csv"), "playerID\n");
+
+      // Assert
+      verify(playerService, after(1_000).never()).reloadPlayers();
+    } finally {
+      watcher.stop();
+    }
+  }
+
+  @Test
+  void testStart_doesNothingWhenDisabled() throws Exception {
+    // Arrange
+    PlayerFileWatcher watcher =
+        new PlayerFileWatcher(
+            mock(PlayerService.class), directory.resolve("player.csv"), false, Duration.ZERO);
+
+    // Act
+    watcher.start();
+
+    // Assert
+    assertFalse(watcher.isWatching());
+    watcher.stop();
+  }
+
+  @Test
+  void testStop_endsWatcherThread() throws Exception {
+    // Arrange
+    PlayerFileWatcher watcher =
+        new PlayerFileWatcher(
+            mock(PlayerService.class), directory.resolve("player.csv"), true, Duration.ZERO);
+    watcher.start();
+    assertTrue(watcher.isWatching());
+
+    // Act
+    watcher.stop();
+
+    // Assert
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (watcher.isWatching() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertFalse(watcher.isWatching());
+  }
+}
@@ -0,0 +1,40 @@
+package com.playerdata.playerdataservice.reload;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.service.PlayerChanges;
+import com.playerdata.playerdataservice.service.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerReloadEndpointTest {
+
+  @Mock private PlayerService playerService;
+
+  @InjectMocks private PlayerReloadEndpoint endpoint;
+
+  @Test
+  void testReload_summarizesChanges() throws Exception {
+    // Arrange
+    when(playerService.reloadPlayers())
+        .thenReturn(
+            new PlayerChanges(
+                List.of(new PlayerDTO(), new PlayerDTO()), List.of(), List.of("gone01")));
+
+    // Act
+    Map<String, Integer> summary = endpoint.reload();
+
+    // Assert
+    assertEquals(Map.of("inserted", 2, "updated", 0, "deleted", 1), summary);
+    assertEquals(List.of("inserted", "updated", "deleted"), List.copyOf(summary.keySet()));
+  }
+}
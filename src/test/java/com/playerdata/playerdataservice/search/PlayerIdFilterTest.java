@@ -0,0 +1,53 @@
+package com.playerdata.playerdataservice.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerIdFilterTest {
+
+  @Test
+  void testMightContain_neverRejectsLoadedIds() {
+    List<String> ids = IntStream.range(0, 20_000).mapToObj(i -> "player" + i).toList();
+
+    PlayerIdFilter filter = PlayerIdFilter.build(ids, 0.01);
+
+    assertTrue(ids.stream().allMatch(filter::mightContain));
+  }
+
+  @Test
+  void testMightContain_rejectsMostUnknownIds() {
+    PlayerIdFilter filter =
+        PlayerIdFilter.build(
+            IntStream.range(0, 20_000).mapToObj(i -> "player" + i).toList(), 0.01);
+
+    long falsePositives =
+        IntStream.range(0, 100_000).filter(i -> filter.mightContain("unknown" + i)).count();
+
+    assertTrue(falsePositives < 2_000, falsePositives + " false positives");
+  }
+
+  @Test
+  void testBuild_emptyFilterRejectsEverything() {
+    PlayerIdFilter filter = PlayerIdFilter.build(List.of(), 0.01);
+
+    assertFalse(filter.mightContain("aaronha01"));
+    assertFalse(filter.mightContain(""));
+  }
+
+  @Test
+  void testAllowAll_admitsEveryId() {
+    assertTrue(PlayerIdFilter.ALLOW_ALL.mightContain("aaronha01"));
+  }
+
+  @Test
+  void testBuild_rejectsProbabilityOutOfRange() {
+    assertThrows(IllegalArgumentException.class, () -> PlayerIdFilter.build(List.of("a"), 0));
+    assertThrows(IllegalArgumentException.class, () -> PlayerIdFilter.build(List.of("a"), 1));
+  }
+}
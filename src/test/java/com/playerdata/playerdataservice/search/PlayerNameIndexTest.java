@@ -0,0 +1,150 @@
+package com.playerdata.playerdataservice.search;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlayerNameIndexTest {
+
+  private static final List<PlayerDTO> PLAYERS =
+      List.of(
+          player("aaronha01", "Hank", "Aaron", "Henry Louis"),
+          player("ruthba01", "Babe", "Ruth", "George Herman"),
+          player("ruthven01", "Dick", "Ruthven", "Richard David"),
+          player("pen~aal01", "Alex", "Peña", "Alexander"),
+          player("oneilpa01", "Paul", "O'Neill", "Paul Andrew"),
+          player("smithjo01", "John", "Smith-Jones", "John"));
+
+  private PlayerNameIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = PlayerNameIndex.build(PLAYERS);
+  }
+
+  @Test
+  void testComplete_matchesPrefixOfAnyNameIgnoringCase() {
+    assertEquals(List.of("aaronha01"), ids(index.complete("HEN", 0, 10)));
+    assertEquals(List.of("aaronha01"), ids(index.complete("lou", 0, 10)));
+    assertEquals(List.of(), ids(index.complete("xyz", 0, 10)));
+  }
+
+  @Test
+  void testComplete_ranksWholeWordsBeforePrefixes() {
+    assertEquals(List.of("ruthba01", "ruthven01"), ids(index.complete("ruth", 0, 10)));
+    assertEquals(List.of("ruthba01"), ids(index.complete("ruth", 0, 1)));
+  }
+
+  @Test
+  void testComplete_foldsAccentsAndPunctuation() {
+    assertEquals(List.of("pen~aal01"), ids(index.complete("pena", 0, 10)));
+    assertEquals(List.of("pen~aal01"), ids(index.complete("Peñ", 0, 10)));
+    assertEquals(List.of("oneilpa01"), ids(index.complete("oneil", 0, 10)));
+    assertEquals(List.of("smithjo01"), ids(index.complete("jones", 0, 10)));
+  }
+
+  @Test
+  void testComplete_requiresEveryQueryWord() {
+    assertEquals(List.of("aaronha01"), ids(index.complete("hank aa", 0, 10)));
+    assertEquals(List.of(), ids(index.complete("hank ruth", 0, 10)));
+  }
+
+  @Test
+  void testComplete_fuzzyModeToleratesTypos() {
+    assertEquals(List.of(), ids(index.complete("arron", 0, 10)));
+    assertEquals(List.of("aaronha01"), ids(index.complete("arron", 1, 10)));
+    assertEquals(List.of("aaronha01"), ids(index.complete("hnak", 2, 10)));
+    assertEquals(List.of(), ids(index.complete("hnak", 1, 10)));
+  }
+
+  @Test
+  void testComplete_fuzzyModeRanksFewerEditsFirst() {
+    // "ruth" is exact for ruthba01 and a prefix for ruthven01; "rutj" needs one edit for both
+    assertEquals(List.of("ruthba01", "ruthven01"), ids(index.complete("ruth", 1, 10)));
+    assertEquals(List.of("ruthba01", "ruthven01"), ids(index.complete("rutj", 1, 10)));
+  }
+
+  @Test
+  void testComplete_fuzzyModeMatchesPrefixOfLongerWords() {
+    assertEquals(List.of("ruthven01"), ids(index.complete("ruthvem", 1, 10)));
+    assertEquals(List.of("ruthven01"), ids(index.complete("richrd", 1, 10)));
+  }
+
+  @Test
+  void testComplete_fuzzyMatchesAgreeWithBruteForce() {
+    String[] queries = {"a", "al", "hen", "herm", "jon", "smoth", "rihcard", "geroge", "pual", "x"};
+    for (String query : queries) {
+      for (int maxEdits = 1; maxEdits <= PlayerNameIndex.MAX_EDITS; maxEdits++) {
+        int edits = maxEdits;
+        List<String> expected =
+            PLAYERS.stream()
+                .filter(player -> bruteForceMatches(player, query, edits))
+                .map(PlayerDTO::getPlayerId)
+                .sorted()
+                .toList();
+        List<String> actual =
+            ids(index.complete(query, maxEdits, 10)).stream().sorted().toList();
+        assertEquals(expected, actual, query + " within " + maxEdits);
+      }
+    }
+  }
+
+  @Test
+  void testComplete_rejectsOutOfRangeEdits() {
+    assertThrows(IllegalArgumentException.class, () -> index.complete("a", 3, 10));
+  }
+
+  @Test
+  void testComplete_blankQueryMatchesNothing() {
+    assertEquals(List.of(), index.complete("  ", 0, 10));
+    assertEquals(List.of(), PlayerNameIndex.EMPTY.complete("a", 1, 10));
+  }
+
+  private static boolean bruteForceMatches(PlayerDTO player, String query, int maxEdits) {
+    for (String name :
+        new String[] {player.getFirstName(), player.getLastName(), player.getGivenName()}) {
+      for (String word : PlayerNameIndex.words(name)) {
+        for (int end = 0; end <= word.length(); end++) {
+          if (levenshtein(query, word.substring(0, end)) <= maxEdits) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  private static int levenshtein(String a, String b) {
+    int[][] d = new int[a.length() + 1][b.length() + 1];
+    for (int i = 0; i <= a.length(); i++) {
+      for (int j = 0; j <= b.length(); j++) {
+        if (i == 0 || j == 0) {
+          d[i][j] = i + j;
+        } else {
+          int substitution = d[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+          d[i][j] = Math.min(substitution, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+        }
+      }
+    }
+    return d[a.length()][b.length()];
+  }
+
+  private static PlayerDTO player(
+      String playerId, String firstName, String lastName, String givenName) {
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId(playerId);
+    player.setFirstName(firstName);
+    player.setLastName(lastName);
+    player.setGivenName(givenName);
+    return player;
+  }
+
+  private static List<String> ids(List<PlayerDTO> players) {
+    return players.stream().map(PlayerDTO::getPlayerId).toList();
+  }
+}
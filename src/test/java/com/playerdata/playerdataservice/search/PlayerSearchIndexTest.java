@@ -0,0 +1,124 @@
+package com.playerdata.playerdataservice.search;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlayerSearchIndexTest {
+
+  private PlayerSearchIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index =
+        PlayerSearchIndex.build(
+            List.of(
+                player("ruthba01", "USA", "MD", "Ruth", "L", "L", 1914, 1935),
+                player("aaronha01", "USA", "AL", "Aaron", "R", "R", 1954, 1976),
+                player("aaronto01", "USA", "AL", "Aaron", "R", "R", 1962, 1971),
+                player("suzukic01", "Japan", "Aichi", "Suzuki", "L", "R", 2001, 2019),
+                player("newguy01", "Japan", "", "Newguy", "R", "R", null, null)));
+  }
+
+  @Test
+  void testSearch_withoutFiltersReturnsAllInIdOrder() {
+    List<PlayerDTO> result = index.search(criteria(), null, 10);
+
+    assertEquals(List.of("aaronha01", "aaronto01", "newguy01", "ruthba01", "suzukic01"), ids(result));
+    assertEquals(5, index.size());
+  }
+
+  @Test
+  void testSearch_combinesEqualityFiltersIgnoringCase() {
+    PlayerSearchCriteria criteria =
+        new PlayerSearchCriteria("usa", "AL", "r", null, "AARON", null, null, null, null);
+
+    assertEquals(List.of("aaronha01", "aaronto01"), ids(index.search(criteria, null, 10)));
+  }
+
+  @Test
+  void testSearch_unknownValueMatchesNothing() {
+    PlayerSearchCriteria criteria =
+        new PlayerSearchCriteria("Canada", null, null, null, null, null, null, null, null);
+
+    assertEquals(List.of(), index.search(criteria, null, 10));
+  }
+
+  @Test
+  void testSearch_blankFilterIsIgnored() {
+    PlayerSearchCriteria criteria =
+        new PlayerSearchCriteria("Japan", " ", null, null, "", null, null, null, null);
+
+    assertEquals(List.of("newguy01", "suzukic01"), ids(index.search(criteria, null, 10)));
+  }
+
+  @Test
+  void testSearch_debutRangeIsInclusiveAndSkipsPlayersWithoutDebut() {
+    assertEquals(
+        List.of("aaronha01", "aaronto01"),
+        ids(index.search(debut(1954, 1962), null, 10)));
+    assertEquals(List.of("suzukic01"), ids(index.search(debut(1963, null), null, 10)));
+    assertEquals(List.of("ruthba01"), ids(index.search(debut(null, 1953), null, 10)));
+    assertEquals(List.of(), ids(index.search(debut(1970, 1960), null, 10)));
+    assertEquals(
+        List.of("aaronha01", "aaronto01", "ruthba01", "suzukic01"),
+        ids(index.search(debut(Integer.MIN_VALUE, Integer.MAX_VALUE), null, 10)));
+  }
+
+  @Test
+  void testSearch_finalGameRangeCombinesWithOtherFilters() {
+    PlayerSearchCriteria criteria =
+        new PlayerSearchCriteria(null, null, null, "R", null, null, null, 1972, 2020);
+
+    assertEquals(List.of("aaronha01", "suzukic01"), ids(index.search(criteria, null, 10)));
+  }
+
+  @Test
+  void testSearch_pagesWithKeysetCursor() {
+    PlayerSearchCriteria criteria =
+        new PlayerSearchCriteria(null, null, "R", null, null, null, null, null, null);
+
+    assertEquals(List.of("aaronha01", "aaronto01"), ids(index.search(criteria, null, 2)));
+    assertEquals(List.of("newguy01"), ids(index.search(criteria, "aaronto01", 2)));
+    assertEquals(List.of("newguy01"), ids(index.search(criteria, "b", 2)));
+    assertEquals(List.of(), ids(index.search(criteria, "newguy01", 2)));
+  }
+
+  private static PlayerSearchCriteria criteria() {
+    return new PlayerSearchCriteria(null, null, null, null, null, null, null, null, null);
+  }
+
+  private static PlayerSearchCriteria debut(Integer from, Integer to) {
+    return new PlayerSearchCriteria(null, null, null, null, null, from, to, null, null);
+  }
+
+  private static PlayerDTO player(
+      String playerId,
+      String birthCountry,
+      String birthState,
+      String lastName,
+      String bats,
+      String throwingHand,
+      Integer debutYear,
+      Integer finalGameYear) {
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId(playerId);
+    player.setBirthCountry(birthCountry);
+    player.setBirthState(birthState);
+    player.setLastName(lastName);
+    player.setBats(bats);
+    player.setThrowingHand(throwingHand);
+    player.setDebut(debutYear == null ? null : LocalDate.of(debutYear, 4, 1));
+    player.setFinalGame(finalGameYear == null ? null : LocalDate.of(finalGameYear, 9, 30));
+    return player;
+  }
+
+  private static List<String> ids(List<PlayerDTO> players) {
+    return players.stream().map(PlayerDTO::getPlayerId).toList();
+  }
+}
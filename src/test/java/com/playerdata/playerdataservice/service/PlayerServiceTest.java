@@ -1,23 +1,41 @@
 package com.playerdata.playerdataservice.service;
 
+import com.playerdata.playerdataservice.cache.PlayerLookupCache;
+import com.playerdata.playerdataservice.dto.PlayerBatchDTO;
 import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.dto.PlayerPageDTO;
+import com.playerdata.playerdataservice.dto.PlayerSuggestionDTO;
+import com.playerdata.playerdataservice.exception.InvalidRequestException;
 import com.playerdata.playerdataservice.exception.PlayerNotFoundException;
+import com.playerdata.playerdataservice.ingest.PlayerBatchWriter;
+import com.playerdata.playerdataservice.ingest.PlayerIngestPipeline;
 import com.playerdata.playerdataservice.mapper.PlayerMapper;
 import com.playerdata.playerdataservice.model.Player;
-import com.playerdata.playerdataservice.repository.PlayerRepository;
+import com.playerdata.playerdataservice.search.PlayerSearchCriteria;
+import com.playerdata.playerdataservice.store.PlayerStore;
 import com.playerdata.playerdataservice.util.ParsingUtils;
-import jakarta.validation.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,12 +43,22 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class PlayerServiceTest {
 
-  @Mock private PlayerRepository playerRepository;
+  @Mock private PlayerStore playerStore;
 
-  @Mock private Validator validator;
+  @Mock private PlayerIngestPipeline ingestPipeline;
 
   @Mock private Logger logger;
 
+  @Mock private PlayersLoadedListener loadedListener;
+
+  @Mock private Runnable publication;
+
+  @Spy private PlayerLookupCache lookupCache = lookupCache(false);
+
+  @Spy private List<PlayersLoadedListener> loadedListeners = new ArrayList<>();
+
+  @Spy private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   @InjectMocks private PlayerService playerService;
 
   private Player samplePlayer;
@@ -66,33 +94,408 @@ class PlayerServiceTest {
             "aaronto01");
 
     samplePlayerDTO = PlayerMapper.INSTANCE.toDTO(samplePlayer);
+    loadedListeners.add(loadedListener);
+    lenient().when(loadedListener.prepareLoad(any())).thenReturn(publication);
+    lenient().when(loadedListener.prepareChanges(any(), any())).thenReturn(publication);
   }
 
   @Test
   void testGetAllPlayers() {
-    when(playerRepository.findAll()).thenReturn(Collections.singletonList(samplePlayer));
+    when(playerStore.findAll()).thenReturn(Collections.singletonList(samplePlayerDTO));
 
     List<PlayerDTO> players = playerService.getAllPlayers();
 
     assertEquals(1, players.size());
     assertEquals(samplePlayerDTO, players.get(0));
+    assertEquals(1, meterRegistry.get("player.list").timer().count());
   }
 
   @Test
   void testGetPlayerDTOById_PlayerFound() throws PlayerNotFoundException {
-    when(playerRepository.findById("aaronha01")).thenReturn(Optional.of(samplePlayer));
+    when(playerStore.findById("aaronha01")).thenReturn(Optional.of(samplePlayerDTO));
 
     PlayerDTO result = playerService.getPlayerDTOById("aaronha01");
 
     assertNotNull(result);
     assertEquals(samplePlayerDTO, result);
+    assertEquals(1, meterRegistry.get("player.lookup").tag("result", "hit").timer().count());
+    assertEquals(0, meterRegistry.get("player.lookup").tag("result", "miss").timer().count());
   }
 
   @Test
   void testGetPlayerDTOById_PlayerNotFound() {
-    when(playerRepository.findById("nonExistentId")).thenReturn(Optional.empty());
+    when(playerStore.findById("nonExistentId")).thenReturn(Optional.empty());
 
     assertThrows(
         PlayerNotFoundException.class, () -> playerService.getPlayerDTOById("nonExistentId"));
+    assertEquals(1, meterRegistry.get("player.lookup").tag("result", "miss").timer().count());
+  }
+
+  @Test
+  void testLoadPlayers_DelegatesToIngestPipeline() throws Exception {
+    PlayerBatchWriter writer = mock(PlayerBatchWriter.class);
+    when(playerStore.newWriter()).thenReturn(writer);
+
+    playerService.loadPlayers();
+
+    verify(ingestPipeline).ingest(writer);
+  }
+
+  @Test
+  void testLoadPlayers_NotifiesListenersWithLoadedPlayers() throws Exception {
+    doAnswer(
+            invocation -> {
+              invocation.<Consumer<PlayerDTO>>getArgument(0).accept(samplePlayerDTO);
+              return null;
+            })
+        .when(playerStore)
+        .forEach(any());
+
+    playerService.loadPlayers();
+
+    verify(loadedListener).prepareLoad(List.of(samplePlayerDTO));
+    verify(publication).run();
+  }
+
+  @Test
+  void testLoadPlayers_WrapsIngestFailure() throws Exception {
+    when(ingestPipeline.ingest(any()))
+        .thenThrow(new ExecutionException(new IllegalStateException()));
+
+    Exception thrown = assertThrows(Exception.class, () -> playerService.loadPlayers());
+    assertEquals("Failed to load player data", thrown.getMessage());
+    verifyNoInteractions(loadedListener);
+  }
+
+  @Test
+  void testSearchPlayers_UsesIndexBuiltAtLoad() throws Exception {
+    PlayerDTO other = dto("zzz");
+    other.setBirthCountry("Japan");
+    doAnswer(
+            invocation -> {
+              Consumer<PlayerDTO> action = invocation.getArgument(0);
+              action.accept(samplePlayerDTO);
+              action.accept(other);
+              return null;
+            })
+        .when(playerStore)
+        .forEach(any());
+    playerService.loadPlayers();
+    PlayerSearchCriteria criteria =
+        new PlayerSearchCriteria("USA", null, null, null, null, null, null, null, null);
+
+    PlayerPageDTO page = playerService.searchPlayers(criteria, null, 10);
+
+    assertEquals(List.of(samplePlayerDTO), page.getPlayers());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void testAutocompletePlayers_UsesNameIndexBuiltAtLoad() throws Exception {
+    doAnswer(
+            invocation -> {
+              invocation.<Consumer<PlayerDTO>>getArgument(0).accept(samplePlayerDTO);
+              return null;
+            })
+        .when(playerStore)
+        .forEach(any());
+    playerService.loadPlayers();
+
+    List<PlayerSuggestionDTO> suggestions = playerService.autocompletePlayers("tom", 0, 10);
+
+    assertEquals(1, suggestions.size());
+    assertEquals("aaronha01", suggestions.get(0).getPlayerId());
+    assertEquals(samplePlayerDTO.getLastName(), suggestions.get(0).getLastName());
+    verify(playerStore, never()).findAll();
+  }
+
+  @Test
+  void testAutocompletePlayers_RejectsParametersOutOfRange() {
+    assertThrows(
+        InvalidRequestException.class, () -> playerService.autocompletePlayers("a", 0, 0));
+    assertThrows(
+        InvalidRequestException.class,
+        () -> playerService.autocompletePlayers("a", 0, PlayerService.MAX_SUGGESTIONS + 1));
+    assertThrows(
+        InvalidRequestException.class, () -> playerService.autocompletePlayers("a", 3, 10));
+    assertThrows(
+        InvalidRequestException.class,
+        () -> playerService.autocompletePlayers("a".repeat(100), 1, 10));
+  }
+
+  @Test
+  void testSearchPlayers_RejectsLimitOutOfRange() {
+    PlayerSearchCriteria criteria =
+        new PlayerSearchCriteria(null, null, null, null, null, null, null, null, null);
+
+    assertThrows(InvalidRequestException.class, () -> playerService.searchPlayers(criteria, null, 0));
+  }
+
+  @Test
+  void testGetPlayersPage_ReturnsCursorWhenMorePlayersFollow() {
+    when(playerStore.findPage(null, 2)).thenReturn(List.of(dto("a"), dto("b")));
+
+    PlayerPageDTO page = playerService.getPlayersPage(null, 1);
+
+    assertEquals(List.of(dto("a")), page.getPlayers());
+    assertEquals("a", page.getNextCursor());
+  }
+
+  @Test
+  void testGetPlayersPage_NoCursorOnLastPage() {
+    when(playerStore.findPage("a", 3)).thenReturn(List.of(dto("b")));
+
+    PlayerPageDTO page = playerService.getPlayersPage("a", 2);
+
+    assertEquals(List.of(dto("b")), page.getPlayers());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void testGetPlayersPage_RejectsLimitOutOfRange() {
+    assertThrows(InvalidRequestException.class, () -> playerService.getPlayersPage(null, 0));
+    assertThrows(
+        InvalidRequestException.class,
+        () -> playerService.getPlayersPage(null, PlayerService.MAX_PAGE_SIZE + 1));
+    verifyNoInteractions(playerStore);
+  }
+
+  @Test
+  void testGetPlayersByIds_KeepsRequestOrderAndReportsMissing() {
+    when(playerStore.findAllById(List.of("c", "x", "a")))
+        .thenReturn(List.of(dto("a"), dto("c")));
+
+    PlayerBatchDTO batch = playerService.getPlayersByIds(List.of("c", "x", "a", "c"));
+
+    assertEquals(List.of(dto("c"), dto("a")), batch.getPlayers());
+    assertEquals(List.of("x"), batch.getMissingIds());
+  }
+
+  @Test
+  void testForEachPlayerById_ResolvesOneChunkPerStoreLookup() {
+    List<String> playerIds =
+        IntStream.range(0, PlayerService.BATCH_CHUNK_SIZE + 1).mapToObj(i -> "p" + i).toList();
+    when(playerStore.findAllById(any())).thenReturn(List.of());
+    List<String> missing = new ArrayList<>();
+
+    playerService.forEachPlayerById(playerIds, player -> fail("no player exists"), missing::add);
+
+    assertEquals(playerIds, missing);
+    verify(playerStore).findAllById(playerIds.subList(0, PlayerService.BATCH_CHUNK_SIZE));
+    verify(playerStore).findAllById(List.of("p" + PlayerService.BATCH_CHUNK_SIZE));
+  }
+
+  @Test
+  void testFindPlayerDTOById_SkipsStoreForIdsRuledOutAtLoad() throws Exception {
+    stubLoadedPlayers(samplePlayerDTO);
+    when(playerStore.findById("aaronha01")).thenReturn(Optional.of(samplePlayerDTO));
+    playerService.loadPlayers();
+
+    assertEquals(Optional.of(samplePlayerDTO), playerService.findPlayerDTOById("aaronha01"));
+    assertEquals(Optional.empty(), playerService.findPlayerDTOById("nobody"));
+
+    verify(playerStore, never()).findById("nobody");
+    assertEquals(1, meterRegistry.get("player.lookup").tag("result", "miss").timer().count());
+  }
+
+  @Test
+  void testForEachPlayerById_SkipsIdsRuledOutAtLoad() throws Exception {
+    stubLoadedPlayers(dto("a"), dto("c"));
+    when(playerStore.findAllById(List.of("c", "a"))).thenReturn(List.of(dto("a"), dto("c")));
+    playerService.loadPlayers();
+
+    PlayerBatchDTO batch = playerService.getPlayersByIds(List.of("c", "nobody", "a"));
+
+    assertEquals(List.of(dto("c"), dto("a")), batch.getPlayers());
+    assertEquals(List.of("nobody"), batch.getMissingIds());
+    verify(playerStore).findAllById(List.of("c", "a"));
+  }
+
+  @Test
+  void testForEachPlayerById_SkipsStoreWhenNoIdCanExist() throws Exception {
+    stubLoadedPlayers(dto("a"));
+    playerService.loadPlayers();
+
+    PlayerBatchDTO batch = playerService.getPlayersByIds(List.of("nobody"));
+
+    assertEquals(List.of("nobody"), batch.getMissingIds());
+    verify(playerStore, never()).findAllById(any());
+  }
+
+  @Test
+  void testReloadPlayers_appliesOnlyChangedPlayers() throws Exception {
+    stubLoadedPlayers(dto(entity("a", "Hank")), dto(entity("b", "Babe")), dto(entity("c", "Cy")));
+    playerService.loadPlayers();
+    Player updated = entity("b", "George");
+    Player inserted = entity("d", "Dizzy");
+    stubFile(entity("a", "Hank"), updated, inserted);
+
+    PlayerChanges changes = playerService.reloadPlayers();
+
+    assertEquals(List.of(dto(inserted)), changes.inserted());
+    assertEquals(List.of(dto(updated)), changes.updated());
+    assertEquals(List.of("c"), changes.deletedIds());
+    verify(playerStore).applyChanges(List.of(inserted), List.of(updated), List.of("c"));
+    verify(loadedListener)
+        .prepareChanges(
+            List.of(dto(entity("a", "Hank")), dto(updated), dto(inserted)), changes);
+    assertEquals(
+        List.of("d"),
+        playerService.autocompletePlayers("dizzy", 0, 5).stream()
+            .map(PlayerSuggestionDTO::getPlayerId)
+            .toList());
+    assertTrue(playerService.autocompletePlayers("cy", 0, 5).isEmpty());
+    assertEquals(1, meterRegistry.get("player.reload").timer().count());
+    assertEquals(
+        1, meterRegistry.get("player.reload.changes").tag("type", "deleted").counter().count());
+  }
+
+  @Test
+  void testFindPlayerDTOById_cachesLookupsUntilReloadChangesPlayer() throws Exception {
+    PlayerService cachingService =
+        new PlayerService(
+            playerStore, ingestPipeline, lookupCache(true), loadedListeners, meterRegistry);
+    stubLoadedPlayers(dto(entity("a", "Hank")), dto(entity("b", "Babe")));
+    cachingService.loadPlayers();
+    when(playerStore.findById("a")).thenReturn(Optional.of(dto(entity("a", "Hank"))));
+    when(playerStore.findById("b")).thenReturn(Optional.of(dto(entity("b", "Babe"))));
+    cachingService.findPlayerDTOById("a");
+    cachingService.findPlayerDTOById("b");
+    Player updated = entity("b", "George");
+    stubFile(entity("a", "Hank"), updated);
+    when(playerStore.findById("b")).thenReturn(Optional.of(dto(updated)));
+
+    cachingService.reloadPlayers();
+
+    assertEquals(Optional.of(dto(entity("a", "Hank"))), cachingService.findPlayerDTOById("a"));
+    assertEquals(Optional.of(dto(updated)), cachingService.findPlayerDTOById("b"));
+    verify(playerStore, times(1)).findById("a");
+    verify(playerStore, times(2)).findById("b");
+  }
+
+  @Test
+  void testForEachPlayerById_servesCachedPlayersWithoutStore() throws Exception {
+    PlayerService cachingService =
+        new PlayerService(
+            playerStore, ingestPipeline, lookupCache(true), loadedListeners, meterRegistry);
+    stubLoadedPlayers(dto("a"), dto("c"));
+    cachingService.loadPlayers();
+    when(playerStore.findById("a")).thenReturn(Optional.of(dto("a")));
+    when(playerStore.findAllById(List.of("c"))).thenReturn(List.of(dto("c")));
+    cachingService.findPlayerDTOById("a");
+
+    PlayerBatchDTO batch = cachingService.getPlayersByIds(List.of("c", "a"));
+
+    assertEquals(List.of(dto("c"), dto("a")), batch.getPlayers());
+    verify(playerStore).findAllById(List.of("c"));
+  }
+
+  @Test
+  void testReloadPlayers_preparesListenersBeforeStoreAndPublishesAfter() throws Exception {
+    stubLoadedPlayers(dto(entity("a", "Hank")));
+    playerService.loadPlayers();
+    Player updated = entity("a", "Henry");
+    stubFile(updated);
+
+    playerService.reloadPlayers();
+
+    InOrder inOrder = inOrder(loadedListener, playerStore, publication);
+    inOrder.verify(loadedListener).prepareChanges(any(), any());
+    inOrder.verify(playerStore).applyChanges(List.of(), List.of(updated), List.of());
+    inOrder.verify(publication).run();
+  }
+
+  @Test
+  void testReloadPlayers_publishesNothingWhenStoreFails() throws Exception {
+    stubLoadedPlayers(dto(entity("a", "Hank")));
+    playerService.loadPlayers();
+    stubFile(entity("a", "Henry"));
+    doThrow(new IllegalStateException("store is down"))
+        .when(playerStore)
+        .applyChanges(any(), any(), any());
+
+    assertThrows(Exception.class, () -> playerService.reloadPlayers());
+
+    verify(publication, times(1)).run();
+    assertEquals(
+        "Hank",
+        playerService.autocompletePlayers("hank", 0, 5).get(0).getFirstName());
+  }
+
+  @Test
+  void testReloadPlayers_unchangedFileTouchesNothing() throws Exception {
+    stubLoadedPlayers(dto(entity("a", "Hank")));
+    playerService.loadPlayers();
+    stubFile(entity("a", "Hank"));
+
+    PlayerChanges changes = playerService.reloadPlayers();
+
+    assertTrue(changes.isEmpty());
+    verify(playerStore, never()).applyChanges(any(), any(), any());
+    verify(loadedListener, never()).prepareChanges(any(), any());
+  }
+
+  @Test
+  void testReloadPlayers_keepsPlayersWhenFileCannotBeRead() throws Exception {
+    stubLoadedPlayers(dto(entity("a", "Hank")));
+    playerService.loadPlayers();
+    when(ingestPipeline.ingest(any(PlayerBatchWriter.class)))
+        .thenThrow(new IOException("player.csv is gone"));
+
+    assertThrows(Exception.class, () -> playerService.reloadPlayers());
+
+    verify(playerStore, never()).applyChanges(any(), any(), any());
+    assertEquals(1, playerService.autocompletePlayers("hank", 0, 5).size());
+  }
+
+  private void stubFile(Player... players) throws Exception {
+    doAnswer(
+            invocation -> {
+              invocation.<PlayerBatchWriter>getArgument(0).write(List.of(players));
+              return null;
+            })
+        .when(ingestPipeline)
+        .ingest(any(PlayerBatchWriter.class));
+  }
+
+  private static Player entity(String playerId, String firstName) {
+    Player player = new Player();
+    player.setPlayerId(playerId);
+    player.setFirstName(firstName);
+    return player;
+  }
+
+  private static PlayerDTO dto(Player player) {
+    return PlayerMapper.INSTANCE.toDTO(player);
+  }
+
+  private void stubLoadedPlayers(PlayerDTO... players) {
+    doAnswer(
+            invocation -> {
+              Consumer<PlayerDTO> action = invocation.getArgument(0);
+              for (PlayerDTO player : players) {
+                action.accept(player);
+              }
+              return null;
+            })
+        .when(playerStore)
+        .forEach(any());
+  }
+
+  private static PlayerLookupCache lookupCache(boolean enabled) {
+    return new PlayerLookupCache(
+        new Jackson2ObjectMapperBuilder(),
+        new SimpleMeterRegistry(),
+        enabled,
+        100,
+        Duration.ZERO,
+        DataSize.ofBytes(0),
+        Duration.ZERO);
+  }
+
+  private static PlayerDTO dto(String playerId) {
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId(playerId);
+    return player;
   }
 }
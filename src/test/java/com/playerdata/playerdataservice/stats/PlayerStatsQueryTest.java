@@ -0,0 +1,61 @@
+package com.playerdata.playerdataservice.stats;
+
+import com.playerdata.playerdataservice.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerStatsQueryTest {
+
+  @Test
+  void testParse_defaultsToCountOverAllPlayers() {
+    // Act
+    PlayerStatsQuery query = PlayerStatsQuery.parse(List.of(""), List.of(" "));
+
+    // Assert
+    assertEquals(List.of(), query.groupBy());
+    assertEquals(List.of(StatsMetric.COUNT), query.metrics());
+    assertEquals("groupBy=&metrics=count", query.canonical());
+  }
+
+  @Test
+  void testParse_readsFieldsAndMetricsInOrder() {
+    // Act
+    PlayerStatsQuery query =
+        PlayerStatsQuery.parse(
+            List.of("birthCountry", " bats"), List.of("AVG:height", "count:weight", "count"));
+
+    // Assert
+    assertEquals(List.of(StatsField.BIRTH_COUNTRY, StatsField.BATS), query.groupBy());
+    assertEquals(new StatsMetric(StatsFunction.AVG, StatsField.HEIGHT), query.metrics().get(0));
+    assertEquals(
+        "groupBy=birthCountry,bats&metrics=avg:height,count:weight,count", query.canonical());
+    assertEquals(
+        query,
+        PlayerStatsQuery.parse(
+            List.of("birthCountry", "bats"), List.of("avg:height", "count:weight", "count")));
+  }
+
+  @Test
+  void testParse_rejectsInvalidQueries() {
+    List<List<List<String>>> invalid =
+        List.of(
+            List.of(List.of("shoeSize"), List.of()),
+            List.of(List.of("bats", "bats"), List.of()),
+            List.of(List.of("bats", "birthYear", "height", "weight"), List.of()),
+            List.of(List.of(), List.of("median:height")),
+            List.of(List.of(), List.of("avg")),
+            List.of(List.of(), List.of("avg:bats")),
+            List.of(List.of(), Collections.nCopies(11, "count")));
+
+    for (List<List<String>> parameters : invalid) {
+      assertThrows(
+          InvalidRequestException.class,
+          () -> PlayerStatsQuery.parse(parameters.get(0), parameters.get(1)),
+          parameters.toString());
+    }
+  }
+}
@@ -0,0 +1,209 @@
+package com.playerdata.playerdataservice.stats;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.dto.PlayerStatsDTO;
+import com.playerdata.playerdataservice.dto.PlayerStatsGroupDTO;
+import com.playerdata.playerdataservice.exception.InvalidRequestException;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import com.playerdata.playerdataservice.store.ColumnarPlayerStore;
+import com.playerdata.playerdataservice.store.PlayerStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class PlayerStatsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final PlayerStats playerStats =
+      new PlayerStats(mock(PlayerStore.class), meterRegistry);
+
+  @Test
+  void testCompute_aggregatesEveryGroupOrderedByKey() {
+    // Arrange
+    playerStats
+        .prepareLoad(
+            List.of(
+                player("a", "R", 72, 180),
+                player("b", "L", 70, 170),
+                player("c", "R", 74, null),
+                player("d", null, null, null)))
+        .run();
+
+    // Act
+    PlayerStatsDTO stats =
+        playerStats.compute(
+            PlayerStatsQuery.parse(
+                List.of("bats"),
+                List.of(
+                    "count", "avg:height", "min:height", "max:height", "sum:weight",
+                    "count:weight")));
+
+    // Assert
+    assertEquals(List.of("bats"), stats.getGroupBy());
+    assertEquals(4, stats.getPlayers());
+    List<PlayerStatsGroupDTO> groups = stats.getGroups();
+    assertEquals(3, groups.size());
+    assertEquals(
+        Arrays.asList(null, "L", "R"),
+        groups.stream().map(group -> group.getKey().get("bats")).toList());
+    Map<String, Number> unknown = groups.get(0).getMetrics();
+    assertEquals(1L, unknown.get("count"));
+    assertNull(unknown.get("avg:height"));
+    assertEquals(0L, unknown.get("count:weight"));
+    Map<String, Number> right = groups.get(2).getMetrics();
+    assertEquals(2, groups.get(2).getPlayers());
+    assertEquals(73.0, right.get("avg:height"));
+    assertEquals(72, right.get("min:height"));
+    assertEquals(74, right.get("max:height"));
+    assertEquals(180L, right.get("sum:weight"));
+    assertEquals(1L, right.get("count:weight"));
+  }
+
+  @Test
+  void testCompute_groupsByDerivedCareerFields() {
+    // Arrange
+    PlayerDTO veteran = player("a", "R", 72, 180);
+    veteran.setDebut(LocalDate.of(1954, 4, 13));
+    veteran.setFinalGame(LocalDate.of(1976, 10, 3));
+    PlayerDTO rookie = player("b", "R", 72, 180);
+    rookie.setDebut(LocalDate.of(1954, 9, 1));
+    rookie.setFinalGame(LocalDate.of(1955, 8, 31));
+    playerStats.prepareLoad(List.of(veteran, rookie, player("c", "R", 72, 180))).run();
+
+    // Act
+    PlayerStatsDTO stats =
+        playerStats.compute(
+            PlayerStatsQuery.parse(List.of("debutYear", "careerYears"), List.of("max:careerDays")));
+
+    // Assert
+    List<PlayerStatsGroupDTO> groups = stats.getGroups();
+    assertEquals(3, groups.size());
+    assertEquals(Arrays.asList(null, null), new ArrayList<>(groups.get(0).getKey().values()));
+    assertNull(groups.get(0).getMetrics().get("max:careerDays"));
+    assertEquals(Map.of("debutYear", 1954, "careerYears", 0), groups.get(1).getKey());
+    assertEquals(364, groups.get(1).getMetrics().get("max:careerDays"));
+    assertEquals(Map.of("debutYear", 1954, "careerYears", 22), groups.get(2).getKey());
+  }
+
+  @Test
+  void testCompute_matchesNaiveAggregationAcrossParallelTasks() {
+    // Arrange
+    Random random = new Random(42);
+    String[] countries = {"USA", "CAN", "D.R.", null};
+    List<PlayerDTO> players = new ArrayList<>();
+    for (int i = 0; i < 50_000; i++) {
+      PlayerDTO player =
+          player(
+              "p" + i,
+              random.nextBoolean() ? "L" : "R",
+              random.nextInt(10) == 0 ? null : 60 + random.nextInt(20),
+              160 + random.nextInt(80));
+      player.setBirthCountry(countries[random.nextInt(countries.length)]);
+      player.setBirthYear(1850 + random.nextInt(150));
+      players.add(player);
+    }
+    playerStats.prepareLoad(players).run();
+    Map<List<Object>, long[]> expected = new HashMap<>();
+    for (PlayerDTO player : players) {
+      long[] totals =
+          expected.computeIfAbsent(
+              Arrays.asList(player.getBirthCountry(), player.getBirthYear()), k -> new long[3]);
+      totals[0]++;
+      if (player.getHeight() != null) {
+        totals[1]++;
+        totals[2] += player.getHeight();
+      }
+    }
+
+    // Act
+    PlayerStatsDTO stats =
+        playerStats.compute(
+            PlayerStatsQuery.parse(
+                List.of("birthCountry", "birthYear"), List.of("count:height", "sum:height")));
+
+    // Assert
+    assertEquals(expected.size(), stats.getGroups().size());
+    for (PlayerStatsGroupDTO group : stats.getGroups()) {
+      long[] totals =
+          expected.get(
+              Arrays.asList(group.getKey().get("birthCountry"), group.getKey().get("birthYear")));
+      assertEquals(totals[0], group.getPlayers());
+      assertEquals(totals[1], group.getMetrics().get("count:height"));
+      assertEquals(totals[1] == 0 ? null : totals[2], group.getMetrics().get("sum:height"));
+    }
+  }
+
+  @Test
+  void testCompute_cachesResultsUntilNextLoad() {
+    // Arrange
+    playerStats.prepareLoad(List.of(player("a", "R", 72, 180))).run();
+    PlayerStatsQuery query = PlayerStatsQuery.parse(List.of("bats"), List.of());
+
+    // Act
+    PlayerStatsDTO first = playerStats.compute(query);
+    PlayerStatsDTO second = playerStats.compute(PlayerStatsQuery.parse(List.of("bats"), List.of()));
+    playerStats.prepareLoad(List.of(player("a", "L", 72, 180))).run();
+    PlayerStatsDTO reloaded = playerStats.compute(query);
+
+    // Assert
+    assertSame(first, second);
+    assertNotSame(first, reloaded);
+    assertEquals("L", reloaded.getGroups().get(0).getKey().get("bats"));
+    assertEquals(
+        2, meterRegistry.get("player.stats").tag("result", "computed").timer().count());
+    assertEquals(1, meterRegistry.get("player.stats").tag("result", "cached").timer().count());
+  }
+
+  @Test
+  void testCompute_rejectsQueriesWithTooManyGroups() {
+    // Arrange
+    List<PlayerDTO> players = new ArrayList<>();
+    for (int i = 0; i <= PlayerStats.MAX_GROUPS; i++) {
+      players.add(player("p" + i, "R", 72, i));
+    }
+    playerStats.prepareLoad(players).run();
+
+    // Act and Assert
+    assertThrows(
+        InvalidRequestException.class,
+        () -> playerStats.compute(PlayerStatsQuery.parse(List.of("weight"), List.of())));
+  }
+
+  @Test
+  void testOnPlayersLoaded_reusesColumnsOfColumnarStore() {
+    // Arrange
+    ColumnarPlayerStore store = new ColumnarPlayerStore();
+    Player player = PlayerMapper.INSTANCE.toEntity(player("a", "R", 72, 180));
+    store.applyChanges(List.of(player), List.of(), List.of());
+    PlayerStats columnarStats = new PlayerStats(store, meterRegistry);
+
+    // Act
+    columnarStats.prepareLoad(List.of()).run();
+    PlayerStatsDTO stats = columnarStats.compute(PlayerStatsQuery.parse(List.of(), List.of()));
+
+    // Assert
+    assertEquals(1, stats.getPlayers());
+    assertEquals(1L, stats.getGroups().get(0).getMetrics().get("count"));
+  }
+
+  private static PlayerDTO player(String playerId, String bats, Integer height, Integer weight) {
+    PlayerDTO player = new PlayerDTO();
+    player.setPlayerId(playerId);
+    player.setBats(bats);
+    player.setHeight(height);
+    player.setWeight(weight);
+    return player;
+  }
+}
@@ -0,0 +1,114 @@
+package com.playerdata.playerdataservice.store;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.ingest.PlayerBatchWriter;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarPlayerStoreTest {
+
+  private final ColumnarPlayerStore playerStore = new ColumnarPlayerStore();
+
+  @Test
+  void testFindById_emptyBeforeFirstLoad() {
+    assertTrue(playerStore.findById("aaronha01").isEmpty());
+    assertTrue(playerStore.findAll().isEmpty());
+  }
+
+  @Test
+  void testNewWriter_publishesColumnsOnComplete() {
+    PlayerBatchWriter writer = playerStore.newWriter();
+    writer.write(List.of(StoreTestData.player("b"), StoreTestData.player("c")));
+    writer.write(List.of(StoreTestData.player("a")));
+
+    assertTrue(playerStore.findAll().isEmpty());
+    writer.complete();
+
+    assertEquals(
+        PlayerMapper.INSTANCE.toDTO(StoreTestData.player("b")),
+        playerStore.findById("b").orElseThrow());
+    assertTrue(playerStore.findById("d").isEmpty());
+    assertEquals(List.of("a", "b", "c"), ids(playerStore.findAll()));
+  }
+
+  @Test
+  void testNewWriter_replacesPreviousLoad() {
+    load("a");
+    load("b");
+
+    assertTrue(playerStore.findById("a").isEmpty());
+    assertTrue(playerStore.findById("b").isPresent());
+  }
+
+  @Test
+  void testFindById_buildsNewDtoOnEveryLookup() {
+    load("a");
+
+    PlayerDTO first = playerStore.findById("a").orElseThrow();
+    first.setFirstName("Henry");
+
+    assertEquals("Hank", playerStore.findById("a").map(PlayerDTO::getFirstName).orElseThrow());
+  }
+
+  @Test
+  void testFindAllById_skipsUnknownIds() {
+    load("a", "b", "c");
+
+    assertEquals(List.of("c", "a"), ids(playerStore.findAllById(List.of("c", "x", "a"))));
+  }
+
+  @Test
+  void testFindPage_walksPlayersInIdOrder() {
+    load("a", "b", "c", "d");
+
+    assertEquals(List.of("a", "b"), ids(playerStore.findPage(null, 2)));
+    assertEquals(List.of("c", "d"), ids(playerStore.findPage("b", 2)));
+    assertEquals(List.of("c", "d"), ids(playerStore.findPage("bb", 5)));
+    assertEquals(List.of(), ids(playerStore.findPage("d", 2)));
+    assertEquals(List.of("a", "b", "c", "d"), ids(playerStore.findPage(null, Integer.MAX_VALUE)));
+    assertEquals(List.of("c"), ids(playerStore.findPage("a", 3).subList(1, 2)));
+  }
+
+  @Test
+  void testForEach_visitsPlayersInIdOrder() {
+    load("b", "a");
+    List<String> visited = new ArrayList<>();
+
+    playerStore.forEach(player -> visited.add(player.getPlayerId()));
+
+    assertEquals(List.of("a", "b"), visited);
+  }
+
+  @Test
+  void testApplyChanges_replacesChangedPlayers() {
+    load("a", "b", "c");
+    Player updated = StoreTestData.player("b");
+    updated.setFirstName("Henry");
+
+    playerStore.applyChanges(List.of(StoreTestData.player("d")), List.of(updated), List.of("c"));
+
+    assertEquals(List.of("a", "b", "d"), ids(playerStore.findAll()));
+    assertEquals("Hank", playerStore.findById("a").map(PlayerDTO::getFirstName).orElseThrow());
+    assertEquals("Henry", playerStore.findById("b").map(PlayerDTO::getFirstName).orElseThrow());
+    assertTrue(playerStore.findById("c").isEmpty());
+    assertEquals(List.of("b", "d"), ids(playerStore.findPage("a", 5)));
+    assertEquals(3, playerStore.columns().size());
+  }
+
+  private void load(String... playerIds) {
+    PlayerBatchWriter writer = playerStore.newWriter();
+    writer.write(Arrays.stream(playerIds).map(StoreTestData::player).toList());
+    writer.complete();
+  }
+
+  private static List<String> ids(List<PlayerDTO> players) {
+    return players.stream().map(PlayerDTO::getPlayerId).toList();
+  }
+}
@@ -0,0 +1,115 @@
+package com.playerdata.playerdataservice.store;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.ingest.PlayerBatchWriter;
+import com.playerdata.playerdataservice.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryPlayerStoreTest {
+
+  private final InMemoryPlayerStore playerStore = new InMemoryPlayerStore();
+
+  @Test
+  void testFindById_emptyBeforeFirstLoad() {
+    assertTrue(playerStore.findById("aaronha01").isEmpty());
+    assertTrue(playerStore.findAll().isEmpty());
+  }
+
+  @Test
+  void testNewWriter_publishesSnapshotOnComplete() {
+    PlayerBatchWriter writer = playerStore.newWriter();
+    writer.write(List.of(StoreTestData.player("b"), StoreTestData.player("c")));
+    writer.write(List.of(StoreTestData.player("a")));
+
+    assertTrue(playerStore.findAll().isEmpty());
+    writer.complete();
+
+    assertEquals("Hank", playerStore.findById("b").map(PlayerDTO::getFirstName).orElseThrow());
+    assertTrue(playerStore.findById("d").isEmpty());
+    assertEquals(
+        List.of("a", "b", "c"), playerStore.findAll().stream().map(PlayerDTO::getPlayerId).toList());
+  }
+
+  @Test
+  void testNewWriter_replacesPreviousLoad() {
+    PlayerBatchWriter first = playerStore.newWriter();
+    first.write(List.of(StoreTestData.player("a")));
+    first.complete();
+
+    PlayerBatchWriter second = playerStore.newWriter();
+    second.write(List.of(StoreTestData.player("b")));
+    second.complete();
+
+    assertTrue(playerStore.findById("a").isEmpty());
+    assertTrue(playerStore.findById("b").isPresent());
+  }
+
+  @Test
+  void testFindById_returnsSameInstanceOnEveryLookup() {
+    PlayerBatchWriter writer = playerStore.newWriter();
+    writer.write(List.of(StoreTestData.player("a")));
+    writer.complete();
+
+    assertSame(playerStore.findById("a").orElseThrow(), playerStore.findById("a").orElseThrow());
+  }
+
+  @Test
+  void testFindAllById_skipsUnknownIds() {
+    load("a", "b", "c");
+
+    assertEquals(List.of("c", "a"), ids(playerStore.findAllById(List.of("c", "x", "a"))));
+  }
+
+  @Test
+  void testFindPage_walksPlayersInIdOrder() {
+    load("a", "b", "c", "d");
+
+    assertEquals(List.of("a", "b"), ids(playerStore.findPage(null, 2)));
+    assertEquals(List.of("c", "d"), ids(playerStore.findPage("b", 2)));
+    assertEquals(List.of("c", "d"), ids(playerStore.findPage("bb", 5)));
+    assertEquals(List.of(), ids(playerStore.findPage("d", 2)));
+    assertEquals(List.of("a", "b", "c", "d"), ids(playerStore.findPage(null, Integer.MAX_VALUE)));
+  }
+
+  @Test
+  void testForEach_visitsPlayersInIdOrder() {
+    load("b", "a");
+    List<String> visited = new ArrayList<>();
+
+    playerStore.forEach(player -> visited.add(player.getPlayerId()));
+
+    assertEquals(List.of("a", "b"), visited);
+  }
+
+  @Test
+  void testApplyChanges_replacesOnlyChangedPlayers() {
+    load("a", "b", "c");
+    PlayerDTO unchanged = playerStore.findById("a").orElseThrow();
+    Player updated = StoreTestData.player("b");
+    updated.setFirstName("Henry");
+
+    playerStore.applyChanges(List.of(StoreTestData.player("d")), List.of(updated), List.of("c"));
+
+    assertEquals(List.of("a", "b", "d"), ids(playerStore.findAll()));
+    assertSame(unchanged, playerStore.findById("a").orElseThrow());
+    assertEquals("Henry", playerStore.findById("b").map(PlayerDTO::getFirstName).orElseThrow());
+    assertTrue(playerStore.findById("c").isEmpty());
+    assertEquals(List.of("b", "d"), ids(playerStore.findPage("a", 5)));
+  }
+
+  private void load(String... playerIds) {
+    PlayerBatchWriter writer = playerStore.newWriter();
+    writer.write(Arrays.stream(playerIds).map(StoreTestData::player).toList());
+    writer.complete();
+  }
+
+  private static List<String> ids(List<PlayerDTO> players) {
+    return players.stream().map(PlayerDTO::getPlayerId).toList();
+  }
+}
@@ -0,0 +1,167 @@
+package com.playerdata.playerdataservice.store;
+
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import com.playerdata.playerdataservice.repository.PlayerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JpaPlayerStoreTest {
+
+  @Mock private PlayerRepository playerRepository;
+
+  @Mock private EntityManager entityManager;
+
+  @Mock private TransactionTemplate transactionTemplate;
+
+  @Spy private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @InjectMocks private JpaPlayerStore playerStore;
+
+  @Test
+  void testFindById_mapsEntityToDTO() {
+    Player player = StoreTestData.player("aaronha01");
+    when(playerRepository.findById("aaronha01")).thenReturn(Optional.of(player));
+
+    Optional<PlayerDTO> result = playerStore.findById("aaronha01");
+
+    assertEquals(Optional.of(PlayerMapper.INSTANCE.toDTO(player)), result);
+    assertEquals(
+        1, meterRegistry.get("player.repository").tag("operation", "findById").timer().count());
+    assertEquals(1, meterRegistry.get("player.mapper").tag("operation", "findById").timer().count());
+  }
+
+  @Test
+  void testFindById_emptyWhenMissing() {
+    when(playerRepository.findById("missing")).thenReturn(Optional.empty());
+
+    assertTrue(playerStore.findById("missing").isEmpty());
+  }
+
+  @Test
+  void testFindAllById_usesOneQuery() {
+    Player player = StoreTestData.player("aaronha01");
+    when(playerRepository.findAllById(List.of("aaronha01", "missing"))).thenReturn(List.of(player));
+
+    List<PlayerDTO> result = playerStore.findAllById(List.of("aaronha01", "missing"));
+
+    assertEquals(List.of(PlayerMapper.INSTANCE.toDTO(player)), result);
+    verify(playerRepository, only()).findAllById(any());
+  }
+
+  @Test
+  void testFindAll_mapsAllEntities() {
+    Player player = StoreTestData.player("aaronha01");
+    when(playerRepository.findAll()).thenReturn(List.of(player));
+
+    assertEquals(List.of(PlayerMapper.INSTANCE.toDTO(player)), playerStore.findAll());
+  }
+
+  @Test
+  void testFindPage_usesKeysetQueries() {
+    Player first = StoreTestData.player("a");
+    Player second = StoreTestData.player("b");
+    when(playerRepository.findAllByOrderByPlayerIdAsc(Limit.of(1))).thenReturn(List.of(first));
+    when(playerRepository.findByPlayerIdGreaterThanOrderByPlayerIdAsc("a", Limit.of(1)))
+        .thenReturn(List.of(second));
+
+    assertEquals("a", playerStore.findPage(null, 1).get(0).getPlayerId());
+    assertEquals("b", playerStore.findPage("a", 1).get(0).getPlayerId());
+  }
+
+  @Test
+  void testForEach_streamsAndDetachesEntities() {
+    runTransactionCallbacks();
+    Player first = StoreTestData.player("a");
+    Player second = StoreTestData.player("b");
+    when(playerRepository.streamAllByOrderByPlayerIdAsc()).thenReturn(Stream.of(first, second));
+    List<String> visited = new ArrayList<>();
+
+    playerStore.forEach(player -> visited.add(player.getPlayerId()));
+
+    assertEquals(List.of("a", "b"), visited);
+    verify(entityManager).detach(first);
+    verify(entityManager).detach(second);
+  }
+
+  @Test
+  void testNewWriter_persistsBatchInOneTransaction() {
+    runTransactionCallbacks();
+    Player first = StoreTestData.player("a");
+    Player second = StoreTestData.player("b");
+
+    playerStore.newWriter().write(List.of(first, second));
+
+    verify(transactionTemplate, times(1)).executeWithoutResult(any());
+    verify(entityManager).persist(first);
+    verify(entityManager).persist(second);
+    verify(entityManager).flush();
+    verify(entityManager).clear();
+  }
+
+  @Test
+  void testNewWriter_mergesBatch_whenTableHoldsPlayers() {
+    runTransactionCallbacks();
+    when(playerRepository.count()).thenReturn(1L);
+    Player player = StoreTestData.player("a");
+
+    playerStore.newWriter().write(List.of(player));
+
+    verify(entityManager).merge(player);
+    verify(entityManager, never()).persist(any());
+  }
+
+  @Test
+  void testApplyChanges_writesChangedRowsInOneTransaction() {
+    runTransactionCallbacks();
+    Player inserted = StoreTestData.player("a");
+    Player updated = StoreTestData.player("b");
+
+    playerStore.applyChanges(List.of(inserted), List.of(updated), List.of("c"));
+
+    verify(transactionTemplate, times(1)).executeWithoutResult(any());
+    verify(playerRepository).deleteAllByIdInBatch(List.of("c"));
+    verify(entityManager).persist(inserted);
+    verify(entityManager).merge(updated);
+    verify(entityManager).flush();
+  }
+
+  @Test
+  void testApplyChanges_skipsDeleteWithoutDeletedIds() {
+    runTransactionCallbacks();
+
+    playerStore.applyChanges(List.of(StoreTestData.player("a")), List.of(), List.of());
+
+    verify(playerRepository, never()).deleteAllByIdInBatch(any());
+  }
+
+  private void runTransactionCallbacks() {
+    doAnswer(
+            invocation -> {
+              invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+              return null;
+            })
+        .when(transactionTemplate)
+        .executeWithoutResult(any());
+  }
+}
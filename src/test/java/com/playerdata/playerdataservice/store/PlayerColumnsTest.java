@@ -0,0 +1,96 @@
+package com.playerdata.playerdataservice.store;
+
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerColumnsTest {
+
+  @Test
+  void testToDTO_matchesMappedEntityIncludingNulls() {
+    // Arrange
+    Player full = StoreTestData.player("aaronha01");
+    Player sparse = new Player();
+    sparse.setPlayerId("zzz");
+    sparse.setBirthYear(-5);
+    sparse.setDebut(LocalDate.of(1871, 5, 4));
+
+    // Act
+    PlayerColumns columns = PlayerColumns.of(List.of(sparse, full));
+
+    // Assert
+    assertEquals(PlayerMapper.INSTANCE.toDTO(full), columns.toDTO(0));
+    assertEquals(PlayerMapper.INSTANCE.toDTO(sparse), columns.toDTO(1));
+    assertEquals(
+        PlayerMapper.INSTANCE.toDTO(sparse), PlayerMapper.INSTANCE.toDTO(columns.toPlayer(1)));
+  }
+
+  @Test
+  void testOf_sortsRowsAndFindsThemById() {
+    // Act
+    PlayerColumns columns =
+        PlayerColumns.of(
+            List.of(
+                StoreTestData.player("c"), StoreTestData.player("a"), StoreTestData.player("b")));
+
+    // Assert
+    assertEquals(3, columns.size());
+    assertEquals("a", columns.playerId().get(0));
+    assertEquals(2, columns.indexOf("c"));
+    assertTrue(columns.indexOf("bb") < 0);
+    assertEquals(2, columns.indexAfter("b"));
+    assertEquals(2, columns.indexAfter("bb"));
+    assertEquals(0, columns.indexAfter(""));
+    assertEquals(3, columns.indexAfter("z"));
+  }
+
+  @Test
+  void testOf_encodesRepeatedStringsOnceAndPrimitivesWithNullBitmaps() {
+    // Arrange
+    Player lefty = StoreTestData.player("b");
+    lefty.setBats("L");
+    lefty.setWeight(null);
+
+    // Act
+    PlayerColumns columns =
+        PlayerColumns.of(List.of(StoreTestData.player("a"), lefty, StoreTestData.player("c")));
+
+    // Assert
+    StringColumn bats = columns.bats();
+    assertTrue(bats.isDictionaryEncoded());
+    assertEquals(3, bats.cardinality());
+    assertEquals(bats.code(0), bats.code(2));
+    assertEquals("L", bats.decode(bats.code(1)));
+    assertNull(bats.decode(0));
+    assertFalse(columns.playerId().isDictionaryEncoded());
+    assertThrows(IllegalStateException.class, () -> columns.playerId().code(0));
+    assertTrue(columns.weight().isNull(1));
+    assertEquals(0, columns.weight().get(1));
+    assertNull(columns.weight().getBoxed(1));
+    assertEquals(180, columns.weight().get(2));
+    assertEquals(1, columns.weight().nullCount());
+    assertEquals(LocalDate.of(1954, 4, 13).toEpochDay(), columns.debut().get(0));
+  }
+
+  @Test
+  void testDictionary_switchesToWideCodesPastSixtyFiveThousandValues() {
+    // Arrange
+    String[] values = new String[70_000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = "v" + i;
+    }
+
+    // Act
+    StringColumn column = StringColumn.dictionary(values);
+
+    // Assert
+    assertEquals(70_001, column.cardinality());
+    assertEquals("v69999", column.get(69_999));
+    assertEquals(70_000, column.code(69_999));
+  }
+}
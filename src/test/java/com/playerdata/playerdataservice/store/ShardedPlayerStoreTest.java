@@ -0,0 +1,253 @@
+package com.playerdata.playerdataservice.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import com.playerdata.playerdataservice.ingest.PlayerBatchWriter;
+import com.playerdata.playerdataservice.mapper.PlayerMapper;
+import com.playerdata.playerdataservice.model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedPlayerStoreTest {
+
+  private static final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  private final List<ShardedPlayerStore> stores = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    stores.forEach(ShardedPlayerStore::close);
+  }
+
+  @Test
+  void testShardOf_isStableAndSpreadsIds() {
+    int[] sizes = new int[8];
+    for (int i = 0; i < 8000; i++) {
+      sizes[ShardedPlayerStore.shardOf("player" + i, 8)]++;
+    }
+
+    assertEquals(
+        ShardedPlayerStore.shardOf("aaronha01", 8),
+        ShardedPlayerStore.shardOf(new StringBuilder("aaronha01").toString(), 8));
+    for (int size : sizes) {
+      assertTrue(size > 800 && size < 1200, "Shard size " + size);
+    }
+  }
+
+  @Test
+  void testNewWriter_spreadsPlayersOverShardsAndMergesScansById() {
+    ShardedPlayerStore playerStore = store(4, List.of(), 0);
+    List<String> ids = ids(40);
+    load(playerStore, ids);
+
+    assertEquals(
+        PlayerMapper.INSTANCE.toDTO(StoreTestData.player("p17")),
+        playerStore.findById("p17").orElseThrow());
+    assertTrue(playerStore.findById("x").isEmpty());
+    assertEquals(sorted(ids), ids(playerStore.findAll()));
+    List<String> visited = new ArrayList<>();
+    playerStore.forEach(player -> visited.add(player.getPlayerId()));
+    assertEquals(sorted(ids), visited);
+  }
+
+  @Test
+  void testFindPage_mergesShardsUpToLimit() {
+    ShardedPlayerStore playerStore = store(4, List.of(), 0);
+    load(playerStore, ids(40));
+    List<String> all = ids(playerStore.findAll());
+
+    assertEquals(all.subList(0, 5), ids(playerStore.findPage(null, 5)));
+    assertEquals(all.subList(6, 16), ids(playerStore.findPage(all.get(5), 10)));
+    assertEquals(List.of(), ids(playerStore.findPage(all.get(39), 10)));
+  }
+
+  @Test
+  void testFindAllById_looksUpEveryShard() {
+    ShardedPlayerStore playerStore = store(4, List.of(), 0);
+    load(playerStore, ids(40));
+
+    assertEquals(
+        List.of("p1", "p2", "p3"),
+        sorted(ids(playerStore.findAllById(List.of("p3", "x", "p1", "p2")))));
+  }
+
+  @Test
+  void testApplyChanges_rebuildsOnlyChangedShards() {
+    ShardedPlayerStore playerStore = store(4, List.of(), 0);
+    load(playerStore, ids(40));
+    Player updated = StoreTestData.player("p5");
+    updated.setFirstName("Henry");
+
+    playerStore.applyChanges(List.of(StoreTestData.player("new")), List.of(updated), List.of("p7"));
+
+    assertEquals("Henry", playerStore.findById("p5").orElseThrow().getFirstName());
+    assertTrue(playerStore.findById("new").isPresent());
+    assertTrue(playerStore.findById("p7").isEmpty());
+    assertEquals(40, playerStore.findAll().size());
+  }
+
+  @Test
+  void testMultiNode_routesReadsToInProcessPeer() {
+    ShardedPlayerStore first = store(4, List.of("localhost:0", "localhost:0"), 0);
+    ShardedPlayerStore second = store(4, List.of("localhost:0", "localhost:0"), 1);
+    first.connect(1, second);
+    second.connect(0, first);
+    List<String> ids = ids(40);
+    // Both nodes read the whole file and keep their own shards
+    load(first, ids);
+    load(second, ids);
+    String remote = remoteId(ids, 4, 1);
+
+    assertEquals(
+        PlayerMapper.INSTANCE.toDTO(StoreTestData.player(remote)),
+        first.findById(remote).orElseThrow());
+    assertThrows(
+        ShardNotOwnedException.class,
+        () -> first.findById(ShardedPlayerStore.shardOf(remote, 4), remote));
+    assertEquals(sorted(ids), ids(first.findAll()));
+    assertEquals(ids(first.findAll()), ids(second.findAll()));
+    assertEquals(ids(second.findPage("p2", 7)), ids(first.findPage("p2", 7)));
+    assertEquals(2, first.findAllById(List.of(remote, "p0")).size());
+  }
+
+  @Test
+  void testMultiNode_readsPeerShardsOverHttp() throws Exception {
+    ShardedPlayerStore first = store(4, List.of("localhost:0", "localhost:0"), 0);
+    ShardedPlayerStore second = store(4, List.of("localhost:0", "localhost:0"), 1);
+    ShardPeerServer server =
+        ShardPeerServer.start(new InetSocketAddress("localhost", 0), second, objectMapper);
+    try {
+      HttpShardPeer peer = peer(server);
+      first.connect(1, peer);
+      second.connect(0, first);
+      List<String> ids = ids(2500);
+      ids.add("odd id/with+signs");
+      load(first, ids);
+      load(second, ids);
+      String remote = remoteId(ids, 4, 1);
+
+      assertEquals(
+          PlayerMapper.INSTANCE.toDTO(StoreTestData.player(remote)),
+          first.findById(remote).orElseThrow());
+      assertTrue(first.findById(remoteId(List.of("x1", "x2", "x3", "x4", "x5"), 4, 1)).isEmpty());
+      assertEquals(sorted(ids), ids(first.findAll()));
+      assertTrue(first.findById("odd id/with+signs").isPresent());
+      assertEquals(2, first.findAllById(List.of(remote, "p0")).size());
+      assertEquals(ids(second.findPage("p2", 7)), ids(first.findPage("p2", 7)));
+      // Shard 0 belongs to the first node
+      assertThrows(IllegalStateException.class, () -> peer.findById(0, "p0"));
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test
+  void testShardServer_rejectsMalformedRequestsApartFromMisdirectedOnes() throws Exception {
+    ShardedPlayerStore second = store(4, List.of("localhost:0", "localhost:0"), 1);
+    load(second, ids(10));
+    ShardPeerServer server =
+        ShardPeerServer.start(new InetSocketAddress("localhost", 0), second, objectMapper);
+    try (HttpClient client = HttpClient.newHttpClient()) {
+      String base = "http://localhost:" + server.port() + "/shards/";
+
+      assertEquals(ShardPeerServer.MISDIRECTED, status(client, base + "0/players/p0"));
+      assertEquals(400, status(client, base + "x/players/p0"));
+      assertEquals(400, status(client, base + "1/page?limit=x"));
+      assertEquals(200, status(client, base + "1/page?limit=1"));
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test
+  void testMultiNode_failsFastOncePeerHasAnswered() throws Exception {
+    ShardedPlayerStore second = store(4, List.of("localhost:0", "localhost:0"), 1);
+    load(second, ids(100));
+    ShardPeerServer server =
+        ShardPeerServer.start(new InetSocketAddress("localhost", 0), second, objectMapper);
+    HttpShardPeer peer = peer(server);
+    peer.findPage(1, null, 1);
+    server.stop();
+
+    long start = System.nanoTime();
+    assertThrows(UncheckedIOException.class, () -> peer.findPage(1, null, 1));
+    assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+  }
+
+  @Test
+  void testMultiNode_startsShardServerOnFirstLoad() {
+    ShardedPlayerStore playerStore = store(2, List.of("localhost:0", "localhost:0"), 1);
+    assertEquals(-1, playerStore.serverPort());
+
+    load(playerStore, ids(10));
+
+    assertTrue(playerStore.serverPort() > 0);
+  }
+
+  private static int status(HttpClient client, String uri) throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+
+  private HttpShardPeer peer(ShardPeerServer server) {
+    return new HttpShardPeer(
+        "localhost:" + server.port(),
+        objectMapper,
+        Duration.ofSeconds(5),
+        Duration.ofSeconds(1),
+        Duration.ofSeconds(5));
+  }
+
+  private ShardedPlayerStore store(int shards, List<String> nodes, int nodeIndex) {
+    ShardedPlayerStore playerStore =
+        new ShardedPlayerStore(
+            objectMapper,
+            shards,
+            nodes,
+            nodeIndex,
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(5));
+    stores.add(playerStore);
+    return playerStore;
+  }
+
+  private static String remoteId(List<String> ids, int shards, int node) {
+    return ids.stream()
+        .filter(id -> ShardedPlayerStore.shardOf(id, shards) % 2 == node)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static void load(ShardedPlayerStore playerStore, List<String> ids) {
+    PlayerBatchWriter writer = playerStore.newWriter();
+    writer.write(ids.stream().map(StoreTestData::player).toList());
+    writer.complete();
+  }
+
+  private static List<String> ids(int count) {
+    return new ArrayList<>(IntStream.range(0, count).mapToObj(i -> "p" + i).toList());
+  }
+
+  private static List<String> ids(List<PlayerDTO> players) {
+    return players.stream().map(PlayerDTO::getPlayerId).toList();
+  }
+
+  private static List<String> sorted(List<String> ids) {
+    return ids.stream().sorted().toList();
+  }
+}
@@ -0,0 +1,39 @@
+package com.playerdata.playerdataservice.store;
+
+import com.playerdata.playerdataservice.model.Player;
+
+import java.time.LocalDate;
+
+/** Sample players shared by the store tests. */
+final class StoreTestData {
+
+  private StoreTestData() {}
+
+  static Player player(String playerId) {
+    return new Player(
+        playerId,
+        1934,
+        2,
+        5,
+        "USA",
+        "AL",
+        "Mobile",
+        null,
+        null,
+        null,
+        "",
+        "",
+        "",
+        "Hank",
+        "Aaron",
+        "Henry Louis",
+        180,
+        72,
+        "R",
+        "R",
+        LocalDate.of(1954, 4, 13),
+        LocalDate.of(1976, 10, 3),
+        "aaroh101",
+        playerId);
+  }
+}
@@ -3,6 +3,8 @@ package com.playerdata.playerdataservice.util;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -47,4 +49,98 @@ public class ParsingUtilsTest {
   public void testParseLocalDate_EmptyString() {
     assertNull(ParsingUtils.parseLocalDate(""));
   }
+
+  @Test
+  public void testParseInteger_MalformedStringThrows() {
+    assertThrows(NumberFormatException.class, () -> ParsingUtils.parseInteger("12a"));
+  }
+
+  @Test
+  public void testParseInteger_MinValue() {
+    assertEquals(Integer.MIN_VALUE, ParsingUtils.parseInteger("-2147483648"));
+  }
+
+  @Test
+  public void testParseInt_ValidValues() {
+    assertEquals(123, ParsingUtils.parseInt("123", -1));
+    assertEquals(-45, ParsingUtils.parseInt("-45", -1));
+    assertEquals(7, ParsingUtils.parseInt("+007", -1));
+    assertEquals(Integer.MAX_VALUE, ParsingUtils.parseInt("2147483647", -1));
+    assertEquals(Integer.MIN_VALUE, ParsingUtils.parseInt("-2147483648", -1));
+  }
+
+  @Test
+  public void testParseInt_ReturnsFallbackInsteadOfThrowing() {
+    assertEquals(-1, ParsingUtils.parseInt("", -1));
+    assertEquals(-1, ParsingUtils.parseInt("-", -1));
+    assertEquals(-1, ParsingUtils.parseInt("12a", -1));
+    assertEquals(-1, ParsingUtils.parseInt(" 12", -1));
+    assertEquals(-1, ParsingUtils.parseInt("2147483648", -1));
+    assertEquals(-1, ParsingUtils.parseInt("-2147483649", -1));
+  }
+
+  @Test
+  public void testParseEpochDay_BothFormats() {
+    long expected = LocalDate.of(2021, 12, 25).toEpochDay();
+    assertEquals(expected, ParsingUtils.parseEpochDay("25/12/2021"));
+    assertEquals(expected, ParsingUtils.parseEpochDay("2021-12-25"));
+  }
+
+  @Test
+  public void testParseEpochDay_NoDate() {
+    assertEquals(ParsingUtils.NO_DATE, ParsingUtils.parseEpochDay(""));
+    assertEquals(ParsingUtils.NO_DATE, ParsingUtils.parseEpochDay("25-12-2021"));
+    assertEquals(ParsingUtils.NO_DATE, ParsingUtils.parseEpochDay("not a date"));
+  }
+
+  @Test
+  public void testParseLocalDate_ClampsDayToEndOfMonth() {
+    assertEquals(LocalDate.of(2000, 4, 30), ParsingUtils.parseLocalDate("31/04/2000"));
+    assertEquals(LocalDate.of(2001, 2, 28), ParsingUtils.parseLocalDate("2001-02-29"));
+    assertEquals(LocalDate.of(2000, 2, 29), ParsingUtils.parseLocalDate("30/02/2000"));
+  }
+
+  @Test
+  public void testParseLocalDate_MatchesFormatters() {
+    DateTimeFormatter dayFirst = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    DateTimeFormatter iso = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    String[] years = {"0000", "0001", "1600", "1899", "1900", "2000", "2023", "2024", "9999"};
+    for (String year : years) {
+      for (int month = 0; month <= 13; month++) {
+        for (int day = 0; day <= 32; day++) {
+          String mm = String.format("%02d", month);
+          String dd = String.format("%02d", day);
+          String dayFirstValue = dd + "/" + mm + "/" + year;
+          String isoValue = year + "-" + mm + "-" + dd;
+          assertEquals(
+              legacyParse(dayFirstValue, dayFirst, iso), ParsingUtils.parseLocalDate(dayFirstValue));
+          assertEquals(legacyParse(isoValue, dayFirst, iso), ParsingUtils.parseLocalDate(isoValue));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testToEpochDay_MatchesLocalDate() {
+    for (LocalDate date = LocalDate.of(1600, 1, 1);
+        date.isBefore(LocalDate.of(2100, 1, 1));
+        date = date.plusDays(1)) {
+      assertEquals(
+          date.toEpochDay(),
+          ParsingUtils.toEpochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+    }
+  }
+
+  private static LocalDate legacyParse(
+      String value, DateTimeFormatter dayFirst, DateTimeFormatter iso) {
+    try {
+      return LocalDate.parse(value, dayFirst);
+    } catch (DateTimeParseException e1) {
+      try {
+        return LocalDate.parse(value, iso);
+      } catch (DateTimeParseException e2) {
+        return null;
+      }
+    }
+  }
 }
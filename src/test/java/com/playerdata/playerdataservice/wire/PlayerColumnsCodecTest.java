@@ -0,0 +1,156 @@
+package com.playerdata.playerdataservice.wire;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.playerdata.playerdataservice.dto.PlayerDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerColumnsCodecTest {
+
+  private static final ObjectMapper objectMapper =
+      JsonMapper.builder().findAndAddModules().build();
+
+  @Test
+  void testWriteAndRead_roundTripsEveryFieldAndNull() throws IOException {
+    // Arrange
+    PlayerDTO aaron = new PlayerDTO();
+    aaron.setPlayerId("aaronha01");
+    aaron.setBirthYear(1934);
+    aaron.setBirthMonth(2);
+    aaron.setBirthDay(5);
+    aaron.setBirthCountry("USA");
+    aaron.setBirthState("AL");
+    aaron.setBirthCity("Mobile");
+    aaron.setDeathYear(2021);
+    aaron.setDeathMonth(1);
+    aaron.setDeathDay(22);
+    aaron.setDeathCountry("USA");
+    aaron.setDeathState("GA");
+    aaron.setDeathCity("Atlanta");
+    aaron.setFirstName("Hank");
+    aaron.setLastName("Aaron");
+    aaron.setGivenName("Henry Louis");
+    aaron.setWeight(180);
+    aaron.setHeight(72);
+    aaron.setBats("R");
+    aaron.setThrowingHand("R");
+    aaron.setDebut(LocalDate.of(1954, 4, 13));
+    aaron.setFinalGame(LocalDate.of(1976, 10, 3));
+    aaron.setRetroId("aaroh101");
+    aaron.setBbrefId("aaronha01");
+    PlayerDTO unknown = new PlayerDTO();
+    unknown.setPlayerId("unknown");
+    unknown.setDebut(LocalDate.of(1871, 5, 4));
+
+    // Act
+    List<PlayerDTO> read = read(write(List.of(aaron, unknown)));
+
+    // Assert
+    assertEquals(List.of(aaron, unknown), read);
+  }
+
+  @Test
+  void testWrite_isSmallerThanJsonForRepeatedValues() throws IOException {
+    // Arrange
+    List<PlayerDTO> players = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      PlayerDTO player = new PlayerDTO();
+      player.setPlayerId("player" + i);
+      player.setBirthYear(1900 + i % 100);
+      player.setBirthCountry(i % 2 == 0 ? "USA" : "D.R.");
+      player.setBats(i % 3 == 0 ? "L" : "R");
+      player.setDebut(LocalDate.of(1920, 1, 1).plusDays(i));
+      players.add(player);
+    }
+
+    // Act
+    byte[] columns = write(players);
+
+    // Assert
+    assertEquals(players, read(columns));
+    assertTrue(columns.length * 5 < objectMapper.writeValueAsBytes(players).length);
+  }
+
+  @Test
+  void testWrite_emptyList() throws IOException {
+    assertEquals(List.of(), read(write(List.of())));
+  }
+
+  @Test
+  void testRead_skipsUnknownColumns() throws IOException {
+    // Arrange
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonGenerator generator = new CBORFactory().createGenerator(out)) {
+      generator.writeStartObject();
+      generator.writeNumberField("version", PlayerColumnsCodec.VERSION);
+      generator.writeNumberField("count", 1);
+      generator.writeFieldName("nickname");
+      generator.writeStartArray();
+      generator.writeStartObject();
+      generator.writeStringField("value", "Hammer");
+      generator.writeEndObject();
+      generator.writeEndArray();
+      generator.writeArrayFieldStart("playerId");
+      generator.writeString("aaronha01");
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+
+    // Act
+    List<PlayerDTO> players = read(out.toByteArray());
+
+    // Assert
+    assertEquals(1, players.size());
+    assertEquals("aaronha01", players.get(0).getPlayerId());
+    assertNull(players.get(0).getLastName());
+  }
+
+  @Test
+  void testRead_rejectsColumnsOfWrongLengthOrVersion() throws IOException {
+    assertThrows(
+        JsonParseException.class, () -> read(columns(PlayerColumnsCodec.VERSION, 2, "a")));
+    assertThrows(
+        JsonParseException.class, () -> read(columns(PlayerColumnsCodec.VERSION, 1, "a", "b")));
+    assertThrows(
+        JsonParseException.class, () -> read(columns(PlayerColumnsCodec.VERSION + 1, 1, "a")));
+    assertThrows(JsonParseException.class, () -> read(objectMapper.writeValueAsBytes("[]")));
+  }
+
+  private static byte[] columns(int version, int count, String... playerIds) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonGenerator generator = new CBORFactory().createGenerator(out)) {
+      generator.writeStartObject();
+      generator.writeNumberField("version", version);
+      generator.writeNumberField("count", count);
+      generator.writeArrayFieldStart("playerId");
+      for (String playerId : playerIds) {
+        generator.writeString(playerId);
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] write(List<PlayerDTO> players) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PlayerColumnsCodec.write(players, out);
+    return out.toByteArray();
+  }
+
+  private static List<PlayerDTO> read(byte[] bytes) throws IOException {
+    return PlayerColumnsCodec.read(new ByteArrayInputStream(bytes));
+  }
+}